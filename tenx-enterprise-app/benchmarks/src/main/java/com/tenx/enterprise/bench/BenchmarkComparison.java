@@ -0,0 +1,72 @@
+package com.tenx.enterprise.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Diffs two JMH JSON result files (e.g. the previous release against the current tree).
+ * Usage: {@code java -cp benchmarks.jar com.tenx.enterprise.bench.BenchmarkComparison base.json new.json}
+ *
+ * Prints one row per benchmark/parameter combination with the change in score. Whether
+ * a positive change is an improvement depends on the mode: higher is better for
+ * throughput, lower is better for average time.
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: BenchmarkComparison <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = load(Path.of(args[0]));
+        Map<String, JsonNode> candidate = load(Path.of(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s %s%n", "Benchmark", "Baseline", "Candidate", "Change", "Unit");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode now = entry.getValue().path("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey())
+                    ? baseline.get(entry.getKey()).path("primaryMetric") : null;
+            double score = now.path("score").asDouble();
+            String unit = now.path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s %s%n", entry.getKey(), "-", score, "new", unit);
+                continue;
+            }
+            double baseScore = before.path("score").asDouble();
+            String change = baseScore == 0.0 ? "n/a" : "%+.1f%%".formatted((score - baseScore) / baseScore * 100.0);
+            System.out.printf("%-70s %14.3f %14.3f %9s %s%n", entry.getKey(), baseScore, score, change, unit);
+        }
+        for (String removed : baseline.keySet()) {
+            if (!candidate.containsKey(removed)) {
+                System.out.printf("%-70s %14s %14s %9s%n", removed, "", "-", "removed");
+            }
+        }
+    }
+
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            results.put(key(run), run);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText();
+        StringBuilder key = new StringBuilder(name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1));
+        Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+        while (params.hasNext()) {
+            Map.Entry<String, JsonNode> param = params.next();
+            key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.impl.CachingContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.TemplateContentGeneratorSkill;
+import com.tenx.enterprise.template.ContentTemplate;
+import com.tenx.enterprise.template.PromptTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Script rendering through a precompiled {@link PromptTemplate} vs the regex and
+ * {@code String.replace} approaches it replaces, plus a full generation served from the
+ * content cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentTemplateBenchmark {
+
+    private static final String SCRIPT =
+            "Did you know {{topic}} is trending on {{platform}}? {{persona}} breaks down {{keyword1}} and {{keyword2}}.";
+
+    private PromptTemplate compiled;
+    private TrendData trend;
+    private CachingContentGeneratorSkill cache;
+
+    @Setup
+    public void setUp() {
+        compiled = PromptTemplate.compile(SCRIPT);
+        trend = new TrendData("trend-001", "tiktok", "AI-generated music", List.of("ai", "music", "generative"),
+                0.87, "US", Instant.parse("2025-01-15T10:30:00Z"), 1L);
+        cache = new CachingContentGeneratorSkill(new TemplateContentGeneratorSkill(Map.of(),
+                ContentTemplate.of(SCRIPT, "{{topic}}: {{keywords}}", 3), 0.03), Duration.ofHours(1), 1_000);
+        cache.generateContent(trend, "techGuru", 1.0);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return compiled.render(trend, "techGuru");
+    }
+
+    @Benchmark
+    public String regexReplaceAll() {
+        return SCRIPT.replaceAll("\\{\\{topic}}", trend.topic())
+                .replaceAll("\\{\\{platform}}", trend.platform())
+                .replaceAll("\\{\\{persona}}", "techGuru")
+                .replaceAll("\\{\\{keyword1}}", trend.keywords().get(0))
+                .replaceAll("\\{\\{keyword2}}", trend.keywords().get(1));
+    }
+
+    @Benchmark
+    public String stringReplace() {
+        return SCRIPT.replace("{{topic}}", trend.topic())
+                .replace("{{platform}}", trend.platform())
+                .replace("{{persona}}", "techGuru")
+                .replace("{{keyword1}}", trend.keywords().get(0))
+                .replace("{{keyword2}}", trend.keywords().get(1));
+    }
+
+    @Benchmark
+    public ContentPayload cachedGeneration() {
+        return cache.generateContent(trend, "techGuru", 1.0);
+    }
+}
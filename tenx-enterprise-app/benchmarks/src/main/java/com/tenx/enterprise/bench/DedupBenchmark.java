@@ -0,0 +1,96 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dedup.DuplicateCheck;
+import com.tenx.enterprise.dedup.MinHasher;
+import com.tenx.enterprise.dedup.NearDuplicateIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near-duplicate detection throughput: signing a ~300-character script plus caption, and
+ * checking signatures against an index already holding {@code entries} payloads: a lookup
+ * that finds nothing, an insert of a fresh signature, and a lookup that finds a near-duplicate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class DedupBenchmark {
+
+    private static final int VARIANTS = 1024;
+
+    @Param({"1000000"})
+    public int entries;
+
+    private MinHasher hasher;
+    private NearDuplicateIndex index;
+    private String[] scripts;
+    private byte[][] fresh;
+    private byte[][] duplicates;
+    private final byte[] buffer = new byte[MinHasher.DEFAULT_NUM_HASHES];
+    private final SplittableRandom random = new SplittableRandom(7);
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        hasher = new MinHasher();
+        index = new NearDuplicateIndex(entries);
+        for (int i = 0; i < entries; i++) {
+            index.checkAndAdd("camp-" + (i % 100), "c" + i, hasher.sign(text(random, 50), "caption " + i));
+        }
+        scripts = new String[VARIANTS];
+        fresh = new byte[VARIANTS][];
+        duplicates = new byte[VARIANTS][];
+        for (int i = 0; i < VARIANTS; i++) {
+            scripts[i] = text(random, 50);
+            fresh[i] = hasher.sign(text(random, 50), "caption");
+            String original = text(random, 50);
+            index.checkAndAdd("camp-dup", "orig-" + i, hasher.sign(original, "caption"));
+            duplicates[i] = hasher.sign(original + " Follow for more", "caption");
+        }
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return hasher.sign(scripts[cursor++ & (VARIANTS - 1)], "Three AI tools you need");
+    }
+
+    @Benchmark
+    public DuplicateCheck findFresh() {
+        return index.find("camp-7", "n", fresh[cursor++ & (VARIANTS - 1)]);
+    }
+
+    @Benchmark
+    public DuplicateCheck insertFresh() {
+        random.nextBytes(buffer);
+        return index.checkAndAdd("camp-7", "i", buffer);
+    }
+
+    @Benchmark
+    public DuplicateCheck checkDuplicate() {
+        return index.checkAndAdd("camp-dup", "d", duplicates[cursor++ & (VARIANTS - 1)]);
+    }
+
+    private static String text(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append("w").append(random.nextInt(50_000)).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the validating compact constructors on TrendData and ContentPayload.
+ * ContentArtifact has no validation and serves as the same-shape baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DtoConstructionBenchmark {
+
+    private final Instant now = Instant.now();
+    private final List<String> keywords = List.of("ai", "coding", "automation");
+    private String trendId = "trend-001";
+    private String platform = "tiktok";
+    private double score = 0.87;
+
+    @Benchmark
+    public TrendData trendData() {
+        return new TrendData(trendId, platform, "AI Coding", keywords, score, "US", now, 1L);
+    }
+
+    @Benchmark
+    public ContentPayload contentPayload() {
+        return new ContentPayload(trendId, "script", "caption", keywords, platform, "techGuru", score, now);
+    }
+
+    @Benchmark
+    public ContentArtifact unvalidatedBaseline() {
+        return new ContentArtifact(trendId, "task-1", "camp-1", "short_video", "body", platform, now, 1L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.agent.CampaignOrchestrator;
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.agent.SensitiveTopicJudge;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.ContentGeneratorSkillStub;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Whole Planner → Worker → Judge pipeline on the stub skills, with several JMH threads
+ * each driving its own campaign through one shared CampaignOrchestrator, so the global
+ * concurrency cap is contended the way it is in production.
+ * One operation is one complete campaign of {@code tasksPerCampaign} tasks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    @Param({"16", "256"})
+    public int tasksPerCampaign;
+
+    private final AtomicLong campaignSequence = new AtomicLong();
+    private CampaignOrchestrator orchestrator;
+
+    @Setup
+    public void setUp() {
+        TrendFetcherSkill trendFetcher = new TrendFetcherSkillStub();
+        ContentGeneratorSkill contentGenerator = new ContentGeneratorSkillStub();
+
+        Planner planner = (campaignId, goal) -> {
+            List<TaskEnvelope> tasks = new ArrayList<>(tasksPerCampaign);
+            Instant now = Instant.now();
+            for (int i = 0; i < tasksPerCampaign; i++) {
+                tasks.add(new TaskEnvelope(campaignId + "-t" + i, campaignId, TaskType.CONTENT_GENERATION,
+                        goal, 1L, now));
+            }
+            return tasks;
+        };
+        Worker worker = task -> {
+            TrendData trend = trendFetcher.fetchTrends("tiktok", "US", 1).get(0);
+            ContentPayload content = contentGenerator.generateContent(trend, "techGuru", 50.0);
+            return new ContentArtifact("art-" + task.taskId(), task.taskId(), task.campaignId(), "short_video",
+                    content.script(), content.platform(), content.generatedAt(), task.version());
+        };
+        Judge scorer = artifact -> new JudgeVerdict("v-" + artifact.artifactId(), artifact.artifactId(),
+                ConfidenceLevel.HIGH, false, true, "on persona", Instant.now());
+        Judge judge = new SensitiveTopicJudge(scorer, SensitiveTermDictionary.withDefaults());
+
+        orchestrator = new CampaignOrchestrator(planner, worker, judge, 1024, 64);
+    }
+
+    @Benchmark
+    public CampaignReport campaign() throws InterruptedException {
+        return orchestrator.run("camp-" + campaignSequence.incrementAndGet(), "Grow reach with AI tool reviews");
+    }
+}
@@ -0,0 +1,72 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.Comment;
+import com.tenx.enterprise.engagement.EngagementPipeline;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.skill.impl.TemplateEngagementSkill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comments per second through {@link EngagementPipeline} on one thread: deduplication,
+ * batching per (persona, post), a template skill call per batch, sensitive-term screening
+ * and the verdict sink. A quarter of the comments repeat one short text, as on a viral post.
+ * The target is tens of thousands of comments per second on one node.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EngagementPipelineBenchmark {
+
+    private static final int COMMENTS = 1_024;
+    private static final int POSTS = 16;
+
+    @Param({"1", "32"})
+    public int batchSize;
+
+    private EngagementPipeline pipeline;
+    private Blackhole sink;
+    private long sequence;
+    private final Instant now = Instant.now();
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        sink = blackhole;
+        pipeline = new EngagementPipeline(
+                new TemplateEngagementSkill(Map.of("techGuru", "Great point about {comment}!"), "Thanks!", 0.0),
+                SensitiveTermDictionary.withDefaults(),
+                (artifact, verdict) -> sink.consume(verdict),
+                0.0, batchSize, Duration.ofSeconds(1), 200_000, Runnable::run);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS)
+    public int submitAndFlush() {
+        for (int i = 0; i < COMMENTS; i++) {
+            long id = sequence++;
+            String text = (id & 3) == 0 ? "first!!" : "this gadget is wild #" + (id % 97);
+            pipeline.submit("techGuru", new Comment("c" + id, "camp-1", "post-" + (id % POSTS), "tiktok",
+                    "fan", text, now));
+        }
+        return pipeline.flush();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.metrics.Instrumentation;
+import com.tenx.enterprise.metrics.LatencyHistogram;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the metrics layer: bare vs instrumented stub skill and Worker calls, and a raw
+ * histogram record. Run with {@code -prof gc} to confirm the wrappers allocate nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+    private TrendFetcherSkill bareFetcher;
+    private TrendFetcherSkill instrumentedFetcher;
+    private Worker bareWorker;
+    private Worker instrumentedWorker;
+    private LatencyHistogram histogram;
+    private TaskEnvelope task;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        Instrumentation instrumentation = new Instrumentation(new MetricsRegistry());
+        bareFetcher = new TrendFetcherSkillStub();
+        instrumentedFetcher = instrumentation.trendFetcher(bareFetcher);
+        ContentArtifact artifact = new ContentArtifact("a1", "t1", "camp-1", "short_video", "body", "tiktok",
+                Instant.now(), 1L);
+        bareWorker = t -> artifact;
+        instrumentedWorker = instrumentation.worker(bareWorker);
+        histogram = new LatencyHistogram("bench");
+        task = new TaskEnvelope("t1", "camp-1", TaskType.CONTENT_GENERATION, "payload", 1L, Instant.now());
+    }
+
+    @Benchmark
+    public List<TrendData> fetchTrendsBare() {
+        return bareFetcher.fetchTrends("tiktok", "US", 5);
+    }
+
+    @Benchmark
+    public List<TrendData> fetchTrendsInstrumented() {
+        return instrumentedFetcher.fetchTrends("tiktok", "US", 5);
+    }
+
+    @Benchmark
+    public ContentArtifact workerBare() throws Exception {
+        return bareWorker.execute(task);
+    }
+
+    @Benchmark
+    public ContentArtifact workerInstrumented() throws Exception {
+        return instrumentedWorker.execute(task);
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+}
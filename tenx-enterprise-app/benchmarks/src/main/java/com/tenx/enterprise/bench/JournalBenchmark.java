@@ -0,0 +1,87 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.journal.ArtifactJournal;
+import com.tenx.enterprise.journal.FsyncPolicy;
+import com.tenx.enterprise.journal.JournalConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Artifact + verdict append throughput under each fsync policy, with concurrent appenders
+ * so SYNC exercises group commit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    @Param({"SYNC", "INTERVAL", "NONE"})
+    public FsyncPolicy policy;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Path directory;
+    private ArtifactJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = ArtifactJournal.open(directory,
+                new JournalConfig(JournalConfig.DEFAULT_SEGMENT_BYTES, policy, Duration.ofMillis(10)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        delete(directory);
+    }
+
+    @Benchmark
+    public void appendArtifactAndVerdict() {
+        String id = "art-" + sequence.incrementAndGet();
+        journal.append(artifact(id, 1L), new JudgeVerdict("v-" + id, id, ConfidenceLevel.HIGH, false, true,
+                "On-persona, no sensitive topics", Instant.now()));
+    }
+
+    static ContentArtifact artifact(String id, long version) {
+        return new ContentArtifact(id, "task-" + id, "camp-001", "short_video",
+                "Did you know AI can now compose entire symphonies? Three tools are changing music.",
+                "tiktok", Instant.now(), version);
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
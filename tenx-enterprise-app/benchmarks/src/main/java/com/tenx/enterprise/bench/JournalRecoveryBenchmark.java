@@ -0,0 +1,66 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.journal.ArtifactJournal;
+import com.tenx.enterprise.journal.FsyncPolicy;
+import com.tenx.enterprise.journal.JournalConfig;
+import com.tenx.enterprise.journal.RecoveryReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start recovery time of a journal holding {@code records} artifact versions
+ * spread over {@code records / 4} artifacts.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JournalRecoveryBenchmark {
+
+    @Param({"1000000"})
+    public int records;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-recovery-bench");
+        try (ArtifactJournal journal = ArtifactJournal.open(directory,
+                new JournalConfig(JournalConfig.DEFAULT_SEGMENT_BYTES, FsyncPolicy.NONE, null))) {
+            for (int i = 0; i < records; i++) {
+                journal.append(JournalBenchmark.artifact("art-" + (i % (records / 4)), i));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        JournalBenchmark.delete(directory);
+    }
+
+    @Benchmark
+    public RecoveryReport recover() throws IOException {
+        try (ArtifactJournal journal = ArtifactJournal.open(directory,
+                new JournalConfig(JournalConfig.DEFAULT_SEGMENT_BYTES, FsyncPolicy.NONE, null))) {
+            return journal.recovery();
+        }
+    }
+}
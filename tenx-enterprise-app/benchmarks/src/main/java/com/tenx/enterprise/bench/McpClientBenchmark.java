@@ -0,0 +1,83 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.exception.McpException;
+import com.tenx.enterprise.mcp.LoopbackMcpServer;
+import com.tenx.enterprise.mcp.McpClient;
+import com.tenx.enterprise.mcp.McpTransport;
+import com.tenx.enterprise.mcp.StreamMcpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eight concurrent callers making small MCP calls over TCP loopback: one shared pooled,
+ * pipelined client vs a fresh connection per call (the MockMcpClient usage pattern).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class McpClientBenchmark {
+
+    private static final Map<String, String> PARAMS = Map.of("platform", "tiktok");
+
+    private LoopbackMcpServer server;
+    private ServerSocket listener;
+    private McpTransport.Connector connector;
+    private McpClient pooled;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new LoopbackMcpServer("bench").method("echo", params -> params);
+        listener = new ServerSocket(0);
+        Thread.ofVirtual().start(() -> {
+            while (!listener.isClosed()) {
+                try {
+                    Socket socket = listener.accept();
+                    server.serve(new StreamMcpTransport(socket.getInputStream(), socket.getOutputStream(), socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        connector = StreamMcpTransport.tcp("localhost", listener.getLocalPort());
+        pooled = new McpClient(connector, 2, 64);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pooled.close();
+        listener.close();
+        server.close();
+    }
+
+    @Benchmark
+    public Object pooledPipelined() throws McpException {
+        return pooled.call("echo", PARAMS);
+    }
+
+    @Benchmark
+    public Object connectionPerCall() throws McpException {
+        try (McpClient client = new McpClient(connector, 1, 1)) {
+            return client.call("echo", PARAMS);
+        }
+    }
+}
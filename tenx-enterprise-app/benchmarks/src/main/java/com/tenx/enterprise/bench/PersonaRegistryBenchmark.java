@@ -0,0 +1,67 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.persona.PersonaProfile;
+import com.tenx.enterprise.persona.PersonaRegistry;
+import com.tenx.enterprise.persona.SoulParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call persona work: parsing the persona's SOUL.md section on every call, versus a
+ * {@link PersonaRegistry} lookup of the compiled profile. Each call then checks a
+ * ~200-character body for banned terms. Run with {@code -prof gc}: the lookup allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersonaRegistryBenchmark {
+
+    private static final String BODY = "Unboxing the new foldable today: hinge test, battery run-down and a "
+            + "camera shoot-out against last year's flagship. Stick around for the giveaway at the end and "
+            + "tell me what to test next!";
+
+    private final List<String> soul = new ArrayList<>();
+    private PersonaRegistry registry;
+    private String persona;
+
+    @Setup
+    public void setUp() {
+        for (int p = 0; p < 20; p++) {
+            soul.addAll(List.of("# persona" + p, "## Tone", "- upbeat", "- concise",
+                    "## Banned terms", "- crypto giveaway", "- guaranteed returns", "- miracle cure",
+                    "## Hashtags", "- tech", "- gadgets"));
+        }
+        registry = new PersonaRegistry(SoulParser.parse(soul));
+        persona = new String("persona17");
+    }
+
+    @Benchmark
+    public int parsePerCall() {
+        for (PersonaProfile profile : SoulParser.parse(soul)) {
+            if (profile.name().equals(persona)) {
+                return profile.firstBannedTerm(BODY);
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int registryLookup() {
+        return registry.profile(persona).firstBannedTerm(BODY);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.resilience.AdaptiveBulkhead;
+import com.tenx.enterprise.resilience.CircuitBreaker;
+import com.tenx.enterprise.resilience.CircuitBreakerConfig;
+import com.tenx.enterprise.resilience.ResiliencePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Success-path overhead of a {@link ResiliencePolicy} around a trivial call, single-threaded
+ * and contended. Run with {@code -prof gc} to confirm the guard allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResilienceBenchmark {
+
+    private ResiliencePolicy adaptive;
+    private ResiliencePolicy fixed;
+    private Supplier<Long> call;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        adaptive = new ResiliencePolicy("bench", new CircuitBreaker(CircuitBreakerConfig.defaults()),
+                new AdaptiveBulkhead(2, 64, 1024));
+        fixed = new ResiliencePolicy("bench", new CircuitBreaker(CircuitBreakerConfig.defaults()),
+                AdaptiveBulkhead.fixed(1024));
+        call = () -> ++value;
+    }
+
+    @Benchmark
+    public Long bare() {
+        return call.get();
+    }
+
+    @Benchmark
+    public Long guardedFixed() {
+        return fixed.execute(call);
+    }
+
+    @Benchmark
+    public Long guardedAdaptive() {
+        return adaptive.execute(call);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long guardedAdaptiveContended() {
+        return adaptive.execute(call);
+    }
+}
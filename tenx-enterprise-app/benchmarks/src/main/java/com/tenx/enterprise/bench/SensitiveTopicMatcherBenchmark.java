@@ -0,0 +1,81 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.safety.SensitiveTopicMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sensitive-topic screening: compiled Aho-Corasick automaton vs the naive
+ * lower-case-then-{@code contains}-per-term loop, over clean content bodies
+ * (the common case — every term has to be ruled out).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SensitiveTopicMatcherBenchmark {
+
+    private static final String[] WORDS = {
+        "today", "we", "look", "at", "three", "ai", "tools", "that", "make", "editing", "short",
+        "form", "video", "faster", "follow", "for", "more", "tech", "reviews", "and", "gadgets",
+    };
+
+    @Param({"50", "1000"})
+    public int terms;
+
+    @Param({"280", "4000"})
+    public int bodyLength;
+
+    private List<String> termList;
+    private SensitiveTopicMatcher matcher;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        termList = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            termList.add("sensitive" + Integer.toString(i, 36) + (i % 3 == 0 ? " topic" : ""));
+        }
+        matcher = SensitiveTopicMatcher.compile(termList);
+
+        StringBuilder text = new StringBuilder(bodyLength + 16);
+        while (text.length() < bodyLength) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        body = text.substring(0, bodyLength);
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        return matcher.matches(body);
+    }
+
+    @Benchmark
+    public boolean naiveContainsLoop() {
+        String lower = body.toLowerCase(Locale.ROOT);
+        for (String term : termList) {
+            if (lower.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
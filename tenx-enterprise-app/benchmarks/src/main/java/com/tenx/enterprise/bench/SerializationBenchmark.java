@@ -0,0 +1,147 @@
+package com.tenx.enterprise.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.tenx.enterprise.codec.WireFormat;
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Round-trip (encode + decode) of every DTO through Jackson and Gson JSON, and through the
+ * binary {@link WireFormat} into a reused heap or direct buffer. The JSON variants emit ISO-8601
+ * instants, matching specs/technical.md.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"TaskEnvelope", "TrendData", "ContentArtifact", "ContentPayload", "JudgeVerdict", "CampaignReport"})
+    public String dto;
+
+    private ObjectMapper jackson;
+    private Gson gson;
+    private Object value;
+    private Class<?> type;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setUp() {
+        jackson = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        gson = new GsonBuilder()
+                .registerTypeAdapter(Instant.class, new IsoAdapter<>(Instant::parse))
+                .registerTypeAdapter(Duration.class, new IsoAdapter<>(Duration::parse))
+                .create();
+        value = sample(dto);
+        type = value.getClass();
+        heap = ByteBuffer.allocate(4096);
+        direct = ByteBuffer.allocateDirect(4096);
+    }
+
+    @Benchmark
+    public Object jacksonRoundTrip() throws JsonProcessingException {
+        return jackson.readValue(jackson.writeValueAsString(value), type);
+    }
+
+    @Benchmark
+    public Object gsonRoundTrip() {
+        return gson.fromJson(gson.toJson(value), type);
+    }
+
+    @Benchmark
+    public Object binaryRoundTripHeap() {
+        return binaryRoundTrip(heap);
+    }
+
+    @Benchmark
+    public Object binaryRoundTripDirect() {
+        return binaryRoundTrip(direct);
+    }
+
+    private Object binaryRoundTrip(ByteBuffer buffer) {
+        buffer.clear();
+        WireFormat.encode(value, buffer);
+        return WireFormat.decode(buffer.flip());
+    }
+
+    static Object sample(String dto) {
+        Instant now = Instant.parse("2025-01-15T10:30:00Z");
+        return switch (dto) {
+            case "TaskEnvelope" -> new TaskEnvelope("task-001", "camp-001", TaskType.CONTENT_GENERATION,
+                    "{\"trendId\":\"trend-001\"}", 3L, now);
+            case "TrendData" -> new TrendData("trend-001", "tiktok", "AI-generated music",
+                    List.of("ai", "music", "generative"), 0.87, "US", now, 1L);
+            case "ContentArtifact" -> new ContentArtifact("art-001", "task-001", "camp-001", "short_video",
+                    "Did you know AI can now compose entire symphonies? Three tools are changing music.",
+                    "tiktok", now, 2L);
+            case "ContentPayload" -> new ContentPayload("content-001",
+                    "Did you know AI can now compose entire symphonies?", "AI Music Revolution",
+                    List.of("#AIMusic", "#GenerativeAI", "#TechTrends"), "tiktok", "techGuru", 0.03, now);
+            case "JudgeVerdict" -> new JudgeVerdict("verdict-001", "art-001", ConfidenceLevel.HIGH,
+                    false, true, "On-persona, no sensitive topics", now);
+            case "CampaignReport" -> new CampaignReport("camp-001", 500, 498, 2,
+                    Duration.ofMillis(1520), 327.6, Duration.ofMillis(41));
+            default -> throw new IllegalArgumentException("unknown dto " + dto);
+        };
+    }
+
+    /**
+     * Gson cannot reflect into java.time on modern JDKs; these types round-trip via toString/parse.
+     */
+    private static final class IsoAdapter<T> extends TypeAdapter<T> {
+        private final Function<String, T> parser;
+
+        IsoAdapter(Function<String, T> parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            out.value(value == null ? null : value.toString());
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return parser.apply(in.nextString());
+        }
+    }
+}
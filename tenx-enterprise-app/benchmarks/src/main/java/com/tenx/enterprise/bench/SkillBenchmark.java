@@ -0,0 +1,61 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.ContentGeneratorSkillStub;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the skill hot path: TrendFetcherSkill.fetchTrends and
+ * ContentGeneratorSkill.generateContent, on the stub implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillBenchmark {
+
+    @Param({"1", "5"})
+    public int limit;
+
+    private TrendFetcherSkill trendFetcher;
+    private ContentGeneratorSkill contentGenerator;
+    private TrendData trend;
+
+    @Setup
+    public void setUp() {
+        trendFetcher = new TrendFetcherSkillStub();
+        contentGenerator = new ContentGeneratorSkillStub();
+        trend = new TrendData("trend-001", "tiktok", "AI Coding", List.of("ai", "coding", "automation"),
+                0.9, "US", Instant.now(), 1L);
+    }
+
+    @Benchmark
+    public List<TrendData> fetchTrends() {
+        return trendFetcher.fetchTrends("tiktok", "US", limit);
+    }
+
+    @Benchmark
+    public ContentPayload generateContent() {
+        return contentGenerator.generateContent(trend, "techGuru", 50.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.SkillRegistry;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the skill for a task: scanning every skill's {@code supports()} versus one
+ * {@link SkillRegistry} lookup. The matching skill is registered last, the scan's worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillRegistryBenchmark {
+
+    @Param({"4", "32"})
+    public int skills;
+
+    private final List<TrendFetcherSkill> all = new ArrayList<>();
+    private final SkillRegistry<TrendFetcherSkill> registry = new SkillRegistry<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < skills; i++) {
+            TaskType type = i == skills - 1 ? TaskType.TREND_RESEARCH : TaskType.ENGAGEMENT;
+            TrendFetcherSkill skill = skill("skill-" + i, type);
+            all.add(skill);
+            registry.register(skill, 0);
+        }
+    }
+
+    @Benchmark
+    public TrendFetcherSkill linearScan() {
+        for (TrendFetcherSkill skill : all) {
+            if (skill.supports(TaskType.TREND_RESEARCH) && skill.isAvailable()) {
+                return skill;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public TrendFetcherSkill registryLookup() {
+        return registry.lookup(TaskType.TREND_RESEARCH).orElse(null);
+    }
+
+    private static TrendFetcherSkill skill(String name, TaskType type) {
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                return List.of();
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return taskType == type;
+            }
+        };
+    }
+}
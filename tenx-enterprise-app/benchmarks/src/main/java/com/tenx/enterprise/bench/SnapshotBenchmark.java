@@ -0,0 +1,100 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.budget.BudgetLedger;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.StaleVersionException;
+import com.tenx.enterprise.hitl.HitlRouter;
+import com.tenx.enterprise.hitl.HumanReviewQueue;
+import com.tenx.enterprise.snapshot.CampaignSnapshotter;
+import com.tenx.enterprise.store.VersionedStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm restart cost: restoring {@code tasks} tasks from a full snapshot plus one delta,
+ * and writing a delta after 1% of the tasks changed versus writing a full snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param({"100000"})
+    public int tasks;
+
+    private Path restoreDir;
+    private Path writeDir;
+    private VersionedStore<TaskEnvelope> live;
+    private CampaignSnapshotter deltaWriter;
+    private CampaignSnapshotter fullWriter;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        restoreDir = Files.createTempDirectory("snapshot-restore");
+        writeDir = Files.createTempDirectory("snapshot-write");
+        live = VersionedStore.forTasks();
+        for (int i = 0; i < tasks; i++) {
+            live.insert(new TaskEnvelope("task-" + i, "camp-" + (i % 500), TaskType.CONTENT_GENERATION,
+                    "Generate a 30s script on trend " + i, 1L, Instant.now()));
+        }
+        CampaignSnapshotter seed = snapshotter(restoreDir, live, 16);
+        seed.snapshot();
+        touch(tasks / 100);
+        seed.snapshot();
+        deltaWriter = snapshotter(writeDir.resolve("delta"), live, Integer.MAX_VALUE);
+        deltaWriter.snapshot();
+        fullWriter = snapshotter(writeDir.resolve("full"), live, 0);
+    }
+
+    @Benchmark
+    public int restore() throws Exception {
+        VersionedStore<TaskEnvelope> fresh = VersionedStore.forTasks();
+        return snapshotter(restoreDir, fresh, 16).restore().tasks();
+    }
+
+    @Benchmark
+    public long deltaAfterOnePercentChanged() throws Exception {
+        touch(tasks / 100);
+        return deltaWriter.snapshot().bytes();
+    }
+
+    @Benchmark
+    public long fullSnapshot() throws IOException {
+        return fullWriter.snapshot().bytes();
+    }
+
+    private void touch(int count) throws StaleVersionException {
+        for (int i = 0; i < count; i++) {
+            String id = "task-" + ((round++ * 7919L) % tasks);
+            live.compareAndSet(live.get(id).orElseThrow());
+        }
+    }
+
+    private static CampaignSnapshotter snapshotter(Path dir, VersionedStore<TaskEnvelope> tasks, int maxDeltas) {
+        VersionedStore<TrendData> trends = VersionedStore.forTrends();
+        HitlRouter router = new HitlRouter(new HumanReviewQueue(1_000, 64, dir.resolve("spill")), campaign -> 0);
+        return new CampaignSnapshotter(dir, tasks, trends, new BudgetLedger(), router, maxDeltas);
+    }
+}
@@ -0,0 +1,73 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+import com.tenx.enterprise.scheduler.TaskScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduling overhead: 1,000 no-op tasks across 10 campaigns and all TaskTypes, submitted
+ * and awaited, with {@code lanes} per-core queues.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSchedulerBenchmark {
+
+    private static final int TASKS = 1_000;
+
+    @Param({"1", "4"})
+    public int lanes;
+
+    private TaskScheduler scheduler;
+    private TaskEnvelope[] tasks;
+
+    @Setup
+    public void setUp() {
+        ContentArtifact artifact = new ContentArtifact("a1", "t1", "camp-1", "short_video", "body", "tiktok",
+                Instant.now(), 1L);
+        scheduler = new TaskScheduler(task -> artifact, 64, lanes, new MetricsRegistry());
+        TaskType[] types = TaskType.values();
+        tasks = new TaskEnvelope[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = new TaskEnvelope("t" + i, "camp-" + (i % 10), types[i % types.length], "payload", 1L,
+                    Instant.now());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void submitAndAwait() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            results[i] = scheduler.submit(tasks[i]);
+        }
+        CompletableFuture.allOf(results).join();
+    }
+}
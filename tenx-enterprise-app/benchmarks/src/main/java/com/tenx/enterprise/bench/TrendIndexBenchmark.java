@@ -0,0 +1,82 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.trend.TrendIndex;
+import com.tenx.enterprise.trend.TrendQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Top 20 in region US, any platform, matching any of 3 keywords" over {@code trends}
+ * indexed trends: TrendIndex vs filtering and sorting the fetched lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class TrendIndexBenchmark {
+
+    private static final String[] PLATFORMS = {"tiktok", "youtube", "instagram", "x", "threads"};
+
+    @Param({"1000000"})
+    public int trends;
+
+    private TrendIndex index;
+    private List<TrendData> lists;
+    private TrendQuery query;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Instant now = Instant.now();
+        lists = new ArrayList<>(trends);
+        for (int i = 0; i < trends; i++) {
+            List<String> keywords = List.of(keyword(random), keyword(random), keyword(random));
+            lists.add(new TrendData("trend-" + i, PLATFORMS[random.nextInt(PLATFORMS.length)], "topic " + i,
+                    keywords, random.nextInt(10_000) / 10_000.0, "R" + random.nextInt(40), now, 1L));
+        }
+        index = new TrendIndex();
+        index.indexAll(lists);
+        query = TrendQuery.anyOf(20, null, "R7", "kw12", "kw345", "kw2001");
+    }
+
+    @Benchmark
+    public List<TrendData> indexedTopK() {
+        return index.query(query);
+    }
+
+    @Benchmark
+    public List<TrendData> scanAndSort() {
+        Set<String> keywords = query.keywords();
+        return lists.stream()
+                .filter(t -> query.region().equals(t.region()))
+                .filter(t -> t.keywords().stream().anyMatch(keywords::contains))
+                .sorted(Comparator.comparingDouble(TrendData::relevanceScore).reversed())
+                .limit(query.limit())
+                .toList();
+    }
+
+    /** Skewed keyword popularity: low-numbered keywords are far more common. */
+    private static String keyword(SplittableRandom random) {
+        return "kw" + (int) (5000 * Math.pow(random.nextDouble(), 3));
+    }
+}
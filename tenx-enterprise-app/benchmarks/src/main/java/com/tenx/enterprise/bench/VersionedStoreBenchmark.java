@@ -0,0 +1,91 @@
+package com.tenx.enterprise.bench;
+
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.StaleVersionException;
+import com.tenx.enterprise.store.VersionedStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for VersionedStore against a single-lock map baseline.
+ *
+ * Run across thread counts to see scaling, e.g.
+ * {@code java -jar target/benchmarks.jar VersionedStore -t 1 -t 4 -t 16}.
+ * {@code keys=1} is the worst case (every writer races on one id).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionedStoreBenchmark {
+
+    @Param({"1", "64", "65536"})
+    public int keys;
+
+    private VersionedStore<TaskEnvelope> store;
+    private Map<String, TaskEnvelope> lockedMap;
+    private String[] ids;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws StaleVersionException {
+        store = VersionedStore.forTasks();
+        lockedMap = new HashMap<>();
+        ids = new String[keys];
+        Instant now = Instant.now();
+        for (int i = 0; i < keys; i++) {
+            ids[i] = "task-" + i;
+            TaskEnvelope task = new TaskEnvelope(ids[i], "camp", TaskType.CONTENT_GENERATION, "p", 1L, now);
+            store.insert(task);
+            lockedMap.put(ids[i], task);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public TaskEnvelope casUpdate(Cursor cursor) throws StaleVersionException {
+        return store.update(ids[cursor.next(keys)], t -> t, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public TaskEnvelope read(Cursor cursor) {
+        return store.get(ids[cursor.next(keys)]).orElseThrow();
+    }
+
+    @Benchmark
+    public TaskEnvelope globalLockUpdate(Cursor cursor) {
+        String id = ids[cursor.next(keys)];
+        synchronized (lockedMap) {
+            TaskEnvelope current = lockedMap.get(id);
+            TaskEnvelope next = current.withVersion(current.version() + 1);
+            lockedMap.put(id, next);
+            return next;
+        }
+    }
+}
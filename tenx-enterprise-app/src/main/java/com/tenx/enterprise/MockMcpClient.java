@@ -3,7 +3,11 @@ package com.tenx.enterprise;
 /**
  * Mock MCP client for TenX challenge.
  * Simulates a connection to MCP Sense.
+ *
+ * @deprecated use {@link com.tenx.enterprise.mcp.McpClient}, with a
+ *             {@link com.tenx.enterprise.mcp.LoopbackMcpServer} where no real server is available
  */
+@Deprecated
 public class MockMcpClient {
 
     public MockMcpClient() {
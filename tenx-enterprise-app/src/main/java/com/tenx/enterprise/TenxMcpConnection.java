@@ -1,13 +1,29 @@
 package com.tenx.enterprise;
 
+import com.tenx.enterprise.mcp.LoopbackMcpServer;
+import com.tenx.enterprise.mcp.McpClient;
+import com.tenx.enterprise.mcp.McpTransport;
+import com.tenx.enterprise.mcp.StreamMcpTransport;
+
+import java.time.Duration;
+
 public class TenxMcpConnection {
+    /**
+     * Pings an MCP server at {@code host:port} (first argument), or an in-process loopback
+     * server when no address is given.
+     */
     public static void main(String[] args) {
-        try {
-            MockMcpClient client = new MockMcpClient();
-            boolean connected = client.testConnection();
-            System.out.println("✅ TenX MCP Connection: " + (connected ? "SUCCESS" : "FAILURE"));
+        try (LoopbackMcpServer loopback = new LoopbackMcpServer("tenx-loopback")) {
+            McpTransport.Connector connector = args.length > 0
+                    ? StreamMcpTransport.tcp(args[0].substring(0, args[0].lastIndexOf(':')),
+                            Integer.parseInt(args[0].substring(args[0].lastIndexOf(':') + 1)))
+                    : loopback.connector();
+            try (McpClient client = new McpClient(connector)) {
+                boolean connected = client.ping(Duration.ofSeconds(5));
+                System.out.println("✅ TenX MCP Connection: " + (connected ? "SUCCESS" : "FAILURE"));
+            }
         } catch (Exception e) {
             System.err.println("❌ TenX MCP Connection failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.tenx.enterprise.agent;
+
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs a campaign end to end: Planner → Workers (one Virtual Thread per task) → Judge.
+ *
+ * Each campaign run owns a scoped virtual-thread executor, so every task it forks has
+ * finished (or been cancelled) before {@link #execute} returns. Concurrency is capped
+ * twice: per campaign, by the submitting thread before a task is forked, and across all
+ * campaigns sharing this orchestrator, inside the task itself. Every artifact is handed
+ * to the Judge on the Worker's own thread the moment it is produced, so verdicts stream
+ * out while the rest of the batch is still running.
+ */
+public class CampaignOrchestrator {
+
+    private static final BiConsumer<ContentArtifact, JudgeVerdict> DISCARD = (artifact, verdict) -> { };
+
+    private final Planner planner;
+    private final Worker worker;
+    private final Judge judge;
+    private final Semaphore globalPermits;
+    private final int maxTasksPerCampaign;
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    /**
+     * @param maxConcurrentTasks  upper bound on tasks in flight across every campaign
+     * @param maxTasksPerCampaign upper bound on tasks in flight within a single campaign
+     */
+    public CampaignOrchestrator(Planner planner, Worker worker, Judge judge,
+                                int maxConcurrentTasks, int maxTasksPerCampaign) {
+        if (planner == null || worker == null || judge == null) {
+            throw new IllegalArgumentException("planner, worker and judge are required");
+        }
+        if (maxConcurrentTasks < 1 || maxTasksPerCampaign < 1) {
+            throw new IllegalArgumentException("concurrency limits must be at least 1");
+        }
+        this.planner = planner;
+        this.worker = worker;
+        this.judge = judge;
+        this.globalPermits = new Semaphore(maxConcurrentTasks);
+        this.maxTasksPerCampaign = maxTasksPerCampaign;
+    }
+
+    /**
+     * Decomposes the goal through the Planner and runs the resulting tasks.
+     */
+    public CampaignReport run(String campaignId, String goal,
+                              BiConsumer<ContentArtifact, JudgeVerdict> onVerdict) throws InterruptedException {
+        return execute(campaignId, planner.decompose(campaignId, goal), onVerdict);
+    }
+
+    public CampaignReport run(String campaignId, String goal) throws InterruptedException {
+        return run(campaignId, goal, DISCARD);
+    }
+
+    /**
+     * Runs already-planned tasks for one campaign and blocks until every task has a verdict
+     * or has failed. {@code onVerdict} is invoked concurrently from Worker threads.
+     *
+     * @throws InterruptedException if the caller is interrupted; in-flight tasks are cancelled
+     */
+    public CampaignReport execute(String campaignId, List<TaskEnvelope> tasks,
+                                  BiConsumer<ContentArtifact, JudgeVerdict> onVerdict) throws InterruptedException {
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+        if (tasks == null || onVerdict == null) {
+            throw new IllegalArgumentException("tasks and onVerdict are required");
+        }
+
+        int taskCount = tasks.size();
+        long[] latencies = new long[taskCount];
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore campaignPermits = new Semaphore(maxTasksPerCampaign);
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (int i = 0; i < taskCount; i++) {
+                    TaskEnvelope task = tasks.get(i);
+                    int slot = i;
+                    campaignPermits.acquire();
+                    scope.submit(() -> {
+                        try {
+                            latencies[slot] = runTask(task, onVerdict);
+                        } catch (Exception e) {
+                            latencies[slot] = -1L;
+                            failed.incrementAndGet();
+                            if (e instanceof InterruptedException) {
+                                Thread.currentThread().interrupt();
+                            }
+                        } finally {
+                            campaignPermits.release();
+                        }
+                    });
+                }
+            } catch (InterruptedException e) {
+                scope.shutdownNow();
+                throw e;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return summarize(campaignId, taskCount, failed.get(), elapsedNanos, latencies);
+    }
+
+    /**
+     * Number of tasks currently holding a global permit, across all campaigns.
+     */
+    public int activeTasks() {
+        return activeTasks.get();
+    }
+
+    private long runTask(TaskEnvelope task, BiConsumer<ContentArtifact, JudgeVerdict> onVerdict)
+            throws Exception {
+        long submittedAt = System.nanoTime();
+        globalPermits.acquire();
+        activeTasks.incrementAndGet();
+        try {
+            ContentArtifact artifact = worker.execute(task);
+            JudgeVerdict verdict = judge.evaluate(artifact);
+            onVerdict.accept(artifact, verdict);
+            return System.nanoTime() - submittedAt;
+        } finally {
+            activeTasks.decrementAndGet();
+            globalPermits.release();
+        }
+    }
+
+    private static CampaignReport summarize(String campaignId, int submitted, int failed,
+                                            long elapsedNanos, long[] latencies) {
+        long[] completed = Arrays.stream(latencies).filter(l -> l >= 0).toArray();
+        Arrays.sort(completed);
+        long p99 = completed.length == 0
+                ? 0L
+                : completed[Math.max(0, (int) Math.ceil(completed.length * 0.99) - 1)];
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double throughput = seconds > 0 ? completed.length / seconds : 0.0;
+        return new CampaignReport(
+                campaignId,
+                submitted,
+                completed.length,
+                failed,
+                Duration.ofNanos(elapsedNanos),
+                throughput,
+                Duration.ofNanos(p99));
+    }
+}
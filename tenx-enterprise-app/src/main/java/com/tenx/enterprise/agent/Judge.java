@@ -3,6 +3,10 @@ package com.tenx.enterprise.agent;
 import com.tenx.enterprise.dto.ContentArtifact;
 import com.tenx.enterprise.dto.JudgeVerdict;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
 /**
  * Validates artifacts against persona rules, safety filters, and campaign specs.
  * Assigns ConfidenceLevel and routes to HITL gate.
@@ -10,4 +14,26 @@ import com.tenx.enterprise.dto.JudgeVerdict;
 public interface Judge {
 
     JudgeVerdict evaluate(ContentArtifact artifact);
-}
\ No newline at end of file
+
+    /**
+     * Evaluates a batch, returning verdicts in the same order as the artifacts.
+     * Implementations may override to amortise per-call setup across the batch.
+     */
+    default List<JudgeVerdict> evaluateAll(List<ContentArtifact> artifacts) {
+        List<JudgeVerdict> verdicts = new ArrayList<>(artifacts.size());
+        for (ContentArtifact artifact : artifacts) {
+            verdicts.add(evaluate(artifact));
+        }
+        return verdicts;
+    }
+
+    /**
+     * Streams verdicts for a stream of artifacts with demand-driven backpressure.
+     * The upstream is only subscribed to once; see JudgeProcessor.
+     */
+    default Flow.Publisher<JudgeVerdict> evaluateStream(Flow.Publisher<ContentArtifact> artifacts) {
+        JudgeProcessor processor = new JudgeProcessor(this);
+        artifacts.subscribe(processor);
+        return processor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tenx.enterprise.agent;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Flow stage that turns a stream of artifacts into a stream of verdicts.
+ *
+ * Demand is pulled one artifact at a time and only once a downstream subscriber is
+ * attached, so nothing is judged into the void. {@link SubmissionPublisher#submit}
+ * blocks while subscriber buffers are full, which holds back the upstream request —
+ * slow consumers throttle the Judge instead of growing a queue.
+ */
+public class JudgeProcessor extends SubmissionPublisher<JudgeVerdict>
+        implements Flow.Processor<ContentArtifact, JudgeVerdict> {
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    private final Judge judge;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Flow.Subscription upstream;
+    private volatile boolean downstreamAttached;
+
+    public JudgeProcessor(Judge judge) {
+        this(judge, Flow.defaultBufferSize());
+    }
+
+    public JudgeProcessor(Judge judge, int bufferCapacity) {
+        super(VIRTUAL_THREADS, bufferCapacity);
+        if (judge == null) {
+            throw new IllegalArgumentException("judge is required");
+        }
+        this.judge = judge;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super JudgeVerdict> subscriber) {
+        super.subscribe(subscriber);
+        downstreamAttached = true;
+        startIfReady();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        startIfReady();
+    }
+
+    @Override
+    public void onNext(ContentArtifact artifact) {
+        JudgeVerdict verdict;
+        try {
+            verdict = judge.evaluate(artifact);
+        } catch (RuntimeException e) {
+            upstream.cancel();
+            closeExceptionally(e);
+            return;
+        }
+        submit(verdict);
+        upstream.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+
+    private void startIfReady() {
+        if (upstream != null && downstreamAttached && started.compareAndSet(false, true)) {
+            upstream.request(1);
+        }
+    }
+}
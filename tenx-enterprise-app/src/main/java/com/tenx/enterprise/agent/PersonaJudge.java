@@ -0,0 +1,77 @@
+package com.tenx.enterprise.agent;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.persona.PersonaProfile;
+import com.tenx.enterprise.persona.PersonaRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Judge decorator that holds every artifact to its persona's banned terms from SOUL.md.
+ * Contract: specs/functional.md → US-CG-002, US-EN-001
+ *
+ * The wrapped Judge scores the artifact as usual. If the content body uses a term the
+ * persona bans, the verdict is downgraded to LOW and not approved, so the HITL gate sends
+ * it back for rework. A verdict already flagged as sensitive is left alone — it must still
+ * reach a human. Profiles come from the registry per artifact, without parsing or allocating.
+ * Batches go to the delegate's own {@link Judge#evaluateAll}, then each verdict is checked.
+ */
+public class PersonaJudge implements Judge {
+
+    private final Judge delegate;
+    private final PersonaRegistry personas;
+    private final Function<ContentArtifact, String> personaOf;
+
+    /**
+     * @param personaOf names the persona an artifact was written for, e.g. by its campaign
+     */
+    public PersonaJudge(Judge delegate, PersonaRegistry personas, Function<ContentArtifact, String> personaOf) {
+        if (delegate == null || personas == null || personaOf == null) {
+            throw new IllegalArgumentException("delegate, personas and personaOf are required");
+        }
+        this.delegate = delegate;
+        this.personas = personas;
+        this.personaOf = personaOf;
+    }
+
+    @Override
+    public JudgeVerdict evaluate(ContentArtifact artifact) {
+        return enforce(artifact, delegate.evaluate(artifact));
+    }
+
+    @Override
+    public List<JudgeVerdict> evaluateAll(List<ContentArtifact> artifacts) {
+        List<JudgeVerdict> verdicts = new ArrayList<>(delegate.evaluateAll(artifacts));
+        if (verdicts.size() != artifacts.size()) {
+            throw new IllegalStateException("delegate returned " + verdicts.size() + " verdicts for "
+                    + artifacts.size() + " artifacts");
+        }
+        for (int i = 0; i < verdicts.size(); i++) {
+            verdicts.set(i, enforce(artifacts.get(i), verdicts.get(i)));
+        }
+        return verdicts;
+    }
+
+    private JudgeVerdict enforce(ContentArtifact artifact, JudgeVerdict verdict) {
+        if (verdict.sensitiveTopicDetected()) {
+            return verdict;
+        }
+        PersonaProfile profile = personas.profile(personaOf.apply(artifact));
+        int term = profile.firstBannedTerm(artifact.contentBody());
+        if (term < 0) {
+            return verdict;
+        }
+        return new JudgeVerdict(
+                verdict.verdictId(),
+                verdict.artifactId(),
+                ConfidenceLevel.LOW,
+                false,
+                false,
+                "Persona " + profile.name() + " bans '" + profile.bannedTerm(term) + "'; " + verdict.reason(),
+                verdict.judgedAt());
+    }
+}
@@ -0,0 +1,66 @@
+package com.tenx.enterprise.agent;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.safety.SensitiveTopicMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Judge decorator that applies the sensitive-topic filter to every artifact.
+ * Contract: specs/functional.md → US-EN-002, US-HITL-004
+ *
+ * The wrapped Judge scores the artifact as usual. If the content body mentions any
+ * sensitive term the verdict is overridden: it is flagged, not approved, and its
+ * confidence is forced to MEDIUM so the HITL gate routes it to a human regardless of
+ * the original score. A batch is scanned against one dictionary snapshot, so a reload
+ * mid-batch cannot judge half the batch by the old list and half by the new one.
+ */
+public class SensitiveTopicJudge implements Judge {
+
+    private final Judge delegate;
+    private final SensitiveTermDictionary dictionary;
+
+    public SensitiveTopicJudge(Judge delegate, SensitiveTermDictionary dictionary) {
+        if (delegate == null || dictionary == null) {
+            throw new IllegalArgumentException("delegate and dictionary are required");
+        }
+        this.delegate = delegate;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public JudgeVerdict evaluate(ContentArtifact artifact) {
+        return screen(artifact, delegate.evaluate(artifact), dictionary.current());
+    }
+
+    @Override
+    public List<JudgeVerdict> evaluateAll(List<ContentArtifact> artifacts) {
+        SensitiveTopicMatcher matcher = dictionary.current();
+        List<JudgeVerdict> scored = delegate.evaluateAll(artifacts);
+        List<JudgeVerdict> screened = new ArrayList<>(scored.size());
+        for (int i = 0; i < scored.size(); i++) {
+            screened.add(screen(artifacts.get(i), scored.get(i), matcher));
+        }
+        return screened;
+    }
+
+    private static JudgeVerdict screen(ContentArtifact artifact, JudgeVerdict verdict,
+                                       SensitiveTopicMatcher matcher) {
+        int term = matcher.firstMatch(artifact.contentBody());
+        if (term < 0) {
+            return verdict;
+        }
+        return new JudgeVerdict(
+                verdict.verdictId(),
+                verdict.artifactId(),
+                ConfidenceLevel.MEDIUM,
+                true,
+                false,
+                "Sensitive topic '" + matcher.term(term) + "' requires human review; " + verdict.reason(),
+                verdict.judgedAt());
+    }
+}
@@ -5,7 +5,7 @@ import com.tenx.enterprise.dto.TaskEnvelope;
 
 /**
  * Executes a single task on a Virtual Thread.
- * Invoked via Executors.newVirtualThreadPerTaskExecutor().
+ * Invoked via Executors.newVirtualThreadPerTaskExecutor() — see CampaignOrchestrator.
  */
 public interface Worker {
 
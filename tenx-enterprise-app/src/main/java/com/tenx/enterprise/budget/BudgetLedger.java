@@ -0,0 +1,195 @@
+package com.tenx.enterprise.budget;
+
+import com.tenx.enterprise.exception.BudgetExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-campaign spend ledger shared by every Worker in the process.
+ * Contract: specs/functional.md → US-FG-001, US-FG-002
+ *
+ * Money is held as fixed-point cents. Each campaign's limit, remaining, reserved and spent
+ * amounts live in one immutable state swapped by a single CAS, so the only contended
+ * operation is that CAS and every read sees the four amounts add up. A reservation can
+ * never push the balance below zero, so concurrent Workers cannot overspend a campaign
+ * between check and charge.
+ *
+ * Budget limits round to the nearest cent; charges round up to the next whole cent so
+ * sub-cent calls are never free.
+ */
+public class BudgetLedger {
+
+    private final ConcurrentHashMap<String, Account> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * Opens a campaign with the given limit, or raises/lowers the limit of an open one.
+     * Adjusting the limit shifts the remaining balance by the same delta.
+     */
+    public void allocate(String campaignId, double limitUsd) {
+        requireCampaign(campaignId);
+        if (limitUsd < 0) {
+            throw new IllegalArgumentException("limitUsd cannot be negative");
+        }
+        long limitCents = Math.round(limitUsd * 100.0);
+        accounts.compute(campaignId, (id, existing) -> {
+            if (existing == null) {
+                return new Account(new State(limitCents, limitCents, 0L, 0L));
+            }
+            existing.state.updateAndGet(s -> new State(limitCents, s.remaining + limitCents - s.limit,
+                    s.reserved, s.spent));
+            return existing;
+        });
+    }
+
+    /**
+     * Atomically sets aside {@code amountUsd} for a call that has not happened yet.
+     *
+     * @throws BudgetExceededException with the exact requested and available amounts
+     *                                 if the campaign cannot cover the charge
+     */
+    public Reservation reserve(String campaignId, double amountUsd) throws BudgetExceededException {
+        requireCampaign(campaignId);
+        if (amountUsd < 0) {
+            throw new IllegalArgumentException("amountUsd cannot be negative");
+        }
+        long cents = toChargeCents(amountUsd);
+        Account account = accounts.get(campaignId);
+        if (account == null) {
+            throw new BudgetExceededException(cents / 100.0, 0.0);
+        }
+        State current = account.state.get();
+        while (true) {
+            if (current.remaining < cents) {
+                throw new BudgetExceededException(cents / 100.0, Math.max(0L, current.remaining) / 100.0);
+            }
+            State next = new State(current.limit, current.remaining - cents, current.reserved + cents,
+                    current.spent);
+            State witness = account.state.compareAndExchange(current, next);
+            if (witness == current) {
+                return new Reservation(account, cents);
+            }
+            current = witness;
+        }
+    }
+
+    public double available(String campaignId) {
+        Account account = accounts.get(campaignId);
+        return account == null ? 0.0 : Math.max(0L, account.state.get().remaining) / 100.0;
+    }
+
+    public double reserved(String campaignId) {
+        Account account = accounts.get(campaignId);
+        return account == null ? 0.0 : account.state.get().reserved / 100.0;
+    }
+
+    public double spent(String campaignId) {
+        Account account = accounts.get(campaignId);
+        return account == null ? 0.0 : account.state.get().spent / 100.0;
+    }
+
+    /**
+     * Every campaign's balance in cents, for snapshots. Each balance is one consistent read
+     * of its account, so remaining, reserved and spent always add up to the limit.
+     */
+    public List<Balance> balances() {
+        List<Balance> balances = new ArrayList<>(accounts.size());
+        accounts.forEach((id, account) -> {
+            State s = account.state.get();
+            balances.add(new Balance(id, s.limit, s.remaining, s.reserved, s.spent));
+        });
+        return balances;
+    }
+
+    /**
+     * Reinstates a campaign's balance from a snapshot, replacing any open account.
+     *
+     * Reservations do not survive a restart — no {@link Reservation} handle is left to
+     * commit or release them — so reserved money is returned to the remaining balance.
+     * A call that was charged by its provider but not yet committed when the snapshot was
+     * taken is therefore not counted as spent.
+     */
+    public void restore(Balance balance) {
+        requireCampaign(balance.campaignId());
+        accounts.put(balance.campaignId(), new Account(new State(balance.limitCents(),
+                balance.remainingCents() + balance.reservedCents(), 0L, balance.spentCents())));
+    }
+
+    private static long toChargeCents(double usd) {
+        return (long) Math.ceil(usd * 100.0 - 1e-9);
+    }
+
+    private static void requireCampaign(String campaignId) {
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+    }
+
+    /** One campaign's account in whole cents. */
+    public record Balance(String campaignId, long limitCents, long remainingCents, long reservedCents,
+                          long spentCents) {}
+
+    /** One campaign's amounts at a single instant; replaced whole, never mutated. */
+    private record State(long limit, long remaining, long reserved, long spent) {}
+
+    private static final class Account {
+        private final AtomicReference<State> state;
+
+        private Account(State initial) {
+            this.state = new AtomicReference<>(initial);
+        }
+    }
+
+    /**
+     * Funds held for one in-flight call. Settle it exactly once with {@link #commit} or
+     * {@link #release}; closing an unsettled reservation releases it, so try-with-resources
+     * returns the money if the call throws.
+     */
+    public static final class Reservation implements AutoCloseable {
+        private final Account account;
+        private final long cents;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Reservation(Account account, long cents) {
+            this.account = account;
+            this.cents = cents;
+        }
+
+        public double amount() {
+            return cents / 100.0;
+        }
+
+        /**
+         * Records the actual cost and refunds the unused part of the reservation.
+         * If the call cost more than was reserved the overrun is still charged, because
+         * the money is already gone; the campaign balance then goes negative and blocks
+         * further reservations until the limit is raised.
+         */
+        public void commit(double actualUsd) {
+            if (actualUsd < 0) {
+                throw new IllegalArgumentException("actualUsd cannot be negative");
+            }
+            if (!settled.compareAndSet(false, true)) {
+                throw new IllegalStateException("reservation already settled");
+            }
+            long actualCents = toChargeCents(actualUsd);
+            account.state.updateAndGet(s -> new State(s.limit, s.remaining + cents - actualCents,
+                    s.reserved - cents, s.spent + actualCents));
+        }
+
+        public void release() {
+            if (settled.compareAndSet(false, true)) {
+                account.state.updateAndGet(s -> new State(s.limit, s.remaining + cents, s.reserved - cents,
+                        s.spent));
+            }
+        }
+
+        @Override
+        public void close() {
+            release();
+        }
+    }
+}
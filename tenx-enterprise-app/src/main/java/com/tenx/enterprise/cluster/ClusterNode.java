@@ -0,0 +1,302 @@
+package com.tenx.enterprise.cluster;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.exception.StaleVersionException;
+import com.tenx.enterprise.store.VersionedStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * One orchestrator node's shard of the campaign state, partitioned by campaign id on a
+ * {@link HashRing}.
+ *
+ * <ul>
+ *   <li>Tasks and artifacts of the campaigns this node owns live in local
+ *       {@link VersionedStore}s. Operations for other campaigns are forwarded to the owner
+ *       at most {@link #MAX_HOPS} times, so a caller holding a stale view still lands on the
+ *       right shard.</li>
+ *   <li>A node joins or leaves by itself — there is no coordinator. It fences every member
+ *       in node-id order (so two concurrent changes cannot deadlock, and the later one fails
+ *       its epoch check), then every member switches rings and hands the records it no
+ *       longer owns to their new owner, versions unchanged, and finally every fence lifts.
+ *       An operation arriving mid-change waits at the fence and is then routed by the new
+ *       ring, so a CAS read before the move succeeds after it.</li>
+ * </ul>
+ *
+ * The fence is a StampedLock: store operations hold the read side only while touching the
+ * local stores, never while forwarding, and the write side is released by whichever thread
+ * ends the membership change.
+ */
+public class ClusterNode implements ClusterPeer {
+
+    public static final int MAX_HOPS = 3;
+
+    private static final Duration PREPARE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String nodeId;
+    private final ClusterTransport transport;
+    private final VersionedStore<TaskEnvelope> tasks = VersionedStore.forTasks();
+    private final VersionedStore<ContentArtifact> artifacts = VersionedStore.forArtifacts();
+    private final StampedLock fence = new StampedLock();
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder handedOff = new LongAdder();
+    private volatile HashRing ring = HashRing.of(List.of());
+    private volatile HashRing pending;
+    private volatile long fenceStamp;
+
+    public ClusterNode(String nodeId, ClusterTransport transport) {
+        if (nodeId == null || nodeId.isBlank() || transport == null) {
+            throw new IllegalArgumentException("nodeId and transport are required");
+        }
+        this.nodeId = nodeId;
+        this.transport = transport;
+    }
+
+    /** Starts a new cluster with this node as its only member. */
+    public ClusterNode bootstrap() {
+        ring = HashRing.of(List.of(nodeId));
+        return this;
+    }
+
+    /**
+     * Joins the cluster {@code seedId} belongs to, taking over this node's share of campaigns.
+     *
+     * @throws IllegalStateException if another membership change got in first; retry
+     */
+    public void join(String seedId) {
+        HashRing current = transport.peer(seedId).ring();
+        if (current.contains(nodeId)) {
+            throw new IllegalStateException(nodeId + " is already a member");
+        }
+        TreeSet<String> members = new TreeSet<>(current.nodes());
+        members.add(nodeId);
+        change(current.withNode(nodeId), members);
+    }
+
+    /**
+     * Leaves the cluster, handing every campaign this node owns to the remaining members.
+     *
+     * @throws IllegalStateException if this is the last member, or another membership change
+     *                               got in first
+     */
+    public void leave() {
+        HashRing current = ring;
+        if (!current.contains(nodeId) || current.nodes().size() < 2) {
+            throw new IllegalStateException(nodeId + " is not a member or is the last one");
+        }
+        change(current.withoutNode(nodeId), new TreeSet<>(current.nodes()));
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public HashRing ring() {
+        return ring;
+    }
+
+    @Override
+    public TaskEnvelope submit(TaskEnvelope task, int hops) throws StaleVersionException {
+        return route(campaignOf(task, TaskEnvelope::campaignId), hops,
+                () -> tasks.insert(task), (peer, next) -> peer.submit(task, next));
+    }
+
+    @Override
+    public TaskEnvelope compareAndSetTask(TaskEnvelope proposed, int hops) throws StaleVersionException {
+        return route(campaignOf(proposed, TaskEnvelope::campaignId), hops,
+                () -> tasks.compareAndSet(proposed), (peer, next) -> peer.compareAndSetTask(proposed, next));
+    }
+
+    @Override
+    public Optional<TaskEnvelope> task(String campaignId, String taskId, int hops) {
+        return route(campaignId, hops, () -> tasks.get(taskId), (peer, next) -> peer.task(campaignId, taskId, next));
+    }
+
+    @Override
+    public ContentArtifact record(ContentArtifact artifact, int hops) throws StaleVersionException {
+        return route(campaignOf(artifact, ContentArtifact::campaignId), hops,
+                () -> artifacts.insert(artifact), (peer, next) -> peer.record(artifact, next));
+    }
+
+    @Override
+    public Optional<ContentArtifact> artifact(String campaignId, String artifactId, int hops) {
+        return route(campaignId, hops,
+                () -> artifacts.get(artifactId), (peer, next) -> peer.artifact(campaignId, artifactId, next));
+    }
+
+    @Override
+    public boolean prepare(HashRing next) {
+        long stamp;
+        try {
+            stamp = fence.tryWriteLock(PREPARE_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (stamp == 0L) {
+            return false;
+        }
+        if (next.epoch() <= ring.epoch()) {
+            fence.unlockWrite(stamp);
+            return false;
+        }
+        pending = next;
+        fenceStamp = stamp;
+        return true;
+    }
+
+    @Override
+    public void commit() {
+        HashRing next = pending;
+        if (next == null) {
+            throw new IllegalStateException(nodeId + " has no prepared ring");
+        }
+        ring = next;
+        pending = null;
+        Map<String, List<TaskEnvelope>> movedTasks = strays(tasks.values(), TaskEnvelope::campaignId, next);
+        Map<String, List<ContentArtifact>> movedArtifacts =
+                strays(artifacts.values(), ContentArtifact::campaignId, next);
+        TreeSet<String> targets = new TreeSet<>(movedTasks.keySet());
+        targets.addAll(movedArtifacts.keySet());
+        for (String target : targets) {
+            List<TaskEnvelope> taskBatch = movedTasks.getOrDefault(target, List.of());
+            List<ContentArtifact> artifactBatch = movedArtifacts.getOrDefault(target, List.of());
+            transport.peer(target).receive(taskBatch, artifactBatch);
+            for (TaskEnvelope task : taskBatch) {
+                removeQuietly(tasks, task.taskId(), task.version());
+            }
+            for (ContentArtifact artifact : artifactBatch) {
+                removeQuietly(artifacts, artifact.artifactId(), artifact.version());
+            }
+            handedOff.add(taskBatch.size() + artifactBatch.size());
+        }
+    }
+
+    @Override
+    public void release() {
+        long stamp = fenceStamp;
+        if (stamp != 0L) {
+            fenceStamp = 0L;
+            fence.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void abort() {
+        pending = null;
+        release();
+    }
+
+    @Override
+    public void receive(List<TaskEnvelope> incomingTasks, List<ContentArtifact> incomingArtifacts) {
+        incomingTasks.forEach(tasks::putIfNewer);
+        incomingArtifacts.forEach(artifacts::putIfNewer);
+    }
+
+    public int localTaskCount() {
+        return tasks.size();
+    }
+
+    public int localArtifactCount() {
+        return artifacts.size();
+    }
+
+    /** Operations this node passed on to another owner. */
+    public long forwardedCount() {
+        return forwarded.sum();
+    }
+
+    /** Tasks and artifacts this node handed to new owners across membership changes. */
+    public long handedOffCount() {
+        return handedOff.sum();
+    }
+
+    private void change(HashRing next, Collection<String> members) {
+        List<ClusterPeer> prepared = new ArrayList<>();
+        for (String member : members) {
+            ClusterPeer peer = member.equals(nodeId) ? this : transport.peer(member);
+            if (!peer.prepare(next)) {
+                prepared.forEach(ClusterPeer::abort);
+                throw new IllegalStateException("membership changed concurrently at " + member + "; retry");
+            }
+            prepared.add(peer);
+        }
+        try {
+            prepared.forEach(ClusterPeer::commit);
+        } finally {
+            prepared.forEach(ClusterPeer::release);
+        }
+    }
+
+    private <R, X extends Exception> R route(String campaignId, int hops, Local<R, X> local, Remote<R, X> remote)
+            throws X {
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId is required");
+        }
+        String owner;
+        long stamp = fence.readLock();
+        try {
+            owner = ring.ownerOf(campaignId);
+            if (owner.equals(nodeId)) {
+                return local.apply();
+            }
+        } finally {
+            fence.unlockRead(stamp);
+        }
+        if (hops >= MAX_HOPS) {
+            throw new IllegalStateException("campaign " + campaignId + " not reached its owner in " + hops + " hops");
+        }
+        forwarded.increment();
+        return remote.apply(transport.peer(owner), hops + 1);
+    }
+
+    private <T> Map<String, List<T>> strays(Collection<T> records, Function<T, String> campaignOf, HashRing next) {
+        Map<String, List<T>> byOwner = new HashMap<>();
+        for (T record : records) {
+            String owner = next.ownerOf(campaignOf.apply(record));
+            if (!owner.equals(nodeId)) {
+                byOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add(record);
+            }
+        }
+        return byOwner;
+    }
+
+    private static <T> String campaignOf(T record, Function<T, String> campaignId) {
+        if (record == null) {
+            throw new IllegalArgumentException("record is required");
+        }
+        return campaignId.apply(record);
+    }
+
+    private static void removeQuietly(VersionedStore<?> store, String id, long version) {
+        try {
+            store.remove(id, version);
+        } catch (StaleVersionException e) {
+            // Unreachable under the fence; the new owner's copy is authoritative either way.
+        }
+    }
+
+    @FunctionalInterface
+    private interface Local<R, X extends Exception> {
+        R apply() throws X;
+    }
+
+    @FunctionalInterface
+    private interface Remote<R, X extends Exception> {
+        R apply(ClusterPeer peer, int hops) throws X;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tenx.enterprise.cluster;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.exception.StaleVersionException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * What one orchestrator node offers the others: campaign-routed store operations, and the
+ * fence and handoff steps of a membership change.
+ *
+ * Store operations may be sent to any node; a node that does not own the campaign forwards
+ * them to the owner and increments {@code hops}. Versions travel with the records, so OCC
+ * semantics are the same whichever node the caller reached.
+ */
+public interface ClusterPeer {
+
+    String nodeId();
+
+    HashRing ring();
+
+    /**
+     * Stores a new task at its campaign's owner, keeping its version.
+     *
+     * @throws StaleVersionException if the task id already exists
+     */
+    TaskEnvelope submit(TaskEnvelope task, int hops) throws StaleVersionException;
+
+    /** @see com.tenx.enterprise.store.VersionedStore#compareAndSet */
+    TaskEnvelope compareAndSetTask(TaskEnvelope proposed, int hops) throws StaleVersionException;
+
+    Optional<TaskEnvelope> task(String campaignId, String taskId, int hops);
+
+    /**
+     * Stores a new artifact at its campaign's owner, keeping its version.
+     *
+     * @throws StaleVersionException if the artifact id already exists
+     */
+    ContentArtifact record(ContentArtifact artifact, int hops) throws StaleVersionException;
+
+    Optional<ContentArtifact> artifact(String campaignId, String artifactId, int hops);
+
+    /**
+     * Stops serving store operations until {@link #release()} or {@link #abort()}, and holds
+     * {@code next} as the pending ring.
+     *
+     * @return false if {@code next} is not newer than this node's ring, or the fence could
+     *         not be taken in time; the node is then left unfenced
+     */
+    boolean prepare(HashRing next);
+
+    /** Switches to the pending ring and hands every record it no longer owns to the new owner. */
+    void commit();
+
+    /** Lifts the fence taken by {@link #prepare}. */
+    void release();
+
+    /** Drops the pending ring and lifts the fence. */
+    void abort();
+
+    /** Accepts records handed off by a previous owner; a copy never replaces a newer version. */
+    void receive(List<TaskEnvelope> tasks, List<ContentArtifact> artifacts);
+}
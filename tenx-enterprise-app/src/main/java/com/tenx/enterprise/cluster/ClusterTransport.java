@@ -0,0 +1,14 @@
+package com.tenx.enterprise.cluster;
+
+/**
+ * Reaches other cluster nodes by id. {@link LocalCluster} connects nodes within one JVM;
+ * a networked transport returns proxies that carry the same calls over the wire.
+ */
+@FunctionalInterface
+public interface ClusterTransport {
+
+    /**
+     * @throws IllegalStateException if the node is not reachable
+     */
+    ClusterPeer peer(String nodeId);
+}
@@ -0,0 +1,139 @@
+package com.tenx.enterprise.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring mapping partition keys (campaign ids) to node ids.
+ *
+ * Each node is placed at {@code virtualNodes} points on a 64-bit ring; a key belongs to the
+ * node at the first point at or after the key's hash, wrapping around. Adding or removing
+ * one node therefore moves only the keys adjacent to its points — about 1/N of them — and
+ * the virtual nodes spread both load and the moved keys evenly over the survivors.
+ *
+ * The hash is a fixed function of the key's UTF-8 bytes, so every node computes the same
+ * ring from the same membership without asking anyone. {@link #epoch()} increases with each
+ * membership change, which lets nodes reject a change built from an outdated view.
+ */
+public final class HashRing {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final long epoch;
+    private final int virtualNodes;
+    private final SortedSet<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    private HashRing(long epoch, int virtualNodes, Collection<String> nodes) {
+        this.epoch = epoch;
+        this.virtualNodes = virtualNodes;
+        this.nodes = new TreeSet<>(nodes);
+        List<Point> placed = new ArrayList<>(this.nodes.size() * virtualNodes);
+        for (String node : this.nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                placed.add(new Point(hash(node + "#" + v), node));
+            }
+        }
+        placed.sort((a, b) -> a.hash() != b.hash()
+                ? Long.compareUnsigned(a.hash(), b.hash())
+                : a.node().compareTo(b.node()));
+        this.points = new long[placed.size()];
+        this.owners = new String[placed.size()];
+        for (int i = 0; i < placed.size(); i++) {
+            points[i] = placed.get(i).hash();
+            owners[i] = placed.get(i).node();
+        }
+    }
+
+    public static HashRing of(Collection<String> nodes) {
+        return of(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public static HashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes == null || virtualNodes < 1) {
+            throw new IllegalArgumentException("nodes are required and virtualNodes must be positive");
+        }
+        for (String node : nodes) {
+            if (node == null || node.isBlank()) {
+                throw new IllegalArgumentException("node id must not be blank");
+            }
+        }
+        return new HashRing(1L, virtualNodes, nodes);
+    }
+
+    public HashRing withNode(String node) {
+        if (node == null || node.isBlank()) {
+            throw new IllegalArgumentException("node id must not be blank");
+        }
+        List<String> next = new ArrayList<>(nodes);
+        next.add(node);
+        return new HashRing(epoch + 1, virtualNodes, next);
+    }
+
+    public HashRing withoutNode(String node) {
+        List<String> next = new ArrayList<>(nodes);
+        next.remove(node);
+        return new HashRing(epoch + 1, virtualNodes, next);
+    }
+
+    /**
+     * @throws IllegalStateException if the ring has no nodes
+     */
+    public String ownerOf(String key) {
+        if (points.length == 0) {
+            throw new IllegalStateException("ring has no nodes");
+        }
+        long h = hash(key);
+        int lo = 0;
+        int hi = points.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Long.compareUnsigned(points[mid], h) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return owners[lo == points.length ? 0 : lo];
+    }
+
+    public boolean contains(String node) {
+        return nodes.contains(node);
+    }
+
+    /** Member node ids in sorted order. */
+    public List<String> nodes() {
+        return List.copyOf(nodes);
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    /** 64-bit FNV-1a over UTF-8, finished with the MurmurHash3 fmix64 avalanche. */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "HashRing[epoch=" + epoch + ", nodes=" + nodes + ", points=" + points.length + "]";
+    }
+
+    private record Point(long hash, String node) {}
+}
@@ -0,0 +1,59 @@
+package com.tenx.enterprise.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Several {@link ClusterNode}s in one JVM, reaching each other by direct calls — for tests,
+ * local runs and load generation against a sharded deployment.
+ */
+public class LocalCluster implements ClusterTransport {
+
+    private final Map<String, ClusterNode> nodes = new ConcurrentSkipListMap<>();
+
+    @Override
+    public ClusterPeer peer(String nodeId) {
+        ClusterNode node = nodes.get(nodeId);
+        if (node == null) {
+            throw new IllegalStateException("unknown node " + nodeId);
+        }
+        return node;
+    }
+
+    /** Starts a node and joins it to the cluster, or bootstraps the cluster if it is the first. */
+    public ClusterNode addNode(String nodeId) {
+        ClusterNode node = new ClusterNode(nodeId, this);
+        Optional<String> seed = nodes.keySet().stream().findFirst();
+        if (nodes.putIfAbsent(nodeId, node) != null) {
+            throw new IllegalArgumentException("node " + nodeId + " already exists");
+        }
+        try {
+            if (seed.isPresent()) {
+                node.join(seed.get());
+            } else {
+                node.bootstrap();
+            }
+        } catch (RuntimeException e) {
+            nodes.remove(nodeId);
+            throw e;
+        }
+        return node;
+    }
+
+    /** Hands the node's campaigns to the others and disconnects it. */
+    public void removeNode(String nodeId) {
+        ClusterNode node = node(nodeId);
+        node.leave();
+        nodes.remove(nodeId);
+    }
+
+    public ClusterNode node(String nodeId) {
+        return (ClusterNode) peer(nodeId);
+    }
+
+    public List<ClusterNode> nodes() {
+        return List.copyOf(nodes.values());
+    }
+}
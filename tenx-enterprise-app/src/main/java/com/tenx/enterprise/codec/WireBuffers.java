@@ -0,0 +1,263 @@
+package com.tenx.enterprise.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primitive field encodings shared by every {@link WireCodec}:
+ * <ul>
+ *   <li>Unsigned varints (7 bits per byte, little-endian groups); signed values are zigzagged.</li>
+ *   <li>Strings start with a varint header: 0 is null, 1..{@value WireSchema#DICTIONARY_SLOTS}
+ *       is an entry of the {@link WireSchema} dictionary, anything larger is a UTF-8 literal
+ *       of {@code header - DICTIONARY_SLOTS - 1} bytes written straight into the buffer.</li>
+ *   <li>Instants and Durations are a fixed 8-byte count of nanos; {@code Long.MIN_VALUE} is null.</li>
+ *   <li>Lists are a varint {@code size + 1} (0 for null) followed by the elements.</li>
+ * </ul>
+ */
+public final class WireBuffers {
+
+    private static final long NULL_NANOS = Long.MIN_VALUE;
+    private static final int LITERAL_BASE = WireSchema.DICTIONARY_SLOTS + 1;
+
+    private WireBuffers() {}
+
+    public static int varIntSize(long value) {
+        return value == 0L ? 1 : (63 - Long.numberOfLeadingZeros(value)) / 7 + 1;
+    }
+
+    public static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    public static long getVarLong(ByteBuffer in) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    public static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int slot = WireSchema.dictionarySlot(value);
+        if (slot > 0) {
+            return varIntSize(slot);
+        }
+        int length = utf8Length(value);
+        return varIntSize(LITERAL_BASE + (long) length) + length;
+    }
+
+    public static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.put((byte) 0);
+            return;
+        }
+        int slot = WireSchema.dictionarySlot(value);
+        if (slot > 0) {
+            putVarLong(out, slot);
+            return;
+        }
+        int length = utf8Length(value);
+        putVarLong(out, LITERAL_BASE + (long) length);
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (out.hasArray()) {
+            int position = putUtf8(value, out.array(), out.arrayOffset() + out.position());
+            out.position(position - out.arrayOffset());
+        } else {
+            putUtf8(value, out);
+        }
+    }
+
+    public static String getString(ByteBuffer in) {
+        long header = getVarLong(in);
+        if (header == 0L) {
+            return null;
+        }
+        if (header < LITERAL_BASE) {
+            return WireSchema.dictionaryEntry((int) header);
+        }
+        int length = Math.toIntExact(header - LITERAL_BASE);
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("string of " + length + " bytes overruns the buffer");
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            // Off-heap bytes must be copied onto the heap once before a String can be built.
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    public static int stringListSize(List<String> values) {
+        if (values == null) {
+            return 1;
+        }
+        int size = varIntSize(values.size() + 1L);
+        for (String value : values) {
+            size += stringSize(value);
+        }
+        return size;
+    }
+
+    public static void putStringList(ByteBuffer out, List<String> values) {
+        if (values == null) {
+            out.put((byte) 0);
+            return;
+        }
+        putVarLong(out, values.size() + 1L);
+        for (String value : values) {
+            putString(out, value);
+        }
+    }
+
+    public static List<String> getStringList(ByteBuffer in) {
+        int size = Math.toIntExact(getVarLong(in)) - 1;
+        if (size < 0) {
+            return null;
+        }
+        if (size > in.remaining()) {
+            throw new IllegalArgumentException("list of " + size + " elements overruns the buffer");
+        }
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = getString(in);
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    public static void putInstant(ByteBuffer out, Instant value) {
+        if (value == null) {
+            out.putLong(NULL_NANOS);
+            return;
+        }
+        try {
+            out.putLong(Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000_000L), value.getNano()));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("instant " + value + " is outside the epoch-nanos range", e);
+        }
+    }
+
+    public static Instant getInstant(ByteBuffer in) {
+        long nanos = in.getLong();
+        return nanos == NULL_NANOS ? null : Instant.ofEpochSecond(0L, nanos);
+    }
+
+    public static void putDuration(ByteBuffer out, Duration value) {
+        if (value == null) {
+            out.putLong(NULL_NANOS);
+            return;
+        }
+        try {
+            out.putLong(value.toNanos());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("duration " + value + " is outside the nanos range", e);
+        }
+    }
+
+    public static Duration getDuration(ByteBuffer in) {
+        long nanos = in.getLong();
+        return nanos == NULL_NANOS ? null : Duration.ofNanos(nanos);
+    }
+
+    static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+                // A lone surrogate is written as a single '?', like String.getBytes does.
+            }
+        }
+        return bytes;
+    }
+
+    private static int putUtf8(String value, byte[] out, int position) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | c >> 6);
+                out[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    out[position++] = (byte) (0xF0 | cp >> 18);
+                    out[position++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                    out[position++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                    out[position++] = (byte) (0x80 | cp & 0x3F);
+                } else {
+                    out[position++] = (byte) '?';
+                }
+            } else {
+                out[position++] = (byte) (0xE0 | c >> 12);
+                out[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return position;
+    }
+
+    private static void putUtf8(String value, ByteBuffer out) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    out.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                            .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+                } else {
+                    out.put((byte) '?');
+                }
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+}
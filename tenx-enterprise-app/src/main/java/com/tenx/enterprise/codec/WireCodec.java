@@ -0,0 +1,39 @@
+package com.tenx.enterprise.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary codec for one record type. Encodes into and decodes from caller-supplied buffers,
+ * heap or direct, at their current position; no intermediate byte arrays are created on the
+ * heap-buffer path.
+ */
+public interface WireCodec<T> {
+
+    /**
+     * @return the exact number of bytes {@link #encode} will write for this value
+     */
+    int encodedSize(T value);
+
+    /**
+     * Writes the value at the buffer's position and advances it.
+     *
+     * @throws java.nio.BufferOverflowException if fewer than {@link #encodedSize} bytes remain
+     */
+    void encode(T value, ByteBuffer out);
+
+    /**
+     * Reads one value at the buffer's position and advances past it.
+     *
+     * @throws IllegalArgumentException if the bytes are not this record type or use a newer schema
+     */
+    T decode(ByteBuffer in);
+
+    /**
+     * Convenience for callers that want a standalone message, e.g. for a socket write.
+     */
+    default byte[] toBytes(T value) {
+        byte[] bytes = new byte[encodedSize(value)];
+        encode(value, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+}
@@ -0,0 +1,321 @@
+package com.tenx.enterprise.codec;
+
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.dto.TrendFanOutResult;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.tenx.enterprise.codec.WireBuffers.getDuration;
+import static com.tenx.enterprise.codec.WireBuffers.getInstant;
+import static com.tenx.enterprise.codec.WireBuffers.getString;
+import static com.tenx.enterprise.codec.WireBuffers.getStringList;
+import static com.tenx.enterprise.codec.WireBuffers.getVarLong;
+import static com.tenx.enterprise.codec.WireBuffers.putDuration;
+import static com.tenx.enterprise.codec.WireBuffers.putInstant;
+import static com.tenx.enterprise.codec.WireBuffers.putString;
+import static com.tenx.enterprise.codec.WireBuffers.putStringList;
+import static com.tenx.enterprise.codec.WireBuffers.putVarLong;
+import static com.tenx.enterprise.codec.WireBuffers.stringListSize;
+import static com.tenx.enterprise.codec.WireBuffers.stringSize;
+import static com.tenx.enterprise.codec.WireBuffers.unzigzag;
+import static com.tenx.enterprise.codec.WireBuffers.varIntSize;
+import static com.tenx.enterprise.codec.WireBuffers.zigzag;
+
+/**
+ * Compact binary encoding of the DTO records for internal hops (queues, spill files,
+ * agent-to-agent messages). External APIs keep using JSON via Jackson.
+ *
+ * Every message is {@code byte tag, byte schemaVersion}, then the record's fields in
+ * declaration order using the {@link WireBuffers} encodings. Messages are self-delimiting,
+ * so several can be written back to back into one buffer.
+ */
+public final class WireFormat {
+
+    public static final WireCodec<TaskEnvelope> TASK_ENVELOPE = new Codec<>(WireSchema.TASK_ENVELOPE) {
+        @Override
+        int bodySize(TaskEnvelope t) {
+            return stringSize(t.taskId()) + stringSize(t.campaignId()) + 1 + stringSize(t.payload())
+                    + varIntSize(zigzag(t.version())) + 8;
+        }
+
+        @Override
+        void encodeBody(TaskEnvelope t, ByteBuffer out) {
+            putString(out, t.taskId());
+            putString(out, t.campaignId());
+            out.put(WireSchema.code(t.type()));
+            putString(out, t.payload());
+            putVarLong(out, zigzag(t.version()));
+            putInstant(out, t.createdAt());
+        }
+
+        @Override
+        TaskEnvelope decodeBody(ByteBuffer in, int version) {
+            return new TaskEnvelope(getString(in), getString(in), WireSchema.taskType(in.get()), getString(in),
+                    unzigzag(getVarLong(in)), getInstant(in));
+        }
+    };
+
+    public static final WireCodec<TrendData> TREND_DATA = new Codec<>(WireSchema.TREND_DATA) {
+        @Override
+        int bodySize(TrendData t) {
+            return stringSize(t.trendId()) + stringSize(t.platform()) + stringSize(t.topic())
+                    + stringListSize(t.keywords()) + 8 + stringSize(t.region()) + 8 + varIntSize(zigzag(t.version()));
+        }
+
+        @Override
+        void encodeBody(TrendData t, ByteBuffer out) {
+            putString(out, t.trendId());
+            putString(out, t.platform());
+            putString(out, t.topic());
+            putStringList(out, t.keywords());
+            out.putDouble(t.relevanceScore());
+            putString(out, t.region());
+            putInstant(out, t.fetchedAt());
+            putVarLong(out, zigzag(t.version()));
+        }
+
+        @Override
+        TrendData decodeBody(ByteBuffer in, int version) {
+            return new TrendData(getString(in), getString(in), getString(in), getStringList(in), in.getDouble(),
+                    getString(in), getInstant(in), unzigzag(getVarLong(in)));
+        }
+    };
+
+    public static final WireCodec<ContentArtifact> CONTENT_ARTIFACT = new Codec<>(WireSchema.CONTENT_ARTIFACT) {
+        @Override
+        int bodySize(ContentArtifact a) {
+            return stringSize(a.artifactId()) + stringSize(a.taskId()) + stringSize(a.campaignId())
+                    + stringSize(a.contentType()) + stringSize(a.contentBody()) + stringSize(a.platform())
+                    + 8 + varIntSize(zigzag(a.version()));
+        }
+
+        @Override
+        void encodeBody(ContentArtifact a, ByteBuffer out) {
+            putString(out, a.artifactId());
+            putString(out, a.taskId());
+            putString(out, a.campaignId());
+            putString(out, a.contentType());
+            putString(out, a.contentBody());
+            putString(out, a.platform());
+            putInstant(out, a.generatedAt());
+            putVarLong(out, zigzag(a.version()));
+        }
+
+        @Override
+        ContentArtifact decodeBody(ByteBuffer in, int version) {
+            return new ContentArtifact(getString(in), getString(in), getString(in), getString(in), getString(in),
+                    getString(in), getInstant(in), unzigzag(getVarLong(in)));
+        }
+    };
+
+    public static final WireCodec<ContentPayload> CONTENT_PAYLOAD = new Codec<>(WireSchema.CONTENT_PAYLOAD) {
+        @Override
+        int bodySize(ContentPayload p) {
+            return stringSize(p.contentId()) + stringSize(p.script()) + stringSize(p.caption())
+                    + stringListSize(p.hashtags()) + stringSize(p.platform()) + stringSize(p.persona()) + 8 + 8;
+        }
+
+        @Override
+        void encodeBody(ContentPayload p, ByteBuffer out) {
+            putString(out, p.contentId());
+            putString(out, p.script());
+            putString(out, p.caption());
+            putStringList(out, p.hashtags());
+            putString(out, p.platform());
+            putString(out, p.persona());
+            out.putDouble(p.estimatedCost());
+            putInstant(out, p.generatedAt());
+        }
+
+        @Override
+        ContentPayload decodeBody(ByteBuffer in, int version) {
+            return new ContentPayload(getString(in), getString(in), getString(in), getStringList(in), getString(in),
+                    getString(in), in.getDouble(), getInstant(in));
+        }
+    };
+
+    public static final WireCodec<JudgeVerdict> JUDGE_VERDICT = new Codec<>(WireSchema.JUDGE_VERDICT) {
+        @Override
+        int bodySize(JudgeVerdict v) {
+            return stringSize(v.verdictId()) + stringSize(v.artifactId()) + 2 + stringSize(v.reason()) + 8;
+        }
+
+        @Override
+        void encodeBody(JudgeVerdict v, ByteBuffer out) {
+            putString(out, v.verdictId());
+            putString(out, v.artifactId());
+            out.put(WireSchema.code(v.confidence()));
+            out.put((byte) ((v.sensitiveTopicDetected() ? 1 : 0) | (v.approved() ? 2 : 0)));
+            putString(out, v.reason());
+            putInstant(out, v.judgedAt());
+        }
+
+        @Override
+        JudgeVerdict decodeBody(ByteBuffer in, int version) {
+            String verdictId = getString(in);
+            String artifactId = getString(in);
+            byte confidence = in.get();
+            byte flags = in.get();
+            return new JudgeVerdict(verdictId, artifactId, WireSchema.confidenceLevel(confidence),
+                    (flags & 1) != 0, (flags & 2) != 0, getString(in), getInstant(in));
+        }
+    };
+
+    public static final WireCodec<CampaignReport> CAMPAIGN_REPORT = new Codec<>(WireSchema.CAMPAIGN_REPORT) {
+        @Override
+        int bodySize(CampaignReport r) {
+            return stringSize(r.campaignId()) + varIntSize(zigzag(r.tasksSubmitted()))
+                    + varIntSize(zigzag(r.tasksCompleted())) + varIntSize(zigzag(r.tasksFailed())) + 8 + 8 + 8;
+        }
+
+        @Override
+        void encodeBody(CampaignReport r, ByteBuffer out) {
+            putString(out, r.campaignId());
+            putVarLong(out, zigzag(r.tasksSubmitted()));
+            putVarLong(out, zigzag(r.tasksCompleted()));
+            putVarLong(out, zigzag(r.tasksFailed()));
+            putDuration(out, r.elapsed());
+            out.putDouble(r.tasksPerSecond());
+            putDuration(out, r.p99TaskToVerdict());
+        }
+
+        @Override
+        CampaignReport decodeBody(ByteBuffer in, int version) {
+            return new CampaignReport(getString(in), (int) unzigzag(getVarLong(in)), (int) unzigzag(getVarLong(in)),
+                    (int) unzigzag(getVarLong(in)), getDuration(in), in.getDouble(), getDuration(in));
+        }
+    };
+
+    public static final WireCodec<TrendFanOutResult> TREND_FAN_OUT_RESULT =
+            new Codec<>(WireSchema.TREND_FAN_OUT_RESULT) {
+                @Override
+                int bodySize(TrendFanOutResult r) {
+                    int size = varIntSize(r.trends().size());
+                    for (TrendData trend : r.trends()) {
+                        size += TREND_DATA.encodedSize(trend);
+                    }
+                    return size + stringListSize(r.completed()) + stringListSize(r.timedOut())
+                            + stringListSize(r.failed()) + varIntSize(zigzag(r.hedgedRequests()));
+                }
+
+                @Override
+                void encodeBody(TrendFanOutResult r, ByteBuffer out) {
+                    putVarLong(out, r.trends().size());
+                    for (TrendData trend : r.trends()) {
+                        TREND_DATA.encode(trend, out);
+                    }
+                    putStringList(out, r.completed());
+                    putStringList(out, r.timedOut());
+                    putStringList(out, r.failed());
+                    putVarLong(out, zigzag(r.hedgedRequests()));
+                }
+
+                @Override
+                TrendFanOutResult decodeBody(ByteBuffer in, int version) {
+                    int count = Math.toIntExact(getVarLong(in));
+                    if (count > in.remaining()) {
+                        throw new IllegalArgumentException("list of " + count + " trends overruns the buffer");
+                    }
+                    List<TrendData> trends = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        trends.add(TREND_DATA.decode(in));
+                    }
+                    return new TrendFanOutResult(trends, getStringList(in), getStringList(in), getStringList(in),
+                            (int) unzigzag(getVarLong(in)));
+                }
+            };
+
+    private static final Map<Class<?>, WireCodec<?>> BY_TYPE = Map.of(
+            TaskEnvelope.class, TASK_ENVELOPE,
+            TrendData.class, TREND_DATA,
+            ContentArtifact.class, CONTENT_ARTIFACT,
+            ContentPayload.class, CONTENT_PAYLOAD,
+            JudgeVerdict.class, JUDGE_VERDICT,
+            CampaignReport.class, CAMPAIGN_REPORT,
+            TrendFanOutResult.class, TREND_FAN_OUT_RESULT);
+
+    private static final WireCodec<?>[] BY_TAG = {
+        null, TASK_ENVELOPE, TREND_DATA, CONTENT_ARTIFACT, CONTENT_PAYLOAD, JUDGE_VERDICT, CAMPAIGN_REPORT,
+        TREND_FAN_OUT_RESULT,
+    };
+
+    private WireFormat() {}
+
+    @SuppressWarnings("unchecked")
+    public static <T> WireCodec<T> codec(Class<T> type) {
+        WireCodec<T> codec = (WireCodec<T>) BY_TYPE.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("no wire codec for " + type.getName());
+        }
+        return codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static int encodedSize(Object value) {
+        return ((WireCodec<Object>) codec(value.getClass())).encodedSize(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void encode(Object value, ByteBuffer out) {
+        ((WireCodec<Object>) codec(value.getClass())).encode(value, out);
+    }
+
+    /**
+     * Decodes the next message whatever its record type, judging by its tag.
+     */
+    public static Object decode(ByteBuffer in) {
+        byte tag = in.get(in.position());
+        if (tag < 1 || tag >= BY_TAG.length) {
+            throw new IllegalArgumentException("unknown record tag " + tag);
+        }
+        return BY_TAG[tag].decode(in);
+    }
+
+    /** Header handling shared by every record codec. */
+    private abstract static class Codec<T> implements WireCodec<T> {
+        private final byte tag;
+
+        Codec(byte tag) {
+            this.tag = tag;
+        }
+
+        abstract int bodySize(T value);
+
+        abstract void encodeBody(T value, ByteBuffer out);
+
+        abstract T decodeBody(ByteBuffer in, int version);
+
+        @Override
+        public int encodedSize(T value) {
+            return 2 + bodySize(value);
+        }
+
+        @Override
+        public void encode(T value, ByteBuffer out) {
+            out.put(tag).put(WireSchema.VERSION);
+            encodeBody(value, out);
+        }
+
+        @Override
+        public T decode(ByteBuffer in) {
+            byte actualTag = in.get();
+            if (actualTag != tag) {
+                throw new IllegalArgumentException("expected record tag " + tag + " but found " + actualTag);
+            }
+            byte version = in.get();
+            if (version < 1 || version > WireSchema.VERSION) {
+                throw new IllegalArgumentException("unsupported schema v" + version + "; this build reads up to v"
+                        + WireSchema.VERSION);
+            }
+            return decodeBody(in, version);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.tenx.enterprise.codec;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.TaskType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Version 1 of the binary wire schema: record tags, the string dictionary and the
+ * enum code tables. Wire codes are pinned here rather than taken from
+ * {@code ordinal()}, so reordering an enum cannot silently change what old bytes mean.
+ *
+ * Compatibility rules: dictionary entries (up to {@value #DICTIONARY_SLOTS}) and enum codes
+ * may only be appended, never reordered; any change to a record's field layout bumps
+ * {@link #VERSION}. Decoders accept every version up to their own.
+ */
+public final class WireSchema {
+
+    public static final byte VERSION = 1;
+
+    /** Slots reserved for dictionary strings; a one-byte header addresses all of them. */
+    public static final int DICTIONARY_SLOTS = 64;
+
+    static final byte TASK_ENVELOPE = 1;
+    static final byte TREND_DATA = 2;
+    static final byte CONTENT_ARTIFACT = 3;
+    static final byte CONTENT_PAYLOAD = 4;
+    static final byte JUDGE_VERDICT = 5;
+    static final byte CAMPAIGN_REPORT = 6;
+    static final byte TREND_FAN_OUT_RESULT = 7;
+
+    /**
+     * Strings that recur in nearly every record: platforms, content types and region codes.
+     * Decoding one returns this shared instance, so it costs neither bytes nor allocation.
+     */
+    private static final List<String> DICTIONARY = List.of(
+            "tiktok", "youtube", "instagram", "twitter", "x", "facebook", "linkedin", "threads",
+            "snapchat", "pinterest",
+            "short_video", "image", "carousel", "story", "text", "live",
+            "US", "GB", "CA", "AU", "DE", "FR", "ES", "IT", "BR", "MX", "IN", "JP", "KR", "ID", "NG", "ZA");
+
+    private static final TaskType[] TASK_TYPES = {
+        TaskType.TREND_RESEARCH, TaskType.CONTENT_GENERATION, TaskType.ENGAGEMENT, TaskType.FINANCIAL_CHECK,
+    };
+    private static final ConfidenceLevel[] CONFIDENCE_LEVELS = {
+        ConfidenceLevel.HIGH, ConfidenceLevel.MEDIUM, ConfidenceLevel.LOW,
+    };
+
+    private static final Map<String, Integer> SLOTS = new HashMap<>();
+    private static final byte[] TASK_TYPE_CODES = codes(TASK_TYPES, TaskType.values().length);
+    private static final byte[] CONFIDENCE_CODES = codes(CONFIDENCE_LEVELS, ConfidenceLevel.values().length);
+
+    static {
+        if (DICTIONARY.size() > DICTIONARY_SLOTS) {
+            throw new IllegalStateException("dictionary exceeds " + DICTIONARY_SLOTS + " slots");
+        }
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            SLOTS.put(DICTIONARY.get(i), i + 1);
+        }
+    }
+
+    private WireSchema() {}
+
+    /** @return the 1-based dictionary slot of the string, or 0 if it must be sent literally */
+    static int dictionarySlot(String value) {
+        Integer slot = SLOTS.get(value);
+        return slot == null ? 0 : slot;
+    }
+
+    static String dictionaryEntry(int slot) {
+        if (slot > DICTIONARY.size()) {
+            throw new IllegalArgumentException("dictionary slot " + slot + " is unknown to schema v" + VERSION);
+        }
+        return DICTIONARY.get(slot - 1);
+    }
+
+    /** @return the wire code, 0 for null */
+    static byte code(TaskType type) {
+        return type == null ? 0 : TASK_TYPE_CODES[type.ordinal()];
+    }
+
+    static TaskType taskType(byte code) {
+        return code == 0 ? null : lookup(TASK_TYPES, code);
+    }
+
+    static byte code(ConfidenceLevel level) {
+        return level == null ? 0 : CONFIDENCE_CODES[level.ordinal()];
+    }
+
+    static ConfidenceLevel confidenceLevel(byte code) {
+        return code == 0 ? null : lookup(CONFIDENCE_LEVELS, code);
+    }
+
+    private static <E extends Enum<E>> byte[] codes(E[] table, int constants) {
+        byte[] codes = new byte[constants];
+        for (int i = 0; i < table.length; i++) {
+            codes[table[i].ordinal()] = (byte) (i + 1);
+        }
+        for (int i = 0; i < constants; i++) {
+            if (codes[i] == 0) {
+                throw new IllegalStateException("enum constant #" + i + " has no wire code");
+            }
+        }
+        return codes;
+    }
+
+    private static <E> E lookup(E[] table, byte code) {
+        if (code < 1 || code > table.length) {
+            throw new IllegalArgumentException("enum code " + code + " is unknown to schema v" + VERSION);
+        }
+        return table[code - 1];
+    }
+}
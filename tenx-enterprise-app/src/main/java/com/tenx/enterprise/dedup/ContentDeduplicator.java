@@ -0,0 +1,41 @@
+package com.tenx.enterprise.dedup;
+
+import com.tenx.enterprise.dto.ContentPayload;
+
+/**
+ * Near-duplicate detection for generated content, scoped per campaign and persona:
+ * MinHash over the script and caption, checked against one shared bounded LSH index.
+ * Thread-safe; signing runs on the caller's thread, only the index check is serialised.
+ */
+public class ContentDeduplicator {
+
+    private final MinHasher hasher;
+    private final NearDuplicateIndex index;
+
+    public ContentDeduplicator(int capacity) {
+        this(new MinHasher(), new NearDuplicateIndex(capacity));
+    }
+
+    public ContentDeduplicator(MinHasher hasher, NearDuplicateIndex index) {
+        if (hasher == null || index == null) {
+            throw new IllegalArgumentException("hasher and index are required");
+        }
+        this.hasher = hasher;
+        this.index = index;
+    }
+
+    /**
+     * Checks the payload and, if it is new, remembers it.
+     */
+    public DuplicateCheck check(String campaignId, ContentPayload payload) {
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+        byte[] signature = hasher.sign(payload.script(), payload.caption());
+        return index.checkAndAdd(campaignId + '\u0000' + payload.persona(), payload.contentId(), signature);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.tenx.enterprise.dedup;
+
+/**
+ * Outcome of checking one payload against the near-duplicate index.
+ *
+ * @param contentId   the payload that was checked
+ * @param duplicateOf the earlier payload it nearly duplicates, or null if it is new
+ * @param similarity  estimated Jaccard similarity to the closest earlier payload seen (0 if none)
+ */
+public record DuplicateCheck(String contentId, String duplicateOf, double similarity) {
+
+    public boolean isDuplicate() {
+        return duplicateOf != null;
+    }
+}
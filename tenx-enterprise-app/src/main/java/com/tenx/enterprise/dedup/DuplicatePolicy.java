@@ -0,0 +1,11 @@
+package com.tenx.enterprise.dedup;
+
+/**
+ * What happens to a payload found to nearly duplicate an earlier one.
+ */
+public enum DuplicatePolicy {
+    /** Throw DuplicateContentException; the task fails before reaching the Judge. */
+    REJECT,
+    /** Return the earlier payload instead, so downstream stages see one piece of content. */
+    MERGE
+}
@@ -0,0 +1,142 @@
+package com.tenx.enterprise.dedup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over character shingles of normalised text.
+ *
+ * Text is lower-cased and every run of non-alphanumerics collapses to one space, so
+ * punctuation and spacing edits do not change shingles. Each shingle is hashed once with a
+ * rolling hash, then permuted by {@code numHashes} multiply-add hash functions. Only the low
+ * 8 bits of each minimum are kept (b-bit MinHash): a signature is {@code numHashes} bytes,
+ * and {@link #similarity} corrects for the 1/256 chance of accidental byte matches.
+ *
+ * Instances are immutable and thread-safe.
+ */
+public final class MinHasher {
+
+    public static final int DEFAULT_NUM_HASHES = 64;
+    public static final int DEFAULT_SHINGLE_SIZE = 5;
+
+    private static final long ROLL = 0x100000001B3L;
+    private static final double ACCIDENTAL_MATCH = 1.0 / 256;
+
+    private final int shingleSize;
+    private final long[] multipliers;
+    private final long[] addends;
+    private final long rollOut;
+
+    public MinHasher() {
+        this(DEFAULT_NUM_HASHES, DEFAULT_SHINGLE_SIZE, 0x7E11L);
+    }
+
+    public MinHasher(int numHashes, int shingleSize, long seed) {
+        if (numHashes < 1 || shingleSize < 1) {
+            throw new IllegalArgumentException("numHashes and shingleSize must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.multipliers = new long[numHashes];
+        this.addends = new long[numHashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            addends[i] = random.nextLong();
+        }
+        long power = 1L;
+        for (int i = 0; i < shingleSize; i++) {
+            power *= ROLL;
+        }
+        this.rollOut = power;
+    }
+
+    public int numHashes() {
+        return multipliers.length;
+    }
+
+    /**
+     * One signature over all texts; shingles never span two texts.
+     */
+    public byte[] sign(CharSequence... texts) {
+        int[] mins = new int[multipliers.length];
+        Arrays.fill(mins, Integer.MAX_VALUE);
+        for (CharSequence text : texts) {
+            if (text != null) {
+                accumulate(text, mins);
+            }
+        }
+        byte[] signature = new byte[mins.length];
+        for (int i = 0; i < mins.length; i++) {
+            signature[i] = (byte) mins[i];
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the shingle sets behind two signatures.
+     */
+    public static double similarity(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        int matches = 0;
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] == b[bOffset + i]) {
+                matches++;
+            }
+        }
+        double raw = (double) matches / length;
+        return Math.max(0.0, (raw - ACCIDENTAL_MATCH) / (1.0 - ACCIDENTAL_MATCH));
+    }
+
+    private void accumulate(CharSequence text, int[] mins) {
+        char[] window = new char[shingleSize];
+        long hash = 0L;
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = length > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = roll(hash, ' ', window, length++);
+                if (length >= shingleSize) {
+                    update(hash, mins);
+                }
+                pendingSpace = false;
+            }
+            hash = roll(hash, Character.toLowerCase(c), window, length++);
+            if (length >= shingleSize) {
+                update(hash, mins);
+            }
+        }
+        if (length > 0 && length < shingleSize) {
+            update(hash, mins);
+        }
+    }
+
+    private long roll(long hash, char c, char[] window, int position) {
+        int slot = position % shingleSize;
+        long rolled = hash * ROLL + c;
+        if (position >= shingleSize) {
+            rolled -= window[slot] * rollOut;
+        }
+        window[slot] = c;
+        return rolled;
+    }
+
+    private void update(long shingleHash, int[] mins) {
+        long h = mix(shingleHash);
+        for (int i = 0; i < mins.length; i++) {
+            int v = (int) ((h * multipliers[i] + addends[i]) >>> 33);
+            if (v < mins[i]) {
+                mins[i] = v;
+            }
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
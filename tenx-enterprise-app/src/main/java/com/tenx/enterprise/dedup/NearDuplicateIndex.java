@@ -0,0 +1,155 @@
+package com.tenx.enterprise.dedup;
+
+import java.util.Arrays;
+
+/**
+ * Banded LSH index over b-bit MinHash signatures, in fixed-size primitive arrays.
+ *
+ * <ul>
+ *   <li>Memory is bounded by {@code capacity}: entries live in a ring and the oldest is
+ *       overwritten once full — {@code numHashes + 8..12 * bands + 16} bytes per entry
+ *       (210-270 bytes with the defaults, depending on table rounding), plus the id strings.</li>
+ *   <li>Each signature is cut into {@code bands} bands; a band's bytes, salted with the
+ *       scope, pick a cell in that band's direct-mapped table. Cells chain entries newest
+ *       first through an int array; overwritten entries are detected by their sequence
+ *       number, so eviction never has to unlink anything.</li>
+ *   <li>Every candidate sharing a band cell is verified against the full signature and its
+ *       scope, so cell collisions cost a comparison, never a false match.</li>
+ * </ul>
+ *
+ * With 64 hashes in 16 bands of 4, pairs above ~0.5 similarity are very likely to share a
+ * band; {@code threshold} then decides what counts as a duplicate. Methods are synchronised:
+ * signing, the expensive part, happens outside in {@link MinHasher}.
+ */
+public final class NearDuplicateIndex {
+
+    public static final int DEFAULT_BANDS = 16;
+    public static final double DEFAULT_THRESHOLD = 0.8;
+
+    private static final int MAX_CHAIN = 64;
+
+    private final int capacity;
+    private final int numHashes;
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final int tableMask;
+    private final byte[] signatures;
+    private final String[] ids;
+    private final String[] scopes;
+    private final long[] sequences;
+    private final int[] heads;
+    private final int[] next;
+    private long inserted;
+
+    public NearDuplicateIndex(int capacity) {
+        this(capacity, MinHasher.DEFAULT_NUM_HASHES, DEFAULT_BANDS, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param capacity  entries remembered before the oldest are overwritten
+     * @param numHashes signature length; must be a multiple of {@code bands}
+     * @param threshold minimum estimated similarity for a duplicate, in (0, 1]
+     */
+    public NearDuplicateIndex(int capacity, int numHashes, int bands, double threshold) {
+        if (capacity < 1 || bands < 1 || numHashes < bands || numHashes % bands != 0) {
+            throw new IllegalArgumentException("capacity must be positive and numHashes a multiple of bands");
+        }
+        if (!(threshold > 0.0 && threshold <= 1.0)) {
+            throw new IllegalArgumentException("threshold must be in (0, 1]");
+        }
+        this.capacity = capacity;
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.threshold = threshold;
+        int tableSize = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.tableMask = tableSize - 1;
+        this.signatures = new byte[Math.multiplyExact(capacity, numHashes)];
+        this.ids = new String[capacity];
+        this.scopes = new String[capacity];
+        this.sequences = new long[capacity];
+        this.heads = new int[Math.multiplyExact(bands, tableSize)];
+        this.next = new int[Math.multiplyExact(capacity, bands)];
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Looks for a near-duplicate of {@code signature} within {@code scope}; if there is none,
+     * the signature is added under {@code contentId}. Duplicates are not added, so later
+     * copies keep matching the original.
+     */
+    public synchronized DuplicateCheck checkAndAdd(String scope, String contentId, byte[] signature) {
+        DuplicateCheck check = find(scope, contentId, signature);
+        if (!check.isDuplicate()) {
+            add(scope, contentId, signature);
+        }
+        return check;
+    }
+
+    /**
+     * Looks for a near-duplicate without adding anything.
+     */
+    public synchronized DuplicateCheck find(String scope, String contentId, byte[] signature) {
+        if (signature.length != numHashes) {
+            throw new IllegalArgumentException("signature must have " + numHashes + " hashes");
+        }
+        int scopeSalt = scope.hashCode();
+        long oldestLive = inserted - capacity;
+        int bestSlot = -1;
+        double best = 0.0;
+        for (int band = 0; band < bands; band++) {
+            int slot = heads[band * (tableMask + 1) + cell(scopeSalt, signature, band * rows)];
+            long newer = Long.MAX_VALUE;
+            for (int steps = 0; slot >= 0 && steps < MAX_CHAIN; steps++) {
+                long sequence = sequences[slot];
+                if (sequence >= newer || sequence < oldestLive) {
+                    break;
+                }
+                double similarity = MinHasher.similarity(signature, 0, signatures, slot * numHashes, numHashes);
+                if (similarity > best && scope.equals(scopes[slot])) {
+                    best = similarity;
+                    bestSlot = slot;
+                }
+                newer = sequence;
+                slot = next[slot * bands + band];
+            }
+        }
+        String duplicateOf = bestSlot >= 0 && best >= threshold ? ids[bestSlot] : null;
+        return new DuplicateCheck(contentId, duplicateOf, best);
+    }
+
+    public synchronized int size() {
+        return (int) Math.min(inserted, capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void add(String scope, String contentId, byte[] signature) {
+        int slot = (int) (inserted % capacity);
+        long oldestLive = inserted + 1 - capacity;
+        sequences[slot] = inserted;
+        ids[slot] = contentId;
+        scopes[slot] = scope;
+        System.arraycopy(signature, 0, signatures, slot * numHashes, numHashes);
+        int scopeSalt = scope.hashCode();
+        for (int band = 0; band < bands; band++) {
+            int head = band * (tableMask + 1) + cell(scopeSalt, signature, band * rows);
+            int previous = heads[head];
+            boolean live = previous >= 0 && previous != slot && sequences[previous] >= oldestLive;
+            next[slot * bands + band] = live ? previous : -1;
+            heads[head] = slot;
+        }
+        inserted++;
+    }
+
+    private int cell(int scopeSalt, byte[] signature, int offset) {
+        int h = scopeSalt * 0x9E3779B1 + offset;
+        for (int i = 0; i < rows; i++) {
+            h = (h ^ (signature[offset + i] & 0xFF)) * 0x01000193;
+        }
+        return (h ^ (h >>> 16)) & tableMask;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tenx.enterprise.discovery;
+
+import com.tenx.enterprise.dto.TaskType;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * What an agent publishes to Discovery MCP, and what the directory holds for remote agents.
+ * Contract: specs/openclaw_integration.md → Discovery MCP
+ *
+ * @param agentId   wallet address; the agent's identity on OpenClaw
+ * @param persona   persona name, e.g. "techGuru"
+ * @param skills    task types the agent accepts
+ * @param platforms platforms the agent publishes to
+ * @param status    current availability
+ * @param rating    reputation, 0..5
+ * @param updatedAt when this state was produced
+ */
+public record AgentCard(
+        String agentId,
+        String persona,
+        Set<TaskType> skills,
+        Set<String> platforms,
+        AgentStatus status,
+        double rating,
+        Instant updatedAt
+) {
+    public AgentCard {
+        if (agentId == null || agentId.isBlank()) {
+            throw new IllegalArgumentException("agentId must not be blank");
+        }
+        if (status == null || updatedAt == null) {
+            throw new IllegalArgumentException("status and updatedAt are required");
+        }
+        skills = skills == null ? Set.of() : Set.copyOf(skills);
+        platforms = platforms == null ? Set.of() : Set.copyOf(platforms);
+    }
+
+    public AgentCard withStatus(AgentStatus status, Instant updatedAt) {
+        return new AgentCard(agentId, persona, skills, platforms, status, rating, updatedAt);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tenx.enterprise.discovery;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.dto.TaskType;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Discovery wire form of an {@link AgentCard}: field names follow the spec, and a delta
+ * carries {@code agentId} plus only the fields that changed since the last publication.
+ */
+final class AgentCardJson {
+
+    static final String AGENT_ID = "agentId";
+    private static final List<String> CARD_FIELDS =
+            List.of("persona", "skills", "platforms", "status", "rating", "updatedAt");
+
+    private AgentCardJson() {
+    }
+
+    /** @return the fields of {@code after} that differ from {@code before}; every field if before is null */
+    static Map<String, Object> delta(AgentCard before, AgentCard after) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put(AGENT_ID, after.agentId());
+        if (before == null || !Objects.equals(before.persona(), after.persona())) {
+            fields.put("persona", after.persona());
+        }
+        if (before == null || !before.skills().equals(after.skills())) {
+            fields.put("skills", new TreeSet<>(after.skills().stream().map(TaskType::name).toList()));
+        }
+        if (before == null || !before.platforms().equals(after.platforms())) {
+            fields.put("platforms", new TreeSet<>(after.platforms()));
+        }
+        if (before == null || before.status() != after.status()) {
+            fields.put("status", after.status().name());
+        }
+        if (before == null || before.rating() != after.rating()) {
+            fields.put("rating", after.rating());
+        }
+        if (before == null || !before.updatedAt().equals(after.updatedAt())) {
+            fields.put("updatedAt", after.updatedAt().toString());
+        }
+        return fields;
+    }
+
+    static Map<String, Object> full(AgentCard card) {
+        return delta(null, card);
+    }
+
+    /**
+     * Applies a delta to a known card, or reads a complete card when {@code base} is null.
+     *
+     * @throws IllegalArgumentException if base is null and the delta is not a complete card
+     */
+    static AgentCard merge(AgentCard base, JsonNode fields) {
+        if (base == null && !CARD_FIELDS.stream().allMatch(fields::has)) {
+            throw new IllegalArgumentException("incomplete card for " + fields.path(AGENT_ID).asText());
+        }
+        return new AgentCard(
+                fields.path(AGENT_ID).asText(),
+                fields.has("persona") ? textOrNull(fields.get("persona")) : base.persona(),
+                fields.has("skills") ? skills(fields.get("skills")) : base.skills(),
+                fields.has("platforms") ? platforms(fields.get("platforms")) : base.platforms(),
+                fields.has("status") ? AgentStatus.valueOf(fields.get("status").asText()) : base.status(),
+                fields.has("rating") ? fields.get("rating").asDouble() : base.rating(),
+                fields.has("updatedAt") ? Instant.parse(fields.get("updatedAt").asText()) : base.updatedAt());
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isNull() ? null : node.asText();
+    }
+
+    private static Set<TaskType> skills(JsonNode array) {
+        Set<TaskType> skills = new TreeSet<>();
+        array.forEach(skill -> skills.add(TaskType.valueOf(skill.asText())));
+        return skills;
+    }
+
+    private static Set<String> platforms(JsonNode array) {
+        Set<String> platforms = new TreeSet<>();
+        array.forEach(platform -> platforms.add(platform.asText()));
+        return platforms;
+    }
+}
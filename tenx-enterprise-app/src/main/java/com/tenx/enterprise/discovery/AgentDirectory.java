@@ -0,0 +1,148 @@
+package com.tenx.enterprise.discovery;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.McpException;
+import com.tenx.enterprise.mcp.McpClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Local, read-optimised copy of the remote agents Discovery MCP knows about.
+ *
+ * Queries read one immutable snapshot — agents by id, and per-skill and per-platform lists
+ * kept sorted best rating first — through a single volatile read, so they never lock and
+ * never see a half-applied refresh. {@link #apply} builds the next snapshot from the current
+ * one, re-sorting only the skill and platform lists the changed agents touch.
+ */
+public class AgentDirectory {
+
+    public static final String QUERY_TOOL = "discovery_query";
+
+    private static final Comparator<AgentCard> BEST_RATED =
+            Comparator.comparingDouble(AgentCard::rating).reversed().thenComparing(AgentCard::agentId);
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new EnumMap<>(TaskType.class), Map.of(), 0L);
+
+    /**
+     * Pulls every change since this directory's version from the Discovery server.
+     *
+     * @return the number of agents added, changed or removed
+     */
+    public int refresh(McpClient client) throws McpException {
+        JsonNode result = client.callTool(QUERY_TOOL, Map.of("since", version()));
+        List<AgentCard> upserts = new ArrayList<>();
+        result.path("agents").forEach(fields -> upserts.add(AgentCardJson.merge(null, fields)));
+        List<String> removed = new ArrayList<>();
+        result.path("removed").forEach(id -> removed.add(id.asText()));
+        apply(upserts, removed, result.path("version").asLong());
+        return upserts.size() + removed.size();
+    }
+
+    /** Replaces or adds the given agents, drops the removed ids, and records the server version. */
+    public void apply(Collection<AgentCard> upserts, Collection<String> removed, long version) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            Map<String, AgentCard> byId = new HashMap<>(current.byId());
+            Set<String> changed = new HashSet<>();
+            Set<TaskType> skills = new HashSet<>();
+            Set<String> platforms = new HashSet<>();
+            for (String id : removed) {
+                AgentCard old = byId.remove(id);
+                if (old != null) {
+                    changed.add(id);
+                    skills.addAll(old.skills());
+                    platforms.addAll(old.platforms());
+                }
+            }
+            for (AgentCard card : upserts) {
+                AgentCard old = byId.put(card.agentId(), card);
+                changed.add(card.agentId());
+                skills.addAll(card.skills());
+                platforms.addAll(card.platforms());
+                if (old != null) {
+                    skills.addAll(old.skills());
+                    platforms.addAll(old.platforms());
+                }
+            }
+            Map<TaskType, List<AgentCard>> bySkill = new EnumMap<>(current.bySkill());
+            for (TaskType skill : skills) {
+                reindex(bySkill, skill, changed, byId, card -> card.skills().contains(skill));
+            }
+            Map<String, List<AgentCard>> byPlatform = new HashMap<>(current.byPlatform());
+            for (String platform : platforms) {
+                reindex(byPlatform, platform, changed, byId, card -> card.platforms().contains(platform));
+            }
+            snapshot = new Snapshot(Map.copyOf(byId), bySkill, Map.copyOf(byPlatform),
+                    Math.max(version, current.version()));
+        }
+    }
+
+    public Optional<AgentCard> get(String agentId) {
+        return Optional.ofNullable(snapshot.byId().get(agentId));
+    }
+
+    /**
+     * AVAILABLE agents with the skill, and on the platform unless it is null, best rating first.
+     */
+    public List<AgentCard> find(TaskType skill, String platform, int limit) {
+        Snapshot current = snapshot;
+        List<AgentCard> withSkill = current.bySkill().getOrDefault(skill, List.of());
+        List<AgentCard> candidates = withSkill;
+        if (platform != null) {
+            List<AgentCard> onPlatform = current.byPlatform().getOrDefault(platform, List.of());
+            candidates = onPlatform.size() < withSkill.size() ? onPlatform : withSkill;
+        }
+        List<AgentCard> found = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && found.size() < limit; i++) {
+            AgentCard card = candidates.get(i);
+            if (card.status() == AgentStatus.AVAILABLE && card.skills().contains(skill)
+                    && (platform == null || card.platforms().contains(platform))) {
+                found.add(card);
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return snapshot.byId().size();
+    }
+
+    /** The Discovery server version this directory is current to. */
+    public long version() {
+        return snapshot.version();
+    }
+
+    private static <K> void reindex(Map<K, List<AgentCard>> index, K key, Set<String> changed,
+                                    Map<String, AgentCard> byId, Predicate<AgentCard> matches) {
+        List<AgentCard> list = new ArrayList<>(index.getOrDefault(key, List.of()));
+        list.removeIf(card -> changed.contains(card.agentId()));
+        for (String id : changed) {
+            AgentCard card = byId.get(id);
+            if (card != null && matches.test(card)) {
+                list.add(card);
+            }
+        }
+        if (list.isEmpty()) {
+            index.remove(key);
+        } else {
+            list.sort(BEST_RATED);
+            index.put(key, List.copyOf(list));
+        }
+    }
+
+    /** One published state of the directory; never modified after construction. */
+    private record Snapshot(Map<String, AgentCard> byId, Map<TaskType, List<AgentCard>> bySkill,
+                            Map<String, List<AgentCard>> byPlatform, long version) {}
+}
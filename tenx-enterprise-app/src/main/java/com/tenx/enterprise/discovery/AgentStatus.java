@@ -0,0 +1,11 @@
+package com.tenx.enterprise.discovery;
+
+/**
+ * Availability an agent advertises on OpenClaw.
+ * Contract: specs/openclaw_integration.md → Discovery MCP
+ */
+public enum AgentStatus {
+    AVAILABLE,
+    BUSY,
+    OFFLINE
+}
@@ -0,0 +1,286 @@
+package com.tenx.enterprise.discovery;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.mcp.McpClient;
+import com.tenx.enterprise.mcp.McpRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the node's local agents to Discovery MCP, coalescing every agent's heartbeat
+ * and status change into one publication per tick.
+ * Contract: specs/openclaw_integration.md → Discovery MCP
+ *
+ * <ul>
+ *   <li>Agents sit on a hashed timer wheel with one slot per tick of the heartbeat interval.
+ *       Each tick collects the agents whose heartbeat is due, plus every agent that changed
+ *       since the last tick, and sends them together — one batch frame per tick however
+ *       many agents the node runs.</li>
+ *   <li>Changes are delta-encoded: an agent the server already knows is sent as its id and
+ *       the fields that changed; a due heartbeat with no change is just the id. Several
+ *       changes within one tick collapse into the latest state.</li>
+ *   <li>Publishing an agent's state counts as its heartbeat, so the agent moves to the
+ *       current slot and is next due one full interval later.</li>
+ *   <li>If the server reports an agent it does not know (e.g. after a restart), the agent
+ *       is re-sent in full on the next tick. A failed publication is retried the same way.</li>
+ * </ul>
+ *
+ * Ticks run on one scheduler thread; {@link #tick()} may also be called directly. The tick
+ * lock is a ReentrantLock because a tick waits for the server while holding it, which
+ * would pin a Virtual Thread's carrier inside {@code synchronized}.
+ */
+public class DiscoveryPublisher implements AutoCloseable {
+
+    public static final String PUBLISH_TOOL = "discovery_publish";
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(60);
+
+    private static final Duration PUBLISH_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_AGENTS_PER_CALL = 500;
+
+    private final McpClient client;
+    private final String nodeId;
+    private final Duration tickInterval;
+    private final Map<String, LocalAgent> agents = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private final List<Set<String>> wheel;
+    private final Map<String, Integer> slotOf = new HashMap<>();
+    private final AtomicLong publications = new AtomicLong();
+    private final AtomicLong publishedEntries = new AtomicLong();
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("discovery-publish").factory());
+    private int cursor;
+    private long sequence;
+
+    public DiscoveryPublisher(McpClient client, String nodeId) {
+        this(client, nodeId, HEARTBEAT_INTERVAL, Duration.ofSeconds(1));
+    }
+
+    /**
+     * @param heartbeatInterval how often an unchanged agent is re-announced
+     * @param tickInterval      how long a change may wait to be coalesced; divides the interval into wheel slots
+     */
+    public DiscoveryPublisher(McpClient client, String nodeId, Duration heartbeatInterval, Duration tickInterval) {
+        if (client == null || nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("client and nodeId are required");
+        }
+        if (tickInterval == null || tickInterval.isNegative() || tickInterval.isZero()
+                || heartbeatInterval == null || heartbeatInterval.compareTo(tickInterval) < 0) {
+            throw new IllegalArgumentException("tickInterval must be positive and no longer than heartbeatInterval");
+        }
+        this.client = client;
+        this.nodeId = nodeId;
+        this.tickInterval = tickInterval;
+        int slots = (int) (heartbeatInterval.toNanos() / tickInterval.toNanos());
+        this.wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new HashSet<>());
+        }
+    }
+
+    /** Starts ticking on the publisher's own timer. */
+    public DiscoveryPublisher start() {
+        long nanos = tickInterval.toNanos();
+        timer.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    /** Adds or replaces a local agent; it is published on the next tick. */
+    public void update(AgentCard card) {
+        if (card == null) {
+            throw new IllegalArgumentException("card is required");
+        }
+        agents.compute(card.agentId(), (id, agent) -> {
+            if (agent == null) {
+                return new LocalAgent(card);
+            }
+            agent.latest = card;
+            return agent;
+        });
+        dirty.add(card.agentId());
+    }
+
+    /**
+     * @return false if no such agent is registered
+     */
+    public boolean updateStatus(String agentId, AgentStatus status) {
+        LocalAgent agent = agents.computeIfPresent(agentId, (id, current) -> {
+            current.latest = current.latest.withStatus(status, Instant.now());
+            return current;
+        });
+        if (agent != null) {
+            dirty.add(agentId);
+        }
+        return agent != null;
+    }
+
+    /** Removes a local agent; the removal is published on the next tick. */
+    public void remove(String agentId) {
+        if (agents.remove(agentId) != null) {
+            dirty.add(agentId);
+        }
+    }
+
+    /**
+     * Advances the wheel one slot and publishes whatever is due or changed.
+     *
+     * @return the number of agents in the publication, 0 if nothing was sent
+     */
+    public int tick() {
+        tickLock.lock();
+        try {
+            cursor = (cursor + 1) % wheel.size();
+            Map<String, Object> upserts = new LinkedHashMap<>();
+            Map<String, AgentCard> previous = new HashMap<>();
+            List<String> removed = new ArrayList<>();
+            for (Iterator<String> it = dirty.iterator(); it.hasNext(); ) {
+                String id = it.next();
+                it.remove();
+                LocalAgent agent = agents.get(id);
+                Integer slot = slotOf.remove(id);
+                if (slot != null) {
+                    wheel.get(slot).remove(id);
+                }
+                if (agent == null) {
+                    if (slot != null) {
+                        removed.add(id);
+                    }
+                    continue;
+                }
+                AgentCard latest = agent.latest;
+                previous.put(id, agent.published);
+                upserts.put(id, AgentCardJson.delta(agent.published, latest));
+                agent.published = latest;
+                wheel.get(cursor).add(id);
+                slotOf.put(id, cursor);
+            }
+            List<String> heartbeats = new ArrayList<>();
+            for (String id : wheel.get(cursor)) {
+                if (!upserts.containsKey(id)) {
+                    heartbeats.add(id);
+                }
+            }
+            int entries = upserts.size() + heartbeats.size() + removed.size();
+            if (entries == 0) {
+                return 0;
+            }
+            if (!send(new ArrayList<>(upserts.values()), heartbeats, removed)) {
+                previous.forEach((id, card) -> {
+                    LocalAgent agent = agents.get(id);
+                    if (agent != null) {
+                        agent.published = card;
+                    }
+                });
+                dirty.addAll(previous.keySet());
+                dirty.addAll(heartbeats);
+                removed.forEach(id -> slotOf.put(id, cursor));
+                dirty.addAll(removed);
+                return 0;
+            }
+            publications.incrementAndGet();
+            publishedEntries.addAndGet(entries);
+            return entries;
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    public int agentCount() {
+        return agents.size();
+    }
+
+    /** Ticks that sent something. */
+    public long publicationCount() {
+        return publications.get();
+    }
+
+    /** Agents sent across all publications: upserts, heartbeats and removals. */
+    public long publishedEntryCount() {
+        return publishedEntries.get();
+    }
+
+    /** Stops the timer after announcing every local agent as removed. */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        tickLock.lock();
+        try {
+            dirty.addAll(agents.keySet());
+            agents.clear();
+            tick();
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    /** @return true if every chunk was accepted */
+    private boolean send(List<Object> upserts, List<String> heartbeats, List<String> removed) {
+        List<McpRequest> calls = new ArrayList<>();
+        long seq = ++sequence;
+        int chunks = Math.max(1, (upserts.size() + heartbeats.size() + removed.size() + MAX_AGENTS_PER_CALL - 1)
+                / MAX_AGENTS_PER_CALL);
+        for (int c = 0; c < chunks; c++) {
+            calls.add(new McpRequest("tools/call", Map.of("name", PUBLISH_TOOL, "arguments", Map.of(
+                    "node", nodeId,
+                    "sequence", seq,
+                    "upserts", slice(upserts, c, chunks),
+                    "heartbeats", slice(heartbeats, c, chunks),
+                    "removed", slice(removed, c, chunks)))));
+        }
+        boolean ok = true;
+        for (CompletableFuture<JsonNode> reply : client.batch(calls)) {
+            try {
+                reply.get(PUBLISH_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)
+                        .path("unknown").forEach(id -> resend(id.asText()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ok = false;
+            } catch (ExecutionException | TimeoutException e) {
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    private void resend(String agentId) {
+        LocalAgent agent = agents.get(agentId);
+        if (agent != null) {
+            agent.published = null;
+            dirty.add(agentId);
+        }
+    }
+
+    private static <T> List<T> slice(List<T> items, int chunk, int chunks) {
+        int size = (items.size() + chunks - 1) / chunks;
+        int from = Math.min(items.size(), chunk * size);
+        return items.subList(from, Math.min(items.size(), from + size));
+    }
+
+    /** The latest local state of an agent and what the server last acknowledged. */
+    private static final class LocalAgent {
+        volatile AgentCard latest;
+        AgentCard published;
+
+        LocalAgent(AgentCard latest) {
+            this.latest = latest;
+        }
+    }
+}
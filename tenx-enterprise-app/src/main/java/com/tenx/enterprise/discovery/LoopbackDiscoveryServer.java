@@ -0,0 +1,150 @@
+package com.tenx.enterprise.discovery;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.mcp.LoopbackMcpServer;
+import com.tenx.enterprise.mcp.McpTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Discovery MCP server, for tests and local runs.
+ *
+ * Serves {@value DiscoveryPublisher#PUBLISH_TOOL} — merging deltas into its copy of each
+ * agent and answering with the ids it has no base state for — and
+ * {@value AgentDirectory#QUERY_TOOL}, which returns every agent changed and every id
+ * removed after a given version.
+ */
+public class LoopbackDiscoveryServer implements AutoCloseable {
+
+    private final LoopbackMcpServer server = new LoopbackMcpServer("discovery");
+    private final Map<String, Entry> agents = new HashMap<>();
+    private final Map<String, Long> removedAt = new HashMap<>();
+    private final AtomicLong publishCalls = new AtomicLong();
+    private final AtomicLong heartbeats = new AtomicLong();
+    private long version;
+
+    public LoopbackDiscoveryServer() {
+        server.tool(DiscoveryPublisher.PUBLISH_TOOL, this::publish);
+        server.tool(AgentDirectory.QUERY_TOOL, this::query);
+    }
+
+    public McpTransport.Connector connector() {
+        return server.connector();
+    }
+
+    public synchronized Optional<AgentCard> agent(String agentId) {
+        Entry entry = agents.get(agentId);
+        return entry == null ? Optional.empty() : Optional.of(entry.card());
+    }
+
+    public synchronized int agentCount() {
+        return agents.size();
+    }
+
+    /** {@code tools/call} requests to the publish tool; each publisher tick is one batch of these. */
+    public long publishCallCount() {
+        return publishCalls.get();
+    }
+
+    /** Agents refreshed without any field changing. */
+    public long heartbeatCount() {
+        return heartbeats.get();
+    }
+
+    /** Forgets every agent, as a server restart without persistence would. */
+    public synchronized void restart() {
+        agents.clear();
+        removedAt.clear();
+    }
+
+    /**
+     * Marks AVAILABLE or BUSY agents that have not been heard from within {@code maxSilence}
+     * as OFFLINE.
+     *
+     * @return the number of agents marked
+     */
+    public synchronized int expireSilent(Duration maxSilence) {
+        long cutoff = System.nanoTime() - maxSilence.toNanos();
+        int expired = 0;
+        for (Map.Entry<String, Entry> e : agents.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.card().status() != AgentStatus.OFFLINE && entry.lastSeenNanos() - cutoff < 0) {
+                e.setValue(new Entry(entry.card().withStatus(AgentStatus.OFFLINE, Instant.now()),
+                        ++version, entry.lastSeenNanos()));
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    public void close() {
+        server.close();
+    }
+
+    private synchronized Object publish(JsonNode args) {
+        publishCalls.incrementAndGet();
+        long now = System.nanoTime();
+        List<String> unknown = new ArrayList<>();
+        for (JsonNode delta : args.path("upserts")) {
+            String id = delta.path(AgentCardJson.AGENT_ID).asText();
+            Entry entry = agents.get(id);
+            if (entry == null && delta.size() == 1) {
+                unknown.add(id);
+                continue;
+            }
+            if (delta.size() == 1) {
+                heartbeats.incrementAndGet();
+                agents.put(id, new Entry(entry.card(), entry.version(), now));
+                continue;
+            }
+            try {
+                AgentCard merged = AgentCardJson.merge(entry == null ? null : entry.card(), delta);
+                agents.put(id, new Entry(merged, ++version, now));
+                removedAt.remove(id);
+            } catch (IllegalArgumentException e) {
+                unknown.add(id);
+            }
+        }
+        for (JsonNode idNode : args.path("heartbeats")) {
+            String id = idNode.asText();
+            Entry entry = agents.get(id);
+            if (entry == null) {
+                unknown.add(id);
+            } else {
+                heartbeats.incrementAndGet();
+                agents.put(id, new Entry(entry.card(), entry.version(), now));
+            }
+        }
+        for (JsonNode idNode : args.path("removed")) {
+            if (agents.remove(idNode.asText()) != null) {
+                removedAt.put(idNode.asText(), ++version);
+            }
+        }
+        return Map.of("unknown", unknown);
+    }
+
+    private synchronized Object query(JsonNode args) {
+        long since = args.path("since").asLong();
+        List<Map<String, Object>> changed = new ArrayList<>();
+        agents.values().stream()
+                .filter(entry -> entry.version() > since)
+                .forEach(entry -> changed.add(AgentCardJson.full(entry.card())));
+        List<String> removed = new ArrayList<>();
+        removedAt.forEach((id, at) -> {
+            if (at > since) {
+                removed.add(id);
+            }
+        });
+        return Map.of("version", version, "agents", changed, "removed", removed);
+    }
+
+    private record Entry(AgentCard card, long version, long lastSeenNanos) {}
+}
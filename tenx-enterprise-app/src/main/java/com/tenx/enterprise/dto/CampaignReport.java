@@ -0,0 +1,30 @@
+package com.tenx.enterprise.dto;
+
+import java.time.Duration;
+
+/**
+ * Immutable summary of one campaign run through the CampaignOrchestrator.
+ * Throughput is measured from the first submitted task to the last verdict;
+ * latency is measured per task from submission to the Judge's verdict.
+ */
+public record CampaignReport(
+        String campaignId,
+        int tasksSubmitted,
+        int tasksCompleted,
+        int tasksFailed,
+        Duration elapsed,
+        double tasksPerSecond,
+        Duration p99TaskToVerdict
+) {
+    public CampaignReport {
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+        if (tasksCompleted + tasksFailed > tasksSubmitted) {
+            throw new IllegalArgumentException("completed + failed cannot exceed submitted tasks");
+        }
+        if (elapsed == null || p99TaskToVerdict == null) {
+            throw new IllegalArgumentException("durations are required");
+        }
+    }
+}
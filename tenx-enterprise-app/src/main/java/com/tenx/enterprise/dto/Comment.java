@@ -0,0 +1,38 @@
+package com.tenx.enterprise.dto;
+
+import java.time.Instant;
+
+/**
+ * Immutable DTO for one audience comment on a published post.
+ * Contract: specs/functional.md → US-EN-001
+ */
+public record Comment(
+        String commentId,
+        String campaignId,
+        String postId,
+        String platform,
+        String authorId,
+        String text,
+        Instant receivedAt
+) {
+    public Comment {
+        if (commentId == null || commentId.isBlank()) {
+            throw new IllegalArgumentException("commentId is required");
+        }
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId is required");
+        }
+        if (postId == null || postId.isBlank()) {
+            throw new IllegalArgumentException("postId is required");
+        }
+        if (platform == null || platform.isBlank()) {
+            throw new IllegalArgumentException("platform is required");
+        }
+        if (text == null) {
+            throw new IllegalArgumentException("text must not be null");
+        }
+        if (receivedAt == null) {
+            throw new IllegalArgumentException("receivedAt is required");
+        }
+    }
+}
@@ -15,4 +15,11 @@ public record ContentArtifact(
         String platform,
         Instant generatedAt,
         long version
-) {}
\ No newline at end of file
+) implements Versioned<ContentArtifact> {
+
+    @Override
+    public ContentArtifact withVersion(long version) {
+        return new ContentArtifact(
+                artifactId, taskId, campaignId, contentType, contentBody, platform, generatedAt, version);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.tenx.enterprise.dto;
+
+import java.time.Instant;
+
+/**
+ * Immutable DTO for a persona's reply to one comment, produced by the Engagement skill.
+ * Contract: specs/functional.md → US-EN-001
+ */
+public record EngagementReply(
+        String replyId,
+        String commentId,
+        String campaignId,
+        String postId,
+        String platform,
+        String persona,
+        String text,
+        double estimatedCost,
+        Instant generatedAt
+) {
+    public EngagementReply {
+        if (replyId == null || replyId.isBlank()) {
+            throw new IllegalArgumentException("replyId is required");
+        }
+        if (commentId == null || commentId.isBlank()) {
+            throw new IllegalArgumentException("commentId is required");
+        }
+        if (persona == null || persona.isBlank()) {
+            throw new IllegalArgumentException("persona is required");
+        }
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("text is required");
+        }
+        if (estimatedCost < 0) {
+            throw new IllegalArgumentException("estimatedCost cannot be negative");
+        }
+        if (generatedAt == null) {
+            throw new IllegalArgumentException("generatedAt is required");
+        }
+    }
+
+    /** The same reply text addressed to another comment, at no extra cost. */
+    public EngagementReply forComment(Comment comment, Instant at) {
+        return new EngagementReply("reply-" + comment.commentId(), comment.commentId(), comment.campaignId(),
+                comment.postId(), comment.platform(), persona, text, 0.0, at);
+    }
+
+    /** The reply as an artifact, so it passes the same Judge and HITL gate as generated content. */
+    public ContentArtifact toArtifact() {
+        return new ContentArtifact(replyId, commentId, campaignId, "engagement_reply", text, platform,
+                generatedAt, 1L);
+    }
+}
@@ -14,4 +14,10 @@ public record TaskEnvelope(
         String payload,
         long version,
         Instant createdAt
-) {}
\ No newline at end of file
+) implements Versioned<TaskEnvelope> {
+
+    @Override
+    public TaskEnvelope withVersion(long version) {
+        return new TaskEnvelope(taskId, campaignId, type, payload, version, createdAt);
+    }
+}
\ No newline at end of file
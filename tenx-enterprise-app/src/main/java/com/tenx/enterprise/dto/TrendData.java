@@ -16,7 +16,7 @@ public record TrendData(
         String region,
         Instant fetchedAt,
         long version
-) {
+) implements Versioned<TrendData> {
     public TrendData {
         if (trendId == null || trendId.isBlank()) {
             throw new IllegalArgumentException("trendId must not be blank");
@@ -28,4 +28,9 @@ public record TrendData(
             throw new IllegalArgumentException("relevanceScore must be between 0.0 and 1.0");
         }
     }
+
+    @Override
+    public TrendData withVersion(long version) {
+        return new TrendData(trendId, platform, topic, keywords, relevanceScore, region, fetchedAt, version);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.tenx.enterprise.dto;
+
+import java.util.List;
+
+/**
+ * Merged outcome of one multi-platform trend fan-out.
+ * Each source is named {@code platform/region}.
+ *
+ * @param trends         merged trends, deduplicated by topic, highest relevanceScore first
+ * @param completed      sources that answered before the deadline
+ * @param timedOut       sources still outstanding (or rate-limited) at the deadline
+ * @param failed         sources whose every attempt threw
+ * @param hedgedRequests backup requests sent because a call outlived its platform's p95
+ */
+public record TrendFanOutResult(
+        List<TrendData> trends,
+        List<String> completed,
+        List<String> timedOut,
+        List<String> failed,
+        int hedgedRequests
+) {
+    public TrendFanOutResult {
+        trends = List.copyOf(trends);
+        completed = List.copyOf(completed);
+        timedOut = List.copyOf(timedOut);
+        failed = List.copyOf(failed);
+    }
+
+    public boolean isPartial() {
+        return !timedOut.isEmpty() || !failed.isEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.tenx.enterprise.dto;
+
+/**
+ * Implemented by DTOs that carry an OCC version field.
+ * The version is bumped by copying the record, never by mutating it.
+ *
+ * @param <T> the implementing record type
+ */
+public interface Versioned<T extends Versioned<T>> {
+
+    long version();
+
+    /**
+     * Returns a copy of this record carrying the given version.
+     */
+    T withVersion(long version);
+}
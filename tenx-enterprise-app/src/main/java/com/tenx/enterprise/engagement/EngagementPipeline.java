@@ -0,0 +1,368 @@
+package com.tenx.enterprise.engagement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenx.enterprise.dto.Comment;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.EngagementReply;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.safety.SensitiveTopicMatcher;
+import com.tenx.enterprise.skill.EngagementSkill;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Turns a stream of audience comments into persona replies, micro-batched per persona and post.
+ * Contract: specs/functional.md → US-EN-001, US-EN-002
+ *
+ * <ul>
+ *   <li>Comments are grouped by (persona, post). A group goes to the {@link EngagementSkill}
+ *       in one call as soon as it holds {@code maxBatchSize} comments, or once its oldest
+ *       comment has waited {@code maxDelay} — the latency budget.</li>
+ *   <li>A comment id seen before is dropped, unless it was left unanswered. Comments whose
+ *       normalised text repeats (case, punctuation and spacing ignored) are answered once per
+ *       batch, and the reply is reused for the same persona and post in later batches without
+ *       calling the skill. Text with no letters or digits, such as emoji, only matches itself
+ *       exactly, and an empty comment matches nothing.</li>
+ *   <li>Every reply leaves through the verdict sink as an artifact and a verdict — the same
+ *       shape the orchestrator hands to {@link com.tenx.enterprise.hitl.HitlRouter}. If the
+ *       comment or the reply mentions a sensitive term, the verdict is flagged and not
+ *       approved, so it goes to mandatory human review (US-EN-002).</li>
+ * </ul>
+ *
+ * {@link #submit} only touches one group's map entry, so producers on different posts never
+ * contend. Batches run on the given executor — a Virtual Thread each by default.
+ */
+public class EngagementPipeline implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(250);
+
+    private static final int DEFAULT_DEDUP_CAPACITY = 200_000;
+
+    private final EngagementSkill skill;
+    private final SensitiveTermDictionary dictionary;
+    private final BiConsumer<ContentArtifact, JudgeVerdict> sink;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final double budgetPerReply;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ConcurrentHashMap<GroupKey, Batch> open = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> seenComments;
+    private final Cache<ReplyKey, EngagementReply> recentReplies;
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("engagement-flush").factory());
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder flagged = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public EngagementPipeline(EngagementSkill skill, SensitiveTermDictionary dictionary,
+                              BiConsumer<ContentArtifact, JudgeVerdict> sink, double budgetPerReply) {
+        this(skill, dictionary, sink, budgetPerReply, DEFAULT_BATCH_SIZE, DEFAULT_MAX_DELAY,
+                DEFAULT_DEDUP_CAPACITY, null);
+    }
+
+    /**
+     * @param budgetPerReply most the skill may spend per distinct comment, in USD
+     * @param dedupCapacity  comment ids, and reusable replies, remembered for deduplication
+     * @param executor       runs each batch; null for a Virtual Thread per batch
+     */
+    public EngagementPipeline(EngagementSkill skill, SensitiveTermDictionary dictionary,
+                              BiConsumer<ContentArtifact, JudgeVerdict> sink, double budgetPerReply,
+                              int maxBatchSize, Duration maxDelay, int dedupCapacity, Executor executor) {
+        if (skill == null || dictionary == null || sink == null) {
+            throw new IllegalArgumentException("skill, dictionary and sink are required");
+        }
+        if (maxBatchSize < 1 || dedupCapacity < 1 || budgetPerReply < 0
+                || maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxBatchSize, maxDelay and dedupCapacity must be positive");
+        }
+        this.skill = skill;
+        this.dictionary = dictionary;
+        this.sink = sink;
+        this.budgetPerReply = budgetPerReply;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.ownedExecutor = executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.executor = executor == null ? ownedExecutor : executor;
+        this.seenComments = Caffeine.newBuilder().maximumSize(dedupCapacity).<String, Boolean>build().asMap();
+        this.recentReplies = Caffeine.newBuilder().maximumSize(dedupCapacity).build();
+    }
+
+    /** Starts flushing groups whose oldest comment has used up the latency budget. */
+    public EngagementPipeline start() {
+        long period = Math.max(1L, maxDelayNanos / 4);
+        timer.scheduleAtFixedRate(this::flushExpired, period, period, TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    /**
+     * Queues a comment for {@code persona} to answer.
+     *
+     * @return false if the comment id was already seen
+     */
+    public boolean submit(String persona, Comment comment) {
+        if (persona == null || persona.isBlank() || comment == null) {
+            throw new IllegalArgumentException("persona and comment are required");
+        }
+        received.increment();
+        if (seenComments.putIfAbsent(comment.commentId(), Boolean.TRUE) != null) {
+            duplicates.increment();
+            return false;
+        }
+        Pending pending = new Pending(comment, dedupKey(comment));
+        Batch[] full = new Batch[1];
+        open.compute(new GroupKey(persona, comment.postId()), (key, batch) -> {
+            Batch current = batch == null ? new Batch(key, System.nanoTime()) : batch;
+            current.items.add(pending);
+            if (current.items.size() >= maxBatchSize) {
+                full[0] = current;
+                return null;
+            }
+            return current;
+        });
+        if (full[0] != null) {
+            dispatch(full[0]);
+        }
+        return true;
+    }
+
+    /**
+     * Dispatches every open group now, whatever its age.
+     *
+     * @return the number of batches dispatched
+     */
+    public int flush() {
+        return flushOlderThan(0L);
+    }
+
+    public long receivedCount() {
+        return received.sum();
+    }
+
+    /** Comments dropped because their id was already seen. */
+    public long duplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    /** Replies the skill produced. */
+    public long generatedCount() {
+        return generated.sum();
+    }
+
+    /** Replies copied from an identical comment instead of generated. */
+    public long reusedCount() {
+        return reused.sum();
+    }
+
+    /** Replies sent to mandatory human review for a sensitive topic. */
+    public long flaggedCount() {
+        return flagged.sum();
+    }
+
+    /**
+     * Comments left unanswered because their batch failed, exceeded its budget or the sink
+     * rejected the reply. Their ids are forgotten, so submitting them again is not a replay.
+     */
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    /** Stops the timer, dispatches what is still open and waits for batches in flight. */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        flush();
+        if (ownedExecutor != null) {
+            ownedExecutor.close();
+        }
+    }
+
+    private void flushExpired() {
+        flushOlderThan(maxDelayNanos);
+    }
+
+    private int flushOlderThan(long ageNanos) {
+        long now = System.nanoTime();
+        int dispatched = 0;
+        for (GroupKey key : open.keySet()) {
+            Batch[] expired = new Batch[1];
+            open.computeIfPresent(key, (k, batch) -> {
+                if (now - batch.openedNanos < ageNanos) {
+                    return batch;
+                }
+                expired[0] = batch;
+                return null;
+            });
+            if (expired[0] != null) {
+                dispatch(expired[0]);
+                dispatched++;
+            }
+        }
+        return dispatched;
+    }
+
+    private void dispatch(Batch batch) {
+        batches.increment();
+        executor.execute(() -> answer(batch));
+    }
+
+    private void answer(Batch batch) {
+        String persona = batch.key.persona();
+        Map<String, List<Comment>> byText = new LinkedHashMap<>();
+        for (Pending pending : batch.items) {
+            byText.computeIfAbsent(pending.normalised(), t -> new ArrayList<>(1)).add(pending.comment());
+        }
+        Map<String, EngagementReply> replies = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        List<Comment> toGenerate = new ArrayList<>();
+        for (Map.Entry<String, List<Comment>> group : byText.entrySet()) {
+            EngagementReply known = recentReplies.getIfPresent(new ReplyKey(batch.key, group.getKey()));
+            if (known != null) {
+                replies.put(group.getKey(), known);
+            } else {
+                missing.add(group.getKey());
+                toGenerate.add(group.getValue().get(0));
+            }
+        }
+        if (!toGenerate.isEmpty()) {
+            List<EngagementReply> fresh;
+            try {
+                fresh = skill.generateReplies(persona, toGenerate, budgetPerReply * toGenerate.size());
+            } catch (RuntimeException e) { // BudgetExceededException included
+                fresh = null;
+            }
+            if (fresh == null || fresh.size() != toGenerate.size()) {
+                for (Pending pending : batch.items) {
+                    unanswered(pending.comment());
+                }
+                return;
+            }
+            for (int i = 0; i < fresh.size(); i++) {
+                replies.put(missing.get(i), fresh.get(i));
+                recentReplies.put(new ReplyKey(batch.key, missing.get(i)), fresh.get(i));
+            }
+            generated.add(fresh.size());
+        }
+        SensitiveTopicMatcher matcher = dictionary.current();
+        Instant now = Instant.now();
+        for (Map.Entry<String, List<Comment>> group : byText.entrySet()) {
+            EngagementReply reply = replies.get(group.getKey());
+            for (Comment comment : group.getValue()) {
+                EngagementReply answer = reply.commentId().equals(comment.commentId())
+                        ? reply : reply.forComment(comment, now);
+                if (answer != reply) {
+                    reused.increment();
+                }
+                try {
+                    emit(comment, answer, matcher, now);
+                } catch (RuntimeException e) {
+                    unanswered(comment);
+                }
+            }
+        }
+    }
+
+    /** Forgets the comment id so a resubmission is answered rather than dropped as a replay. */
+    private void unanswered(Comment comment) {
+        seenComments.remove(comment.commentId());
+        failed.increment();
+    }
+
+    private void emit(Comment comment, EngagementReply reply, SensitiveTopicMatcher matcher, Instant now) {
+        int term = matcher.firstMatch(comment.text());
+        if (term < 0) {
+            term = matcher.firstMatch(reply.text());
+        }
+        boolean sensitive = term >= 0;
+        if (sensitive) {
+            flagged.increment();
+        }
+        sink.accept(reply.toArtifact(), new JudgeVerdict(
+                "verdict-" + reply.replyId(),
+                reply.replyId(),
+                sensitive ? ConfidenceLevel.MEDIUM : ConfidenceLevel.HIGH,
+                sensitive,
+                !sensitive,
+                sensitive ? "Sensitive topic '" + matcher.term(term) + "' requires human review"
+                        : "Persona reply",
+                now));
+    }
+
+    /**
+     * The text a comment is deduplicated on: its normalised text, or, when that is empty, the raw
+     * text, so "🔥" and "😂" get separate replies. An empty comment is keyed on its id. Neither
+     * fallback can collide with a normalised text, which always holds a letter or digit.
+     */
+    private static String dedupKey(Comment comment) {
+        String normalised = normalise(comment.text());
+        if (!normalised.isEmpty()) {
+            return normalised;
+        }
+        return comment.text().isBlank() ? '\u0000' + comment.commentId() : comment.text();
+    }
+
+    /**
+     * Lower-cases letters and digits and collapses every other run of characters into one
+     * space, so "FIRST!!!" and "first" compare equal.
+     */
+    static String normalise(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean gap = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (gap && !out.isEmpty()) {
+                    out.append(' ');
+                }
+                out.append(Character.toLowerCase(c));
+                gap = false;
+            } else {
+                gap = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private record GroupKey(String persona, String postId) {}
+
+    private record ReplyKey(GroupKey group, String normalisedText) {}
+
+    private record Pending(Comment comment, String normalised) {}
+
+    /** Comments for one (persona, post), guarded by its entry in the open-groups map. */
+    private static final class Batch {
+        final GroupKey key;
+        final long openedNanos;
+        final List<Pending> items = new ArrayList<>();
+
+        Batch(GroupKey key, long openedNanos) {
+            this.key = key;
+            this.openedNanos = openedNanos;
+        }
+    }
+}
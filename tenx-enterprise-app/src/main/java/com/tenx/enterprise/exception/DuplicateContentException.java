@@ -0,0 +1,31 @@
+package com.tenx.enterprise.exception;
+
+/**
+ * Thrown when generated content nearly duplicates content already produced for the same
+ * campaign and persona.
+ */
+public class DuplicateContentException extends RuntimeException {
+
+    private final String contentId;
+    private final String duplicateOf;
+    private final double similarity;
+
+    public DuplicateContentException(String contentId, String duplicateOf, double similarity) {
+        super("Content %s duplicates %s (similarity %.2f)".formatted(contentId, duplicateOf, similarity));
+        this.contentId = contentId;
+        this.duplicateOf = duplicateOf;
+        this.similarity = similarity;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public String getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+}
@@ -0,0 +1,30 @@
+package com.tenx.enterprise.exception;
+
+/**
+ * JSON-RPC error returned by an MCP server, or a local failure to reach one.
+ * Codes follow JSON-RPC 2.0; negative codes below -32000 are reserved by the spec.
+ */
+public class McpException extends Exception {
+
+    public static final int METHOD_NOT_FOUND = -32601;
+    public static final int INVALID_PARAMS = -32602;
+    public static final int INTERNAL_ERROR = -32603;
+    public static final int CONNECTION_CLOSED = -32000;
+    public static final int TIMEOUT = -32001;
+
+    private final int code;
+
+    public McpException(int code, String message) {
+        super("MCP error %d: %s".formatted(code, message));
+        this.code = code;
+    }
+
+    public McpException(int code, String message, Throwable cause) {
+        super("MCP error %d: %s".formatted(code, message), cause);
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tenx.enterprise.exception;
+
+/**
+ * Thrown instead of calling a skill when its resilience policy turns the call away.
+ * The skill itself was never invoked, so retrying elsewhere is always safe.
+ */
+public class SkillRejectedException extends RuntimeException {
+
+    public enum Reason { CIRCUIT_OPEN, BULKHEAD_FULL }
+
+    private final String skillName;
+    private final Reason reason;
+
+    public SkillRejectedException(String skillName, Reason reason) {
+        super("Skill [%s] rejected: %s".formatted(skillName, reason));
+        this.skillName = skillName;
+        this.reason = reason;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,158 @@
+package com.tenx.enterprise.hitl;
+
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * HITL gate: dispatches each judged artifact to exactly one downstream channel.
+ * Contract: specs/functional.md → US-HITL-001 … US-HITL-004
+ *
+ * <ul>
+ *   <li>sensitive topic, any confidence → human review (US-HITL-004)</li>
+ *   <li>HIGH and approved → publish pipeline (US-HITL-001)</li>
+ *   <li>MEDIUM, or HIGH but not approved → human review (US-HITL-002)</li>
+ *   <li>LOW → rework channel back to the Planner (US-HITL-003)</li>
+ * </ul>
+ *
+ * The router is a {@code BiConsumer<ContentArtifact, JudgeVerdict>}, so it plugs straight
+ * into CampaignOrchestrator as the verdict sink. Publish and rework are lock-free
+ * multi-producer queues; human review applies backpressure when reviewers fall behind,
+ * which blocks the routing thread (a Virtual Thread in the orchestrator).
+ */
+public class HitlRouter implements BiConsumer<ContentArtifact, JudgeVerdict> {
+
+    private final ConcurrentLinkedQueue<ReviewItem> publishQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<ReviewItem> reworkQueue = new ConcurrentLinkedQueue<>();
+    private final WaitTimeStats publishStats = new WaitTimeStats();
+    private final WaitTimeStats reworkStats = new WaitTimeStats();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong changes = new AtomicLong();
+    private final HumanReviewQueue reviewQueue;
+    private final ToIntFunction<String> campaignPriority;
+
+    /**
+     * @param campaignPriority maps a campaignId to its review priority (higher is reviewed first)
+     */
+    public HitlRouter(HumanReviewQueue reviewQueue, ToIntFunction<String> campaignPriority) {
+        if (reviewQueue == null || campaignPriority == null) {
+            throw new IllegalArgumentException("reviewQueue and campaignPriority are required");
+        }
+        this.reviewQueue = reviewQueue;
+        this.campaignPriority = campaignPriority;
+    }
+
+    @Override
+    public void accept(ContentArtifact artifact, JudgeVerdict verdict) {
+        try {
+            route(artifact, verdict);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for review capacity", e);
+        }
+    }
+
+    /**
+     * Routes one verdict, blocking only if the human-review queue is full.
+     */
+    public void route(ContentArtifact artifact, JudgeVerdict verdict) throws InterruptedException {
+        dispatch(new ReviewItem(artifact, verdict,
+                campaignPriority.applyAsInt(artifact.campaignId()), sequence.incrementAndGet(), Instant.now()));
+    }
+
+    /**
+     * Puts back an item taken from {@link #pending()} before a restart, keeping its priority,
+     * sequence and enqueue time. New items are numbered after every restored one.
+     */
+    public void restore(ReviewItem item) throws InterruptedException {
+        sequence.accumulateAndGet(item.sequence(), Math::max);
+        dispatch(item);
+    }
+
+    /** Every item still waiting in any channel, for snapshots. */
+    public List<ReviewItem> pending() {
+        List<ReviewItem> items = new ArrayList<>(publishQueue);
+        items.addAll(reviewQueue.pending());
+        items.addAll(reworkQueue);
+        return items;
+    }
+
+    /**
+     * Counts every item routed or drained in any channel, so a snapshot can skip
+     * {@link #pending()} when nothing moved. Read it before {@code pending()}.
+     */
+    public long changeCount() {
+        return changes.get() + reviewQueue.changeCount();
+    }
+
+    private void dispatch(ReviewItem item) throws InterruptedException {
+        JudgeVerdict verdict = item.verdict();
+        if (verdict.sensitiveTopicDetected()) {
+            reviewQueue.put(item);
+        } else if (verdict.confidence() == ConfidenceLevel.LOW) {
+            reworkQueue.add(item);
+            changes.incrementAndGet();
+            reworkStats.onEnqueue();
+        } else if (verdict.confidence() == ConfidenceLevel.HIGH && verdict.approved()) {
+            publishQueue.add(item);
+            changes.incrementAndGet();
+            publishStats.onEnqueue();
+        } else {
+            reviewQueue.put(item);
+        }
+    }
+
+    public HumanReviewQueue reviewQueue() {
+        return reviewQueue;
+    }
+
+    /**
+     * Hands up to {@code max} approved items to the publisher, oldest first.
+     *
+     * @return the number of items drained
+     */
+    public int drainPublish(Consumer<ReviewItem> publisher, int max) {
+        return drain(publishQueue, publishStats, publisher, max);
+    }
+
+    /**
+     * Sends up to {@code max} rejected artifacts back to the Planner for replanning and
+     * returns the replacement tasks.
+     */
+    public List<TaskEnvelope> replan(Planner planner, int max) {
+        List<TaskEnvelope> tasks = new ArrayList<>();
+        drain(reworkQueue, reworkStats, item -> tasks.addAll(planner.decompose(
+                item.artifact().campaignId(),
+                "Rework artifact %s: %s".formatted(item.artifact().artifactId(), item.verdict().reason()))), max);
+        return tasks;
+    }
+
+    public List<QueueMetrics> metrics() {
+        return List.of(
+                publishStats.snapshot("publish", 0L),
+                reviewQueue.metrics(),
+                reworkStats.snapshot("rework", 0L));
+    }
+
+    private int drain(ConcurrentLinkedQueue<ReviewItem> queue, WaitTimeStats stats,
+                      Consumer<ReviewItem> consumer, int max) {
+        int drained = 0;
+        for (ReviewItem item; drained < max && (item = queue.poll()) != null; drained++) {
+            changes.incrementAndGet();
+            stats.onDequeue(item.enqueuedAt());
+            consumer.accept(item);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,318 @@
+package com.tenx.enterprise.hitl;
+
+import com.tenx.enterprise.codec.WireBuffers;
+import com.tenx.enterprise.codec.WireFormat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded human-review queue ordered by campaign priority, then age.
+ * Contract: specs/functional.md → US-HITL-002, US-HITL-004
+ *
+ * Producers (Judge/Worker threads) hand items over through a lock-free inbox and never
+ * touch the ordered structure. Reviewers drain the inbox into a priority-ordered set
+ * under a lock only they contend on. Two limits apply:
+ * <ul>
+ *   <li>{@code capacity} — total outstanding items. {@link #put} blocks and
+ *       {@link #offer} fails beyond it, pushing back on the Workers producing content.</li>
+ *   <li>{@code memoryCap} — items held on the heap. Beyond it the lowest-ranked items
+ *       are spilled to segment files in the binary {@link WireFormat}. A segment is read back as soon as its
+ *       best item would outrank the best one on the heap, so reviewers always see the
+ *       exact priority order.</li>
+ * </ul>
+ */
+public class HumanReviewQueue {
+
+    static final Comparator<ReviewItem> REVIEW_ORDER = Comparator
+            .comparingInt(ReviewItem::priority).reversed()
+            .thenComparing(ReviewItem::enqueuedAt)
+            .thenComparingLong(ReviewItem::sequence);
+
+    /**
+     * Review order, then arrival at this queue. The arrival number is unique per queue, so
+     * items from several routers, or an item restored twice, never compare equal.
+     */
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparing(Entry::item, REVIEW_ORDER)
+            .thenComparingLong(Entry::arrival);
+
+    private final ConcurrentLinkedQueue<Entry> inbox = new ConcurrentLinkedQueue<>();
+    private final TreeSet<Entry> ordered = new TreeSet<>(ENTRY_ORDER);
+    private final List<SpillSegment> spill = new ArrayList<>();
+    private final ReentrantLock consumerLock = new ReentrantLock();
+    private final Semaphore freeSlots;
+    private final Semaphore readyItems = new Semaphore(0);
+    private final AtomicInteger spilledCount = new AtomicInteger();
+    private final AtomicInteger inMemory = new AtomicInteger();
+    private final AtomicLong arrivals = new AtomicLong();
+    private final AtomicLong changes = new AtomicLong();
+    private final WaitTimeStats stats = new WaitTimeStats();
+    private final int memoryCap;
+    private final Path spillDirectory;
+
+    public HumanReviewQueue(int capacity, int memoryCap, Path spillDirectory) {
+        if (capacity < 1 || memoryCap < 4) {
+            throw new IllegalArgumentException("capacity must be positive and memoryCap at least 4");
+        }
+        if (memoryCap > capacity) {
+            throw new IllegalArgumentException("memoryCap cannot exceed capacity");
+        }
+        if (spillDirectory == null) {
+            throw new IllegalArgumentException("spillDirectory is required");
+        }
+        this.freeSlots = new Semaphore(capacity);
+        this.memoryCap = memoryCap;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Enqueues, blocking while the queue is at capacity.
+     */
+    public void put(ReviewItem item) throws InterruptedException {
+        freeSlots.acquire();
+        handOver(item);
+    }
+
+    /**
+     * Enqueues if a slot frees up within the timeout.
+     *
+     * @return false if the queue stayed full; the item is counted as rejected
+     */
+    public boolean offer(ReviewItem item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!freeSlots.tryAcquire(timeout, unit)) {
+            stats.onReject();
+            return false;
+        }
+        handOver(item);
+        return true;
+    }
+
+    /**
+     * Removes the highest-priority, oldest item, blocking until one is available.
+     */
+    public ReviewItem take() throws InterruptedException {
+        readyItems.acquire();
+        return removeBest();
+    }
+
+    /**
+     * Like {@link #take} but gives up after the timeout.
+     *
+     * @return the next item, or null on timeout
+     */
+    public ReviewItem poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!readyItems.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return removeBest();
+    }
+
+    /**
+     * Copies every outstanding item, spilled ones included, in review order — for snapshots.
+     * Holds the reviewers' lock only to copy the heap and the list of spill segments; the
+     * segments are read afterwards. Segment files are never rewritten, so the copy stays
+     * consistent unless a reviewer reads a segment back and deletes it first, in which case
+     * the copy is retried, the last time with the segments read under the lock.
+     */
+    public List<ReviewItem> pending() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<Entry> entries;
+            List<SpillSegment> segments;
+            consumerLock.lock();
+            try {
+                drainInbox();
+                entries = new ArrayList<>(ordered);
+                segments = List.copyOf(spill);
+            } finally {
+                consumerLock.unlock();
+            }
+            try {
+                return inReviewOrder(entries, segments);
+            } catch (NoSuchFileException e) {
+                // Read back by a reviewer in the meantime: its items are on the heap now.
+            }
+        }
+        consumerLock.lock();
+        try {
+            drainInbox();
+            return inReviewOrder(new ArrayList<>(ordered), spill);
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("review spill " + e.getFile() + " vanished while locked", e);
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Counts every item added or removed. Read it before {@link #pending()}: if it has not
+     * moved by the next read, the queue holds the same items.
+     */
+    public long changeCount() {
+        return changes.get();
+    }
+
+    public int depth() {
+        return readyItems.availablePermits();
+    }
+
+    public QueueMetrics metrics() {
+        return stats.snapshot("human_review", spilledCount.get());
+    }
+
+    private void handOver(ReviewItem item) {
+        inbox.add(new Entry(item, arrivals.incrementAndGet()));
+        changes.incrementAndGet();
+        stats.onEnqueue();
+        readyItems.release();
+        // With no reviewer draining, the producer that crosses the cap does the spill itself.
+        if (inMemory.incrementAndGet() > memoryCap && consumerLock.tryLock()) {
+            try {
+                drainInbox();
+            } finally {
+                consumerLock.unlock();
+            }
+        }
+    }
+
+    private ReviewItem removeBest() {
+        consumerLock.lock();
+        try {
+            drainInbox();
+            for (SpillSegment segment = bestSegment(); segment != null
+                    && (ordered.isEmpty() || ENTRY_ORDER.compare(segment.head(), ordered.first()) < 0);
+                    segment = bestSegment()) {
+                spill.remove(segment);
+                readBack(segment);
+            }
+            ReviewItem best = ordered.pollFirst().item();
+            changes.incrementAndGet();
+            inMemory.decrementAndGet();
+            stats.onDequeue(best.enqueuedAt());
+            freeSlots.release();
+            return best;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    private static List<ReviewItem> inReviewOrder(List<Entry> entries, List<SpillSegment> segments)
+            throws NoSuchFileException {
+        try {
+            for (SpillSegment segment : segments) {
+                ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(segment.file()));
+                while (in.hasRemaining()) {
+                    entries.add(readEntry(in));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read review spill for a snapshot", e);
+        }
+        entries.sort(ENTRY_ORDER);
+        List<ReviewItem> items = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            items.add(entry.item());
+        }
+        return items;
+    }
+
+    private void drainInbox() {
+        for (Entry entry = inbox.poll(); entry != null; entry = inbox.poll()) {
+            insert(entry);
+        }
+        if (ordered.size() > memoryCap) {
+            spillLowest(ordered.size() - memoryCap / 2);
+        }
+    }
+
+    /** Every entry carries a unique arrival number, so a rejected insert means lost bookkeeping. */
+    private void insert(Entry entry) {
+        if (!ordered.add(entry)) {
+            throw new IllegalStateException("review entry " + entry.arrival() + " is already queued");
+        }
+    }
+
+    private void spillLowest(int count) {
+        List<Entry> victims = new ArrayList<>(count);
+        int bytes = 0;
+        for (int i = 0; i < count; i++) {
+            Entry victim = ordered.pollLast();
+            victims.add(victim);
+            bytes += WireBuffers.varIntSize(victim.arrival()) + ReviewItemCodec.INSTANCE.encodedSize(victim.item());
+        }
+        Path file = null;
+        try {
+            ByteBuffer out = ByteBuffer.allocate(bytes);
+            for (Entry victim : victims) {
+                WireBuffers.putVarLong(out, victim.arrival());
+                ReviewItemCodec.INSTANCE.encode(victim.item(), out);
+            }
+            Files.createDirectories(spillDirectory);
+            // A fresh name per segment: queues sharing a directory, or files left by an
+            // earlier run, are never overwritten.
+            file = Files.createTempFile(spillDirectory, "review-spill-", ".bin");
+            Files.write(file, out.array());
+        } catch (IOException e) {
+            ordered.addAll(victims);
+            throw new UncheckedIOException("failed to spill review queue to "
+                    + (file == null ? spillDirectory : file), e);
+        }
+        spill.add(new SpillSegment(file, count, victims.get(count - 1)));
+        spilledCount.addAndGet(count);
+        inMemory.addAndGet(-count);
+    }
+
+    private void readBack(SpillSegment segment) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(segment.file()));
+            while (in.hasRemaining()) {
+                insert(readEntry(in));
+            }
+            Files.delete(segment.file());
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read back review spill " + segment.file(), e);
+        }
+        spilledCount.addAndGet(-segment.count());
+        inMemory.addAndGet(segment.count());
+    }
+
+    private SpillSegment bestSegment() {
+        SpillSegment best = null;
+        for (SpillSegment segment : spill) {
+            if (best == null || ENTRY_ORDER.compare(segment.head(), best.head()) < 0) {
+                best = segment;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * A spilled batch; {@code head} is its highest-ranked item, so a segment is only read
+     * back when something in it outranks what reviewers would otherwise get next.
+     */
+    private record SpillSegment(Path file, int count, Entry head) {}
+
+    /** A queued item and the order it reached this queue in. */
+    private record Entry(ReviewItem item, long arrival) {}
+
+    private static Entry readEntry(ByteBuffer in) {
+        long arrival = WireBuffers.getVarLong(in);
+        return new Entry(ReviewItemCodec.INSTANCE.decode(in), arrival);
+    }
+}
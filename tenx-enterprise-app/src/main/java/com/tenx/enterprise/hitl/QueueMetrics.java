@@ -0,0 +1,17 @@
+package com.tenx.enterprise.hitl;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time view of one HITL queue.
+ */
+public record QueueMetrics(
+        String queue,
+        long depth,
+        long spilled,
+        long enqueued,
+        long dequeued,
+        long rejected,
+        Duration meanWait,
+        Duration maxWait
+) {}
@@ -0,0 +1,27 @@
+package com.tenx.enterprise.hitl;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+
+import java.time.Instant;
+
+/**
+ * An artifact and its verdict as they travel through the HITL gate.
+ * {@code sequence} breaks ties between items of equal priority and age.
+ */
+public record ReviewItem(
+        ContentArtifact artifact,
+        JudgeVerdict verdict,
+        int priority,
+        long sequence,
+        Instant enqueuedAt
+) {
+    public ReviewItem {
+        if (artifact == null || verdict == null) {
+            throw new IllegalArgumentException("artifact and verdict are required");
+        }
+        if (enqueuedAt == null) {
+            throw new IllegalArgumentException("enqueuedAt is required");
+        }
+    }
+}
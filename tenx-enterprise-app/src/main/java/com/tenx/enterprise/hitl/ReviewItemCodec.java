@@ -0,0 +1,42 @@
+package com.tenx.enterprise.hitl;
+
+import com.tenx.enterprise.codec.WireBuffers;
+import com.tenx.enterprise.codec.WireCodec;
+import com.tenx.enterprise.codec.WireFormat;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary layout of a {@link ReviewItem}: its artifact and verdict in {@link WireFormat},
+ * then priority, sequence and enqueue time. Used for review-queue spill files and snapshots.
+ */
+public final class ReviewItemCodec implements WireCodec<ReviewItem> {
+
+    public static final ReviewItemCodec INSTANCE = new ReviewItemCodec();
+
+    private ReviewItemCodec() {}
+
+    @Override
+    public int encodedSize(ReviewItem item) {
+        return WireFormat.CONTENT_ARTIFACT.encodedSize(item.artifact())
+                + WireFormat.JUDGE_VERDICT.encodedSize(item.verdict())
+                + WireBuffers.varIntSize(WireBuffers.zigzag(item.priority()))
+                + WireBuffers.varIntSize(WireBuffers.zigzag(item.sequence())) + 8;
+    }
+
+    @Override
+    public void encode(ReviewItem item, ByteBuffer out) {
+        WireFormat.CONTENT_ARTIFACT.encode(item.artifact(), out);
+        WireFormat.JUDGE_VERDICT.encode(item.verdict(), out);
+        WireBuffers.putVarLong(out, WireBuffers.zigzag(item.priority()));
+        WireBuffers.putVarLong(out, WireBuffers.zigzag(item.sequence()));
+        WireBuffers.putInstant(out, item.enqueuedAt());
+    }
+
+    @Override
+    public ReviewItem decode(ByteBuffer in) {
+        return new ReviewItem(WireFormat.CONTENT_ARTIFACT.decode(in), WireFormat.JUDGE_VERDICT.decode(in),
+                (int) WireBuffers.unzigzag(WireBuffers.getVarLong(in)),
+                WireBuffers.unzigzag(WireBuffers.getVarLong(in)), WireBuffers.getInstant(in));
+    }
+}
@@ -0,0 +1,49 @@
+package com.tenx.enterprise.hitl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped enqueue/dequeue counters plus time-in-queue for one queue.
+ */
+final class WaitTimeStats {
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dequeued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    void onEnqueue() {
+        enqueued.increment();
+    }
+
+    void onReject() {
+        rejected.increment();
+    }
+
+    void onDequeue(Instant enqueuedAt) {
+        long waited = Math.max(0L, Duration.between(enqueuedAt, Instant.now()).toNanos());
+        dequeued.increment();
+        totalWaitNanos.add(waited);
+        if (waited > maxWaitNanos.get()) {
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    QueueMetrics snapshot(String queue, long spilled) {
+        long out = dequeued.sum();
+        long in = enqueued.sum();
+        return new QueueMetrics(
+                queue,
+                Math.max(0L, in - out),
+                spilled,
+                in,
+                out,
+                rejected.sum(),
+                Duration.ofNanos(out == 0 ? 0L : totalWaitNanos.sum() / out),
+                Duration.ofNanos(maxWaitNanos.get()));
+    }
+}
@@ -0,0 +1,349 @@
+package com.tenx.enterprise.journal;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of ContentArtifacts and JudgeVerdicts on memory-mapped segment files,
+ * so in-flight campaigns survive a restart and every HITL decision has an audit trail.
+ *
+ * <ul>
+ *   <li>Records use the compact binary layout in RecordCodec and are encoded on the caller's
+ *       thread; the write lock covers only a memory copy into the mapped segment.</li>
+ *   <li>Durability follows the {@link FsyncPolicy}. Under SYNC, appenders waiting for disk
+ *       elect one of themselves to force the segment and all of them are released by that
+ *       single fsync (group commit).</li>
+ *   <li>When a segment is full the journal rolls to a new one and writes the old segment's
+ *       index file. {@link #open} rebuilds the latest-version lookup tables from those index
+ *       files and only scans the data of the last, still-active segment.</li>
+ * </ul>
+ *
+ * Reads decode straight from the mapped segment, so only the latest record of each artifact
+ * is ever materialised.
+ */
+public class ArtifactJournal implements AutoCloseable {
+
+    private final Path directory;
+    private final JournalConfig config;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Location> artifacts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Location> verdicts = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong durable = new AtomicLong();
+    private final ScheduledExecutorService flusher;
+    private Segment active;
+    private long appended;
+    private boolean closed;
+    private RecoveryReport recovery;
+
+    private ArtifactJournal(Path directory, JournalConfig config) {
+        this.directory = directory;
+        this.config = config;
+        this.flusher = config.fsyncPolicy() == FsyncPolicy.INTERVAL
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("journal-flush").factory())
+                : null;
+    }
+
+    /**
+     * Opens (or creates) the journal in {@code directory} and recovers its index.
+     */
+    public static ArtifactJournal open(Path directory, JournalConfig config) throws IOException {
+        if (directory == null || config == null) {
+            throw new IllegalArgumentException("directory and config are required");
+        }
+        Files.createDirectories(directory);
+        ArtifactJournal journal = new ArtifactJournal(directory, config);
+        journal.recover();
+        if (journal.flusher != null) {
+            long periodNanos = config.flushInterval().toNanos();
+            journal.flusher.scheduleAtFixedRate(journal::flush, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        }
+        return journal;
+    }
+
+    public void append(ContentArtifact artifact) {
+        requireKey(artifact.artifactId());
+        write(RecordCodec.encode(artifact), null);
+    }
+
+    public void append(JudgeVerdict verdict) {
+        requireKey(verdict.artifactId());
+        write(null, RecordCodec.encode(verdict));
+    }
+
+    /**
+     * Journals an artifact together with its verdict under a single lock acquisition and fsync.
+     */
+    public void append(ContentArtifact artifact, JudgeVerdict verdict) {
+        requireKey(artifact.artifactId());
+        requireKey(verdict.artifactId());
+        write(RecordCodec.encode(artifact), RecordCodec.encode(verdict));
+    }
+
+    /**
+     * Wraps a verdict sink (e.g. HitlRouter) so each verdict is journaled before it is routed.
+     * Plugs into CampaignOrchestrator.run as {@code onVerdict}.
+     */
+    public BiConsumer<ContentArtifact, JudgeVerdict> recording(BiConsumer<ContentArtifact, JudgeVerdict> downstream) {
+        return (artifact, verdict) -> {
+            append(artifact, verdict);
+            downstream.accept(artifact, verdict);
+        };
+    }
+
+    /**
+     * The highest-version artifact journaled under this id; among equal versions, the last written.
+     */
+    public Optional<ContentArtifact> latestArtifact(String artifactId) {
+        Location location = artifacts.get(artifactId);
+        return location == null ? Optional.empty()
+                : Optional.of(RecordCodec.decodeArtifact(segments.get(location.segment()).buffer, location.offset()));
+    }
+
+    /**
+     * The most recent verdict journaled for this artifact.
+     */
+    public Optional<JudgeVerdict> latestVerdict(String artifactId) {
+        Location location = verdicts.get(artifactId);
+        return location == null ? Optional.empty()
+                : Optional.of(RecordCodec.decodeVerdict(segments.get(location.segment()).buffer, location.offset()));
+    }
+
+    /**
+     * Rebuilds in-memory state after a restart: the latest version of every artifact, in no particular order.
+     */
+    public void forEachLatestArtifact(Consumer<ContentArtifact> consumer) {
+        artifacts.forEach((id, location) -> consumer.accept(
+                RecordCodec.decodeArtifact(segments.get(location.segment()).buffer, location.offset())));
+    }
+
+    /**
+     * Audit trail: every verdict ever journaled, in the order it was written.
+     */
+    public void replayVerdicts(Consumer<JudgeVerdict> consumer) {
+        for (Segment segment : segments) {
+            segment.forEach(segment.limit(), (type, version, key, offset) -> {
+                if (type == RecordCodec.VERDICT) {
+                    consumer.accept(RecordCodec.decodeVerdict(segment.buffer, offset));
+                }
+            });
+        }
+    }
+
+    public int artifactCount() {
+        return artifacts.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public RecoveryReport recovery() {
+        return recovery;
+    }
+
+    /**
+     * Forces everything appended so far to disk, whatever the fsync policy.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            forceAppended();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.force();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(byte[] artifactRecord, byte[] verdictRecord) {
+        long ticket;
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("journal is closed");
+            }
+            if (artifactRecord != null) {
+                appendRecord(artifactRecord);
+            }
+            if (verdictRecord != null) {
+                appendRecord(verdictRecord);
+            }
+            ticket = ++appended;
+        } finally {
+            writeLock.unlock();
+        }
+        if (config.fsyncPolicy() == FsyncPolicy.SYNC) {
+            awaitDurable(ticket);
+        }
+    }
+
+    /** Caller holds the write lock. */
+    private void appendRecord(byte[] record) {
+        if (record.length > config.segmentBytes()) {
+            throw new IllegalArgumentException(
+                    "record of %d bytes exceeds segment size %d".formatted(record.length, config.segmentBytes()));
+        }
+        if (!active.hasRoom(record.length)) {
+            roll();
+        }
+        int offset = active.append(record);
+        restore(active.id, RecordCodec.type(active.buffer, offset), RecordCodec.version(active.buffer, offset),
+                RecordCodec.key(active.buffer, offset), offset);
+    }
+
+    /**
+     * Group commit: the first waiter to take the flush lock forces everything appended so far;
+     * waiters queued behind it find their ticket already durable and return without an fsync.
+     */
+    private void awaitDurable(long ticket) {
+        if (durable.get() >= ticket) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (durable.get() < ticket) {
+                forceAppended();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** Caller holds the flush lock. Segments before the active one were forced when they rolled. */
+    private void forceAppended() {
+        long target;
+        Segment segment;
+        writeLock.lock();
+        try {
+            target = appended;
+            segment = active;
+        } finally {
+            writeLock.unlock();
+        }
+        segment.force();
+        durable.accumulateAndGet(target, Math::max);
+    }
+
+    /** Caller holds the write lock. */
+    private void roll() {
+        Segment sealed = active;
+        try {
+            sealed.force();
+            durable.accumulateAndGet(appended, Math::max);
+            sealed.writeIndex();
+            active = Segment.create(directory, sealed.id + 1, config.segmentBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to roll journal segment " + sealed.file, e);
+        }
+        segments.add(active);
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(p -> p.getFileName().toString().endsWith(Segment.DATA_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        long indexed = 0;
+        long scanned = 0;
+        long truncated = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            int id = Segment.idOf(file);
+            if (id != i) {
+                throw new IllegalStateException("journal segment " + i + " is missing in " + directory);
+            }
+            long[] count = new long[1];
+            Segment.EntryVisitor restoring = (type, version, key, offset) -> {
+                restore(id, type, version, key, offset);
+                count[0]++;
+            };
+            Segment segment;
+            if (i < files.size() - 1) {
+                segment = Segment.openSealed(file);
+                if (segment.loadIndex(restoring) >= 0) {
+                    indexed += count[0];
+                } else {
+                    // Index lost or corrupt: rebuild it from the data once, then trust it again.
+                    count[0] = 0;
+                    Segment rebuilt = Segment.openWritable(file);
+                    rebuilt.scan(restoring);
+                    rebuilt.writeIndex();
+                    scanned += count[0];
+                }
+            } else {
+                segment = Segment.openWritable(file);
+                Files.deleteIfExists(segment.indexFile());
+                truncated = segment.scan(restoring);
+                scanned += count[0];
+                active = segment;
+            }
+            segments.add(segment);
+        }
+        if (active == null) {
+            active = Segment.create(directory, 0, config.segmentBytes());
+            segments.add(active);
+        }
+        recovery = new RecoveryReport(segments.size(), indexed, scanned, truncated,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void restore(int segment, byte type, long version, String key, int offset) {
+        Location location = new Location(segment, offset, version);
+        if (type == RecordCodec.ARTIFACT) {
+            artifacts.merge(key, location, this::newer);
+        } else if (type == RecordCodec.VERDICT) {
+            verdicts.put(key, location);
+        }
+    }
+
+    private Location newer(Location existing, Location candidate) {
+        return candidate.version() >= existing.version() ? candidate : existing;
+    }
+
+    private static void requireKey(String artifactId) {
+        if (artifactId == null || artifactId.isBlank()) {
+            throw new IllegalArgumentException("artifactId must not be blank");
+        }
+    }
+
+    /** Where the latest record for a key lives; the version decides which record wins. */
+    private record Location(int segment, int offset, long version) {}
+}
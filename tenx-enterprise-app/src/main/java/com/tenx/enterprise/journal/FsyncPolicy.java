@@ -0,0 +1,13 @@
+package com.tenx.enterprise.journal;
+
+/**
+ * When appended journal records are forced to disk.
+ */
+public enum FsyncPolicy {
+    /** append returns only once the record is on disk; concurrent appenders share one fsync (group commit). */
+    SYNC,
+    /** a background flusher forces the journal every {@code flushInterval}; a crash loses at most that window. */
+    INTERVAL,
+    /** left to the OS page cache; forced only when a segment fills up and on close. */
+    NONE
+}
@@ -0,0 +1,39 @@
+package com.tenx.enterprise.journal;
+
+import java.time.Duration;
+
+/**
+ * Tuning for an {@link ArtifactJournal}.
+ *
+ * @param segmentBytes  size of each memory-mapped segment file; a record must fit in one segment
+ * @param fsyncPolicy   durability mode for appends
+ * @param flushInterval flush period for {@link FsyncPolicy#INTERVAL}; ignored otherwise
+ */
+public record JournalConfig(
+        int segmentBytes,
+        FsyncPolicy fsyncPolicy,
+        Duration flushInterval
+) {
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+    public static final int MIN_SEGMENT_BYTES = 4096;
+
+    public JournalConfig {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("segmentBytes must be at least " + MIN_SEGMENT_BYTES);
+        }
+        if (fsyncPolicy == null) {
+            throw new IllegalArgumentException("fsyncPolicy is required");
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL && (flushInterval == null || flushInterval.isZero()
+                || flushInterval.isNegative())) {
+            throw new IllegalArgumentException("flushInterval must be positive for INTERVAL fsync");
+        }
+    }
+
+    /**
+     * 64 MiB segments with group-committed synchronous appends.
+     */
+    public static JournalConfig defaults() {
+        return new JournalConfig(DEFAULT_SEGMENT_BYTES, FsyncPolicy.SYNC, null);
+    }
+}
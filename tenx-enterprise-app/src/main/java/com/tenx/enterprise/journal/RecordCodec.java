@@ -0,0 +1,204 @@
+package com.tenx.enterprise.journal;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of one journal record:
+ * <pre>
+ *   int   bodyLength   bytes after the 8-byte header; 0 marks the end of a segment's data
+ *   int   crc32c       over the body
+ *   --- body ---
+ *   byte  type         ARTIFACT or VERDICT
+ *   long  version      artifact version (0 for verdicts)
+ *   str   key          artifactId — placed first so recovery never decodes further
+ *   ...   fields       record-specific
+ * </pre>
+ * Strings are an int UTF-8 length (-1 for null) followed by the bytes; an Instant is
+ * epoch seconds plus nanos, with {@code Long.MIN_VALUE} seconds for null. A ConfidenceLevel
+ * is a pinned byte code (-1 for null), never its ordinal, so reordering the enum cannot
+ * change what a journal already on disk means.
+ */
+final class RecordCodec {
+
+    static final byte ARTIFACT = 1;
+    static final byte VERDICT = 2;
+    static final int HEADER_BYTES = 8;
+
+    private static final int KEY_OFFSET = HEADER_BYTES + 1 + 8;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    private RecordCodec() {}
+
+    static byte[] encode(ContentArtifact artifact) {
+        byte[][] strings = utf8(artifact.artifactId(), artifact.taskId(), artifact.campaignId(),
+                artifact.contentType(), artifact.contentBody(), artifact.platform());
+        ByteBuffer out = allocate(strings, 12, ARTIFACT, artifact.version());
+        for (byte[] s : strings) {
+            putString(out, s);
+        }
+        putInstant(out, artifact.generatedAt());
+        return seal(out);
+    }
+
+    static byte[] encode(JudgeVerdict verdict) {
+        byte[][] strings = utf8(verdict.artifactId(), verdict.verdictId(), verdict.reason());
+        ByteBuffer out = allocate(strings, 2 + 12, VERDICT, 0L);
+        putString(out, strings[0]);
+        putString(out, strings[1]);
+        out.put(code(verdict.confidence()));
+        out.put((byte) ((verdict.sensitiveTopicDetected() ? 1 : 0) | (verdict.approved() ? 2 : 0)));
+        putString(out, strings[2]);
+        putInstant(out, verdict.judgedAt());
+        return seal(out);
+    }
+
+    static ContentArtifact decodeArtifact(ByteBuffer segment, int offset) {
+        ByteBuffer in = body(segment, offset, ARTIFACT);
+        long version = in.getLong();
+        return new ContentArtifact(getString(in), getString(in), getString(in), getString(in),
+                getString(in), getString(in), getInstant(in), version);
+    }
+
+    static JudgeVerdict decodeVerdict(ByteBuffer segment, int offset) {
+        ByteBuffer in = body(segment, offset, VERDICT);
+        in.getLong();
+        String artifactId = getString(in);
+        String verdictId = getString(in);
+        ConfidenceLevel confidence = confidenceLevel(in.get(), offset);
+        byte flags = in.get();
+        return new JudgeVerdict(verdictId, artifactId, confidence,
+                (flags & 1) != 0, (flags & 2) != 0, getString(in), getInstant(in));
+    }
+
+    /**
+     * @return the body length of the record at {@code offset}, 0 at end of data, or -1
+     *         if the record is torn or fails its checksum
+     */
+    static int validate(ByteBuffer segment, int offset, int limit) {
+        if (offset + HEADER_BYTES > limit) {
+            return 0;
+        }
+        int length = segment.getInt(offset);
+        if (length == 0) {
+            return 0;
+        }
+        if (length < KEY_OFFSET - HEADER_BYTES || length > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(segment.duplicate().limit(offset + HEADER_BYTES + length).position(offset + HEADER_BYTES));
+        return (int) crc.getValue() == segment.getInt(offset + 4) ? length : -1;
+    }
+
+    static byte type(ByteBuffer segment, int offset) {
+        return segment.get(offset + HEADER_BYTES);
+    }
+
+    static long version(ByteBuffer segment, int offset) {
+        return segment.getLong(offset + HEADER_BYTES + 1);
+    }
+
+    static String key(ByteBuffer segment, int offset) {
+        return getString(segment.duplicate().position(offset + KEY_OFFSET));
+    }
+
+    /**
+     * Length of the type, version and key fields — the part of a record copied into segment indexes.
+     */
+    static int keyPrefixLength(ByteBuffer segment, int offset) {
+        return KEY_OFFSET - HEADER_BYTES + 4 + Math.max(0, segment.getInt(offset + KEY_OFFSET));
+    }
+
+    private static ByteBuffer allocate(byte[][] strings, int fixedBytes, byte type, long version) {
+        int size = KEY_OFFSET + fixedBytes;
+        for (byte[] s : strings) {
+            size += 4 + (s == null ? 0 : s.length);
+        }
+        return ByteBuffer.allocate(size).putInt(size - HEADER_BYTES).putInt(0).put(type).putLong(version);
+    }
+
+    private static byte[] seal(ByteBuffer out) {
+        byte[] record = out.array();
+        CRC32C crc = new CRC32C();
+        crc.update(record, HEADER_BYTES, record.length - HEADER_BYTES);
+        out.putInt(4, (int) crc.getValue());
+        return record;
+    }
+
+    private static ByteBuffer body(ByteBuffer segment, int offset, byte expectedType) {
+        if (type(segment, offset) != expectedType) {
+            throw new IllegalStateException("journal record at " + offset + " has type " + type(segment, offset));
+        }
+        return segment.duplicate().position(offset + HEADER_BYTES + 1);
+    }
+
+    /** Codes match the ordinals journals were first written with; a new constant needs a new code. */
+    private static byte code(ConfidenceLevel level) {
+        if (level == null) {
+            return -1;
+        }
+        return switch (level) {
+            case HIGH -> 0;
+            case MEDIUM -> 1;
+            case LOW -> 2;
+        };
+    }
+
+    private static ConfidenceLevel confidenceLevel(byte code, int offset) {
+        return switch (code) {
+            case -1 -> null;
+            case 0 -> ConfidenceLevel.HIGH;
+            case 1 -> ConfidenceLevel.MEDIUM;
+            case 2 -> ConfidenceLevel.LOW;
+            default -> throw new IllegalStateException(
+                    "journal record at " + offset + " has unknown confidence code " + code);
+        };
+    }
+
+    private static byte[][] utf8(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i] == null ? null : values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        if (value == null) {
+            out.putInt(-1);
+        } else {
+            out.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putInstant(ByteBuffer out, Instant value) {
+        if (value == null) {
+            out.putLong(NULL_INSTANT).putInt(0);
+        } else {
+            out.putLong(value.getEpochSecond()).putInt(value.getNano());
+        }
+    }
+
+    private static Instant getInstant(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NULL_INSTANT ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+}
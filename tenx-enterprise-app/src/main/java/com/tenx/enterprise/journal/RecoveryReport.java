@@ -0,0 +1,21 @@
+package com.tenx.enterprise.journal;
+
+import java.time.Duration;
+
+/**
+ * What {@link ArtifactJournal#open} did to rebuild its index.
+ *
+ * @param segments        segment files found
+ * @param indexedRecords  records restored from sealed-segment index files
+ * @param scannedRecords  records restored by scanning segment data (the active segment,
+ *                        or a sealed one whose index was missing or corrupt)
+ * @param truncatedBytes  bytes of a torn record discarded from the tail of the active segment
+ * @param elapsed         wall-clock recovery time
+ */
+public record RecoveryReport(
+        int segments,
+        long indexedRecords,
+        long scannedRecords,
+        long truncatedBytes,
+        Duration elapsed
+) {}
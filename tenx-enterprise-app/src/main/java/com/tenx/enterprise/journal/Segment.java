@@ -0,0 +1,235 @@
+package com.tenx.enterprise.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped journal file, preallocated to its full size and filled front to back.
+ *
+ * While a segment is active it also accumulates its index in memory. When the journal
+ * rolls to the next segment the index is written next to the data as {@code .idx}:
+ * per record only the offset, type, version and key — enough to rebuild the journal's
+ * lookup tables without touching the data file. The active segment never has an index
+ * file; recovery scans it instead.
+ */
+final class Segment {
+
+    static final String DATA_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+
+    private static final int INDEX_MAGIC = 0x4A4E4C31;
+    private static final int INDEX_HEADER_BYTES = 8;
+
+    /**
+     * Receives each record's lookup fields during recovery.
+     */
+    interface EntryVisitor {
+        void visit(byte type, long version, String key, int offset);
+    }
+
+    final int id;
+    final Path file;
+    final MappedByteBuffer buffer;
+    private volatile int position;
+    private int forcedUpTo;
+    private ByteBuffer pendingIndex;
+
+    private Segment(int id, Path file, MappedByteBuffer buffer, boolean writable) {
+        this.id = id;
+        this.file = file;
+        this.buffer = buffer;
+        this.pendingIndex = writable ? ByteBuffer.allocate(4096) : null;
+    }
+
+    static Path dataFile(Path directory, int id) {
+        return directory.resolve("journal-%010d%s".formatted(id, DATA_SUFFIX));
+    }
+
+    static int idOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring("journal-".length(), name.length() - DATA_SUFFIX.length()));
+    }
+
+    static Segment create(Path directory, int id, int size) throws IOException {
+        Path file = dataFile(directory, id);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), true);
+        }
+    }
+
+    static Segment openWritable(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(idOf(file), file,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()), true);
+        }
+    }
+
+    static Segment openSealed(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Segment segment = new Segment(idOf(file), file,
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), false);
+            segment.position = segment.buffer.capacity();
+            return segment;
+        }
+    }
+
+    Path indexFile() {
+        return file.resolveSibling(file.getFileName().toString().replace(DATA_SUFFIX, INDEX_SUFFIX));
+    }
+
+    /**
+     * End of readable data: the append position while active, the file end once sealed
+     * (scans stop at the zero terminator).
+     */
+    int limit() {
+        return position;
+    }
+
+    boolean hasRoom(int bytes) {
+        return position + bytes <= buffer.capacity();
+    }
+
+    /**
+     * Copies a complete encoded record in at the current position. Caller holds the journal's write lock.
+     *
+     * @return the record's offset
+     */
+    int append(byte[] record) {
+        int offset = position;
+        buffer.put(offset, record);
+        indexEntry(offset);
+        position = offset + record.length;
+        return offset;
+    }
+
+    /**
+     * Forces everything appended since the previous force.
+     */
+    synchronized void force() {
+        int end = position;
+        if (end > forcedUpTo) {
+            buffer.force(forcedUpTo, end - forcedUpTo);
+            forcedUpTo = end;
+        }
+    }
+
+    /**
+     * Walks the data from the start, stopping at the terminator or the first torn record,
+     * which is zeroed so later appends cannot be confused with it.
+     *
+     * @return the number of bytes discarded
+     */
+    int scan(EntryVisitor visitor) {
+        int offset = 0;
+        int length;
+        while ((length = RecordCodec.validate(buffer, offset, buffer.capacity())) > 0) {
+            visit(offset, visitor);
+            indexEntry(offset);
+            offset += RecordCodec.HEADER_BYTES + length;
+        }
+        position = offset;
+        forcedUpTo = offset;
+        if (length == 0) {
+            return 0;
+        }
+        int declared = buffer.getInt(offset);
+        int end = declared > 0 && declared <= buffer.capacity() - offset - RecordCodec.HEADER_BYTES
+                ? offset + RecordCodec.HEADER_BYTES + declared : buffer.capacity();
+        for (int i = offset; i < end; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force(offset, end - offset);
+        return end - offset;
+    }
+
+    /**
+     * Visits each valid record up to {@code limit}, in log order.
+     */
+    void forEach(int limit, EntryVisitor visitor) {
+        for (int offset = 0, length; (length = RecordCodec.validate(buffer, offset, limit)) > 0;
+                offset += RecordCodec.HEADER_BYTES + length) {
+            visit(offset, visitor);
+        }
+    }
+
+    /**
+     * Persists the in-memory index as {@code .idx}, atomically.
+     */
+    void writeIndex() throws IOException {
+        int entriesLength = pendingIndex.position();
+        ByteBuffer out = ByteBuffer.allocate(INDEX_HEADER_BYTES + entriesLength + 4);
+        out.putInt(INDEX_MAGIC).putInt(entriesLength).put(pendingIndex.array(), 0, entriesLength);
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), INDEX_HEADER_BYTES, entriesLength);
+        out.putInt((int) crc.getValue());
+
+        Path tmp = indexFile().resolveSibling(indexFile().getFileName() + ".tmp");
+        Files.write(tmp, out.array());
+        Files.move(tmp, indexFile(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        pendingIndex = null;
+    }
+
+    /**
+     * Replays the {@code .idx} file into the visitor.
+     *
+     * @return the number of entries, or -1 if the index is missing or fails its checksum
+     */
+    long loadIndex(EntryVisitor visitor) throws IOException {
+        if (!Files.exists(indexFile())) {
+            return -1;
+        }
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(indexFile()));
+        if (in.remaining() < INDEX_HEADER_BYTES + 4 || in.getInt() != INDEX_MAGIC) {
+            return -1;
+        }
+        int entriesLength = in.getInt();
+        if (entriesLength != in.remaining() - 4) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(in.array(), INDEX_HEADER_BYTES, entriesLength);
+        if ((int) crc.getValue() != in.getInt(INDEX_HEADER_BYTES + entriesLength)) {
+            return -1;
+        }
+        long count = 0;
+        while (in.position() < INDEX_HEADER_BYTES + entriesLength) {
+            int offset = in.getInt();
+            byte type = in.get();
+            long version = in.getLong();
+            byte[] key = new byte[in.getInt()];
+            in.get(key);
+            visitor.visit(type, version, new String(key, StandardCharsets.UTF_8), offset);
+            count++;
+        }
+        return count;
+    }
+
+    private void visit(int offset, EntryVisitor visitor) {
+        visitor.visit(RecordCodec.type(buffer, offset), RecordCodec.version(buffer, offset),
+                RecordCodec.key(buffer, offset), offset);
+    }
+
+    /** Index entry = offset + the record's type, version and key bytes, copied verbatim. */
+    private void indexEntry(int offset) {
+        if (pendingIndex == null) {
+            return;
+        }
+        int from = offset + RecordCodec.HEADER_BYTES;
+        int length = RecordCodec.keyPrefixLength(buffer, offset);
+        if (pendingIndex.remaining() < 4 + length) {
+            int capacity = Math.max(pendingIndex.capacity() * 2, pendingIndex.position() + 4 + length);
+            pendingIndex = ByteBuffer.allocate(capacity).put(pendingIndex.flip());
+        }
+        pendingIndex.putInt(offset).put(pendingIndex.position(), buffer, from, length);
+        pendingIndex.position(pendingIndex.position() + length);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tenx.enterprise.loadgen;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Service-time model for a simulated skill call.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /** z-score of the 99th percentile of a standard normal distribution. */
+    double Z_99 = 2.326;
+
+    long sampleNanos(SplittableRandom random);
+
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long low = min.toNanos();
+        long high = max.toNanos();
+        if (high < low) {
+            throw new IllegalArgumentException("max must not be below min");
+        }
+        return random -> low == high ? low : random.nextLong(low, high + 1);
+    }
+
+    static LatencyDistribution exponential(Duration mean) {
+        double meanNanos = mean.toNanos();
+        return random -> (long) (-meanNanos * Math.log(1.0 - random.nextDouble()));
+    }
+
+    /**
+     * Log-normal with the given median and 99th percentile — the long-tailed shape of most
+     * remote API latencies.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        if (p99.compareTo(median) < 0 || median.isZero() || median.isNegative()) {
+            throw new IllegalArgumentException("median must be positive and no larger than p99");
+        }
+        double mu = Math.log(median.toNanos());
+        double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+        return random -> (long) Math.exp(mu + sigma * gaussian(random));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,219 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.metrics.HistogramSnapshot;
+import com.tenx.enterprise.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the Planner → Worker → Judge pipeline.
+ *
+ * <ul>
+ *   <li>Campaign {@code i} is due at {@code start + i / rate}, whether or not earlier
+ *       campaigns have finished. Each campaign and each of its tasks runs on its own
+ *       Virtual Thread, so a slow system cannot slow the arrivals down.</li>
+ *   <li>Task latency is measured from the campaign's <em>intended</em> arrival, not from
+ *       when the generator got round to it, so queueing delay is counted instead of hidden
+ *       (no coordinated omission). How late the generator itself ran is reported
+ *       separately as schedule lag.</li>
+ *   <li>Arrivals that would push in-flight tasks past the profile's cap are shed and
+ *       counted rather than queued, so an overloaded run ends instead of running out of
+ *       memory.</li>
+ *   <li>Every sample interval a {@link LoadWindow} records that window's throughput, p99,
+ *       heap in use and GC activity.</li>
+ * </ul>
+ *
+ * After the last arrival the run waits up to the drain timeout for in-flight tasks.
+ */
+public class LoadGenerator {
+
+    private static final String GOAL = "Grow reach for the load-test persona";
+
+    private final LoadProfile profile;
+    private final Planner planner;
+    private final Worker worker;
+    private final Judge judge;
+    private final Duration drainTimeout;
+
+    public LoadGenerator(LoadProfile profile, Planner planner, Worker worker, Judge judge) {
+        this(profile, planner, worker, judge, Duration.ofSeconds(30));
+    }
+
+    public LoadGenerator(LoadProfile profile, Planner planner, Worker worker, Judge judge, Duration drainTimeout) {
+        if (profile == null || planner == null || worker == null || judge == null) {
+            throw new IllegalArgumentException("profile, planner, worker and judge are required");
+        }
+        if (drainTimeout == null || drainTimeout.isNegative()) {
+            throw new IllegalArgumentException("drainTimeout must not be negative");
+        }
+        this.profile = profile;
+        this.planner = planner;
+        this.worker = worker;
+        this.judge = judge;
+        this.drainTimeout = drainTimeout;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        Run run = new Run();
+        long intervalNanos = Math.max(1L, (long) (1e9 / profile.campaignsPerSecond()));
+        long durationNanos = profile.duration().toNanos();
+        long start = System.nanoTime();
+        run.startWindows(start);
+
+        for (long i = 0; i * intervalNanos < durationNanos; i++) {
+            long intended = start + i * intervalNanos;
+            run.waitUntil(intended);
+            run.arrive("load-" + i, intended);
+        }
+
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (run.inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            run.waitUntil(Math.min(drainDeadline, System.nanoTime() + 10_000_000L));
+        }
+        long end = System.nanoTime();
+        run.closeWindow(end);
+
+        Map<TaskType, HistogramSnapshot> byType = new EnumMap<>(TaskType.class);
+        run.latencyByType.forEach((type, histogram) -> byType.put(type, histogram.snapshot()));
+        return new LoadReport(profile, Duration.ofNanos(end - start), run.scheduled.sum(), run.completed.sum(),
+                run.failed.sum(), run.shed.sum(), run.inFlight.get(), run.flagged.sum(),
+                run.latency.snapshot(), byType, run.scheduleLag.snapshot(), run.windows);
+    }
+
+    /** Counters for one call to {@link #run()}; windows are only touched by the arrival thread. */
+    private final class Run {
+        final LatencyHistogram latency = new LatencyHistogram("load");
+        final LatencyHistogram scheduleLag = new LatencyHistogram("schedule_lag");
+        final Map<TaskType, LatencyHistogram> latencyByType = new EnumMap<>(TaskType.class);
+        final LongAdder scheduled = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        final LongAdder flagged = new LongAdder();
+        final AtomicLong inFlight = new AtomicLong();
+        final AtomicReference<Window> window = new AtomicReference<>(new Window());
+        final List<LoadWindow> windows = new ArrayList<>();
+        final ResourceSampler resources = new ResourceSampler();
+        final long windowNanos = profile.sampleInterval().toNanos();
+        long runStart;
+        long nextWindow;
+        long lastGcCount;
+        long lastGcMillis;
+
+        Run() {
+            for (TaskType type : TaskType.values()) {
+                latencyByType.put(type, new LatencyHistogram(type.name()));
+            }
+        }
+
+        void startWindows(long start) {
+            runStart = start;
+            nextWindow = start + windowNanos;
+            lastGcCount = resources.gcCount();
+            lastGcMillis = resources.gcMillis();
+        }
+
+        /** Parks until {@code deadline}, closing any sample windows that fall due on the way. */
+        void waitUntil(long deadline) throws InterruptedException {
+            while (nextWindow - deadline <= 0) {
+                parkUntil(nextWindow);
+                closeWindow(nextWindow);
+                nextWindow += windowNanos;
+            }
+            parkUntil(deadline);
+        }
+
+        void closeWindow(long at) {
+            Window closed = window.getAndSet(new Window());
+            long gcCount = resources.gcCount();
+            long gcMillis = resources.gcMillis();
+            windows.add(new LoadWindow(Duration.ofNanos(at - runStart), closed.completed.sum(), closed.failed.sum(),
+                    closed.latency.snapshot().p99(), resources.heapUsedBytes(),
+                    gcCount - lastGcCount, gcMillis - lastGcMillis));
+            lastGcCount = gcCount;
+            lastGcMillis = gcMillis;
+        }
+
+        void arrive(String campaignId, long intended) {
+            int tasks = profile.tasksPerCampaign();
+            scheduled.add(tasks);
+            if (inFlight.addAndGet(tasks) > profile.maxInFlightTasks()) {
+                inFlight.addAndGet(-tasks);
+                shed.add(tasks);
+                return;
+            }
+            Thread.ofVirtual().start(() -> runCampaign(campaignId, intended, tasks));
+        }
+
+        private void runCampaign(String campaignId, long intended, int reserved) {
+            scheduleLag.record(System.nanoTime() - intended);
+            List<TaskEnvelope> tasks;
+            try {
+                tasks = planner.decompose(campaignId, GOAL);
+            } catch (RuntimeException e) {
+                failed.add(reserved);
+                window.get().failed.add(reserved);
+                inFlight.addAndGet(-reserved);
+                return;
+            }
+            inFlight.addAndGet(tasks.size() - reserved);
+            for (TaskEnvelope task : tasks) {
+                Thread.ofVirtual().start(() -> runTask(task, intended));
+            }
+        }
+
+        private void runTask(TaskEnvelope task, long intended) {
+            try {
+                ContentArtifact artifact = worker.execute(task);
+                if (!judge.evaluate(artifact).approved()) {
+                    flagged.increment();
+                }
+                long nanos = System.nanoTime() - intended;
+                Window current = window.get();
+                latency.record(nanos);
+                latencyByType.get(task.type()).record(nanos);
+                current.latency.record(nanos);
+                completed.increment();
+                current.completed.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.increment();
+            } catch (Exception e) {
+                failed.increment();
+                window.get().failed.increment();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private static void parkUntil(long deadline) throws InterruptedException {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0L) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("load run interrupted");
+                }
+            }
+        }
+    }
+
+    private static final class Window {
+        final LatencyHistogram latency = new LatencyHistogram("window");
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+}
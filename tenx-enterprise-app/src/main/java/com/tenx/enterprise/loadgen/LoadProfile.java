@@ -0,0 +1,71 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.dto.TaskType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What a load run looks like: campaigns arrive at a fixed rate, each decomposing into a
+ * fixed number of tasks drawn from {@code taskMix}.
+ *
+ * @param duration           how long new campaigns keep arriving
+ * @param campaignsPerSecond open-loop arrival rate, independent of how fast tasks complete
+ * @param tasksPerCampaign   tasks the simulated Planner emits per campaign
+ * @param taskMix            relative weight of each task type
+ * @param behaviors          simulated skill behaviour per task type; missing types are instant
+ * @param maxInFlightTasks   safety valve; arrivals beyond it are shed and reported, not queued
+ * @param sampleInterval     width of each report window
+ * @param seed               makes task mixes, latencies and failures reproducible
+ */
+public record LoadProfile(
+        Duration duration,
+        double campaignsPerSecond,
+        int tasksPerCampaign,
+        Map<TaskType, Double> taskMix,
+        Map<TaskType, StubBehavior> behaviors,
+        int maxInFlightTasks,
+        Duration sampleInterval,
+        long seed
+) {
+    public LoadProfile {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        if (!(campaignsPerSecond > 0.0) || tasksPerCampaign < 1 || maxInFlightTasks < 1) {
+            throw new IllegalArgumentException("rate, tasksPerCampaign and maxInFlightTasks must be positive");
+        }
+        if (taskMix == null || taskMix.isEmpty() || taskMix.values().stream().anyMatch(w -> w == null || w < 0)
+                || taskMix.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+            throw new IllegalArgumentException("taskMix needs at least one positive weight");
+        }
+        if (behaviors == null || sampleInterval == null || sampleInterval.isNegative() || sampleInterval.isZero()) {
+            throw new IllegalArgumentException("behaviors and a positive sampleInterval are required");
+        }
+        taskMix = Map.copyOf(taskMix);
+        behaviors = Map.copyOf(behaviors);
+    }
+
+    /**
+     * A production-like mix: mostly content generation with long-tailed latency, some trend
+     * research and engagement, rare financial checks.
+     */
+    public static LoadProfile productionLike(Duration duration, double campaignsPerSecond) {
+        Map<TaskType, Double> mix = new EnumMap<>(TaskType.class);
+        mix.put(TaskType.CONTENT_GENERATION, 0.55);
+        mix.put(TaskType.TREND_RESEARCH, 0.25);
+        mix.put(TaskType.ENGAGEMENT, 0.15);
+        mix.put(TaskType.FINANCIAL_CHECK, 0.05);
+        Map<TaskType, StubBehavior> behaviors = new EnumMap<>(TaskType.class);
+        behaviors.put(TaskType.CONTENT_GENERATION, StubBehavior.logNormal(
+                Duration.ofMillis(120), Duration.ofMillis(900), 0.01));
+        behaviors.put(TaskType.TREND_RESEARCH, StubBehavior.logNormal(
+                Duration.ofMillis(40), Duration.ofMillis(300), 0.02));
+        behaviors.put(TaskType.ENGAGEMENT, StubBehavior.logNormal(
+                Duration.ofMillis(15), Duration.ofMillis(80), 0.005));
+        behaviors.put(TaskType.FINANCIAL_CHECK, StubBehavior.logNormal(
+                Duration.ofMillis(5), Duration.ofMillis(25), 0.0));
+        return new LoadProfile(duration, campaignsPerSecond, 20, mix, behaviors, 10_000, Duration.ofSeconds(10), 42L);
+    }
+}
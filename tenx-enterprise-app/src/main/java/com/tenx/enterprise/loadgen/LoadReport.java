@@ -0,0 +1,171 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.metrics.HistogramSnapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Outcome of one load run.
+ *
+ * {@link #render()} writes one {@code key value} line per metric in sorted key order,
+ * followed by the per-window series, so reports from two builds can be compared with a
+ * plain text diff or with {@link #compare}.
+ */
+public record LoadReport(
+        LoadProfile profile,
+        Duration elapsed,
+        long scheduledTasks,
+        long completed,
+        long failed,
+        long shed,
+        long unfinished,
+        long flagged,
+        HistogramSnapshot latency,
+        Map<TaskType, HistogramSnapshot> latencyByType,
+        HistogramSnapshot scheduleLag,
+        List<LoadWindow> windows
+) {
+    private static final double MB = 1024.0 * 1024.0;
+    private static final String WINDOW_PREFIX = "window ";
+
+    public LoadReport {
+        latencyByType = Map.copyOf(latencyByType);
+        windows = List.copyOf(windows);
+    }
+
+    public double throughputPerSecond() {
+        return elapsed.isZero() ? 0.0 : completed * 1e9 / elapsed.toNanos();
+    }
+
+    public double errorRate() {
+        long finished = completed + failed;
+        return finished == 0L ? 0.0 : (double) failed / finished;
+    }
+
+    /** Scalar metrics keyed by a stable, sorted name; window series are not included. */
+    public Map<String, Double> metrics() {
+        Map<String, Double> metrics = new TreeMap<>();
+        metrics.put("profile.campaigns_per_s", profile.campaignsPerSecond());
+        metrics.put("profile.duration_s", (double) profile.duration().toSeconds());
+        metrics.put("profile.tasks_per_campaign", (double) profile.tasksPerCampaign());
+        metrics.put("tasks.scheduled", (double) scheduledTasks);
+        metrics.put("tasks.completed", (double) completed);
+        metrics.put("tasks.failed", (double) failed);
+        metrics.put("tasks.shed", (double) shed);
+        metrics.put("tasks.unfinished", (double) unfinished);
+        metrics.put("tasks.flagged", (double) flagged);
+        metrics.put("tasks.error_rate", errorRate());
+        metrics.put("throughput.tasks_per_s", throughputPerSecond());
+        putLatency(metrics, "latency.all", latency);
+        latencyByType.forEach((type, snapshot) ->
+                putLatency(metrics, "latency." + type.name().toLowerCase(Locale.ROOT), snapshot));
+        metrics.put("schedule_lag.p99_ms", millis(scheduleLag.p99()));
+        metrics.put("schedule_lag.max_ms", millis(scheduleLag.max()));
+        long heapMax = 0L;
+        long heapSum = 0L;
+        long gcCount = 0L;
+        long gcMillis = 0L;
+        for (LoadWindow window : windows) {
+            heapMax = Math.max(heapMax, window.heapUsedBytes());
+            heapSum += window.heapUsedBytes();
+            gcCount += window.gcCount();
+            gcMillis += window.gcMillis();
+        }
+        metrics.put("heap.used_max_mb", heapMax / MB);
+        metrics.put("heap.used_avg_mb", windows.isEmpty() ? 0.0 : heapSum / MB / windows.size());
+        metrics.put("heap.used_end_mb", windows.isEmpty() ? 0.0 : windows.get(windows.size() - 1).heapUsedBytes() / MB);
+        metrics.put("gc.count", (double) gcCount);
+        metrics.put("gc.time_ms", (double) gcMillis);
+        metrics.put("gc.time_pct", elapsed.isZero() ? 0.0 : 100.0 * gcMillis / elapsed.toMillis());
+        return metrics;
+    }
+
+    public String render() {
+        StringBuilder out = new StringBuilder("# tenx load report\n");
+        metrics().forEach((key, value) -> out.append(key).append(' ').append(format(value)).append('\n'));
+        out.append("# window offset_s completed failed p99_ms heap_mb gc_count gc_ms\n");
+        for (LoadWindow window : windows) {
+            out.append(WINDOW_PREFIX).append(window.offset().toSeconds())
+                    .append(' ').append(window.completed())
+                    .append(' ').append(window.failed())
+                    .append(' ').append(format(millis(window.p99())))
+                    .append(' ').append(format(window.heapUsedBytes() / MB))
+                    .append(' ').append(window.gcCount())
+                    .append(' ').append(window.gcMillis())
+                    .append('\n');
+        }
+        return out.toString();
+    }
+
+    /** Reads the scalar metrics back from a rendered report; comments and windows are skipped. */
+    public static Map<String, Double> parseMetrics(List<String> lines) {
+        Map<String, Double> metrics = new TreeMap<>();
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#") || line.startsWith(WINDOW_PREFIX)) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            if (space <= 0) {
+                throw new IllegalArgumentException("malformed report line: " + line);
+            }
+            metrics.put(line.substring(0, space), Double.parseDouble(line.substring(space + 1).trim()));
+        }
+        return metrics;
+    }
+
+    /**
+     * Side-by-side comparison of two metric sets: {@code key baseline candidate change%}.
+     * Metrics present in only one report show {@code -} for the other side.
+     */
+    public static String compare(Map<String, Double> baseline, Map<String, Double> candidate) {
+        StringBuilder out = new StringBuilder("# metric baseline candidate change%\n");
+        TreeSet<String> keys = new TreeSet<>(baseline.keySet());
+        keys.addAll(candidate.keySet());
+        for (String key : keys) {
+            Double before = baseline.get(key);
+            Double after = candidate.get(key);
+            out.append(key)
+                    .append(' ').append(before == null ? "-" : format(before))
+                    .append(' ').append(after == null ? "-" : format(after))
+                    .append(' ').append(change(before, after))
+                    .append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void putLatency(Map<String, Double> metrics, String prefix, HistogramSnapshot snapshot) {
+        metrics.put(prefix + ".count", (double) snapshot.count());
+        metrics.put(prefix + ".mean_ms", millis(snapshot.mean()));
+        metrics.put(prefix + ".p50_ms", millis(snapshot.p50()));
+        metrics.put(prefix + ".p90_ms", millis(snapshot.p90()));
+        metrics.put(prefix + ".p99_ms", millis(snapshot.p99()));
+        metrics.put(prefix + ".p999_ms", millis(snapshot.p999()));
+        metrics.put(prefix + ".max_ms", millis(snapshot.max()));
+    }
+
+    private static String change(Double before, Double after) {
+        if (before == null || after == null) {
+            return "-";
+        }
+        if (before == 0.0) {
+            return after == 0.0 ? "0.0%" : "new";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", 100.0 * (after - before) / Math.abs(before));
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value)
+                : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,65 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.SensitiveTopicJudge;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.skill.impl.ContentGeneratorSkillStub;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line entry point for a production-like soak run.
+ *
+ * Arguments are {@code key=value}: {@code duration} (seconds, default 60), {@code rate}
+ * (campaigns per second, default 5), {@code out} (report file) and {@code baseline}
+ * (a report from an earlier build to compare against). See {@code make loadtest}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        LoadProfile profile = LoadProfile.productionLike(
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Double.parseDouble(options.getOrDefault("rate", "5")));
+        Judge approveAll = artifact -> new JudgeVerdict("verdict-" + artifact.artifactId(), artifact.artifactId(),
+                ConfidenceLevel.HIGH, false, true, "load test", Instant.now());
+        LoadGenerator generator = new LoadGenerator(profile,
+                new SimulatedPlanner(profile),
+                new SimulatedWorker(profile, new TrendFetcherSkillStub(), new ContentGeneratorSkillStub()),
+                new SensitiveTopicJudge(approveAll, SensitiveTermDictionary.withDefaults()));
+
+        String report = generator.run().render();
+        System.out.print(report);
+        if (options.containsKey("out")) {
+            Path out = Path.of(options.get("out"));
+            if (out.getParent() != null) {
+                Files.createDirectories(out.getParent());
+            }
+            Files.writeString(out, report);
+        }
+        if (options.containsKey("baseline")) {
+            System.out.print(LoadReport.compare(
+                    LoadReport.parseMetrics(Files.readAllLines(Path.of(options.get("baseline")))),
+                    LoadReport.parseMetrics(report.lines().toList())));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.tenx.enterprise.loadgen;
+
+import java.time.Duration;
+
+/**
+ * One sample interval of a load run, for spotting drift over a long soak: latency creeping
+ * up, heap not returning to its floor, GC time growing.
+ *
+ * @param offset        end of the window, measured from the start of the run
+ * @param completed     tasks that finished successfully in the window
+ * @param failed        tasks that threw in the window
+ * @param p99           99th percentile latency of tasks completed in the window
+ * @param heapUsedBytes heap in use when the window closed
+ * @param gcCount       collections during the window, all collectors
+ * @param gcMillis      time spent in those collections
+ */
+public record LoadWindow(
+        Duration offset,
+        long completed,
+        long failed,
+        Duration p99,
+        long heapUsedBytes,
+        long gcCount,
+        long gcMillis
+) {}
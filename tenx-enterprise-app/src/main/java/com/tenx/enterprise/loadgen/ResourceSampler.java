@@ -0,0 +1,35 @@
+package com.tenx.enterprise.loadgen;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+/**
+ * Reads heap and cumulative GC figures from the platform MXBeans.
+ */
+final class ResourceSampler {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    long heapUsedBytes() {
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    long gcCount() {
+        long count = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0L, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    long gcMillis() {
+        long millis = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            millis += Math.max(0L, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Planner that emits {@code tasksPerCampaign} tasks per goal, each type drawn by weight
+ * from the profile's task mix. The draws are seeded by the campaign id, so a campaign gets the
+ * same tasks on every run with the same seed, whichever thread decomposes it and in whatever order.
+ */
+public class SimulatedPlanner implements Planner {
+
+    private final int tasksPerCampaign;
+    private final TaskType[] types;
+    private final double[] cumulativeWeights;
+    private final long seed;
+
+    public SimulatedPlanner(LoadProfile profile) {
+        this.tasksPerCampaign = profile.tasksPerCampaign();
+        Map<TaskType, Double> mix = profile.taskMix();
+        this.types = mix.keySet().stream().sorted().toArray(TaskType[]::new);
+        this.cumulativeWeights = new double[types.length];
+        double total = 0.0;
+        for (int i = 0; i < types.length; i++) {
+            total += mix.get(types[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.seed = profile.seed();
+    }
+
+    @Override
+    public List<TaskEnvelope> decompose(String campaignId, String goal) {
+        SplittableRandom random = new SplittableRandom(seed ^ (campaignId.hashCode() * 0x9E3779B97F4A7C15L));
+        Instant now = Instant.now();
+        List<TaskEnvelope> tasks = new ArrayList<>(tasksPerCampaign);
+        for (int i = 0; i < tasksPerCampaign; i++) {
+            tasks.add(new TaskEnvelope(campaignId + "-task-" + i, campaignId, pick(random), goal, 1L, now));
+        }
+        return tasks;
+    }
+
+    private TaskType pick(SplittableRandom random) {
+        double point = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+}
@@ -0,0 +1,69 @@
+package com.tenx.enterprise.loadgen;
+
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker that behaves like a production one from the outside: each task waits out a
+ * latency drawn from its type's {@link StubBehavior}, fails at the configured rate, and
+ * otherwise calls the real skill interfaces so their own overhead is part of the load.
+ *
+ * Latency and failure are drawn from a generator seeded by the task id, so a task behaves
+ * the same on every run of the same profile.
+ */
+public class SimulatedWorker implements Worker {
+
+    private static final TrendData SEED_TREND = new TrendData("load-trend", "tiktok", "AI Tools",
+            List.of("ai", "tools"), 0.8, "US", Instant.EPOCH, 1L);
+
+    private final Map<TaskType, StubBehavior> behaviors;
+    private final TrendFetcherSkill trendFetcher;
+    private final ContentGeneratorSkill contentGenerator;
+    private final long seed;
+
+    public SimulatedWorker(LoadProfile profile, TrendFetcherSkill trendFetcher,
+                           ContentGeneratorSkill contentGenerator) {
+        if (profile == null || trendFetcher == null || contentGenerator == null) {
+            throw new IllegalArgumentException("profile, trendFetcher and contentGenerator are required");
+        }
+        this.behaviors = profile.behaviors();
+        this.trendFetcher = trendFetcher;
+        this.contentGenerator = contentGenerator;
+        this.seed = profile.seed();
+    }
+
+    @Override
+    public ContentArtifact execute(TaskEnvelope task) throws Exception {
+        StubBehavior behavior = behaviors.get(task.type());
+        if (behavior != null) {
+            SplittableRandom random = new SplittableRandom(seed ^ (task.taskId().hashCode() * 0x9E3779B97F4A7C15L));
+            TimeUnit.NANOSECONDS.sleep(behavior.latency().sampleNanos(random));
+            if (random.nextDouble() < behavior.failureRate()) {
+                throw new IllegalStateException("simulated " + task.type() + " failure for " + task.taskId());
+            }
+        }
+        String body = switch (task.type()) {
+            case TREND_RESEARCH -> trendFetcher.fetchTrends("tiktok", "US", 5).size() + " trends";
+            case CONTENT_GENERATION -> {
+                ContentPayload payload = contentGenerator.generateContent(SEED_TREND, "techGuru", 1.0);
+                yield payload.script();
+            }
+            default -> task.type().name().toLowerCase(Locale.ROOT) + " done";
+        };
+        return new ContentArtifact("artifact-" + task.taskId(), task.taskId(), task.campaignId(),
+                "short_video", body, "tiktok", Instant.now(), 1L);
+    }
+}
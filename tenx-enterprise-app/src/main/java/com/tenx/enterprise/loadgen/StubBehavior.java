@@ -0,0 +1,25 @@
+package com.tenx.enterprise.loadgen;
+
+import java.time.Duration;
+
+/**
+ * How a simulated skill behaves for one task type.
+ *
+ * @param latency     service time of each call
+ * @param failureRate probability, 0..1, that a call throws
+ */
+public record StubBehavior(LatencyDistribution latency, double failureRate) {
+
+    public StubBehavior {
+        if (latency == null) {
+            throw new IllegalArgumentException("latency is required");
+        }
+        if (failureRate < 0.0 || failureRate > 1.0) {
+            throw new IllegalArgumentException("failureRate must be between 0.0 and 1.0");
+        }
+    }
+
+    public static StubBehavior logNormal(Duration median, Duration p99, double failureRate) {
+        return new StubBehavior(LatencyDistribution.logNormal(median, p99), failureRate);
+    }
+}
@@ -0,0 +1,240 @@
+package com.tenx.enterprise.mcp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tenx.enterprise.exception.McpException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process MCP server for tests, benchmarks and local runs. Answers {@code initialize},
+ * {@code ping}, {@code tools/list} and {@code tools/call} out of the box; further methods
+ * and tools are registered as {@link McpHandler}s.
+ *
+ * Every request runs on its own Virtual Thread, so responses on one connection come back in
+ * completion order rather than request order — as they may from a real server. A batch frame
+ * is answered with one batch frame.
+ */
+public class LoopbackMcpServer implements AutoCloseable {
+
+    private static final String EOF = "";
+
+    private final String name;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, McpHandler> methods = new ConcurrentHashMap<>();
+    private final Map<String, McpHandler> tools = new ConcurrentHashMap<>();
+    private final Set<McpTransport> live = ConcurrentHashMap.newKeySet();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong batchFrames = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    public LoopbackMcpServer(String name) {
+        this.name = name;
+        methods.put("initialize", params -> Map.of(
+                "protocolVersion", McpClient.PROTOCOL_VERSION,
+                "capabilities", Map.of("tools", Map.of()),
+                "serverInfo", Map.of("name", name, "version", "1.0")));
+        methods.put("ping", params -> Map.of());
+        methods.put("tools/list", params -> Map.of("tools",
+                tools.keySet().stream().sorted().map(tool -> Map.of("name", tool)).toList()));
+        methods.put("tools/call", this::callTool);
+    }
+
+    public LoopbackMcpServer method(String method, McpHandler handler) {
+        methods.put(method, handler);
+        return this;
+    }
+
+    public LoopbackMcpServer tool(String tool, McpHandler handler) {
+        tools.put(tool, handler);
+        return this;
+    }
+
+    /**
+     * Connector whose every connection is a fresh in-memory pipe to this server.
+     */
+    public McpTransport.Connector connector() {
+        return () -> {
+            BlockingQueue<String> toServer = new LinkedBlockingQueue<>();
+            BlockingQueue<String> toClient = new LinkedBlockingQueue<>();
+            AtomicBoolean closed = new AtomicBoolean();
+            serve(new PipeEnd(toServer, toClient, closed));
+            return new PipeEnd(toClient, toServer, closed);
+        };
+    }
+
+    /**
+     * Serves one already-open connection (e.g. an accepted socket) until it closes.
+     */
+    public void serve(McpTransport transport) {
+        connections.incrementAndGet();
+        live.add(transport);
+        Thread.ofVirtual().name(name + "-conn").start(() -> {
+            try {
+                String message;
+                while ((message = transport.receive()) != null) {
+                    frames.incrementAndGet();
+                    String frame = message;
+                    Thread.ofVirtual().start(() -> answer(transport, frame));
+                }
+            } catch (IOException e) {
+                // Peer went away; nothing to answer.
+            } finally {
+                live.remove(transport);
+                transport.close();
+            }
+        });
+    }
+
+    /** Drops every open connection, as a server restart would. */
+    public void disconnectAll() {
+        live.forEach(McpTransport::close);
+    }
+
+    public long connectionCount() {
+        return connections.get();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long frameCount() {
+        return frames.get();
+    }
+
+    public long batchFrameCount() {
+        return batchFrames.get();
+    }
+
+    @Override
+    public void close() {
+        disconnectAll();
+    }
+
+    private void answer(McpTransport transport, String frame) {
+        JsonNode reply;
+        try {
+            JsonNode message = mapper.readTree(frame);
+            if (message.isArray()) {
+                batchFrames.incrementAndGet();
+                ArrayNode responses = mapper.createArrayNode();
+                message.forEach(request -> {
+                    ObjectNode response = dispatch(request);
+                    if (response != null) {
+                        responses.add(response);
+                    }
+                });
+                reply = responses.isEmpty() ? null : responses;
+            } else {
+                reply = dispatch(message);
+            }
+        } catch (JsonProcessingException e) {
+            reply = error(null, -32700, "parse error");
+        }
+        if (reply == null) {
+            return;
+        }
+        try {
+            transport.send(mapper.writeValueAsString(reply));
+        } catch (IOException e) {
+            transport.close();
+        }
+    }
+
+    /** @return the response, or null for a notification */
+    private ObjectNode dispatch(JsonNode request) {
+        JsonNode id = request.get("id");
+        McpHandler handler = methods.get(request.path("method").asText());
+        if (id == null || id.isNull()) {
+            return null;
+        }
+        requests.incrementAndGet();
+        if (handler == null) {
+            return error(id, McpException.METHOD_NOT_FOUND, "method not found: " + request.path("method").asText());
+        }
+        try {
+            ObjectNode response = envelope(id);
+            response.set("result", mapper.valueToTree(handler.handle(request.path("params"))));
+            return response;
+        } catch (McpException e) {
+            return error(id, e.getCode(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return error(id, McpException.INVALID_PARAMS, e.getMessage());
+        } catch (RuntimeException e) {
+            return error(id, McpException.INTERNAL_ERROR, String.valueOf(e));
+        }
+    }
+
+    private Object callTool(JsonNode params) throws McpException {
+        McpHandler tool = tools.get(params.path("name").asText());
+        if (tool == null) {
+            throw new McpException(McpException.INVALID_PARAMS, "unknown tool: " + params.path("name").asText());
+        }
+        return tool.handle(params.path("arguments"));
+    }
+
+    private ObjectNode envelope(JsonNode id) {
+        ObjectNode response = mapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", id);
+        return response;
+    }
+
+    private ObjectNode error(JsonNode id, int code, String message) {
+        ObjectNode response = envelope(id == null ? mapper.nullNode() : id);
+        response.putObject("error").put("code", code).put("message", message);
+        return response;
+    }
+
+    /** One end of an in-memory connection; closing either end closes both. */
+    private static final class PipeEnd implements McpTransport {
+        private final BlockingQueue<String> in;
+        private final BlockingQueue<String> out;
+        private final AtomicBoolean closed;
+
+        PipeEnd(BlockingQueue<String> in, BlockingQueue<String> out, AtomicBoolean closed) {
+            this.in = in;
+            this.out = out;
+            this.closed = closed;
+        }
+
+        @Override
+        public void send(String message) throws IOException {
+            if (closed.get()) {
+                throw new IOException("connection closed");
+            }
+            out.add(message);
+        }
+
+        @Override
+        public String receive() throws IOException {
+            try {
+                String message = in.take();
+                return message.equals(EOF) ? null : message;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                in.add(EOF);
+                out.add(EOF);
+            }
+        }
+    }
+}
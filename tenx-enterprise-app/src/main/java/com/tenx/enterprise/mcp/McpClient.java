@@ -0,0 +1,219 @@
+package com.tenx.enterprise.mcp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tenx.enterprise.exception.McpException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pooled, pipelined JSON-RPC client for MCP servers; replaces the single-shot MockMcpClient.
+ *
+ * <ul>
+ *   <li>Requests are pipelined: many can be outstanding on one connection, and responses
+ *       are matched to callers by id, so a slow call never holds up a fast one.</li>
+ *   <li>A new connection is opened only when every pooled one already carries
+ *       {@code pipelineDepth} requests, up to {@code maxConnections}; past that, callers share
+ *       the least-loaded connection. Concurrent Virtual Thread callers therefore never each
+ *       open their own connection.</li>
+ *   <li>Requests queued while a connection is writing go out in a single transport write;
+ *       {@link #batch} sends a set of calls as one JSON-RPC batch frame.</li>
+ *   <li>A dropped connection fails its pending calls with
+ *       {@link McpException#CONNECTION_CLOSED} and is replaced on the next call.</li>
+ * </ul>
+ */
+public class McpClient implements AutoCloseable {
+
+    public static final String PROTOCOL_VERSION = "2024-11-05";
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final McpTransport.Connector connector;
+    private final int maxConnections;
+    private final int pipelineDepth;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<McpConnection> connections = new CopyOnWriteArrayList<>();
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private final AtomicLong ids = new AtomicLong();
+    private volatile boolean closed;
+
+    public McpClient(McpTransport.Connector connector) {
+        this(connector, 4, 64);
+    }
+
+    /**
+     * @param connector      opens transports to the server
+     * @param maxConnections upper bound on pooled connections
+     * @param pipelineDepth  outstanding requests per connection before another is opened
+     */
+    public McpClient(McpTransport.Connector connector, int maxConnections, int pipelineDepth) {
+        if (connector == null) {
+            throw new IllegalArgumentException("connector is required");
+        }
+        if (maxConnections < 1 || pipelineDepth < 1) {
+            throw new IllegalArgumentException("maxConnections and pipelineDepth must be positive");
+        }
+        this.connector = connector;
+        this.maxConnections = maxConnections;
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    /**
+     * Sends one request without waiting; the future fails with {@link McpException}.
+     */
+    public CompletableFuture<JsonNode> callAsync(String method, Object params) {
+        return batch(List.of(new McpRequest(method, params))).get(0);
+    }
+
+    public JsonNode call(String method, Object params) throws McpException {
+        return call(method, params, DEFAULT_TIMEOUT);
+    }
+
+    public JsonNode call(String method, Object params, Duration timeout) throws McpException {
+        return await(callAsync(method, params), timeout);
+    }
+
+    /**
+     * Invokes an MCP tool ({@code tools/call}) and returns its result object.
+     */
+    public JsonNode callTool(String tool, Object arguments) throws McpException {
+        return call("tools/call", Map.of("name", tool, "arguments", arguments == null ? Map.of() : arguments));
+    }
+
+    /**
+     * Sends the requests as a single JSON-RPC batch frame on one connection.
+     *
+     * @return one future per request, in request order
+     */
+    public List<CompletableFuture<JsonNode>> batch(List<McpRequest> requests) {
+        List<ObjectNode> messages = new ArrayList<>(requests.size());
+        for (McpRequest request : requests) {
+            messages.add(request(request.method(), request.params()));
+        }
+        try {
+            return acquire().send(messages);
+        } catch (McpException e) {
+            return requests.stream().map(r -> CompletableFuture.<JsonNode>failedFuture(e)).toList();
+        }
+    }
+
+    /**
+     * @return true if the server answers {@code ping} within the timeout
+     */
+    public boolean ping(Duration timeout) {
+        try {
+            call("ping", null, timeout);
+            return true;
+        } catch (McpException e) {
+            return false;
+        }
+    }
+
+    public int openConnections() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        connections.forEach(McpConnection::close);
+    }
+
+    private McpConnection acquire() throws McpException {
+        McpConnection best = leastLoaded();
+        if (best != null && (best.inFlight() < pipelineDepth || connections.size() >= maxConnections)) {
+            return best;
+        }
+        connectLock.lock();
+        try {
+            best = leastLoaded();
+            if (best != null && (best.inFlight() < pipelineDepth || connections.size() >= maxConnections)) {
+                return best;
+            }
+            return connect();
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private McpConnection leastLoaded() {
+        McpConnection best = null;
+        for (McpConnection connection : connections) {
+            if (connection.isOpen() && (best == null || connection.inFlight() < best.inFlight())) {
+                best = connection;
+            }
+        }
+        return best;
+    }
+
+    private McpConnection connect() throws McpException {
+        if (closed) {
+            throw new McpException(McpException.CONNECTION_CLOSED, "client closed");
+        }
+        McpTransport transport;
+        try {
+            transport = connector.connect();
+        } catch (IOException e) {
+            throw new McpException(McpException.CONNECTION_CLOSED, "connect failed", e);
+        }
+        McpConnection connection = new McpConnection(transport, mapper, connections::remove);
+        ObjectNode initialize = request("initialize", Map.of(
+                "protocolVersion", PROTOCOL_VERSION,
+                "capabilities", Map.of(),
+                "clientInfo", Map.of("name", "tenx-enterprise", "version", "1.0")));
+        try {
+            await(connection.send(List.of(initialize)).get(0), DEFAULT_TIMEOUT);
+        } catch (McpException e) {
+            connection.close();
+            throw e;
+        }
+        connection.send(List.of(notification("notifications/initialized")));
+        connections.add(connection);
+        return connection;
+    }
+
+    private ObjectNode request(String method, Object params) {
+        ObjectNode message = notification(method);
+        message.put("id", ids.incrementAndGet());
+        if (params != null) {
+            message.set("params", mapper.valueToTree(params));
+        }
+        return message;
+    }
+
+    private ObjectNode notification(String method) {
+        ObjectNode message = mapper.createObjectNode();
+        message.put("jsonrpc", "2.0");
+        message.put("method", method);
+        return message;
+    }
+
+    private static JsonNode await(CompletableFuture<JsonNode> future, Duration timeout) throws McpException {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new McpException(McpException.TIMEOUT, "no response within " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new McpException(McpException.CONNECTION_CLOSED, "interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof McpException mcp) {
+                throw mcp;
+            }
+            throw new McpException(McpException.INTERNAL_ERROR, String.valueOf(e.getCause()), e.getCause());
+        }
+    }
+}
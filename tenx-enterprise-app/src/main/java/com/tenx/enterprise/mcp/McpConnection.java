@@ -0,0 +1,180 @@
+package com.tenx.enterprise.mcp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tenx.enterprise.exception.McpException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One pipelined JSON-RPC connection. Callers only enqueue; a writer Virtual Thread drains
+ * whatever is waiting and hands it to the transport in one write, and a reader Virtual Thread
+ * completes pending futures by response id, in whatever order they arrive.
+ *
+ * Queued calls stay separate frames: merging unrelated calls into one JSON-RPC batch would
+ * make each wait for the slowest, since a server answers a batch as a whole.
+ */
+final class McpConnection {
+
+    static final int MAX_DRAIN = 256;
+
+    private final McpTransport transport;
+    private final ObjectMapper mapper;
+    private final Consumer<McpConnection> onClose;
+    private final Map<Long, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<List<ObjectNode>> outbound = new LinkedBlockingQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean open = new AtomicBoolean(true);
+
+    McpConnection(McpTransport transport, ObjectMapper mapper, Consumer<McpConnection> onClose) {
+        this.transport = transport;
+        this.mapper = mapper;
+        this.onClose = onClose;
+        Thread.ofVirtual().name("mcp-writer").start(this::writeLoop);
+        Thread.ofVirtual().name("mcp-reader").start(this::readLoop);
+    }
+
+    /**
+     * Enqueues messages to go out as one frame (a batch array if more than one);
+     * notifications (no id) get no future.
+     *
+     * @return one future per message, null for notifications
+     */
+    List<CompletableFuture<JsonNode>> send(List<ObjectNode> messages) {
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>(messages.size());
+        for (ObjectNode message : messages) {
+            futures.add(message.hasNonNull("id") ? register(message.get("id").asLong()) : null);
+        }
+        if (!open.get()) {
+            failPending(new McpException(McpException.CONNECTION_CLOSED, "connection closed"));
+        } else {
+            outbound.add(messages);
+        }
+        return futures;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    boolean isOpen() {
+        return open.get();
+    }
+
+    void close() {
+        fail(new McpException(McpException.CONNECTION_CLOSED, "connection closed"));
+    }
+
+    private CompletableFuture<JsonNode> register(long id) {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        pending.put(id, future);
+        inFlight.incrementAndGet();
+        // Timeouts and cancellations release the slot as well as responses do.
+        future.whenComplete((result, error) -> {
+            if (pending.remove(id, future)) {
+                inFlight.decrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    private void writeLoop() {
+        List<List<ObjectNode>> drained = new ArrayList<>();
+        List<String> frames = new ArrayList<>();
+        try {
+            while (open.get()) {
+                drained.add(outbound.take());
+                outbound.drainTo(drained, MAX_DRAIN);
+                for (List<ObjectNode> unit : drained) {
+                    if (unit.size() == 1) {
+                        frames.add(mapper.writeValueAsString(unit.get(0)));
+                    } else if (!unit.isEmpty()) {
+                        ArrayNode batch = mapper.createArrayNode();
+                        batch.addAll(unit);
+                        frames.add(mapper.writeValueAsString(batch));
+                    }
+                }
+                drained.clear();
+                if (!frames.isEmpty()) {
+                    transport.sendAll(frames);
+                    frames.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        } catch (IOException e) {
+            fail(new McpException(McpException.CONNECTION_CLOSED, "send failed", e));
+        }
+    }
+
+    private void readLoop() {
+        try {
+            String message;
+            while ((message = transport.receive()) != null) {
+                JsonNode frame = parse(message);
+                if (frame == null) {
+                    continue;
+                }
+                if (frame.isArray()) {
+                    frame.forEach(this::complete);
+                } else {
+                    complete(frame);
+                }
+            }
+            close();
+        } catch (IOException e) {
+            fail(new McpException(McpException.CONNECTION_CLOSED, "receive failed", e));
+        }
+    }
+
+    private JsonNode parse(String message) {
+        try {
+            return mapper.readTree(message);
+        } catch (JsonProcessingException e) {
+            // A malformed frame cannot be correlated; its caller will time out.
+            return null;
+        }
+    }
+
+    private void complete(JsonNode response) {
+        JsonNode id = response.get("id");
+        CompletableFuture<JsonNode> future = id == null || id.isNull() ? null : pending.get(id.asLong());
+        if (future == null) {
+            return;
+        }
+        JsonNode error = response.get("error");
+        if (error != null && !error.isNull()) {
+            future.completeExceptionally(new McpException(error.path("code").asInt(McpException.INTERNAL_ERROR),
+                    error.path("message").asText("unknown error")));
+        } else {
+            future.complete(response.path("result"));
+        }
+    }
+
+    private void fail(McpException cause) {
+        if (open.compareAndSet(true, false)) {
+            transport.close();
+            outbound.add(List.of());
+            onClose.accept(this);
+        }
+        failPending(cause);
+    }
+
+    private void failPending(McpException cause) {
+        pending.values().forEach(future -> future.completeExceptionally(cause));
+    }
+}
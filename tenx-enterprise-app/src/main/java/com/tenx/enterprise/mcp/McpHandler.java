@@ -0,0 +1,18 @@
+package com.tenx.enterprise.mcp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.exception.McpException;
+
+/**
+ * Server-side implementation of one JSON-RPC method or MCP tool.
+ */
+@FunctionalInterface
+public interface McpHandler {
+
+    /**
+     * @param params the request params (a missing node when the request had none)
+     * @return the result; anything Jackson can serialise
+     * @throws McpException to answer with a JSON-RPC error
+     */
+    Object handle(JsonNode params) throws McpException;
+}
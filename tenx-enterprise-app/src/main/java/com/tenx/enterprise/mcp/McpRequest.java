@@ -0,0 +1,15 @@
+package com.tenx.enterprise.mcp;
+
+/**
+ * One call within an {@link McpClient#batch} request.
+ *
+ * @param method JSON-RPC method, e.g. {@code tools/call}
+ * @param params anything Jackson can serialise, or null for no params
+ */
+public record McpRequest(String method, Object params) {
+    public McpRequest {
+        if (method == null || method.isBlank()) {
+            throw new IllegalArgumentException("method must not be blank");
+        }
+    }
+}
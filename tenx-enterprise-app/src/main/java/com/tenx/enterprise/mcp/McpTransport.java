@@ -0,0 +1,41 @@
+package com.tenx.enterprise.mcp;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * One bidirectional MCP connection carrying framed JSON-RPC messages (a single request,
+ * response or notification object, or a batch array). Implementations must allow one
+ * thread to {@link #receive} while another {@link #send}s.
+ */
+public interface McpTransport extends AutoCloseable {
+
+    void send(String message) throws IOException;
+
+    /**
+     * Sends several independent frames; stream transports override this to flush once.
+     */
+    default void sendAll(List<String> messages) throws IOException {
+        for (String message : messages) {
+            send(message);
+        }
+    }
+
+    /**
+     * Blocks until the next message arrives.
+     *
+     * @return the message, or null once the connection is closed
+     */
+    String receive() throws IOException;
+
+    @Override
+    void close();
+
+    /**
+     * Opens new connections to one MCP server, e.g. a TCP address or an in-process server.
+     */
+    @FunctionalInterface
+    interface Connector {
+        McpTransport connect() throws IOException;
+    }
+}
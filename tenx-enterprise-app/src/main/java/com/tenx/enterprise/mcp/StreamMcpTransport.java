@@ -0,0 +1,77 @@
+package com.tenx.enterprise.mcp;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON-RPC over a byte stream pair — the MCP stdio framing, usable over
+ * a TCP socket or a child process's stdin/stdout. Messages must not contain raw newlines,
+ * which compact Jackson output never does.
+ */
+public class StreamMcpTransport implements McpTransport {
+
+    private final BufferedReader in;
+    private final Writer out;
+    private final Closeable resource;
+
+    public StreamMcpTransport(InputStream in, OutputStream out, Closeable resource) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.resource = resource;
+    }
+
+    /**
+     * Connector opening a fresh TCP connection per pooled MCP connection.
+     */
+    public static Connector tcp(String host, int port) {
+        return () -> {
+            Socket socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            return new StreamMcpTransport(socket.getInputStream(), socket.getOutputStream(), socket);
+        };
+    }
+
+    @Override
+    public void send(String message) throws IOException {
+        synchronized (out) {
+            out.write(message);
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    @Override
+    public void sendAll(List<String> messages) throws IOException {
+        synchronized (out) {
+            for (String message : messages) {
+                out.write(message);
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    @Override
+    public String receive() throws IOException {
+        return in.readLine();
+    }
+
+    @Override
+    public void close() {
+        try {
+            resource.close();
+        } catch (IOException e) {
+            // Closing a dead connection: nothing left to release.
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.tenx.enterprise.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where one campaign has spent its time so far: summed span durations and span counts per
+ * {@link Phase}. Individual spans go to JFR as {@link InvocationEvent}s.
+ */
+public final class CampaignTrace {
+
+    /** Campaign pipeline stage a span belongs to. */
+    public enum Phase {
+        PLAN,
+        EXECUTE,
+        JUDGE
+    }
+
+    private final String campaignId;
+    private final long firstSpanAt;
+    private final LongAdder[] nanos = adders();
+    private final LongAdder[] spans = adders();
+
+    CampaignTrace(String campaignId, long firstSpanAt) {
+        this.campaignId = campaignId;
+        this.firstSpanAt = firstSpanAt;
+    }
+
+    public String campaignId() {
+        return campaignId;
+    }
+
+    public Duration time(Phase phase) {
+        return Duration.ofNanos(nanos[phase.ordinal()].sum());
+    }
+
+    public long spans(Phase phase) {
+        return spans[phase.ordinal()].sum();
+    }
+
+    void record(Phase phase, long spanNanos) {
+        nanos[phase.ordinal()].add(spanNanos);
+        spans[phase.ordinal()].increment();
+    }
+
+    long firstSpanAt() {
+        return firstSpanAt;
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Phase.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
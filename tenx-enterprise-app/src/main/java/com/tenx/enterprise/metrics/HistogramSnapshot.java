@@ -0,0 +1,18 @@
+package com.tenx.enterprise.metrics;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time latency distribution of one component; percentiles are within the
+ * histogram's ~1.6% bucket resolution.
+ */
+public record HistogramSnapshot(
+        String component,
+        long count,
+        Duration mean,
+        Duration p50,
+        Duration p90,
+        Duration p99,
+        Duration p999,
+        Duration max
+) {}
@@ -0,0 +1,229 @@
+package com.tenx.enterprise.metrics;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.metrics.CampaignTrace.Phase;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps skills and agents so every call records its latency, outcome and — for calls
+ * that belong to a campaign — a span, into one {@link MetricsRegistry}, and emits a JFR
+ * {@link InvocationEvent}.
+ *
+ * The per-call cost is two {@code nanoTime} reads, a histogram increment and, for agents,
+ * one map read to find the campaign trace; nothing is allocated once the campaign is traced
+ * (see InstrumentationBenchmark). Exceptions are counted per component and type, then
+ * rethrown unchanged.
+ */
+public final class Instrumentation {
+
+    public static final String CONTENT_GENERATOR = ContentGeneratorSkill.NAME;
+    public static final String PLANNER = "planner";
+    public static final String WORKER = "worker";
+    public static final String JUDGE = "judge";
+
+    private final MetricsRegistry registry;
+
+    public Instrumentation(MetricsRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("registry is required");
+        }
+        this.registry = registry;
+    }
+
+    public MetricsRegistry registry() {
+        return registry;
+    }
+
+    public TrendFetcherSkill trendFetcher(TrendFetcherSkill delegate) {
+        LatencyHistogram latency = registry.histogram(delegate.name());
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return delegate.name();
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                long started = System.nanoTime();
+                Throwable error = null;
+                try {
+                    return delegate.fetchTrends(platform, region, limit);
+                } catch (Throwable t) {
+                    error = t;
+                    throw t;
+                } finally {
+                    end(latency, started, null, null, null, error);
+                }
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return delegate.isAvailable();
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return delegate.supports(taskType);
+            }
+        };
+    }
+
+    /**
+     * Name, availability and supported types come from the delegate, so an instrumented
+     * generator behind an open breaker still reads as unavailable to the SkillRegistry.
+     */
+    public ContentGeneratorSkill contentGenerator(ContentGeneratorSkill delegate) {
+        LatencyHistogram latency = registry.histogram(CONTENT_GENERATOR);
+        return new ContentGeneratorSkill() {
+            @Override
+            public String name() {
+                return delegate.name();
+            }
+
+            @Override
+            public ContentPayload generateContent(TrendData trend, String persona, double budget) {
+                long started = System.nanoTime();
+                Throwable error = null;
+                try {
+                    return delegate.generateContent(trend, persona, budget);
+                } catch (Throwable t) {
+                    error = t;
+                    throw t;
+                } finally {
+                    end(latency, started, null, null, null, error);
+                }
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return delegate.isAvailable();
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return delegate.supports(taskType);
+            }
+        };
+    }
+
+    public Planner planner(Planner delegate) {
+        LatencyHistogram latency = registry.histogram(PLANNER);
+        return (campaignId, goal) -> {
+            long started = System.nanoTime();
+            Throwable error = null;
+            try {
+                return delegate.decompose(campaignId, goal);
+            } catch (Throwable t) {
+                error = t;
+                throw t;
+            } finally {
+                end(latency, started, campaignId, null, Phase.PLAN, error);
+            }
+        };
+    }
+
+    /**
+     * Worker latency is kept per TaskType ({@code worker.TREND_RESEARCH}, ...), as are
+     * completed/failed task counts.
+     */
+    public Worker worker(Worker delegate) {
+        Map<TaskType, LatencyHistogram> latencies = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            latencies.put(type, registry.histogram(WORKER + "." + type));
+        }
+        return task -> {
+            long started = System.nanoTime();
+            Throwable error = null;
+            try {
+                return delegate.execute(task);
+            } catch (Throwable t) {
+                error = t;
+                throw t;
+            } finally {
+                registry.recordTask(task.type(), error == null);
+                end(latencies.get(task.type()), started, task.campaignId(), task.taskId(), Phase.EXECUTE,
+                        error);
+            }
+        };
+    }
+
+    /**
+     * Verdicts are counted per ConfidenceLevel. Batches keep the delegate's own
+     * {@link Judge#evaluateAll}; streams go through the instrumented {@link Judge#evaluate}.
+     */
+    public Judge judge(Judge delegate) {
+        LatencyHistogram latency = registry.histogram(JUDGE);
+        LatencyHistogram batchLatency = registry.histogram(JUDGE + ".batch");
+        return new Judge() {
+            @Override
+            public JudgeVerdict evaluate(ContentArtifact artifact) {
+                long started = System.nanoTime();
+                Throwable error = null;
+                try {
+                    JudgeVerdict verdict = delegate.evaluate(artifact);
+                    registry.recordVerdict(verdict.confidence());
+                    return verdict;
+                } catch (Throwable t) {
+                    error = t;
+                    throw t;
+                } finally {
+                    end(latency, started, artifact.campaignId(), artifact.taskId(), Phase.JUDGE, error);
+                }
+            }
+
+            @Override
+            public List<JudgeVerdict> evaluateAll(List<ContentArtifact> artifacts) {
+                long started = System.nanoTime();
+                Throwable error = null;
+                try {
+                    List<JudgeVerdict> verdicts = delegate.evaluateAll(artifacts);
+                    verdicts.forEach(verdict -> registry.recordVerdict(verdict.confidence()));
+                    return verdicts;
+                } catch (Throwable t) {
+                    error = t;
+                    throw t;
+                } finally {
+                    long perArtifact = artifacts.isEmpty()
+                            ? 0L : (System.nanoTime() - started) / artifacts.size();
+                    for (ContentArtifact artifact : artifacts) {
+                        registry.recordSpan(artifact.campaignId(), Phase.JUDGE, perArtifact);
+                    }
+                    end(batchLatency, started, null, null, null, error);
+                }
+            }
+        };
+    }
+
+    private void end(LatencyHistogram latency, long started, String campaignId, String taskId, Phase phase,
+                     Throwable error) {
+        long nanos = System.nanoTime() - started;
+        latency.record(nanos);
+        if (phase != null && campaignId != null) {
+            registry.recordSpan(campaignId, phase, nanos);
+        }
+        if (error != null) {
+            registry.recordError(latency.component(), error);
+        }
+        InvocationEvent event = new InvocationEvent();
+        if (event.isEnabled()) {
+            event.latency = nanos;
+            event.component = latency.component();
+            event.campaignId = campaignId;
+            event.taskId = taskId;
+            event.outcome = error == null ? "ok" : error.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.tenx.enterprise.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one instrumented skill or agent call, created once the call has finished:
+ * the call's duration is {@link #latency}, not the event's own (zero) duration. With JFR
+ * off the event is never committed and escape analysis removes the allocation.
+ */
+@Name(InvocationEvent.NAME)
+@Label("TenX Invocation")
+@Category("TenX")
+@Description("One instrumented skill or agent call; campaign calls form the campaign's spans")
+@StackTrace(false)
+final class InvocationEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.tenx.enterprise.Invocation";
+
+    @Label("Component")
+    String component;
+
+    @Label("Campaign")
+    String campaignId;
+
+    @Label("Task")
+    String taskId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -0,0 +1,104 @@
+package com.tenx.enterprise.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, allocation-free log-linear latency histogram (HDR-style) over nanoseconds.
+ *
+ * Values below 128 ns get one bucket each; above that, every power-of-two range is split
+ * into 64 linear sub-buckets, so any recorded value is reported within 1/64 (~1.6%) of
+ * its true value across the full {@code long} range, in a fixed 3712-slot array.
+ * {@link #record} is one array increment, one adder increment and, rarely, a max CAS.
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int BUCKETS = LINEAR_BUCKETS + 56 * SUB_BUCKETS;
+
+    private final String component;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String component) {
+        this.component = component;
+    }
+
+    public String component() {
+        return component;
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(index(value));
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Walks the buckets once; concurrent recording may make the snapshot slightly torn
+     * (count and percentiles from marginally different instants), never inconsistent.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long max = maxNanos.get();
+        long mean = count == 0L ? 0L : totalNanos.sum() / count;
+        return new HistogramSnapshot(component, count, Duration.ofNanos(mean),
+                percentile(copy, count, max, 50.0), percentile(copy, count, max, 90.0),
+                percentile(copy, count, max, 99.0), percentile(copy, count, max, 99.9),
+                Duration.ofNanos(max));
+    }
+
+    public long count() {
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    static int index(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /** Highest value that maps to the bucket, as HDR reports percentiles. */
+    static long highestEquivalent(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+
+    private static Duration percentile(long[] counts, long total, long max, double percentile) {
+        if (total == 0L) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(highestEquivalent(i), max));
+            }
+        }
+        return Duration.ofNanos(max);
+    }
+}
@@ -0,0 +1,175 @@
+package com.tenx.enterprise.metrics;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.TaskType;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide metrics: a latency histogram per component, task outcomes per TaskType,
+ * verdicts per ConfidenceLevel, exception counts per component and type, OCC conflicts per
+ * store, and per-campaign traces. Instrumented wrappers resolve their histograms once, so the hot path does no
+ * map lookups; {@link #render} produces the text snapshot served by {@link MetricsEndpoint}.
+ */
+public class MetricsRegistry {
+
+    public static final int DEFAULT_MAX_TRACED_CAMPAIGNS = 1024;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<TaskType, LongAdder> tasksCompleted = counters(TaskType.class);
+    private final Map<TaskType, LongAdder> tasksFailed = counters(TaskType.class);
+    private final Map<ConfidenceLevel, LongAdder> verdicts = counters(ConfidenceLevel.class);
+    private final Map<ErrorKey, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, CampaignTrace> traces = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> occConflicts = new ConcurrentHashMap<>();
+    private final int maxTracedCampaigns;
+
+    public MetricsRegistry() {
+        this(DEFAULT_MAX_TRACED_CAMPAIGNS);
+    }
+
+    /**
+     * @param maxTracedCampaigns campaigns kept in memory; the oldest trace is dropped past this
+     */
+    public MetricsRegistry(int maxTracedCampaigns) {
+        if (maxTracedCampaigns < 1) {
+            throw new IllegalArgumentException("maxTracedCampaigns must be positive");
+        }
+        this.maxTracedCampaigns = maxTracedCampaigns;
+    }
+
+    public LatencyHistogram histogram(String component) {
+        return histograms.computeIfAbsent(component, LatencyHistogram::new);
+    }
+
+    public void recordTask(TaskType type, boolean completed) {
+        (completed ? tasksCompleted : tasksFailed).get(type).increment();
+    }
+
+    public long tasks(TaskType type, boolean completed) {
+        return (completed ? tasksCompleted : tasksFailed).get(type).sum();
+    }
+
+    public void recordVerdict(ConfidenceLevel level) {
+        verdicts.get(level).increment();
+    }
+
+    public long verdicts(ConfidenceLevel level) {
+        return verdicts.get(level).sum();
+    }
+
+    public void recordError(String component, Throwable error) {
+        errors.computeIfAbsent(new ErrorKey(component, error.getClass().getSimpleName()), k -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * @return how often {@code type} was thrown, across all components
+     */
+    public long errors(Class<? extends Throwable> type) {
+        return errors.entrySet().stream()
+                .filter(e -> e.getKey().exception().equals(type.getSimpleName()))
+                .mapToLong(e -> e.getValue().sum())
+                .sum();
+    }
+
+    /**
+     * Exports a store's OCC conflict count as {@code tenx_occ_conflicts_total{store=...}}.
+     * A {@code StaleVersionException} in {@link #errors} only counts conflicts that reached
+     * an instrumented caller; this counter also includes those the store retried itself.
+     */
+    public void registerOccConflicts(String store, LongSupplier conflicts) {
+        if (store == null || store.isBlank() || conflicts == null) {
+            throw new IllegalArgumentException("store and conflicts are required");
+        }
+        occConflicts.put(store, conflicts);
+    }
+
+    public void recordSpan(String campaignId, CampaignTrace.Phase phase, long nanos) {
+        CampaignTrace trace = traces.get(campaignId);
+        if (trace == null) {
+            trace = traces.computeIfAbsent(campaignId, id -> new CampaignTrace(id, System.nanoTime()));
+            if (traces.size() > maxTracedCampaigns) {
+                traces.values().stream()
+                        .min(Comparator.comparingLong(CampaignTrace::firstSpanAt))
+                        .ifPresent(oldest -> traces.remove(oldest.campaignId(), oldest));
+            }
+        }
+        trace.record(phase, nanos);
+    }
+
+    public Optional<CampaignTrace> trace(String campaignId) {
+        return Optional.ofNullable(traces.get(campaignId));
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format, sorted for stable diffs.
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("# TYPE tenx_latency_nanos summary\n");
+        new TreeMap<>(histograms).values().forEach(histogram -> {
+            HistogramSnapshot s = histogram.snapshot();
+            String labels = "component=\"" + escape(s.component()) + "\"";
+            sample(out, "tenx_latency_nanos", labels + ",quantile=\"0.5\"", s.p50().toNanos());
+            sample(out, "tenx_latency_nanos", labels + ",quantile=\"0.9\"", s.p90().toNanos());
+            sample(out, "tenx_latency_nanos", labels + ",quantile=\"0.99\"", s.p99().toNanos());
+            sample(out, "tenx_latency_nanos", labels + ",quantile=\"0.999\"", s.p999().toNanos());
+            sample(out, "tenx_latency_nanos_max", labels, s.max().toNanos());
+            sample(out, "tenx_latency_nanos_count", labels, s.count());
+        });
+        out.append("# TYPE tenx_tasks_total counter\n");
+        for (TaskType type : TaskType.values()) {
+            sample(out, "tenx_tasks_total", "type=\"" + type + "\",outcome=\"completed\"", tasks(type, true));
+            sample(out, "tenx_tasks_total", "type=\"" + type + "\",outcome=\"failed\"", tasks(type, false));
+        }
+        out.append("# TYPE tenx_verdicts_total counter\n");
+        for (ConfidenceLevel level : ConfidenceLevel.values()) {
+            sample(out, "tenx_verdicts_total", "confidence=\"" + level + "\"", verdicts(level));
+        }
+        out.append("# TYPE tenx_errors_total counter\n");
+        errors.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(
+                        Comparator.comparing(ErrorKey::component).thenComparing(ErrorKey::exception)))
+                .forEach(e -> sample(out, "tenx_errors_total", "component=\"" + escape(e.getKey().component())
+                        + "\",exception=\"" + e.getKey().exception() + "\"", e.getValue().sum()));
+        out.append("# TYPE tenx_occ_conflicts_total counter\n");
+        new TreeMap<>(occConflicts).forEach((store, conflicts) ->
+                sample(out, "tenx_occ_conflicts_total", "store=\"" + escape(store) + "\"", conflicts.getAsLong()));
+        out.append("# TYPE tenx_campaign_phase_nanos counter\n");
+        new TreeMap<>(traces).values().forEach(trace -> {
+            for (CampaignTrace.Phase phase : CampaignTrace.Phase.values()) {
+                if (trace.spans(phase) > 0) {
+                    sample(out, "tenx_campaign_phase_nanos", "campaign=\"" + escape(trace.campaignId())
+                            + "\",phase=\"" + phase + "\"", trace.time(phase).toNanos());
+                }
+            }
+        });
+        return out.toString();
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> counters(Class<E> type) {
+        Map<E, LongAdder> counters = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            counters.put(key, new LongAdder());
+        }
+        return counters;
+    }
+
+    private record ErrorKey(String component, String exception) {}
+}
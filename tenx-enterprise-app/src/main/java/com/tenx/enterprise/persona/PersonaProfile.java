@@ -0,0 +1,121 @@
+package com.tenx.enterprise.persona;
+
+import com.tenx.enterprise.safety.SensitiveTopicMatcher;
+import com.tenx.enterprise.template.Hashtags;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One persona's rules, compiled once from its SOUL.md section and never modified after.
+ * Contract: specs/functional.md → US-EN-001
+ *
+ * <ul>
+ *   <li>{@link #preamble()} — name and tone rules joined into the text a generator puts in
+ *       front of its prompt.</li>
+ *   <li>Banned terms — compiled into a whole-word matcher, so checking a text is one scan
+ *       that allocates nothing.</li>
+ *   <li>Preferred hashtags — normalised with {@link Hashtags#tag} and placed ahead of the
+ *       trend's own keywords.</li>
+ * </ul>
+ */
+public final class PersonaProfile {
+
+    private final String name;
+    private final List<String> tone;
+    private final List<String> bannedTerms;
+    private final List<String> preferredHashtags;
+    private final SensitiveTopicMatcher banned;
+    private final String preamble;
+
+    private PersonaProfile(String name, List<String> tone, List<String> bannedTerms, List<String> preferredHashtags) {
+        this.name = name;
+        this.tone = List.copyOf(tone);
+        this.bannedTerms = List.copyOf(bannedTerms);
+        this.preferredHashtags = preferredHashtags.stream().map(Hashtags::tag).filter(t -> t != null).toList();
+        this.banned = SensitiveTopicMatcher.compile(this.bannedTerms);
+        this.preamble = this.tone.isEmpty()
+                ? "You are " + name + "."
+                : "You are " + name + ". Tone: " + String.join("; ", this.tone) + ".";
+    }
+
+    public static PersonaProfile of(String name, List<String> tone, List<String> bannedTerms,
+                                    List<String> preferredHashtags) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (tone == null || bannedTerms == null || preferredHashtags == null) {
+            throw new IllegalArgumentException("tone, bannedTerms and preferredHashtags must not be null");
+        }
+        return new PersonaProfile(name.strip(), tone, bannedTerms, preferredHashtags);
+    }
+
+    /** A persona with no rules: nothing banned, no preferred hashtags. */
+    public static PersonaProfile neutral(String name) {
+        return of(name, List.of(), List.of(), List.of());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<String> tone() {
+        return tone;
+    }
+
+    public List<String> bannedTerms() {
+        return bannedTerms;
+    }
+
+    public List<String> preferredHashtags() {
+        return preferredHashtags;
+    }
+
+    public String preamble() {
+        return preamble;
+    }
+
+    /**
+     * @return the index of the first banned term in {@code text}, or -1 if there is none
+     */
+    public int firstBannedTerm(CharSequence text) {
+        return text == null ? -1 : banned.firstMatch(text);
+    }
+
+    public String bannedTerm(int index) {
+        return banned.term(index);
+    }
+
+    /**
+     * @return at most {@code max} distinct hashtags: the preferred ones first, then tags
+     *         from {@code keywords}
+     */
+    public List<String> hashtags(List<String> keywords, int max) {
+        List<String> tags = new ArrayList<>(max);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < preferredHashtags.size() && tags.size() < max; i++) {
+            String tag = preferredHashtags.get(i);
+            if (seen.add(tag.toLowerCase(Locale.ROOT))) {
+                tags.add(tag);
+            }
+        }
+        for (String tag : Hashtags.from(keywords, max)) {
+            if (tags.size() >= max) {
+                break;
+            }
+            if (seen.add(tag.toLowerCase(Locale.ROOT))) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return "PersonaProfile[" + name + ", tone=" + tone.size() + ", banned=" + bannedTerms.size()
+                + ", hashtags=" + preferredHashtags + "]";
+    }
+}
@@ -0,0 +1,93 @@
+package com.tenx.enterprise.persona;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hot-reloadable cache of compiled {@link PersonaProfile}s, keyed by persona name.
+ *
+ * {@link #profile} is one volatile read and one lookup in an immutable map — no parsing and
+ * no allocation — so skills and Judges can call it per request. A reload parses and compiles
+ * the whole source off to the side and swaps the new map in atomically; callers holding a
+ * profile keep using it.
+ */
+public class PersonaRegistry {
+
+    public static final String DEFAULT_PERSONA = "default";
+
+    private final PersonaProfile fallback = PersonaProfile.neutral(DEFAULT_PERSONA);
+    private volatile Map<String, PersonaProfile> profiles;
+    private volatile FileTime lastLoaded;
+
+    public PersonaRegistry(Collection<PersonaProfile> profiles) {
+        this.profiles = index(profiles);
+    }
+
+    /**
+     * Registry loaded from a SOUL.md file; call {@link #reloadIfChanged} to pick up edits.
+     */
+    public static PersonaRegistry load(Path soulFile) throws IOException {
+        PersonaRegistry registry = new PersonaRegistry(Set.of());
+        registry.reloadIfChanged(soulFile);
+        return registry;
+    }
+
+    /**
+     * @return the persona's profile, or a neutral profile named {@value #DEFAULT_PERSONA} if
+     *         it is not defined
+     */
+    public PersonaProfile profile(String persona) {
+        PersonaProfile profile = persona == null ? null : profiles.get(persona);
+        return profile == null ? fallback : profile;
+    }
+
+    public boolean contains(String persona) {
+        return persona != null && profiles.containsKey(persona);
+    }
+
+    public Set<String> names() {
+        return profiles.keySet();
+    }
+
+    public void reload(Collection<PersonaProfile> next) {
+        profiles = index(next);
+    }
+
+    /**
+     * Re-parses the file if it changed since the last load through this method.
+     * Cheap enough to call from a periodic timer. A file that fails to parse leaves the
+     * current profiles in place.
+     *
+     * @return true if new profiles were swapped in
+     * @throws IllegalArgumentException if the file is not valid SOUL.md
+     */
+    public boolean reloadIfChanged(Path soulFile) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(soulFile);
+        if (modified.equals(lastLoaded)) {
+            return false;
+        }
+        reload(SoulParser.parse(Files.readAllLines(soulFile, StandardCharsets.UTF_8)));
+        lastLoaded = modified;
+        return true;
+    }
+
+    private static Map<String, PersonaProfile> index(Collection<PersonaProfile> profiles) {
+        if (profiles == null) {
+            throw new IllegalArgumentException("profiles must not be null");
+        }
+        Map<String, PersonaProfile> byName = new HashMap<>();
+        for (PersonaProfile profile : profiles) {
+            if (byName.putIfAbsent(profile.name(), profile) != null) {
+                throw new IllegalArgumentException("persona " + profile.name() + " is defined twice");
+            }
+        }
+        return Map.copyOf(byName);
+    }
+}
@@ -0,0 +1,110 @@
+package com.tenx.enterprise.persona;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses SOUL.md-style persona definitions. Each level-one heading starts a persona; the
+ * bullet items under its level-two headings are that persona's rules:
+ *
+ * <pre>
+ * # techGuru
+ * ## Tone
+ * - upbeat, explains jargon
+ * ## Banned terms
+ * - crypto giveaway
+ * ## Hashtags
+ * - tech
+ * </pre>
+ *
+ * Headings are matched on their first word, case-insensitively ({@code Tone}, {@code Banned},
+ * {@code Hashtags}); any other section, prose outside bullets and HTML comments are ignored.
+ */
+public final class SoulParser {
+
+    private SoulParser() {}
+
+    /**
+     * @throws IllegalArgumentException if a rule appears before the first persona heading,
+     *                                  or a persona is defined twice
+     */
+    public static List<PersonaProfile> parse(List<String> lines) {
+        List<PersonaProfile> profiles = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Draft draft = null;
+        Section section = Section.OTHER;
+        boolean inComment = false;
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).strip();
+            if (inComment || line.startsWith("<!--")) {
+                inComment = !line.contains("-->");
+                continue;
+            }
+            if (line.startsWith("# ")) {
+                if (draft != null) {
+                    profiles.add(draft.build());
+                }
+                String name = line.substring(2).strip();
+                if (names.contains(name)) {
+                    throw new IllegalArgumentException("persona " + name + " is defined twice (line " + (n + 1) + ")");
+                }
+                names.add(name);
+                draft = new Draft(name);
+                section = Section.OTHER;
+            } else if (line.startsWith("## ")) {
+                section = Section.of(line.substring(3));
+            } else if ((line.startsWith("- ") || line.startsWith("* ")) && section != Section.OTHER) {
+                if (draft == null) {
+                    throw new IllegalArgumentException("rule before the first persona heading (line " + (n + 1) + ")");
+                }
+                draft.add(section, line.substring(2).strip());
+            }
+        }
+        if (draft != null) {
+            profiles.add(draft.build());
+        }
+        return profiles;
+    }
+
+    private enum Section {
+        TONE, BANNED, HASHTAGS, OTHER;
+
+        static Section of(String heading) {
+            String first = heading.strip().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            return switch (first) {
+                case "tone" -> TONE;
+                case "banned" -> BANNED;
+                case "hashtags" -> HASHTAGS;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private static final class Draft {
+        final String name;
+        final List<String> tone = new ArrayList<>();
+        final List<String> banned = new ArrayList<>();
+        final List<String> hashtags = new ArrayList<>();
+
+        Draft(String name) {
+            this.name = name;
+        }
+
+        void add(Section section, String item) {
+            if (item.isEmpty()) {
+                return;
+            }
+            switch (section) {
+                case TONE -> tone.add(item);
+                case BANNED -> banned.add(item);
+                case HASHTAGS -> hashtags.add(item);
+                default -> { }
+            }
+        }
+
+        PersonaProfile build() {
+            return PersonaProfile.of(name, tone, banned, hashtags);
+        }
+    }
+}
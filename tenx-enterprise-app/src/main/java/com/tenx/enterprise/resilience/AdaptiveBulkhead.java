@@ -0,0 +1,114 @@
+package com.tenx.enterprise.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead whose concurrency limit adapts to the skill's observed latency, so one slow
+ * platform cannot soak up an unbounded number of Virtual Threads. Calls beyond the limit
+ * are rejected immediately rather than queued.
+ *
+ * The limit follows a Vegas-style rule: with {@code minRtt} as the no-load latency,
+ * {@code queue = limit × (1 − minRtt / rtt)} estimates how many calls are waiting inside
+ * the skill. Under {@value #ALPHA} queued calls, with the bulkhead at least half busy, the
+ * limit grows by one; over {@value #BETA} it shrinks by one. A failed call cuts it by 10% (AIMD backoff).
+ * {@code minRtt} is re-probed every {@value #PROBE_INTERVAL} samples, so a permanent shift
+ * in latency is not mistaken for queueing forever. All state is updated by CAS.
+ */
+public final class AdaptiveBulkhead {
+
+    static final int ALPHA = 3;
+    static final int BETA = 6;
+    static final int PROBE_INTERVAL = 1000;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong minRtt = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong samples = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveBulkhead(int minLimit, int initialLimit, int maxLimit) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * A fixed-size bulkhead: the limit never moves.
+     */
+    public static AdaptiveBulkhead fixed(int limit) {
+        return new AdaptiveBulkhead(limit, limit, limit);
+    }
+
+    /**
+     * @return true if a slot was taken; it must be returned through {@link #release}
+     */
+    public boolean tryAcquire() {
+        for (int current = inFlight.get(); current < limit.get(); current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Returns a slot and feeds the call's outcome into the limit.
+     *
+     * @param rttNanos how long the call held the slot
+     * @param dropped  true if the call failed or timed out
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int busy = inFlight.getAndDecrement();
+        if (minLimit == maxLimit) {
+            return;
+        }
+        long min = dropped ? 0L : observeRtt(rttNanos);
+        while (true) {
+            int current = limit.get();
+            int next = dropped ? Math.max(minLimit, (int) (current * BACKOFF)) : next(current, busy, rttNanos, min);
+            if (next == current || limit.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private long observeRtt(long rttNanos) {
+        if (samples.incrementAndGet() % PROBE_INTERVAL == 0) {
+            minRtt.set(rttNanos);
+            return rttNanos;
+        }
+        return minRtt.accumulateAndGet(rttNanos, Math::min);
+    }
+
+    private int next(int current, int busy, long rttNanos, long minRttNanos) {
+        double queue = current * (1.0 - (double) minRttNanos / Math.max(1L, rttNanos));
+        if (queue < ALPHA && busy * 2 >= current) {
+            return Math.min(maxLimit, current + 1);
+        }
+        if (queue > BETA) {
+            return Math.max(minLimit, current - 1);
+        }
+        return current;
+    }
+}
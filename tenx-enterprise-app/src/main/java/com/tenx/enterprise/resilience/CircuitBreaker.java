@@ -0,0 +1,152 @@
+package com.tenx.enterprise.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker: CLOSED → OPEN when the failure rate over the recent window
+ * crosses the threshold, OPEN → HALF_OPEN after {@code openDuration}, HALF_OPEN → CLOSED
+ * once every trial call succeeds (or back to OPEN on the first trial failure).
+ *
+ * The window is a single {@code AtomicLong} packing call and failure counts, halved
+ * whenever it fills, so older outcomes fade out without timers. On the success path of a
+ * closed breaker, a call costs one volatile read and one atomic add.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final State[] STATES = State.values();
+    private static final long ONE_CALL = 1L << 32;
+    private static final long FAILURES = 0xFFFF_FFFFL;
+
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger state = new AtomicInteger(State.CLOSED.ordinal());
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger trialPermits = new AtomicInteger();
+    private final AtomicInteger trialSuccesses = new AtomicInteger();
+    private final AtomicLong timesOpened = new AtomicLong();
+    private volatile long openedAt;
+
+    public CircuitBreaker(CircuitBreakerConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock monotonic time source, replaceable in tests
+     */
+    public CircuitBreaker(CircuitBreakerConfig config, LongSupplier nanoClock) {
+        if (config == null || nanoClock == null) {
+            throw new IllegalArgumentException("config and nanoClock are required");
+        }
+        this.config = config;
+        this.slowCallNanos = config.slowCallThreshold().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if the call may proceed; it must then report exactly one of
+     *         {@link #onSuccess}, {@link #onFailure} or {@link #onIgnored}
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            switch (state()) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - openedAt < config.openDuration().toNanos()) {
+                        return false;
+                    }
+                    if (state.compareAndSet(State.OPEN.ordinal(), State.HALF_OPEN.ordinal())) {
+                        trialSuccesses.set(0);
+                        trialPermits.set(config.halfOpenTrials());
+                    }
+                    break;
+                default:
+                    for (int permits = trialPermits.get(); permits > 0; permits = trialPermits.get()) {
+                        if (trialPermits.compareAndSet(permits, permits - 1)) {
+                            return true;
+                        }
+                    }
+                    return false;
+            }
+        }
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        if (state.get() == State.CLOSED.ordinal()) {
+            record(0L);
+        } else if (state.get() == State.HALF_OPEN.ordinal()
+                && trialSuccesses.incrementAndGet() >= config.halfOpenTrials()
+                && state.compareAndSet(State.HALF_OPEN.ordinal(), State.CLOSED.ordinal())) {
+            window.set(0L);
+        }
+    }
+
+    public void onFailure() {
+        if (state.get() == State.CLOSED.ordinal()) {
+            long counts = record(1L);
+            long calls = counts >>> 32;
+            if (calls >= config.minimumCalls() && (counts & FAILURES) >= config.failureRateThreshold() * calls) {
+                open(State.CLOSED);
+            }
+        } else if (state.get() == State.HALF_OPEN.ordinal()) {
+            open(State.HALF_OPEN);
+        }
+    }
+
+    /**
+     * Outcome that says nothing about the skill's health, e.g. a caller error; a trial
+     * permit taken for it is handed back.
+     */
+    public void onIgnored() {
+        if (state.get() == State.HALF_OPEN.ordinal()) {
+            trialPermits.incrementAndGet();
+        }
+    }
+
+    public State state() {
+        return STATES[state.get()];
+    }
+
+    /**
+     * @return false only while the breaker is open and still inside its open duration
+     */
+    public boolean isCallPermitted() {
+        return state.get() != State.OPEN.ordinal()
+                || nanoClock.getAsLong() - openedAt >= config.openDuration().toNanos();
+    }
+
+    public double failureRate() {
+        long counts = window.get();
+        long calls = counts >>> 32;
+        return calls == 0 ? 0.0 : (double) (counts & FAILURES) / calls;
+    }
+
+    public long timesOpened() {
+        return timesOpened.get();
+    }
+
+    private long record(long failure) {
+        long counts = window.addAndGet(ONE_CALL + failure);
+        if (counts >>> 32 >= config.windowCalls()) {
+            window.compareAndSet(counts, ((counts >>> 33) << 32) | ((counts & FAILURES) >>> 1));
+        }
+        return counts;
+    }
+
+    private void open(State from) {
+        openedAt = nanoClock.getAsLong();
+        trialPermits.set(0);
+        if (state.compareAndSet(from.ordinal(), State.OPEN.ordinal())) {
+            timesOpened.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.tenx.enterprise.resilience;
+
+import java.time.Duration;
+
+/**
+ * Tuning for a {@link CircuitBreaker}.
+ *
+ * @param failureRateThreshold fraction of failed (or slow) calls, 0..1, that opens the breaker
+ * @param minimumCalls         calls the window must hold before the rate is trusted
+ * @param windowCalls          window length in calls; when full, its counts are halved
+ * @param slowCallThreshold    a successful call slower than this counts as a failure
+ * @param openDuration         how long an open breaker rejects calls before letting trials through
+ * @param halfOpenTrials       trial calls that must all succeed to close the breaker again
+ */
+public record CircuitBreakerConfig(
+        double failureRateThreshold,
+        int minimumCalls,
+        int windowCalls,
+        Duration slowCallThreshold,
+        Duration openDuration,
+        int halfOpenTrials
+) {
+    public CircuitBreakerConfig {
+        if (!(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        if (minimumCalls < 1 || windowCalls < minimumCalls) {
+            throw new IllegalArgumentException("minimumCalls must be positive and no larger than windowCalls");
+        }
+        if (slowCallThreshold == null || openDuration == null || openDuration.isNegative()) {
+            throw new IllegalArgumentException("slowCallThreshold and a non-negative openDuration are required");
+        }
+        if (halfOpenTrials < 1) {
+            throw new IllegalArgumentException("halfOpenTrials must be at least 1");
+        }
+    }
+
+    public static CircuitBreakerConfig defaults() {
+        return new CircuitBreakerConfig(0.5, 20, 100, Duration.ofSeconds(10), Duration.ofSeconds(30), 3);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tenx.enterprise.resilience;
+
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.exception.SkillRejectedException;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-skill guard: a {@link CircuitBreaker} in front of an {@link AdaptiveBulkhead}.
+ *
+ * <ul>
+ *   <li>An open breaker or a full bulkhead rejects the call with
+ *       {@link SkillRejectedException} before the skill runs.</li>
+ *   <li>Every admitted call's latency and outcome feed both the breaker's failure rate and
+ *       the bulkhead's limit.</li>
+ *   <li>Caller errors ({@link IllegalArgumentException}, {@link BudgetExceededException})
+ *       say nothing about the skill's health and are passed through without counting.</li>
+ * </ul>
+ */
+public final class ResiliencePolicy {
+
+    private static final Predicate<Throwable> CALLER_ERROR =
+            e -> e instanceof IllegalArgumentException || e instanceof BudgetExceededException;
+
+    private final String skillName;
+    private final CircuitBreaker breaker;
+    private final AdaptiveBulkhead bulkhead;
+
+    public ResiliencePolicy(String skillName, CircuitBreaker breaker, AdaptiveBulkhead bulkhead) {
+        if (skillName == null || skillName.isBlank()) {
+            throw new IllegalArgumentException("skillName must not be blank");
+        }
+        if (breaker == null || bulkhead == null) {
+            throw new IllegalArgumentException("breaker and bulkhead are required");
+        }
+        this.skillName = skillName;
+        this.breaker = breaker;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Default breaker settings and a bulkhead adapting between 2 and 256 concurrent calls.
+     */
+    public static ResiliencePolicy defaults(String skillName) {
+        return new ResiliencePolicy(skillName, new CircuitBreaker(CircuitBreakerConfig.defaults()),
+                new AdaptiveBulkhead(2, 16, 256));
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!breaker.tryAcquirePermission()) {
+            throw new SkillRejectedException(skillName, SkillRejectedException.Reason.CIRCUIT_OPEN);
+        }
+        if (!bulkhead.tryAcquire()) {
+            breaker.onIgnored();
+            throw new SkillRejectedException(skillName, SkillRejectedException.Reason.BULKHEAD_FULL);
+        }
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - started;
+            bulkhead.release(elapsed, false);
+            breaker.onSuccess(elapsed);
+            return result;
+        } catch (RuntimeException | Error e) {
+            long elapsed = System.nanoTime() - started;
+            if (CALLER_ERROR.test(e)) {
+                bulkhead.release(elapsed, false);
+                breaker.onIgnored();
+            } else {
+                bulkhead.release(elapsed, true);
+                breaker.onFailure();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Live health for {@code isAvailable()}: false while the breaker is open.
+     */
+    public boolean isHealthy() {
+        return breaker.isCallPermitted();
+    }
+
+    public String skillName() {
+        return skillName;
+    }
+
+    public CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    public AdaptiveBulkhead bulkhead() {
+        return bulkhead;
+    }
+}
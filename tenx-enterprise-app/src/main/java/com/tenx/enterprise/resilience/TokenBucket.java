@@ -0,0 +1,82 @@
+package com.tenx.enterprise.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token-bucket rate limiter: {@code permitsPerSecond} sustained, up to
+ * {@code burst} permits at once after an idle period.
+ *
+ * Implemented as the equivalent generic cell-rate algorithm: the whole bucket state is one
+ * "theoretical arrival time" advanced by CAS, so there is no refill thread and no lock.
+ * A caller that must wait reserves its slot first and then sleeps, which parks a Virtual
+ * Thread rather than blocking a carrier.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock monotonic time source, replaceable in tests
+     */
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (!(permitsPerSecond > 0.0) || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        if (nanoClock == null) {
+            throw new IllegalArgumentException("nanoClock is required");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes a permit only if one is available right now.
+     */
+    public boolean tryAcquire() {
+        return reserve(0L) == 0L;
+    }
+
+    /**
+     * Takes a permit, waiting up to {@code timeout} for one.
+     *
+     * @return false, without consuming anything, if no permit frees up within the timeout
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long wait = reserve(unit.toNanos(timeout));
+        if (wait < 0L) {
+            return false;
+        }
+        if (wait > 0L) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return true;
+    }
+
+    /**
+     * @return nanos to wait before the reserved permit may be used, or -1 if that would exceed {@code maxWait}
+     */
+    private long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long start = arrival == Long.MIN_VALUE ? now : Math.max(arrival, now);
+            long wait = Math.max(0L, start - toleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                return -1L;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return wait;
+            }
+        }
+    }
+}
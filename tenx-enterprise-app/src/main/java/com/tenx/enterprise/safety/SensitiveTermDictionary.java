@@ -0,0 +1,84 @@
+package com.tenx.enterprise.safety;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hot-reloadable holder for the compiled sensitive-term automaton.
+ *
+ * Readers call {@link #current()} — a single volatile read — and keep using that
+ * snapshot for the rest of their scan. A reload compiles a new matcher off to the side
+ * and swaps it in atomically; scans already in progress finish on the old one.
+ */
+public class SensitiveTermDictionary {
+
+    public static final String DEFAULT_RESOURCE = "/sensitive-terms.txt";
+
+    private final AtomicReference<SensitiveTopicMatcher> matcher;
+    private volatile FileTime lastLoaded;
+
+    public SensitiveTermDictionary(Collection<String> terms) {
+        this.matcher = new AtomicReference<>(SensitiveTopicMatcher.compile(terms));
+    }
+
+    /**
+     * Dictionary seeded from the bundled {@value #DEFAULT_RESOURCE} term list.
+     */
+    public static SensitiveTermDictionary withDefaults() {
+        try (InputStream in = SensitiveTermDictionary.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("missing classpath resource " + DEFAULT_RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return new SensitiveTermDictionary(parse(reader.lines().toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public SensitiveTopicMatcher current() {
+        return matcher.get();
+    }
+
+    public void reload(Collection<String> terms) {
+        matcher.set(SensitiveTopicMatcher.compile(terms));
+    }
+
+    /**
+     * Recompiles from the file if it changed since the last load through this method.
+     * Cheap enough to call from a periodic timer.
+     *
+     * @return true if a new term list was swapped in
+     */
+    public boolean reloadIfChanged(Path termFile) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(termFile);
+        if (modified.equals(lastLoaded)) {
+            return false;
+        }
+        reload(parse(Files.readAllLines(termFile, StandardCharsets.UTF_8)));
+        lastLoaded = modified;
+        return true;
+    }
+
+    private static List<String> parse(List<String> lines) {
+        List<String> terms = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                terms.add(trimmed);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,225 @@
+package com.tenx.enterprise.safety;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Precompiled multi-pattern matcher (Aho-Corasick) for sensitive-topic terms.
+ * Contract: specs/functional.md → US-EN-002, US-HITL-004
+ *
+ * The term list is compiled once into a dense DFA over the alphabet of characters that
+ * actually occur in the terms; every other character maps to a shared "reset" symbol.
+ * A scan reads each character of the text exactly once, case-insensitively, and does
+ * not allocate — matches are reported through a primitive callback. Instances are
+ * immutable and safe to share between threads; see SensitiveTermDictionary for reload.
+ *
+ * With whole-word matching (the default) a term only matches when it is not embedded in
+ * a longer word, so "war" does not fire on "software".
+ */
+public final class SensitiveTopicMatcher {
+
+    /**
+     * Receives matches during a scan. Return {@code false} to stop scanning.
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        boolean onMatch(int termIndex, int start, int end);
+    }
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] terms;
+    private final int[] termLength;
+    private final char[] symbolOf;
+    private final int alphabetSize;
+    private final int[] delta;
+    private final int[] output;
+    private final int[] dictionaryLink;
+    private final boolean wholeWords;
+
+    private SensitiveTopicMatcher(String[] terms, char[] symbolOf, int alphabetSize, int[] delta,
+                                  int[] output, int[] dictionaryLink, boolean wholeWords) {
+        this.terms = terms;
+        this.termLength = Arrays.stream(terms).mapToInt(String::length).toArray();
+        this.symbolOf = symbolOf;
+        this.alphabetSize = alphabetSize;
+        this.delta = delta;
+        this.output = output;
+        this.dictionaryLink = dictionaryLink;
+        this.wholeWords = wholeWords;
+    }
+
+    public static SensitiveTopicMatcher compile(Collection<String> rawTerms) {
+        return compile(rawTerms, true);
+    }
+
+    /**
+     * Compiles the terms. Terms are trimmed and lower-cased; blanks and duplicates are dropped.
+     */
+    public static SensitiveTopicMatcher compile(Collection<String> rawTerms, boolean wholeWords) {
+        if (rawTerms == null) {
+            throw new IllegalArgumentException("terms must not be null");
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String raw : rawTerms) {
+            if (raw != null && !raw.isBlank()) {
+                unique.add(raw.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        String[] terms = unique.toArray(String[]::new);
+
+        char[] symbolOf = new char[Character.MAX_VALUE + 1];
+        int alphabetSize = 1;
+        for (String term : terms) {
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                if (symbolOf[c] == 0) {
+                    symbolOf[c] = (char) alphabetSize++;
+                }
+            }
+        }
+
+        // Trie: NONE marks a missing edge until the BFS below turns it into a DFA move.
+        int capacity = 1 + Arrays.stream(terms).mapToInt(String::length).sum();
+        int[] delta = new int[capacity * alphabetSize];
+        Arrays.fill(delta, NONE);
+        int[] output = new int[capacity];
+        Arrays.fill(output, NONE);
+        int states = 1;
+        for (int t = 0; t < terms.length; t++) {
+            int state = ROOT;
+            String term = terms[t];
+            for (int i = 0; i < term.length(); i++) {
+                int slot = state * alphabetSize + symbolOf[term.charAt(i)];
+                if (delta[slot] == NONE) {
+                    delta[slot] = states++;
+                }
+                state = delta[slot];
+            }
+            output[state] = t;
+        }
+
+        int[] fail = new int[states];
+        int[] dictionaryLink = new int[states];
+        Arrays.fill(dictionaryLink, NONE);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int a = 0; a < alphabetSize; a++) {
+            int child = delta[a];
+            if (child == NONE) {
+                delta[a] = ROOT;
+            } else {
+                fail[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int failState = fail[state];
+            dictionaryLink[state] = output[failState] != NONE ? failState : dictionaryLink[failState];
+            for (int a = 0; a < alphabetSize; a++) {
+                int slot = state * alphabetSize + a;
+                int child = delta[slot];
+                int fallback = delta[failState * alphabetSize + a];
+                if (child == NONE) {
+                    delta[slot] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new SensitiveTopicMatcher(terms, symbolOf, alphabetSize,
+                Arrays.copyOf(delta, states * alphabetSize), Arrays.copyOf(output, states),
+                dictionaryLink, wholeWords);
+    }
+
+    /**
+     * Scans the text once and reports every match in order of its end position.
+     *
+     * @return the number of matches reported
+     */
+    public int scan(CharSequence text, MatchHandler handler) {
+        if (text == null || terms.length == 0) {
+            return 0;
+        }
+        int count = 0;
+        int state = ROOT;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = delta[state * alphabetSize + symbolOf[Character.toLowerCase(text.charAt(i))]];
+            int hit = output[state] != NONE ? state : dictionaryLink[state];
+            while (hit != NONE) {
+                int term = output[hit];
+                int start = i - termLength[term] + 1;
+                if (!wholeWords || isWordBoundary(text, start, i + 1)) {
+                    count++;
+                    if (!handler.onMatch(term, start, i + 1)) {
+                        return count;
+                    }
+                }
+                hit = dictionaryLink[hit];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Index of the first term that matches, by end position, or -1.
+     */
+    public int firstMatch(CharSequence text) {
+        if (text == null || terms.length == 0) {
+            return NONE;
+        }
+        int state = ROOT;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = delta[state * alphabetSize + symbolOf[Character.toLowerCase(text.charAt(i))]];
+            for (int hit = output[state] != NONE ? state : dictionaryLink[state]; hit != NONE;
+                 hit = dictionaryLink[hit]) {
+                int term = output[hit];
+                if (!wholeWords || isWordBoundary(text, i - termLength[term] + 1, i + 1)) {
+                    return term;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    public boolean matches(CharSequence text) {
+        return firstMatch(text) != NONE;
+    }
+
+    /**
+     * All distinct terms that occur in the text, in order of first occurrence.
+     */
+    public List<String> findAll(CharSequence text) {
+        Set<String> found = new LinkedHashSet<>();
+        scan(text, (term, start, end) -> {
+            found.add(terms[term]);
+            return true;
+        });
+        return new ArrayList<>(found);
+    }
+
+    public String term(int termIndex) {
+        return terms[termIndex];
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    private static boolean isWordBoundary(CharSequence text, int start, int end) {
+        boolean leftClear = start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+        boolean rightClear = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+        return leftClear && rightClear;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tenx.enterprise.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A campaign's weighted fair share: its virtual time advances by {@code COST / weight} per
+ * dispatched task, and the campaign furthest behind is served next.
+ */
+final class CampaignShare {
+
+    static final long COST = 1L << 20;
+
+    private final AtomicLong virtualTime = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile int weight;
+
+    CampaignShare(int weight) {
+        this.weight = weight;
+    }
+
+    long virtualTime() {
+        return virtualTime.get();
+    }
+
+    void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * A campaign that was idle resumes at the scheduler's current virtual time, so it cannot
+     * bank credit while idle and then monopolise the workers.
+     */
+    void enqueued(long systemVirtualTime) {
+        if (queued.getAndIncrement() == 0) {
+            virtualTime.accumulateAndGet(systemVirtualTime, Math::max);
+        }
+    }
+
+    /** True if nothing is queued and the share is not ahead of {@code systemVirtualTime}. */
+    boolean idle(long systemVirtualTime) {
+        return queued.get() == 0 && virtualTime.get() <= systemVirtualTime;
+    }
+
+    /** @return the virtual time at which this task started service */
+    long dispatched() {
+        queued.decrementAndGet();
+        return virtualTime.getAndAdd(COST / weight);
+    }
+}
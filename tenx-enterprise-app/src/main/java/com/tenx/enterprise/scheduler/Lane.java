@@ -0,0 +1,114 @@
+package com.tenx.enterprise.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * One per-core run queue: per priority class, one earliest-deadline queue per campaign.
+ * A volatile summary of its most urgent work lets other dispatchers decide whether to
+ * steal without taking the lock.
+ */
+final class Lane {
+
+    static final int EMPTY = Integer.MAX_VALUE;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Map<String, PriorityQueue<ScheduledTask>>> classes;
+    private final Function<String, CampaignShare> shares;
+    private volatile int topClass = EMPTY;
+    private volatile long topVirtualTime = Long.MAX_VALUE;
+    private volatile int size;
+
+    Lane(int priorityClasses, Function<String, CampaignShare> shares) {
+        this.classes = new ArrayList<>(priorityClasses);
+        for (int i = 0; i < priorityClasses; i++) {
+            classes.add(new HashMap<>());
+        }
+        this.shares = shares;
+    }
+
+    void offer(ScheduledTask task) {
+        lock.lock();
+        try {
+            classes.get(task.priorityClass())
+                    .computeIfAbsent(task.task().campaignId(),
+                            c -> new PriorityQueue<>(ScheduledTask.EARLIEST_DEADLINE))
+                    .add(task);
+            size++;
+            summarise();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Most urgent class, then the campaign furthest behind its fair share, then earliest deadline.
+     *
+     * @return the task, or null if the lane is empty
+     */
+    ScheduledTask poll() {
+        lock.lock();
+        try {
+            for (Map<String, PriorityQueue<ScheduledTask>> byCampaign : classes) {
+                String campaign = furthestBehind(byCampaign);
+                if (campaign != null) {
+                    PriorityQueue<ScheduledTask> queue = byCampaign.get(campaign);
+                    ScheduledTask task = queue.poll();
+                    if (queue.isEmpty()) {
+                        byCampaign.remove(campaign);
+                    }
+                    size--;
+                    summarise();
+                    return task;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int topClass() {
+        return topClass;
+    }
+
+    long topVirtualTime() {
+        return topVirtualTime;
+    }
+
+    private void summarise() {
+        for (int i = 0; i < classes.size(); i++) {
+            String campaign = furthestBehind(classes.get(i));
+            if (campaign != null) {
+                topClass = i;
+                topVirtualTime = shares.apply(campaign).virtualTime();
+                return;
+            }
+        }
+        topClass = EMPTY;
+        topVirtualTime = Long.MAX_VALUE;
+    }
+
+    /** Linear in the campaigns queued in this class, which stays small per lane. */
+    private String furthestBehind(Map<String, PriorityQueue<ScheduledTask>> byCampaign) {
+        String best = null;
+        long bestTime = Long.MAX_VALUE;
+        for (String campaign : byCampaign.keySet()) {
+            long time = shares.apply(campaign).virtualTime();
+            if (best == null || time < bestTime) {
+                best = campaign;
+                bestTime = time;
+            }
+        }
+        return best;
+    }
+}
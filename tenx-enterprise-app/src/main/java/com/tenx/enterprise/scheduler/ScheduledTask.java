@@ -0,0 +1,21 @@
+package com.tenx.enterprise.scheduler;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+
+/** A queued task: earliest deadline first, then submission order. */
+record ScheduledTask(
+        TaskEnvelope task,
+        int priorityClass,
+        long deadlineNanos,
+        long sequence,
+        long enqueuedNanos,
+        CompletableFuture<ContentArtifact> result
+) {
+    static final Comparator<ScheduledTask> EARLIEST_DEADLINE = Comparator
+            .comparingLong(ScheduledTask::deadlineNanos)
+            .thenComparingLong(ScheduledTask::sequence);
+}
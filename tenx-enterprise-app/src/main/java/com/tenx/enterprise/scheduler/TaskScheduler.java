@@ -0,0 +1,323 @@
+package com.tenx.enterprise.scheduler;
+
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.metrics.HistogramSnapshot;
+import com.tenx.enterprise.metrics.LatencyHistogram;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Priority- and deadline-aware scheduler that feeds TaskEnvelopes to a Worker on Virtual
+ * Threads, at most {@code maxConcurrentTasks} at a time.
+ *
+ * <ul>
+ *   <li>Tasks are ordered by priority class ({@link #priorityClass}: FINANCIAL_CHECK, then
+ *       ENGAGEMENT, TREND_RESEARCH, CONTENT_GENERATION), then by weighted fair share across
+ *       campaigns — a campaign's priority is its weight — then earliest deadline.</li>
+ *   <li>Each lane (one per core by default) has its own queue and dispatcher; a campaign's
+ *       tasks always land on the same lane. A dispatcher takes from its own lane unless
+ *       another lane holds a more urgent class or a campaign further behind its share, in
+ *       which case it steals from that lane.</li>
+ *   <li>Ordering is exact within a lane and approximate across lanes, where it relies on
+ *       each lane's lock-free summary of its most urgent work.</li>
+ *   <li>Time from submit to dispatch is recorded per TaskType, as {@code queue_wait.<TYPE>}
+ *       in the given MetricsRegistry.</li>
+ *   <li>A campaign's fair-share state is dropped once it has nothing queued and no virtual
+ *       time ahead of the scheduler's, and whenever the scheduler drains completely, so
+ *       campaigns that come and go do not accumulate. Priorities set with
+ *       {@link #setCampaignPriority} are kept.</li>
+ * </ul>
+ */
+public class TaskScheduler implements AutoCloseable {
+
+    public static final int DEFAULT_PRIORITY = 1;
+
+    private static final int PRIORITY_CLASSES = 4;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final Duration HORIZON = Duration.ofDays(365);
+    private static final int MIN_SWEEP_INTERVAL = 1024;
+
+    private final Worker worker;
+    private final Lane[] lanes;
+    private final Thread[] dispatchers;
+    private final Semaphore queued = new Semaphore(0);
+    private final Semaphore permits;
+    private final Map<String, CampaignShare> shares = new ConcurrentHashMap<>();
+    private final Map<String, Integer> weights = new ConcurrentHashMap<>();
+    private final AtomicInteger dispatchedSinceSweep = new AtomicInteger();
+    private final AtomicLong systemVirtualTime = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<TaskType, LatencyHistogram> queueWait = new EnumMap<>(TaskType.class);
+    private final LongAdder stolen = new LongAdder();
+    private final LongAdder missedDeadlines = new LongAdder();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition idle = idleLock.newCondition();
+    private volatile boolean closed;
+
+    public TaskScheduler(Worker worker, int maxConcurrentTasks) {
+        this(worker, maxConcurrentTasks, Runtime.getRuntime().availableProcessors(), new MetricsRegistry());
+    }
+
+    /**
+     * @param lanes    number of per-core queues and dispatchers
+     * @param registry where queue-wait histograms are recorded
+     */
+    public TaskScheduler(Worker worker, int maxConcurrentTasks, int lanes, MetricsRegistry registry) {
+        if (worker == null || registry == null) {
+            throw new IllegalArgumentException("worker and registry are required");
+        }
+        if (maxConcurrentTasks < 1 || lanes < 1) {
+            throw new IllegalArgumentException("maxConcurrentTasks and lanes must be positive");
+        }
+        this.worker = worker;
+        this.permits = new Semaphore(maxConcurrentTasks);
+        for (TaskType type : TaskType.values()) {
+            queueWait.put(type, registry.histogram("queue_wait." + type));
+        }
+        this.lanes = new Lane[lanes];
+        this.dispatchers = new Thread[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane(PRIORITY_CLASSES, this::share);
+        }
+        for (int i = 0; i < lanes; i++) {
+            int lane = i;
+            dispatchers[i] = Thread.ofVirtual().name("tenx-scheduler-" + i).start(() -> dispatch(lane));
+        }
+    }
+
+    /**
+     * Lower is more urgent: replies and money checks must not wait behind content generation.
+     */
+    public static int priorityClass(TaskType type) {
+        return switch (type) {
+            case FINANCIAL_CHECK -> 0;
+            case ENGAGEMENT -> 1;
+            case TREND_RESEARCH -> 2;
+            case CONTENT_GENERATION -> 3;
+        };
+    }
+
+    /**
+     * Sets a campaign's share of the workers relative to other campaigns (default 1).
+     */
+    public void setCampaignPriority(String campaignId, int priority) {
+        if (priority < 1) {
+            throw new IllegalArgumentException("priority must be positive");
+        }
+        weights.put(campaignId, priority);
+        shares.computeIfPresent(campaignId, (id, share) -> {
+            share.setWeight(priority);
+            return share;
+        });
+    }
+
+    public CompletableFuture<ContentArtifact> submit(TaskEnvelope task) {
+        return submit(task, null);
+    }
+
+    /**
+     * @param deadline when the task should have started; null for none. Late tasks still run,
+     *                 and are counted in {@link #missedDeadlines}.
+     */
+    public CompletableFuture<ContentArtifact> submit(TaskEnvelope task, Instant deadline) {
+        if (task == null || task.type() == null || task.campaignId() == null) {
+            throw new IllegalArgumentException("task with a type and campaignId is required");
+        }
+        // Counted before the closed check: close() sets the flag before it reads the count,
+        // so either this submit sees the flag or close() waits for this task.
+        outstanding.incrementAndGet();
+        if (closed) {
+            finished();
+            throw new RejectedExecutionException("scheduler is closed");
+        }
+        long now = System.nanoTime();
+        long deadlineNanos = deadline == null ? NO_DEADLINE : now + untilNanos(deadline);
+        ScheduledTask scheduled = new ScheduledTask(task, priorityClass(task.type()), deadlineNanos,
+                sequence.getAndIncrement(), now, new CompletableFuture<>());
+        // Under the map entry's lock, so a sweep never drops a share that is gaining a task.
+        shares.compute(task.campaignId(), (id, share) -> {
+            CampaignShare current = share == null ? newShare(id) : share;
+            current.enqueued(systemVirtualTime.get());
+            return current;
+        });
+        lanes[Math.floorMod(task.campaignId().hashCode(), lanes.length)].offer(scheduled);
+        queued.release();
+        return scheduled.result();
+    }
+
+    public List<CompletableFuture<ContentArtifact>> submitAll(List<TaskEnvelope> tasks, Instant deadline) {
+        List<CompletableFuture<ContentArtifact>> results = new ArrayList<>(tasks.size());
+        for (TaskEnvelope task : tasks) {
+            results.add(submit(task, deadline));
+        }
+        return results;
+    }
+
+    public HistogramSnapshot queueWait(TaskType type) {
+        return queueWait.get(type).snapshot();
+    }
+
+    public int queuedTasks() {
+        return queued.availablePermits();
+    }
+
+    /** Tasks a dispatcher took from another lane's queue. */
+    public long stolenTasks() {
+        return stolen.sum();
+    }
+
+    public long missedDeadlines() {
+        return missedDeadlines.sum();
+    }
+
+    /** Campaigns whose fair-share state is currently held. */
+    public int trackedCampaigns() {
+        return shares.size();
+    }
+
+    /**
+     * Stops accepting tasks and waits for every queued and running task to finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        idleLock.lock();
+        try {
+            while (outstanding.get() > 0) {
+                idle.awaitUninterruptibly();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /** Deadlines beyond a year either way are clamped, keeping nanoTime arithmetic in range. */
+    private static long untilNanos(Instant deadline) {
+        Duration until = Duration.between(Instant.now(), deadline);
+        if (until.compareTo(HORIZON) > 0) {
+            return HORIZON.toNanos();
+        }
+        return until.compareTo(HORIZON.negated()) < 0 ? -HORIZON.toNanos() : until.toNanos();
+    }
+
+    private CampaignShare share(String campaignId) {
+        return shares.computeIfAbsent(campaignId, this::newShare);
+    }
+
+    private CampaignShare newShare(String campaignId) {
+        return new CampaignShare(weights.getOrDefault(campaignId, DEFAULT_PRIORITY));
+    }
+
+    /**
+     * Drops shares with nothing queued whose virtual time is at most {@code horizon}. Such a
+     * campaign would resume at the system virtual time anyway, so forgetting it loses nothing.
+     */
+    private void evictIdleShares(long horizon) {
+        for (String campaignId : shares.keySet()) {
+            shares.computeIfPresent(campaignId, (id, share) -> share.idle(horizon) ? null : share);
+        }
+    }
+
+    private void dispatch(int home) {
+        try {
+            while (true) {
+                queued.acquire();
+                permits.acquire();
+                ScheduledTask next = null;
+                while (next == null) {
+                    int lane = choose(home);
+                    next = lanes[lane].poll();
+                    if (next != null && lane != home) {
+                        stolen.increment();
+                    }
+                }
+                start(next);
+            }
+        } catch (InterruptedException e) {
+            // Closed.
+        }
+    }
+
+    /**
+     * Home lane unless another lane's most urgent work is strictly more urgent.
+     */
+    private int choose(int home) {
+        int best = home;
+        for (int i = 0; i < lanes.length; i++) {
+            Lane lane = lanes[i];
+            Lane current = lanes[best];
+            if (lane.topClass() == Lane.EMPTY) {
+                continue;
+            }
+            if (current.topClass() == Lane.EMPTY || lane.topClass() < current.topClass()
+                    || (lane.topClass() == current.topClass() && lane.topVirtualTime() < current.topVirtualTime())) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private void start(ScheduledTask scheduled) {
+        long now = System.nanoTime();
+        TaskEnvelope task = scheduled.task();
+        queueWait.get(task.type()).record(now - scheduled.enqueuedNanos());
+        if (now > scheduled.deadlineNanos()) {
+            missedDeadlines.increment();
+        }
+        long startTag = share(task.campaignId()).dispatched();
+        long systemTime = systemVirtualTime.accumulateAndGet(startTag, Math::max);
+        // Sweeping once per tracked campaign's worth of dispatches keeps the cost amortised O(1).
+        if (dispatchedSinceSweep.incrementAndGet() >= Math.max(MIN_SWEEP_INTERVAL, shares.size())) {
+            dispatchedSinceSweep.set(0);
+            evictIdleShares(systemTime);
+        }
+        Thread.ofVirtual().start(() -> {
+            try {
+                scheduled.result().complete(worker.execute(task));
+            } catch (Throwable t) {
+                scheduled.result().completeExceptionally(t);
+            } finally {
+                permits.release();
+                finished();
+            }
+        });
+    }
+
+    private void finished() {
+        if (outstanding.decrementAndGet() != 0) {
+            return;
+        }
+        // Nothing is waiting, so no campaign is owed anything: every share can start over.
+        evictIdleShares(Long.MAX_VALUE);
+        if (closed) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tenx.enterprise.skill;
 
 import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TaskType;
 import com.tenx.enterprise.dto.TrendData;
 import com.tenx.enterprise.exception.BudgetExceededException;
 
@@ -8,7 +9,9 @@ import com.tenx.enterprise.exception.BudgetExceededException;
  * Skill interface for generating social media content from trend data.
  * Contract: specs/technical.md → ContentGeneratorSkill
  */
-public interface ContentGeneratorSkill {
+public interface ContentGeneratorSkill extends Skill {
+
+    String NAME = "skill_generate_content";
 
     /**
      * Generates content based on a trend, persona strategy, and budget constraint.
@@ -22,4 +25,20 @@ public interface ContentGeneratorSkill {
      */
     ContentPayload generateContent(TrendData trend, String persona, double budget)
             throws BudgetExceededException;
-}
\ No newline at end of file
+
+    @Override
+    default String name() {
+        return NAME;
+    }
+
+    /** Generators are assumed reachable; decorators that can trip should override. */
+    @Override
+    default boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    default boolean supports(TaskType taskType) {
+        return taskType == TaskType.CONTENT_GENERATION;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tenx.enterprise.skill;
+
+import com.tenx.enterprise.dto.Comment;
+import com.tenx.enterprise.dto.EngagementReply;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.BudgetExceededException;
+
+import java.util.List;
+
+/**
+ * Skill interface for replying to audience comments in a persona's voice.
+ * Contract: specs/functional.md → US-EN-001
+ *
+ * Replies are generated a batch at a time: one call answers every comment in the list,
+ * so an LLM-backed implementation can share one prompt — and one persona context — across
+ * the batch instead of paying per comment.
+ */
+public interface EngagementSkill extends Skill {
+
+    String NAME = "skill_engage";
+
+    /**
+     * @param persona  the influencer persona replying (e.g., "techGuru")
+     * @param comments the comments to answer; not empty
+     * @param budget   maximum allowed spend in USD for the whole batch
+     * @return one reply per comment, in the same order
+     * @throws BudgetExceededException if the batch would cost more than {@code budget}
+     * @throws IllegalArgumentException if any parameter is null or invalid
+     */
+    List<EngagementReply> generateReplies(String persona, List<Comment> comments, double budget)
+            throws BudgetExceededException;
+
+    @Override
+    default String name() {
+        return NAME;
+    }
+
+    @Override
+    default boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    default boolean supports(TaskType taskType) {
+        return taskType == TaskType.ENGAGEMENT;
+    }
+}
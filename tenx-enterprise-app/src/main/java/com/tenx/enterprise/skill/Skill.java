@@ -0,0 +1,16 @@
+package com.tenx.enterprise.skill;
+
+import com.tenx.enterprise.dto.TaskType;
+
+/**
+ * What every skill exposes to the runtime, independent of its capability contract.
+ * Used by {@link SkillRegistry} to route tasks.
+ */
+public interface Skill {
+
+    String name();
+
+    boolean isAvailable();
+
+    boolean supports(TaskType taskType);
+}
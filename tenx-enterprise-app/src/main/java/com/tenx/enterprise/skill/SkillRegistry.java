@@ -0,0 +1,259 @@
+package com.tenx.enterprise.skill;
+
+import com.tenx.enterprise.dto.TaskType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Routes a {@link TaskType} to the skill that should handle it without asking every
+ * registered skill whether it {@code supports} the task.
+ *
+ * <ul>
+ *   <li>Lookups read one volatile snapshot: an EnumMap from task type to that type's
+ *       skills, best rank first. Every change builds a new snapshot and publishes it in a
+ *       single write, so a lookup takes no lock and never sees a half-applied change.</li>
+ *   <li>Skills registered as factories are created by the first lookup that reaches them,
+ *       so a skill no task needs adds nothing to startup.</li>
+ *   <li>{@link #swap} replaces a skill's implementation in place; callers already holding
+ *       the old instance finish with it.</li>
+ *   <li>{@link #canary} sends a weighted share of a skill's lookups to a candidate
+ *       implementation until it is {@linkplain #promote promoted} or
+ *       {@linkplain #rollback rolled back}.</li>
+ * </ul>
+ *
+ * A lookup returns the best-ranked skill that is available; equal ranks keep registration
+ * order. A canary that is unavailable falls back to the implementation it is trialled against.
+ *
+ * @param <S> the skill contract this registry dispatches, e.g. {@link TrendFetcherSkill}
+ */
+public final class SkillRegistry<S extends Skill> {
+
+    private static final Comparator<Slot<?>> BY_RANK =
+            Comparator.<Slot<?>>comparingInt(Slot::rank).reversed().thenComparingLong(Slot::order);
+
+    private final Object writeLock = new Object();
+    private volatile Table<S> table = new Table<>(Map.of(), rebuild(Map.of()));
+    private long registrations;
+
+    /**
+     * Registers an already-built skill under its {@link Skill#name()}, for every task type it supports.
+     */
+    public void register(S skill, int rank) {
+        if (skill == null) {
+            throw new IllegalArgumentException("skill is required");
+        }
+        Set<TaskType> types = EnumSet.noneOf(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            if (skill.supports(type)) {
+                types.add(type);
+            }
+        }
+        add(skill.name(), rank, types, Lazy.of(skill));
+    }
+
+    /**
+     * Registers a skill that is only created when a lookup first needs it. The task types
+     * are declared up front because the skill cannot be asked before it exists.
+     */
+    public void register(String name, int rank, Set<TaskType> taskTypes, Supplier<? extends S> factory) {
+        if (taskTypes == null || taskTypes.isEmpty() || factory == null) {
+            throw new IllegalArgumentException("taskTypes and factory are required");
+        }
+        add(name, rank, EnumSet.copyOf(taskTypes), new Lazy<>(name, factory));
+    }
+
+    public boolean unregister(String name) {
+        synchronized (writeLock) {
+            Map<String, Slot<S>> slots = new HashMap<>(table.slots());
+            if (slots.remove(name) == null) {
+                return false;
+            }
+            publish(slots);
+            return true;
+        }
+    }
+
+    /** Atomically replaces the implementation behind {@code name}, keeping its rank and task types. */
+    public void swap(String name, S replacement) {
+        if (replacement == null) {
+            throw new IllegalArgumentException("replacement is required");
+        }
+        update(name, slot -> slot.withPrimary(Lazy.of(replacement)));
+    }
+
+    /**
+     * Routes {@code weight} (0..1) of the lookups that land on {@code name} to {@code candidate}.
+     * Calling it again replaces the candidate or adjusts its weight.
+     */
+    public void canary(String name, S candidate, double weight) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("candidate is required");
+        }
+        if (!(weight >= 0.0 && weight <= 1.0)) {
+            throw new IllegalArgumentException("weight must be between 0.0 and 1.0");
+        }
+        update(name, slot -> slot.withCandidate(Lazy.of(candidate), weight));
+    }
+
+    /** Makes the canary the implementation for all lookups. */
+    public void promote(String name) {
+        update(name, slot -> {
+            if (slot.candidate() == null) {
+                throw new IllegalStateException("skill " + name + " has no canary to promote");
+            }
+            return slot.withPrimary(slot.candidate()).withCandidate(null, 0.0);
+        });
+    }
+
+    /** Drops the canary; all lookups go back to the current implementation. */
+    public void rollback(String name) {
+        update(name, slot -> slot.withCandidate(null, 0.0));
+    }
+
+    /** The skill to run a task of this type on, or empty if none is registered and available. */
+    public Optional<S> lookup(TaskType type) {
+        List<Slot<S>> ranked = table.byType().get(type);
+        for (int i = 0; i < ranked.size(); i++) {
+            S skill = ranked.get(i).route();
+            if (skill != null) {
+                return Optional.of(skill);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Names registered for the type, in dispatch order, whether or not they are available. */
+    public List<String> names(TaskType type) {
+        return table.byType().get(type).stream().map(Slot::name).toList();
+    }
+
+    /** Whether the current implementation behind {@code name} has been created yet. */
+    public boolean isLoaded(String name) {
+        Slot<S> slot = table.slots().get(name);
+        return slot != null && slot.primary().isLoaded();
+    }
+
+    private void add(String name, int rank, Set<TaskType> types, Lazy<S> implementation) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+        synchronized (writeLock) {
+            if (table.slots().containsKey(name)) {
+                throw new IllegalArgumentException("skill " + name + " is already registered");
+            }
+            Map<String, Slot<S>> slots = new HashMap<>(table.slots());
+            slots.put(name, new Slot<>(name, rank, registrations++, Set.copyOf(types), implementation, null, 0.0));
+            publish(slots);
+        }
+    }
+
+    private void update(String name, UnaryOperator<Slot<S>> change) {
+        synchronized (writeLock) {
+            Slot<S> slot = table.slots().get(name);
+            if (slot == null) {
+                throw new IllegalArgumentException("no skill registered as " + name);
+            }
+            Map<String, Slot<S>> slots = new HashMap<>(table.slots());
+            slots.put(name, change.apply(slot));
+            publish(slots);
+        }
+    }
+
+    private void publish(Map<String, Slot<S>> slots) {
+        table = new Table<>(Map.copyOf(slots), rebuild(slots));
+    }
+
+    private static <S extends Skill> Map<TaskType, List<Slot<S>>> rebuild(Map<String, Slot<S>> slots) {
+        Map<TaskType, List<Slot<S>>> byType = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            List<Slot<S>> ranked = new ArrayList<>();
+            for (Slot<S> slot : slots.values()) {
+                if (slot.taskTypes().contains(type)) {
+                    ranked.add(slot);
+                }
+            }
+            ranked.sort(BY_RANK);
+            byType.put(type, List.copyOf(ranked));
+        }
+        return byType;
+    }
+
+    /** One published state of the registry; never modified after construction. */
+    private record Table<S extends Skill>(Map<String, Slot<S>> slots, Map<TaskType, List<Slot<S>>> byType) {}
+
+    /** A named skill: its current implementation and, while trialled, a canary. */
+    private record Slot<S extends Skill>(String name, int rank, long order, Set<TaskType> taskTypes,
+                                         Lazy<S> primary, Lazy<S> candidate, double canaryWeight) {
+
+        Slot<S> withPrimary(Lazy<S> implementation) {
+            return new Slot<>(name, rank, order, taskTypes, implementation, candidate, canaryWeight);
+        }
+
+        Slot<S> withCandidate(Lazy<S> implementation, double weight) {
+            return new Slot<>(name, rank, order, taskTypes, primary, implementation, weight);
+        }
+
+        /** @return the implementation to use, or null if neither it nor its fallback is available */
+        S route() {
+            if (candidate != null && ThreadLocalRandom.current().nextDouble() < canaryWeight) {
+                S trial = candidate.get();
+                if (trial.isAvailable()) {
+                    return trial;
+                }
+            }
+            S current = primary.get();
+            return current.isAvailable() ? current : null;
+        }
+    }
+
+    /** Creates its skill once, on first use; already-built skills are wrapped as loaded. */
+    private static final class Lazy<S> {
+        private final String name;
+        private Supplier<? extends S> factory;
+        private volatile S instance;
+
+        Lazy(String name, Supplier<? extends S> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        static <S extends Skill> Lazy<S> of(S skill) {
+            Lazy<S> loaded = new Lazy<>(skill.name(), null);
+            loaded.instance = skill;
+            return loaded;
+        }
+
+        S get() {
+            S skill = instance;
+            if (skill != null) {
+                return skill;
+            }
+            synchronized (this) {
+                if (instance == null) {
+                    S created = factory.get();
+                    if (created == null) {
+                        throw new IllegalStateException("factory for skill " + name + " returned null");
+                    }
+                    instance = created;
+                    factory = null;
+                }
+                return instance;
+            }
+        }
+
+        boolean isLoaded() {
+            return instance != null;
+        }
+    }
+}
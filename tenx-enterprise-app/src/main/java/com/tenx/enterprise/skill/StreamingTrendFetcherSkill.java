@@ -0,0 +1,19 @@
+package com.tenx.enterprise.skill;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Push-style variant of the trend skill.
+ * See: skills/skill_fetch_trends/README.md → Streaming Feed
+ */
+public interface StreamingTrendFetcherSkill extends TrendFetcherSkill {
+
+    /**
+     * A fresh stream per call: every trend once as it first appears, then one update per
+     * change, under the same trendId with its version bumped. Delivery honours subscriber
+     * demand; the stream ends when the subscriber cancels.
+     */
+    Flow.Publisher<TrendData> streamTrends(String platform, String region);
+}
@@ -0,0 +1,65 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.budget.BudgetLedger;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+
+/**
+ * Decorator that enforces budget before the wrapped generator is called.
+ * Contract: specs/functional.md → US-FG-002
+ *
+ * The estimated cost is checked against the per-call {@code budget} argument and then
+ * reserved on the campaign's shared BudgetLedger. The delegate only runs once the
+ * reservation succeeds; the payload's reported cost is committed afterwards, and the
+ * reservation is released if the delegate throws.
+ */
+public class BudgetedContentGeneratorSkill implements ContentGeneratorSkill {
+
+    private final ContentGeneratorSkill delegate;
+    private final BudgetLedger ledger;
+    private final String campaignId;
+    private final double estimatedCostUsd;
+
+    public BudgetedContentGeneratorSkill(ContentGeneratorSkill delegate, BudgetLedger ledger,
+                                         String campaignId, double estimatedCostUsd) {
+        if (delegate == null || ledger == null) {
+            throw new IllegalArgumentException("delegate and ledger are required");
+        }
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+        if (estimatedCostUsd <= 0) {
+            throw new IllegalArgumentException("estimatedCostUsd must be positive");
+        }
+        this.delegate = delegate;
+        this.ledger = ledger;
+        this.campaignId = campaignId;
+        this.estimatedCostUsd = estimatedCostUsd;
+    }
+
+    @Override
+    public ContentPayload generateContent(TrendData trend, String persona, double budget)
+            throws BudgetExceededException {
+        if (trend == null) {
+            throw new IllegalArgumentException("trend is required");
+        }
+        if (persona == null || persona.isBlank()) {
+            throw new IllegalArgumentException("persona is required");
+        }
+        if (estimatedCostUsd > budget) {
+            throw new BudgetExceededException(estimatedCostUsd, Math.max(0.0, budget));
+        }
+        try (BudgetLedger.Reservation reservation = ledger.reserve(campaignId, estimatedCostUsd)) {
+            ContentPayload payload = delegate.generateContent(trend, persona, budget);
+            reservation.commit(payload.estimatedCost());
+            return payload;
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+}
@@ -0,0 +1,202 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caching decorator for any ContentGeneratorSkill, keyed on the normalised
+ * (topic, keywords, platform, persona) of a request, so repeats across campaigns reuse
+ * one generation.
+ *
+ * <ul>
+ *   <li>A hit returns the cached content under a fresh contentId with
+ *       {@code estimatedCost = 0}, so nothing is charged against the campaign budget.</li>
+ *   <li>Eviction is cost-aware: an entry lives {@code ttl × (1 + cost / referenceCost)},
+ *       capped at {@value #MAX_TTL_MULTIPLIER}× ttl. Its weight against the capacity
+ *       shrinks by the same factor, so expensive payloads stay resident longer and cheap
+ *       ones are evicted first.</li>
+ *   <li>Concurrent misses for one key share a single generation. If that generation fails,
+ *       for example on the first caller's smaller budget, each waiter generates on its own.</li>
+ * </ul>
+ */
+public class CachingContentGeneratorSkill implements ContentGeneratorSkill {
+
+    static final int MAX_TTL_MULTIPLIER = 4;
+    private static final int COST_WEIGHT_SCALE = 8;
+
+    private final ContentGeneratorSkill delegate;
+    private final double referenceCostUsd;
+    private final AsyncCache<GenerationKey, ContentPayload> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final DoubleAdder savedCostUsd = new DoubleAdder();
+
+    public CachingContentGeneratorSkill(ContentGeneratorSkill delegate, Duration ttl, long maximumEntries) {
+        this(delegate, ttl, maximumEntries, 0.01, Ticker.systemTicker());
+    }
+
+    /**
+     * @param maximumEntries   capacity when every entry is free; expensive entries weigh less
+     * @param referenceCostUsd the cost at which an entry lives twice as long and weighs half as much
+     */
+    public CachingContentGeneratorSkill(ContentGeneratorSkill delegate, Duration ttl, long maximumEntries,
+                                        double referenceCostUsd, Ticker ticker) {
+        if (delegate == null || ttl == null || ticker == null) {
+            throw new IllegalArgumentException("delegate, ttl and ticker are required");
+        }
+        if (ttl.isNegative() || ttl.isZero() || maximumEntries < 1 || !(referenceCostUsd > 0)) {
+            throw new IllegalArgumentException("ttl, maximumEntries and referenceCostUsd must be positive");
+        }
+        this.delegate = delegate;
+        this.referenceCostUsd = referenceCostUsd;
+        long ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumEntries * COST_WEIGHT_SCALE)
+                .weigher((GenerationKey key, ContentPayload payload) ->
+                        (int) Math.max(1L, Math.round(COST_WEIGHT_SCALE / costFactor(payload))))
+                .expireAfter(new Expiry<GenerationKey, ContentPayload>() {
+                    @Override
+                    public long expireAfterCreate(GenerationKey key, ContentPayload payload, long currentTime) {
+                        return (long) (ttlNanos * Math.min(MAX_TTL_MULTIPLIER, costFactor(payload)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(GenerationKey key, ContentPayload payload, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, payload, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(GenerationKey key, ContentPayload payload, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .buildAsync();
+    }
+
+    @Override
+    public ContentPayload generateContent(TrendData trend, String persona, double budget)
+            throws BudgetExceededException {
+        if (trend == null) {
+            throw new IllegalArgumentException("trend is required");
+        }
+        if (persona == null || persona.isBlank()) {
+            throw new IllegalArgumentException("persona is required");
+        }
+        GenerationKey key = GenerationKey.of(trend, persona);
+        CompletableFuture<ContentPayload> mine = new CompletableFuture<>();
+        CompletableFuture<ContentPayload> existing = cache.asMap().putIfAbsent(key, mine);
+        if (existing == null) {
+            misses.increment();
+            try {
+                ContentPayload payload = delegate.generateContent(trend, persona, budget);
+                mine.complete(payload);
+                return payload;
+            } catch (RuntimeException | Error e) {
+                cache.asMap().remove(key, mine);
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        }
+        ContentPayload cached;
+        try {
+            cached = existing.join();
+        } catch (CompletionException | CancellationException e) {
+            misses.increment();
+            return delegate.generateContent(trend, persona, budget);
+        }
+        hits.increment();
+        savedCostUsd.add(cached.estimatedCost());
+        return new ContentPayload(UUID.randomUUID().toString(), cached.script(), cached.caption(), cached.hashtags(),
+                trend.platform(), persona, 0.0, cached.generatedAt());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return generation spend avoided by serving hits
+     */
+    public double savedCostUsd() {
+        return savedCostUsd.sum();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private double costFactor(ContentPayload payload) {
+        return 1.0 + payload.estimatedCost() / referenceCostUsd;
+    }
+
+    /**
+     * Normalised request identity: topic lower-cased with whitespace collapsed, keywords
+     * lower-cased, de-duplicated and sorted, platform lower-cased.
+     */
+    record GenerationKey(String topic, List<String> keywords, String platform, String persona) {
+
+        static GenerationKey of(TrendData trend, String persona) {
+            TreeSet<String> keywords = new TreeSet<>();
+            if (trend.keywords() != null) {
+                for (String keyword : trend.keywords()) {
+                    if (keyword != null && !keyword.isBlank()) {
+                        keywords.add(normalise(keyword));
+                    }
+                }
+            }
+            return new GenerationKey(trend.topic() == null ? "" : normalise(trend.topic()), List.copyOf(keywords),
+                    trend.platform().toLowerCase(Locale.ROOT), persona.trim());
+        }
+
+        private static String normalise(String text) {
+            StringBuilder out = new StringBuilder(text.length());
+            boolean pendingSpace = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    pendingSpace = out.length() > 0;
+                } else {
+                    if (pendingSpace) {
+                        out.append(' ');
+                        pendingSpace = false;
+                    }
+                    out.append(Character.toLowerCase(c));
+                }
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Caching decorator for any TrendFetcherSkill, keyed on (platform, region).
+ *
+ * Each miss fetches {@code fetchLimit} trends once and answers every smaller {@code limit}
+ * by slicing the cached list. Concurrent misses for the same key share one in-flight
+ * fetch: the cache stores a future, so waiting callers park cheaply instead of pinning
+ * their Virtual Thread's carrier on a map lock. Entries expire after {@code ttl} and are
+ * refreshed in the background once older than {@code refreshAfter}, so hot keys keep
+ * being served from cache while the new list loads.
+ */
+public class CachingTrendFetcherSkill implements TrendFetcherSkill {
+
+    public static final int DEFAULT_FETCH_LIMIT = 50;
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    private final TrendFetcherSkill delegate;
+    private final int fetchLimit;
+    private final AsyncLoadingCache<TrendKey, List<TrendData>> cache;
+
+    public CachingTrendFetcherSkill(TrendFetcherSkill delegate, Duration ttl, Duration refreshAfter) {
+        this(delegate, ttl, refreshAfter, DEFAULT_FETCH_LIMIT, 10_000, Ticker.systemTicker());
+    }
+
+    public CachingTrendFetcherSkill(TrendFetcherSkill delegate, Duration ttl, Duration refreshAfter,
+                                    int fetchLimit, long maximumKeys, Ticker ticker) {
+        if (delegate == null || ttl == null || refreshAfter == null || ticker == null) {
+            throw new IllegalArgumentException("delegate, ttl, refreshAfter and ticker are required");
+        }
+        if (refreshAfter.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("refreshAfter must be shorter than ttl");
+        }
+        if (fetchLimit < 1 || maximumKeys < 1) {
+            throw new IllegalArgumentException("fetchLimit and maximumKeys must be positive");
+        }
+        this.delegate = delegate;
+        this.fetchLimit = fetchLimit;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .maximumSize(maximumKeys)
+                .executor(VIRTUAL_THREADS)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync(key -> List.copyOf(delegate.fetchTrends(key.platform(), key.region(), fetchLimit)));
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<TrendData> fetchTrends(String platform, String region, int limit) {
+        if (platform == null || platform.isBlank() || region == null || region.isBlank()) {
+            throw new IllegalArgumentException("platform and region are required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        if (limit > fetchLimit) {
+            return delegate.fetchTrends(platform, region, limit);
+        }
+        List<TrendData> cached;
+        try {
+            cached = cache.get(new TrendKey(platform, region)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return cached.size() <= limit ? cached : cached.subList(0, limit);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public boolean supports(TaskType taskType) {
+        return delegate.supports(taskType);
+    }
+
+    /**
+     * Drops the cached list so the next call fetches fresh data.
+     */
+    public void invalidate(String platform, String region) {
+        cache.synchronous().invalidate(new TrendKey(platform, region));
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Flat name → value view of the cache statistics, for metric exporters.
+     */
+    public Map<String, Number> exportStats() {
+        CacheStats stats = stats();
+        Map<String, Number> exported = new LinkedHashMap<>();
+        exported.put("trend_cache_hits", stats.hitCount());
+        exported.put("trend_cache_misses", stats.missCount());
+        exported.put("trend_cache_hit_rate", stats.hitRate());
+        exported.put("trend_cache_load_success", stats.loadSuccessCount());
+        exported.put("trend_cache_load_failure", stats.loadFailureCount());
+        exported.put("trend_cache_load_time_total_nanos", stats.totalLoadTime());
+        exported.put("trend_cache_load_time_avg_nanos", stats.averageLoadPenalty());
+        exported.put("trend_cache_evictions", stats.evictionCount());
+        exported.put("trend_cache_size", cache.synchronous().estimatedSize());
+        return Collections.unmodifiableMap(exported);
+    }
+
+    private record TrendKey(String platform, String region) {}
+}
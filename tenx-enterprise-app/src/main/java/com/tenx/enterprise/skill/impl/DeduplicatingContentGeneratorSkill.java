@@ -0,0 +1,72 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenx.enterprise.dedup.ContentDeduplicator;
+import com.tenx.enterprise.dedup.DuplicateCheck;
+import com.tenx.enterprise.dedup.DuplicatePolicy;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.exception.DuplicateContentException;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+
+/**
+ * Decorator that screens generated content for near-duplicates within the campaign and
+ * persona before it goes on to the Judge.
+ *
+ * Under {@link DuplicatePolicy#MERGE} the earlier payload is returned in place of the
+ * duplicate; originals are kept in a bounded cache, and a duplicate whose original has been
+ * evicted is rejected instead.
+ */
+public class DeduplicatingContentGeneratorSkill implements ContentGeneratorSkill {
+
+    private final ContentGeneratorSkill delegate;
+    private final ContentDeduplicator deduplicator;
+    private final String campaignId;
+    private final DuplicatePolicy policy;
+    private final Cache<String, ContentPayload> originals;
+
+    public DeduplicatingContentGeneratorSkill(ContentGeneratorSkill delegate, ContentDeduplicator deduplicator,
+                                              String campaignId, DuplicatePolicy policy) {
+        this(delegate, deduplicator, campaignId, policy, 10_000);
+    }
+
+    public DeduplicatingContentGeneratorSkill(ContentGeneratorSkill delegate, ContentDeduplicator deduplicator,
+                                              String campaignId, DuplicatePolicy policy, long maximumOriginals) {
+        if (delegate == null || deduplicator == null || policy == null) {
+            throw new IllegalArgumentException("delegate, deduplicator and policy are required");
+        }
+        if (campaignId == null || campaignId.isBlank()) {
+            throw new IllegalArgumentException("campaignId must not be blank");
+        }
+        this.delegate = delegate;
+        this.deduplicator = deduplicator;
+        this.campaignId = campaignId;
+        this.policy = policy;
+        this.originals = Caffeine.newBuilder().maximumSize(maximumOriginals).build();
+    }
+
+    @Override
+    public ContentPayload generateContent(TrendData trend, String persona, double budget)
+            throws BudgetExceededException {
+        ContentPayload payload = delegate.generateContent(trend, persona, budget);
+        DuplicateCheck check = deduplicator.check(campaignId, payload);
+        if (!check.isDuplicate()) {
+            if (policy == DuplicatePolicy.MERGE) {
+                originals.put(payload.contentId(), payload);
+            }
+            return payload;
+        }
+        ContentPayload original = policy == DuplicatePolicy.MERGE ? originals.getIfPresent(check.duplicateOf()) : null;
+        if (original == null) {
+            throw new DuplicateContentException(check.contentId(), check.duplicateOf(), check.similarity());
+        }
+        return original;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+}
@@ -0,0 +1,260 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.dto.TrendFanOutResult;
+import com.tenx.enterprise.resilience.TokenBucket;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Composite TrendFetcherSkill that queries several platforms and regions at once, one
+ * Virtual Thread per (platform, region) call, and merges the answers.
+ *
+ * <ul>
+ *   <li>Each platform has its own {@link TokenBucket}; a call waits for a permit, but
+ *       never past the deadline.</li>
+ *   <li>Once a platform has enough latency history, a call still running after that
+ *       platform's p95 gets one hedged duplicate; whichever attempt answers first wins.
+ *       Hedges only go out if the bucket has a permit to spare.</li>
+ *   <li>At the deadline, outstanding calls are cancelled and whatever has arrived is
+ *       returned — a slow platform degrades the result instead of failing it.</li>
+ *   <li>Trends are deduplicated by topic (case-insensitive), keeping the highest score.</li>
+ * </ul>
+ *
+ * {@link #fetchTrends} with platform {@value #ALL_PLATFORMS} fans out to every registered platform.
+ * Calls run on an executor the skill owns; {@link #close} stops it and interrupts calls in flight.
+ */
+public class FanOutTrendFetcherSkill implements TrendFetcherSkill, AutoCloseable {
+
+    public static final String ALL_PLATFORMS = "*";
+
+    private static final int LATENCY_WINDOW = 128;
+    private static final int MIN_SAMPLES_FOR_HEDGING = 20;
+
+    private final Map<String, TrendFetcherSkill> fetchers;
+    private final Map<String, TokenBucket> limiters;
+    private final Map<String, LatencyWindow> latencies = new HashMap<>();
+    private final Duration deadline;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param fetchersByPlatform the single-platform skill to call for each platform
+     * @param limitsByPlatform   rate limit per platform; platforms without one are unlimited
+     * @param deadline           how long a fan-out may take before partial results are returned
+     */
+    public FanOutTrendFetcherSkill(Map<String, TrendFetcherSkill> fetchersByPlatform,
+                                   Map<String, TokenBucket> limitsByPlatform, Duration deadline) {
+        if (fetchersByPlatform == null || fetchersByPlatform.isEmpty() || limitsByPlatform == null) {
+            throw new IllegalArgumentException("at least one platform fetcher is required");
+        }
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("deadline must be positive");
+        }
+        this.fetchers = Map.copyOf(fetchersByPlatform);
+        this.limiters = Map.copyOf(limitsByPlatform);
+        this.deadline = deadline;
+        for (String platform : fetchers.keySet()) {
+            latencies.put(platform, new LatencyWindow());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "skill_fetch_trends";
+    }
+
+    /**
+     * Single-source view for callers of the plain skill contract; failures and timeouts
+     * simply contribute no trends.
+     */
+    @Override
+    public List<TrendData> fetchTrends(String platform, String region, int limit) {
+        if (platform == null || platform.isBlank() || region == null || region.isBlank()) {
+            throw new IllegalArgumentException("platform and region are required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        Collection<String> platforms = ALL_PLATFORMS.equals(platform) ? fetchers.keySet() : List.of(platform);
+        List<TrendData> merged = fetchAll(platforms, List.of(region), limit).trends();
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * Queries every (platform, region) pair concurrently and merges whatever arrives by the deadline.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException once the skill is closed
+     */
+    public TrendFanOutResult fetchAll(Collection<String> platforms, Collection<String> regions, int limitPerCall) {
+        if (platforms == null || platforms.isEmpty() || regions == null || regions.isEmpty()) {
+            throw new IllegalArgumentException("platforms and regions are required");
+        }
+        if (regions.stream().anyMatch(region -> region == null || region.isBlank())) {
+            throw new IllegalArgumentException("regions must not be blank");
+        }
+        if (limitPerCall < 1) {
+            throw new IllegalArgumentException("limitPerCall must be at least 1");
+        }
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        AtomicInteger hedges = new AtomicInteger();
+        Map<String, Call> calls = new LinkedHashMap<>();
+        for (String platform : platforms) {
+            if (!fetchers.containsKey(platform)) {
+                throw new IllegalArgumentException("no fetcher registered for platform " + platform);
+            }
+            for (String region : regions) {
+                calls.put(platform + "/" + region, start(platform, region, limitPerCall, deadlineAt, hedges));
+            }
+        }
+
+        CompletableFuture<?> all = CompletableFuture.allOf(
+                calls.values().stream().map(Call::result).toArray(CompletableFuture[]::new));
+        try {
+            all.get(Math.max(0L, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Partial results: each call is inspected individually below.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, TrendData> byTopic = new HashMap<>();
+        List<String> completed = new ArrayList<>();
+        List<String> timedOut = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        calls.forEach((source, call) -> {
+            CompletableFuture<List<TrendData>> result = call.result();
+            if (!result.isDone()) {
+                call.cancel();
+                timedOut.add(source);
+            } else if (result.isCompletedExceptionally()) {
+                (result.exceptionNow() instanceof TimeoutException ? timedOut : failed).add(source);
+            } else {
+                completed.add(source);
+                for (TrendData trend : result.resultNow()) {
+                    byTopic.merge(topicKey(trend), trend,
+                            (a, b) -> b.relevanceScore() > a.relevanceScore() ? b : a);
+                }
+            }
+        });
+        List<TrendData> merged = new ArrayList<>(byTopic.values());
+        merged.sort(Comparator.comparingDouble(TrendData::relevanceScore).reversed());
+        return new TrendFanOutResult(merged, completed, timedOut, failed, hedges.get());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return fetchers.values().stream().anyMatch(TrendFetcherSkill::isAvailable);
+    }
+
+    @Override
+    public boolean supports(TaskType taskType) {
+        return taskType == TaskType.TREND_RESEARCH;
+    }
+
+    /** Stops the fan-out executor, interrupting calls and hedges still running. */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Call start(String platform, String region, int limit, long deadlineAt, AtomicInteger hedges) {
+        Call call = new Call(new CompletableFuture<>(), new AtomicInteger(1), new ArrayList<>());
+        TokenBucket limiter = limiters.get(platform);
+        call.track(executor.submit(() -> {
+            try {
+                if (limiter != null && !limiter.tryAcquire(deadlineAt - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    call.result().completeExceptionally(new TimeoutException("rate limited past deadline"));
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            long hedgeAfter = latencies.get(platform).p95Nanos();
+            if (hedgeAfter > 0L) {
+                CompletableFuture.delayedExecutor(hedgeAfter, TimeUnit.NANOSECONDS).execute(() -> {
+                    if (!call.result().isDone() && (limiter == null || limiter.tryAcquire())) {
+                        hedges.incrementAndGet();
+                        call.outstanding().incrementAndGet();
+                        call.track(executor.submit(() -> attempt(platform, region, limit, call)));
+                    }
+                });
+            }
+            attempt(platform, region, limit, call);
+        }));
+        return call;
+    }
+
+    private void attempt(String platform, String region, int limit, Call call) {
+        long started = System.nanoTime();
+        try {
+            List<TrendData> trends = fetchers.get(platform).fetchTrends(platform, region, limit);
+            latencies.get(platform).record(System.nanoTime() - started);
+            call.result().complete(trends);
+        } catch (RuntimeException e) {
+            if (call.outstanding().decrementAndGet() == 0) {
+                call.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private static String topicKey(TrendData trend) {
+        return trend.topic() == null ? "#" + trend.trendId() : trend.topic().trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** One (platform, region) call: its outcome, attempts still running, and their handles. */
+    private record Call(CompletableFuture<List<TrendData>> result, AtomicInteger outstanding,
+                        List<Future<?>> attempts) {
+        void track(Future<?> attempt) {
+            synchronized (attempts) {
+                attempts.add(attempt);
+            }
+        }
+
+        void cancel() {
+            result.cancel(false);
+            synchronized (attempts) {
+                attempts.forEach(attempt -> attempt.cancel(true));
+            }
+        }
+    }
+
+    /** Sliding window of a platform's successful call latencies; p95 is recomputed every 16 samples. */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private long recorded;
+        private long p95;
+
+        synchronized void record(long nanos) {
+            samples[(int) (recorded++ % LATENCY_WINDOW)] = nanos;
+            if (recorded >= MIN_SAMPLES_FOR_HEDGING && recorded % 16 == 0) {
+                long[] sorted = Arrays.copyOf(samples, (int) Math.min(recorded, LATENCY_WINDOW));
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+            }
+        }
+
+        /** @return the current p95, or 0 while there is too little history to hedge on */
+        synchronized long p95Nanos() {
+            return p95;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.trend.TrendIndex;
+
+import java.util.List;
+
+/**
+ * Decorator that feeds every fetched trend list into a {@link TrendIndex}, so the Planner
+ * can run keyword/region top-K queries across everything fetched so far instead of
+ * scanning the returned lists.
+ */
+public class IndexingTrendFetcherSkill implements TrendFetcherSkill {
+
+    private final TrendFetcherSkill delegate;
+    private final TrendIndex index;
+
+    public IndexingTrendFetcherSkill(TrendFetcherSkill delegate, TrendIndex index) {
+        if (delegate == null || index == null) {
+            throw new IllegalArgumentException("delegate and index are required");
+        }
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<TrendData> fetchTrends(String platform, String region, int limit) {
+        List<TrendData> trends = delegate.fetchTrends(platform, region, limit);
+        index.indexAll(trends);
+        return trends;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public boolean supports(TaskType taskType) {
+        return delegate.supports(taskType);
+    }
+
+    public TrendIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,89 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.StreamingTrendFetcherSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.trend.TrendDeltaTracker;
+import com.tenx.enterprise.trend.TrendFeed;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapter that turns any polling TrendFetcherSkill into a stream. Each stream polls the
+ * delegate on its own Virtual Thread and publishes only what changed since the last poll.
+ * Because the poller blocks while subscribers lag, a slow consumer also slows the polling.
+ * A failed poll is skipped; the stream carries on at the next interval.
+ */
+public class PollingStreamingTrendFetcherSkill implements StreamingTrendFetcherSkill {
+
+    private final TrendFetcherSkill delegate;
+    private final Duration interval;
+    private final int limit;
+    private final double minScoreChange;
+
+    public PollingStreamingTrendFetcherSkill(TrendFetcherSkill delegate, Duration interval, int limit) {
+        this(delegate, interval, limit, 0.0);
+    }
+
+    /**
+     * @param minScoreChange score movements at or below this are not published as updates
+     */
+    public PollingStreamingTrendFetcherSkill(TrendFetcherSkill delegate, Duration interval, int limit,
+                                             double minScoreChange) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required");
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        this.delegate = delegate;
+        this.interval = interval;
+        this.limit = limit;
+        this.minScoreChange = minScoreChange;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<TrendData> fetchTrends(String platform, String region, int limit) {
+        return delegate.fetchTrends(platform, region, limit);
+    }
+
+    @Override
+    public Flow.Publisher<TrendData> streamTrends(String platform, String region) {
+        return new TrendFeed(feed -> {
+            while (feed.isActive()) {
+                List<TrendData> polled;
+                try {
+                    polled = delegate.fetchTrends(platform, region, limit);
+                } catch (RuntimeException e) {
+                    // Transient platform failure: keep the stream open and try again next round.
+                    polled = List.of();
+                }
+                for (TrendData trend : polled) {
+                    feed.offer(trend);
+                }
+                Thread.sleep(interval);
+            }
+        }, new TrendDeltaTracker(minScoreChange), Flow.defaultBufferSize());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public boolean supports(TaskType taskType) {
+        return delegate.supports(taskType);
+    }
+}
@@ -0,0 +1,40 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.resilience.ResiliencePolicy;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+
+/**
+ * Decorator that runs every generation through a {@link ResiliencePolicy}. Budget
+ * rejections pass through untouched and do not count against the generator's health.
+ */
+public class ResilientContentGeneratorSkill implements ContentGeneratorSkill {
+
+    private final ContentGeneratorSkill delegate;
+    private final ResiliencePolicy policy;
+
+    public ResilientContentGeneratorSkill(ContentGeneratorSkill delegate, ResiliencePolicy policy) {
+        if (delegate == null || policy == null) {
+            throw new IllegalArgumentException("delegate and policy are required");
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public ContentPayload generateContent(TrendData trend, String persona, double budget)
+            throws BudgetExceededException {
+        return policy.execute(() -> delegate.generateContent(trend, persona, budget));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return policy.isHealthy() && delegate.isAvailable();
+    }
+
+    public ResiliencePolicy policy() {
+        return policy;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.resilience.ResiliencePolicy;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+
+import java.util.List;
+
+/**
+ * Decorator that runs every fetch through a {@link ResiliencePolicy}. {@link #isAvailable()}
+ * reports the live breaker state on top of the delegate's own flag, so the Planner stops
+ * routing to a platform as soon as it degrades.
+ */
+public class ResilientTrendFetcherSkill implements TrendFetcherSkill {
+
+    private final TrendFetcherSkill delegate;
+    private final ResiliencePolicy policy;
+
+    public ResilientTrendFetcherSkill(TrendFetcherSkill delegate, ResiliencePolicy policy) {
+        if (delegate == null || policy == null) {
+            throw new IllegalArgumentException("delegate and policy are required");
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<TrendData> fetchTrends(String platform, String region, int limit) {
+        return policy.execute(() -> delegate.fetchTrends(platform, region, limit));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return policy.isHealthy() && delegate.isAvailable();
+    }
+
+    @Override
+    public boolean supports(TaskType taskType) {
+        return delegate.supports(taskType);
+    }
+
+    public ResiliencePolicy policy() {
+        return policy;
+    }
+}
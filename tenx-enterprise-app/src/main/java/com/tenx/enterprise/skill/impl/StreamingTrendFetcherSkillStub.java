@@ -0,0 +1,70 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.StreamingTrendFetcherSkill;
+import com.tenx.enterprise.trend.TrendFeed;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stub that simulates a live platform feed for load tests. The stub keeps a fixed set of
+ * topics and random-walks their scores in steps of 0.01. Every observation comes with a
+ * new id, just as a real upstream would send it, and the {@link TrendFeed} then reduces
+ * the observations to versioned deltas. With
+ * {@code observationsPerSecond <= 0} the stub produces as fast as subscribers request.
+ */
+public class StreamingTrendFetcherSkillStub extends TrendFetcherSkillStub implements StreamingTrendFetcherSkill {
+
+    private static final int MAX_STEP_CENTS = 5;
+
+    private final int topics;
+    private final double observationsPerSecond;
+    private final long seed;
+
+    public StreamingTrendFetcherSkillStub() {
+        this(50, 1_000.0, 42L);
+    }
+
+    public StreamingTrendFetcherSkillStub(int topics, double observationsPerSecond, long seed) {
+        if (topics < 1) {
+            throw new IllegalArgumentException("topics must be at least 1");
+        }
+        this.topics = topics;
+        this.observationsPerSecond = observationsPerSecond;
+        this.seed = seed;
+    }
+
+    @Override
+    public Flow.Publisher<TrendData> streamTrends(String platform, String region) {
+        return new TrendFeed(feed -> simulate(feed, platform, region));
+    }
+
+    private void simulate(TrendFeed feed, String platform, String region) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] cents = new int[topics];
+        for (int i = 0; i < topics; i++) {
+            cents[i] = random.nextInt(101);
+        }
+        long periodNanos = observationsPerSecond > 0 ? (long) (1_000_000_000L / observationsPerSecond) : 0L;
+        long started = System.nanoTime();
+        for (long n = 0; feed.isActive(); n++) {
+            if (periodNanos > 0) {
+                long wait = started + n * periodNanos - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            int topic = random.nextInt(topics);
+            int step = random.nextInt(-MAX_STEP_CENTS, MAX_STEP_CENTS + 1);
+            cents[topic] = Math.clamp(cents[topic] + step, 0, 100);
+            feed.offer(new TrendData(new UUID(random.nextLong(), random.nextLong()).toString(), platform,
+                    "Topic " + topic, List.of("topic" + topic, "kw" + (topic % 10)), cents[topic] / 100.0,
+                    region, Instant.now(), 1L));
+        }
+    }
+}
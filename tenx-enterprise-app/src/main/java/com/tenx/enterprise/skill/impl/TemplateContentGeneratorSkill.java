@@ -0,0 +1,70 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.persona.PersonaRegistry;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.template.ContentTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * ContentGeneratorSkill that assembles script, caption and hashtags from precompiled
+ * {@link ContentTemplate}s, one per persona with a fallback for the rest. A flat
+ * {@code costPerCall} is checked against the budget before anything is rendered.
+ * Hashtags lead with the persona's preferred ones from its compiled SOUL.md profile.
+ */
+public class TemplateContentGeneratorSkill implements ContentGeneratorSkill {
+
+    private final Map<String, ContentTemplate> templatesByPersona;
+    private final ContentTemplate fallback;
+    private final double costPerCall;
+    private final PersonaRegistry personas;
+
+    public TemplateContentGeneratorSkill(Map<String, ContentTemplate> templatesByPersona, ContentTemplate fallback,
+                                         double costPerCall) {
+        this(templatesByPersona, fallback, costPerCall, new PersonaRegistry(List.of()));
+    }
+
+    public TemplateContentGeneratorSkill(Map<String, ContentTemplate> templatesByPersona, ContentTemplate fallback,
+                                         double costPerCall, PersonaRegistry personas) {
+        if (templatesByPersona == null || fallback == null || personas == null) {
+            throw new IllegalArgumentException("templatesByPersona, fallback and personas are required");
+        }
+        if (costPerCall < 0) {
+            throw new IllegalArgumentException("costPerCall cannot be negative");
+        }
+        this.templatesByPersona = Map.copyOf(templatesByPersona);
+        this.fallback = fallback;
+        this.costPerCall = costPerCall;
+        this.personas = personas;
+    }
+
+    @Override
+    public ContentPayload generateContent(TrendData trend, String persona, double budget)
+            throws BudgetExceededException {
+        if (trend == null) {
+            throw new IllegalArgumentException("trend is required");
+        }
+        if (persona == null || persona.isBlank()) {
+            throw new IllegalArgumentException("persona is required");
+        }
+        if (costPerCall > budget) {
+            throw new BudgetExceededException(costPerCall, Math.max(0.0, budget));
+        }
+        ContentTemplate template = templatesByPersona.getOrDefault(persona, fallback);
+        return new ContentPayload(
+                UUID.randomUUID().toString(),
+                template.script().render(trend, persona),
+                template.caption().render(trend, persona),
+                personas.profile(persona).hashtags(trend.keywords(), template.maxHashtags()),
+                trend.platform(),
+                persona,
+                costPerCall,
+                Instant.now());
+    }
+}
@@ -0,0 +1,69 @@
+package com.tenx.enterprise.skill.impl;
+
+import com.tenx.enterprise.dto.Comment;
+import com.tenx.enterprise.dto.EngagementReply;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.skill.EngagementSkill;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EngagementSkill that answers from one reply line per persona, with a fallback for the
+ * rest. {@value #COMMENT_PLACEHOLDER} in a line is replaced by the start of the comment.
+ * A flat {@code costPerReply} for the whole batch is checked against the budget first.
+ */
+public class TemplateEngagementSkill implements EngagementSkill {
+
+    public static final String COMMENT_PLACEHOLDER = "{comment}";
+
+    private static final int MAX_QUOTE = 40;
+
+    private final Map<String, String> linesByPersona;
+    private final String fallback;
+    private final double costPerReply;
+
+    public TemplateEngagementSkill(Map<String, String> linesByPersona, String fallback, double costPerReply) {
+        if (linesByPersona == null || fallback == null || fallback.isBlank()) {
+            throw new IllegalArgumentException("linesByPersona and fallback are required");
+        }
+        if (costPerReply < 0) {
+            throw new IllegalArgumentException("costPerReply cannot be negative");
+        }
+        this.linesByPersona = Map.copyOf(linesByPersona);
+        this.fallback = fallback;
+        this.costPerReply = costPerReply;
+    }
+
+    @Override
+    public List<EngagementReply> generateReplies(String persona, List<Comment> comments, double budget)
+            throws BudgetExceededException {
+        if (persona == null || persona.isBlank()) {
+            throw new IllegalArgumentException("persona is required");
+        }
+        if (comments == null || comments.isEmpty()) {
+            throw new IllegalArgumentException("comments are required");
+        }
+        double cost = costPerReply * comments.size();
+        if (cost > budget) {
+            throw new BudgetExceededException(cost, Math.max(0.0, budget));
+        }
+        String line = linesByPersona.getOrDefault(persona, fallback);
+        boolean quotes = line.contains(COMMENT_PLACEHOLDER);
+        Instant now = Instant.now();
+        List<EngagementReply> replies = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            String text = quotes ? line.replace(COMMENT_PLACEHOLDER, quote(comment.text())) : line;
+            replies.add(new EngagementReply("reply-" + comment.commentId(), comment.commentId(),
+                    comment.campaignId(), comment.postId(), comment.platform(), persona, text, costPerReply, now));
+        }
+        return replies;
+    }
+
+    private static String quote(String text) {
+        String trimmed = text.strip();
+        return trimmed.length() <= MAX_QUOTE ? trimmed : trimmed.substring(0, MAX_QUOTE) + "…";
+    }
+}
@@ -0,0 +1,31 @@
+package com.tenx.enterprise.snapshot;
+
+import java.time.Duration;
+
+/**
+ * What {@link CampaignSnapshotter#restore} loaded.
+ *
+ * @param sequence     the last snapshot applied, 0 if none
+ * @param files        snapshot files applied: one full, then its deltas in order
+ * @param skippedFiles files that were damaged, or deltas after a damaged one
+ * @param tasks        tasks restored
+ * @param trends       trends restored
+ * @param balances     campaign budget balances restored
+ * @param reviewItems  HITL items put back in their channels
+ * @param elapsed      wall-clock restore time
+ */
+public record RestoreReport(
+        long sequence,
+        int files,
+        int skippedFiles,
+        int tasks,
+        int trends,
+        int balances,
+        int reviewItems,
+        Duration elapsed
+) {
+    /** True if there was no usable snapshot and the node starts cold. */
+    public boolean cold() {
+        return files == 0;
+    }
+}
@@ -0,0 +1,267 @@
+package com.tenx.enterprise.snapshot;
+
+import com.tenx.enterprise.budget.BudgetLedger;
+import com.tenx.enterprise.codec.WireBuffers;
+import com.tenx.enterprise.codec.WireCodec;
+import com.tenx.enterprise.codec.WireFormat;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.hitl.ReviewItem;
+import com.tenx.enterprise.hitl.ReviewItemCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout of one snapshot, full or delta:
+ *
+ * <pre>
+ *   int   magic "TXSN"
+ *   byte  format version
+ *   byte  kind            0 full, 1 delta
+ *   long  sequence
+ *   long  base            sequence of the full snapshot a delta builds on
+ *   ( byte section tag, varint count, entries )*
+ *   byte  0               end of sections
+ *   int   crc32c          over everything after the magic
+ * </pre>
+ *
+ * Records use {@link WireFormat}. Files are written to a temporary name and moved into
+ * place atomically, so a crash mid-write never leaves a half-written snapshot under a
+ * real name; the checksum catches a torn or damaged file anyway.
+ */
+final class SnapshotFile {
+
+    static final Pattern NAME = Pattern.compile("snapshot-(\\d{12})-(full|delta)\\.bin");
+
+    private static final int MAGIC = 0x5458534E;
+    private static final byte FORMAT = 1;
+    private static final byte END = 0;
+    private static final byte TASKS = 1;
+    private static final byte TASKS_REMOVED = 2;
+    private static final byte TRENDS = 3;
+    private static final byte TRENDS_REMOVED = 4;
+    private static final byte BALANCES = 5;
+    private static final byte REVIEW_ITEMS = 6;
+
+    private SnapshotFile() {}
+
+    /**
+     * Everything one file holds. {@code balances} and {@code reviewItems} are null when they
+     * did not change since the previous snapshot; otherwise they replace the whole set.
+     */
+    record Contents(long sequence, long base, boolean full,
+                    List<TaskEnvelope> tasks, List<String> removedTasks,
+                    List<TrendData> trends, List<String> removedTrends,
+                    List<BudgetLedger.Balance> balances, List<ReviewItem> reviewItems) {
+
+        int records() {
+            return tasks.size() + trends.size() + (balances == null ? 0 : balances.size())
+                    + (reviewItems == null ? 0 : reviewItems.size());
+        }
+    }
+
+    /** A snapshot file found in the directory, by name only. */
+    record Entry(Path path, long sequence, boolean full) {}
+
+    static String name(long sequence, boolean full) {
+        return "snapshot-%012d-%s.bin".formatted(sequence, full ? "full" : "delta");
+    }
+
+    /** Parses a file name, or returns null if it is not a snapshot. */
+    static Entry entry(Path path) {
+        Matcher m = NAME.matcher(path.getFileName().toString());
+        return m.matches() ? new Entry(path, Long.parseLong(m.group(1)), m.group(2).equals("full")) : null;
+    }
+
+    /** @return the number of bytes written */
+    static long write(Path directory, Contents contents) throws IOException {
+        int size = 4 + 1 + 1 + 8 + 8
+                + sectionSize(contents.tasks(), WireFormat.TASK_ENVELOPE)
+                + idsSize(contents.removedTasks())
+                + sectionSize(contents.trends(), WireFormat.TREND_DATA)
+                + idsSize(contents.removedTrends())
+                + (contents.balances() == null ? 0 : balancesSize(contents.balances()))
+                + (contents.reviewItems() == null
+                        ? 0 : replacementSize(contents.reviewItems(), ReviewItemCodec.INSTANCE))
+                + 1 + 4;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC).put(FORMAT).put(contents.full() ? (byte) 0 : (byte) 1)
+                .putLong(contents.sequence()).putLong(contents.base());
+        putSection(out, TASKS, contents.tasks(), WireFormat.TASK_ENVELOPE);
+        putIds(out, TASKS_REMOVED, contents.removedTasks());
+        putSection(out, TRENDS, contents.trends(), WireFormat.TREND_DATA);
+        putIds(out, TRENDS_REMOVED, contents.removedTrends());
+        if (contents.balances() != null) {
+            putBalances(out, contents.balances());
+        }
+        if (contents.reviewItems() != null) {
+            putReplacement(out, REVIEW_ITEMS, contents.reviewItems(), ReviewItemCodec.INSTANCE);
+        }
+        out.put(END);
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), 4, out.position() - 4);
+        out.putInt((int) crc.getValue());
+
+        Path target = directory.resolve(name(contents.sequence(), contents.full()));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return size;
+    }
+
+    /**
+     * @throws IOException if the file cannot be read or fails its checksum
+     */
+    static Contents read(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < 27) {
+            throw new IOException("snapshot " + file + " is truncated");
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 4, bytes.length - 8);
+        if (in.getInt() != MAGIC || in.get() != FORMAT || (int) crc.getValue() != in.getInt(bytes.length - 4)) {
+            throw new IOException("snapshot " + file + " is damaged or has an unknown format");
+        }
+        boolean full = in.get() == 0;
+        long sequence = in.getLong();
+        long base = in.getLong();
+        List<TaskEnvelope> tasks = List.of();
+        List<String> removedTasks = List.of();
+        List<TrendData> trends = List.of();
+        List<String> removedTrends = List.of();
+        List<BudgetLedger.Balance> balances = null;
+        List<ReviewItem> reviewItems = null;
+        try {
+            for (byte tag = in.get(); tag != END; tag = in.get()) {
+                int count = (int) WireBuffers.getVarLong(in);
+                switch (tag) {
+                    case TASKS -> tasks = getSection(in, count, WireFormat.TASK_ENVELOPE);
+                    case TASKS_REMOVED -> removedTasks = getIds(in, count);
+                    case TRENDS -> trends = getSection(in, count, WireFormat.TREND_DATA);
+                    case TRENDS_REMOVED -> removedTrends = getIds(in, count);
+                    case BALANCES -> balances = getBalances(in, count);
+                    case REVIEW_ITEMS -> reviewItems = getSection(in, count, ReviewItemCodec.INSTANCE);
+                    default -> throw new IOException("snapshot " + file + " has unknown section " + tag);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("snapshot " + file + " could not be decoded", e);
+        }
+        return new Contents(sequence, base, full, tasks, removedTasks, trends, removedTrends, balances, reviewItems);
+    }
+
+    private static <T> int sectionSize(List<T> values, WireCodec<T> codec) {
+        return values.isEmpty() ? 0 : replacementSize(values, codec);
+    }
+
+    private static <T> int replacementSize(List<T> values, WireCodec<T> codec) {
+        int size = 1 + WireBuffers.varIntSize(values.size());
+        for (T value : values) {
+            size += codec.encodedSize(value);
+        }
+        return size;
+    }
+
+    private static <T> void putSection(ByteBuffer out, byte tag, List<T> values, WireCodec<T> codec) {
+        if (!values.isEmpty()) {
+            putReplacement(out, tag, values, codec);
+        }
+    }
+
+    /**
+     * Writes the section even when empty: for a set that replaces the previous one, an empty
+     * section means "now empty", while a missing one means "unchanged".
+     */
+    private static <T> void putReplacement(ByteBuffer out, byte tag, List<T> values, WireCodec<T> codec) {
+        out.put(tag);
+        WireBuffers.putVarLong(out, values.size());
+        for (T value : values) {
+            codec.encode(value, out);
+        }
+    }
+
+    private static <T> List<T> getSection(ByteBuffer in, int count, WireCodec<T> codec) {
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(codec.decode(in));
+        }
+        return values;
+    }
+
+    private static int idsSize(List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int size = 1 + WireBuffers.varIntSize(ids.size());
+        for (String id : ids) {
+            size += WireBuffers.stringSize(id);
+        }
+        return size;
+    }
+
+    private static void putIds(ByteBuffer out, byte tag, List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        out.put(tag);
+        WireBuffers.putVarLong(out, ids.size());
+        for (String id : ids) {
+            WireBuffers.putString(out, id);
+        }
+    }
+
+    private static List<String> getIds(ByteBuffer in, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(WireBuffers.getString(in));
+        }
+        return ids;
+    }
+
+    private static int balancesSize(List<BudgetLedger.Balance> balances) {
+        int size = 1 + WireBuffers.varIntSize(balances.size());
+        for (BudgetLedger.Balance b : balances) {
+            size += WireBuffers.stringSize(b.campaignId())
+                    + WireBuffers.varIntSize(WireBuffers.zigzag(b.limitCents()))
+                    + WireBuffers.varIntSize(WireBuffers.zigzag(b.remainingCents()))
+                    + WireBuffers.varIntSize(WireBuffers.zigzag(b.reservedCents()))
+                    + WireBuffers.varIntSize(WireBuffers.zigzag(b.spentCents()));
+        }
+        return size;
+    }
+
+    private static void putBalances(ByteBuffer out, List<BudgetLedger.Balance> balances) {
+        out.put(BALANCES);
+        WireBuffers.putVarLong(out, balances.size());
+        for (BudgetLedger.Balance b : balances) {
+            WireBuffers.putString(out, b.campaignId());
+            WireBuffers.putVarLong(out, WireBuffers.zigzag(b.limitCents()));
+            WireBuffers.putVarLong(out, WireBuffers.zigzag(b.remainingCents()));
+            WireBuffers.putVarLong(out, WireBuffers.zigzag(b.reservedCents()));
+            WireBuffers.putVarLong(out, WireBuffers.zigzag(b.spentCents()));
+        }
+    }
+
+    private static List<BudgetLedger.Balance> getBalances(ByteBuffer in, int count) {
+        List<BudgetLedger.Balance> balances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String campaignId = WireBuffers.getString(in);
+            long limit = WireBuffers.unzigzag(WireBuffers.getVarLong(in));
+            long remaining = WireBuffers.unzigzag(WireBuffers.getVarLong(in));
+            long reserved = WireBuffers.unzigzag(WireBuffers.getVarLong(in));
+            long spent = WireBuffers.unzigzag(WireBuffers.getVarLong(in));
+            balances.add(new BudgetLedger.Balance(campaignId, limit, remaining, reserved, spent));
+        }
+        return balances;
+    }
+}
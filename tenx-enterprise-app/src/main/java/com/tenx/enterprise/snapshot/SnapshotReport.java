@@ -0,0 +1,26 @@
+package com.tenx.enterprise.snapshot;
+
+import java.time.Duration;
+
+/**
+ * What one {@link CampaignSnapshotter#snapshot} call wrote.
+ *
+ * @param sequence the snapshot's sequence number; unchanged from the previous one if nothing was written
+ * @param full     true for a full snapshot, false for a delta on the last full one
+ * @param records  tasks, trends, balances and review items written
+ * @param removals task and trend ids recorded as removed
+ * @param bytes    size of the file written, 0 if nothing had changed
+ * @param elapsed  wall-clock time, including the write
+ */
+public record SnapshotReport(
+        long sequence,
+        boolean full,
+        int records,
+        int removals,
+        long bytes,
+        Duration elapsed
+) {
+    public boolean written() {
+        return bytes > 0;
+    }
+}
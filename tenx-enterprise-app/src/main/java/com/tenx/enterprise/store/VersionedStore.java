@@ -0,0 +1,200 @@
+package com.tenx.enterprise.store;
+
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.dto.Versioned;
+import com.tenx.enterprise.exception.StaleVersionException;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-process optimistic-concurrency store for versioned DTOs, keyed by id.
+ *
+ * Reads never block. Writes are compare-and-set against the version the caller read:
+ * the update succeeds only if nobody else committed in between, and the stored copy
+ * carries {@code version + 1}. Conflicts surface as {@link StaleVersionException}.
+ * There is no store-wide lock — contention is confined to the hash bin of a single id.
+ * Every lost race is counted in {@link #conflicts()}, including those {@link #update}
+ * retries internally and never reports to its caller.
+ *
+ * An absent entry is reported as version 0.
+ *
+ * @param <T> the stored record type
+ */
+public class VersionedStore<T extends Versioned<T>> {
+
+    private final ConcurrentHashMap<String, T> entries = new ConcurrentHashMap<>();
+    private final LongAdder conflicts = new LongAdder();
+    private final Function<T, String> idOf;
+
+    public VersionedStore(Function<T, String> idOf) {
+        if (idOf == null) {
+            throw new IllegalArgumentException("idOf is required");
+        }
+        this.idOf = idOf;
+    }
+
+    public static VersionedStore<TaskEnvelope> forTasks() {
+        return new VersionedStore<>(TaskEnvelope::taskId);
+    }
+
+    public static VersionedStore<TrendData> forTrends() {
+        return new VersionedStore<>(TrendData::trendId);
+    }
+
+    public static VersionedStore<ContentArtifact> forArtifacts() {
+        return new VersionedStore<>(ContentArtifact::artifactId);
+    }
+
+    public Optional<T> get(String id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    /**
+     * Stores a record whose id is not yet present, keeping its version as given.
+     *
+     * @throws StaleVersionException if the id already exists (expected 0, actual = stored version)
+     */
+    public T insert(T value) throws StaleVersionException {
+        T existing = entries.putIfAbsent(key(value), value);
+        if (existing != null) {
+            throw conflict(0L, existing.version());
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the stored record if its version still equals {@code proposed.version()}.
+     *
+     * @param proposed the new state, carrying the version the caller originally read
+     * @return the stored copy, carrying the bumped version
+     * @throws StaleVersionException if another writer committed first or the entry was removed
+     */
+    public T compareAndSet(T proposed) throws StaleVersionException {
+        String id = key(proposed);
+        long expected = proposed.version();
+        T next = proposed.withVersion(expected + 1);
+        while (true) {
+            T current = entries.get(id);
+            if (current == null) {
+                throw conflict(expected, 0L);
+            }
+            if (current.version() != expected) {
+                throw conflict(expected, current.version());
+            }
+            if (entries.replace(id, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Reload–mutate–CAS loop. The mutation may run several times and must be side-effect free.
+     *
+     * @param maxAttempts number of CAS attempts before giving up (at least 1)
+     * @throws StaleVersionException from the last attempt if every attempt lost the race,
+     *                               or immediately if the entry does not exist
+     */
+    public T update(String id, UnaryOperator<T> mutation, int maxAttempts) throws StaleVersionException {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        StaleVersionException lastConflict = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            T current = entries.get(id);
+            if (current == null) {
+                throw conflict(lastConflict == null ? 0L : lastConflict.getActual(), 0L);
+            }
+            T proposed = mutation.apply(current);
+            if (proposed.version() != current.version() || !id.equals(key(proposed))) {
+                throw new IllegalArgumentException("mutation must keep the id and version of its input");
+            }
+            T next = proposed.withVersion(current.version() + 1);
+            if (entries.replace(id, current, next)) {
+                return next;
+            }
+            T winner = entries.get(id);
+            lastConflict = conflict(current.version(), winner == null ? 0L : winner.version());
+            Thread.onSpinWait();
+        }
+        throw lastConflict;
+    }
+
+    /**
+     * Stores the record exactly as given, version included, if the id is absent or stored at
+     * a lower version. For moving records between stores (e.g. shard handoff) without
+     * disturbing the version OCC writers hold.
+     *
+     * @return true if the record was stored
+     */
+    public boolean putIfNewer(T value) {
+        String id = key(value);
+        boolean[] stored = new boolean[1];
+        entries.compute(id, (key, current) -> {
+            if (current == null || current.version() < value.version()) {
+                stored[0] = true;
+                return value;
+            }
+            return current;
+        });
+        return stored[0];
+    }
+
+    /**
+     * Removes the entry only if it is still at {@code expectedVersion}.
+     *
+     * @throws StaleVersionException if the stored version differs
+     */
+    public void remove(String id, long expectedVersion) throws StaleVersionException {
+        while (true) {
+            T current = entries.get(id);
+            if (current == null) {
+                throw conflict(expectedVersion, 0L);
+            }
+            if (current.version() != expectedVersion) {
+                throw conflict(expectedVersion, current.version());
+            }
+            if (entries.remove(id, current)) {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** OCC conflicts seen so far: stale writes rejected plus races lost and retried by {@link #update}. */
+    public long conflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Weakly consistent view of the current records; never blocks writers.
+     */
+    public Collection<T> values() {
+        return entries.values();
+    }
+
+    private StaleVersionException conflict(long expected, long actual) {
+        conflicts.increment();
+        return new StaleVersionException(expected, actual);
+    }
+
+    private String key(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        String id = idOf.apply(value);
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("id must not be blank");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,24 @@
+package com.tenx.enterprise.template;
+
+/**
+ * The precompiled templates for one persona's content.
+ *
+ * @param script      template for the video script
+ * @param caption     template for the post caption
+ * @param maxHashtags hashtags derived from the trend's keywords
+ */
+public record ContentTemplate(PromptTemplate script, PromptTemplate caption, int maxHashtags) {
+
+    public ContentTemplate {
+        if (script == null || caption == null) {
+            throw new IllegalArgumentException("script and caption templates are required");
+        }
+        if (maxHashtags < 0) {
+            throw new IllegalArgumentException("maxHashtags must not be negative");
+        }
+    }
+
+    public static ContentTemplate of(String script, String caption, int maxHashtags) {
+        return new ContentTemplate(PromptTemplate.compile(script), PromptTemplate.compile(caption), maxHashtags);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tenx.enterprise.template;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Builds hashtags from keywords in one pass per keyword: letters and digits are kept, every
+ * other character splits words, and each word is capitalised ("ai music!" → "#AiMusic").
+ */
+public final class Hashtags {
+
+    private Hashtags() {}
+
+    /**
+     * @return at most {@code max} distinct hashtags (case-insensitive), in keyword order
+     */
+    public static List<String> from(List<String> keywords, int max) {
+        List<String> tags = new ArrayList<>(Math.min(max, keywords == null ? 0 : keywords.size()));
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; keywords != null && i < keywords.size() && tags.size() < max; i++) {
+            String tag = tag(keywords.get(i));
+            if (tag != null && seen.add(tag.toLowerCase(Locale.ROOT))) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * @return the hashtag, or null if the keyword has no letters or digits
+     */
+    public static String tag(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(keyword.length() + 1).append('#');
+        boolean wordStart = true;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(wordStart ? Character.toUpperCase(c) : c);
+                wordStart = false;
+            } else {
+                wordStart = true;
+            }
+        }
+        return out.length() > 1 ? out.toString() : null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tenx.enterprise.template;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A text template with {@code {{variable}}} placeholders, parsed once into alternating
+ * literal and {@link TemplateVariable} parts. Rendering walks the parts into one presized
+ * StringBuilder; there is no regex and no per-render parsing.
+ */
+public final class PromptTemplate {
+
+    private static final int VARIABLE_LENGTH_ESTIMATE = 24;
+
+    private final String source;
+    private final String[] literals;
+    private final TemplateVariable[] variables;
+    private final int capacity;
+
+    private PromptTemplate(String source, String[] literals, TemplateVariable[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.capacity = literalLength + variables.length * VARIABLE_LENGTH_ESTIMATE;
+    }
+
+    /**
+     * @throws IllegalArgumentException on an unclosed placeholder or an unknown variable
+     */
+    public static PromptTemplate compile(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("template source is required");
+        }
+        List<String> literals = new ArrayList<>();
+        List<TemplateVariable> variables = new ArrayList<>();
+        int position = 0;
+        for (int open = source.indexOf("{{"); open >= 0; open = source.indexOf("{{", position)) {
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("unclosed placeholder at index " + open + " in: " + source);
+            }
+            literals.add(source.substring(position, open));
+            int nameStart = trimStart(source, open + 2, close);
+            variables.add(TemplateVariable.named(source, nameStart, trimEnd(source, nameStart, close)));
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new PromptTemplate(source, literals.toArray(String[]::new), variables.toArray(TemplateVariable[]::new));
+    }
+
+    public String render(TrendData trend, String persona) {
+        StringBuilder out = new StringBuilder(capacity);
+        renderTo(out, trend, persona);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, TrendData trend, String persona) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            variables[i].appendTo(out, trend, persona);
+        }
+        out.append(literals[variables.length]);
+    }
+
+    public List<TemplateVariable> variables() {
+        return List.of(variables);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    private static int trimStart(String source, int from, int to) {
+        while (from < to && source.charAt(from) == ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String source, int from, int to) {
+        while (to > from && source.charAt(to - 1) == ' ') {
+            to--;
+        }
+        return to;
+    }
+}
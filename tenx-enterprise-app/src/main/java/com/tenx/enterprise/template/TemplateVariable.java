@@ -0,0 +1,83 @@
+package com.tenx.enterprise.template;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.util.List;
+
+/**
+ * The values a {@link PromptTemplate} can reference, as {@code {{name}}}. The set is closed so
+ * a typo fails at compile time and rendering needs no map lookups.
+ */
+public enum TemplateVariable {
+    TOPIC("topic"),
+    PERSONA("persona"),
+    PLATFORM("platform"),
+    REGION("region"),
+    KEYWORDS("keywords"),
+    KEYWORD_1("keyword1"),
+    KEYWORD_2("keyword2"),
+    KEYWORD_3("keyword3");
+
+    private static final TemplateVariable[] VALUES = values();
+
+    private final String placeholder;
+
+    TemplateVariable(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String placeholder() {
+        return placeholder;
+    }
+
+    /**
+     * Looks up a placeholder name in {@code source[from, to)} without creating a substring.
+     */
+    static TemplateVariable named(String source, int from, int to) {
+        for (TemplateVariable variable : VALUES) {
+            String name = variable.placeholder;
+            if (name.length() == to - from && source.regionMatches(from, name, 0, name.length())) {
+                return variable;
+            }
+        }
+        throw new IllegalArgumentException("unknown template variable {{" + source.substring(from, to) + "}}");
+    }
+
+    /**
+     * Appends this variable's value; missing values render as nothing.
+     */
+    void appendTo(StringBuilder out, TrendData trend, String persona) {
+        switch (this) {
+            case TOPIC -> append(out, trend.topic());
+            case PERSONA -> append(out, persona);
+            case PLATFORM -> append(out, trend.platform());
+            case REGION -> append(out, trend.region());
+            case KEYWORDS -> {
+                List<String> keywords = trend.keywords();
+                for (int i = 0; keywords != null && i < keywords.size(); i++) {
+                    if (i > 0) {
+                        out.append(", ");
+                    }
+                    append(out, keywords.get(i));
+                }
+            }
+            case KEYWORD_1 -> appendKeyword(out, trend, 0);
+            case KEYWORD_2 -> appendKeyword(out, trend, 1);
+            case KEYWORD_3 -> appendKeyword(out, trend, 2);
+            default -> throw new IllegalStateException("unhandled variable " + this);
+        }
+    }
+
+    private static void appendKeyword(StringBuilder out, TrendData trend, int index) {
+        List<String> keywords = trend.keywords();
+        if (keywords != null && index < keywords.size()) {
+            append(out, keywords.get(index));
+        }
+    }
+
+    private static void append(StringBuilder out, String value) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tenx.enterprise.trend;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns raw trend observations into deltas. A trend is identified by platform, region and
+ * topic (case-insensitive), not by the id the source happened to assign: the first
+ * observation keeps its id, and a later one whose relevanceScore moved by more than
+ * {@code minScoreChange}, or whose keywords changed, comes out under that same id with the
+ * version bumped. Unchanged observations produce nothing.
+ */
+public class TrendDeltaTracker {
+
+    private final Map<String, TrendData> current = new ConcurrentHashMap<>();
+    private final double minScoreChange;
+
+    public TrendDeltaTracker() {
+        this(0.0);
+    }
+
+    public TrendDeltaTracker(double minScoreChange) {
+        if (minScoreChange < 0.0) {
+            throw new IllegalArgumentException("minScoreChange must not be negative");
+        }
+        this.minScoreChange = minScoreChange;
+    }
+
+    /**
+     * @return the trend to publish, or empty if nothing changed
+     */
+    public Optional<TrendData> apply(TrendData observed) {
+        TrendData[] emitted = new TrendData[1];
+        current.compute(key(observed), (key, previous) -> {
+            if (previous == null) {
+                emitted[0] = observed;
+                return observed;
+            }
+            if (Math.abs(observed.relevanceScore() - previous.relevanceScore()) <= minScoreChange
+                    && Objects.equals(observed.keywords(), previous.keywords())) {
+                return previous;
+            }
+            emitted[0] = new TrendData(previous.trendId(), previous.platform(), previous.topic(),
+                    observed.keywords(), observed.relevanceScore(), previous.region(), observed.fetchedAt(),
+                    previous.version() + 1);
+            return emitted[0];
+        });
+        return Optional.ofNullable(emitted[0]);
+    }
+
+    public Optional<TrendData> current(String platform, String region, String topic) {
+        return Optional.ofNullable(current.get(key(platform, region, topic)));
+    }
+
+    public int size() {
+        return current.size();
+    }
+
+    private static String key(TrendData trend) {
+        return key(trend.platform(), trend.region(), trend.topic());
+    }
+
+    private static String key(String platform, String region, String topic) {
+        String normalised = topic == null ? "" : topic.trim().toLowerCase(Locale.ROOT);
+        return platform + '\u0000' + region + '\u0000' + normalised;
+    }
+}
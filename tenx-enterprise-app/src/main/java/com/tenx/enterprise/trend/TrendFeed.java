@@ -0,0 +1,96 @@
+package com.tenx.enterprise.trend;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publisher of trend deltas for one (platform, region) stream.
+ *
+ * Observations go through a {@link TrendDeltaTracker}, so subscribers only see new or changed
+ * trends. The {@link Source} starts on its own Virtual Thread when the first subscriber
+ * attaches. {@link SubmissionPublisher#submit} blocks while a subscriber's buffer is full,
+ * so the source only runs as fast as subscribers request. The source should stop once
+ * {@link #isActive()} turns false — the feed was closed or every subscriber cancelled.
+ */
+public class TrendFeed extends SubmissionPublisher<TrendData> {
+
+    /**
+     * Produces raw observations into the feed until it is no longer active.
+     */
+    @FunctionalInterface
+    public interface Source {
+        void produce(TrendFeed feed) throws Exception;
+    }
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    private final TrendDeltaTracker tracker;
+    private final Source source;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final LongAdder observed = new LongAdder();
+    private final LongAdder published = new LongAdder();
+
+    public TrendFeed(Source source) {
+        this(source, new TrendDeltaTracker(), Flow.defaultBufferSize());
+    }
+
+    public TrendFeed(Source source, TrendDeltaTracker tracker, int bufferCapacity) {
+        super(VIRTUAL_THREADS, bufferCapacity);
+        if (source == null || tracker == null) {
+            throw new IllegalArgumentException("source and tracker are required");
+        }
+        this.source = source;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TrendData> subscriber) {
+        super.subscribe(subscriber);
+        if (started.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("trend-feed").start(this::run);
+        }
+    }
+
+    /**
+     * Publishes the observation if it is new or changed, blocking while subscribers lag.
+     *
+     * @return true if a delta was published
+     */
+    public boolean offer(TrendData observation) {
+        observed.increment();
+        return tracker.apply(observation).map(delta -> {
+            submit(delta);
+            published.increment();
+            return true;
+        }).orElse(false);
+    }
+
+    public boolean isActive() {
+        return !isClosed() && hasSubscribers();
+    }
+
+    public long observedCount() {
+        return observed.sum();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    private void run() {
+        try {
+            source.produce(this);
+            close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        } catch (Exception e) {
+            closeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.tenx.enterprise.trend;
+
+import com.tenx.enterprise.dto.TrendData;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incrementally maintained inverted index over TrendData for Planner queries such as
+ * "top 20 trends in region US across all platforms matching any of these keywords".
+ *
+ * Each indexed trend gets an int slot; slots are handed out in ascending order and never
+ * reused, so every postings list (keyword, platform and region → slots) is a sorted
+ * {@code int[]}. A query walks the union of its keyword postings in slot order, applies the
+ * platform/region filters against per-slot ordinals, and keeps the best {@code limit}
+ * scores in a bounded min-heap — O(matching postings · log K), never O(all trends).
+ *
+ * Replacing or evicting a trend only clears its slot; postings keep the dead entry until
+ * dead slots outnumber live ones, at which point the index is rebuilt compactly.
+ * Keywords are matched case-insensitively. Queries share a read lock; writes are exclusive.
+ */
+public class TrendIndex {
+
+    private static final int ANY = -1;
+    private static final int MIN_COMPACTION_DEAD_SLOTS = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final HashMap<String, Integer> slotsById = new HashMap<>();
+    private Dictionary keywords = new Dictionary();
+    private Dictionary platforms = new Dictionary();
+    private Dictionary regions = new Dictionary();
+    private TrendData[] trends = new TrendData[1024];
+    private double[] scores = new double[1024];
+    private int[] platformOrds = new int[1024];
+    private int[] regionOrds = new int[1024];
+    private long[] fetchedAtMillis = new long[1024];
+    private int slotCount;
+    private int deadSlots;
+
+    /**
+     * Adds or replaces a trend. A trend whose version is lower than the indexed one is ignored.
+     *
+     * @return true if the index changed
+     */
+    public boolean index(TrendData trend) {
+        lock.writeLock().lock();
+        try {
+            boolean changed = put(trend);
+            maybeCompact();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #index} under a single write lock.
+     *
+     * @return how many trends changed the index
+     */
+    public int indexAll(Collection<TrendData> batch) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            for (TrendData trend : batch) {
+                if (put(trend)) {
+                    changed++;
+                }
+            }
+            maybeCompact();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String trendId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(trendId);
+            if (slot == null) {
+                return false;
+            }
+            kill(slot);
+            maybeCompact();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every trend fetched before {@code cutoff}; a trend without fetchedAt counts as
+     * fetched when it was indexed.
+     *
+     * @return the number of trends evicted
+     */
+    public int evictFetchedBefore(Instant cutoff) {
+        long cutoffMillis = cutoff.toEpochMilli();
+        lock.writeLock().lock();
+        try {
+            int evicted = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (trends[slot] != null && fetchedAtMillis[slot] < cutoffMillis) {
+                    slotsById.remove(trends[slot].trendId());
+                    kill(slot);
+                    evicted++;
+                }
+            }
+            maybeCompact();
+            return evicted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<TrendData> get(String trendId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(trendId);
+            return slot == null ? Optional.empty() : Optional.of(trends[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code query.limit()} matching trends, highest relevanceScore first;
+     *         ties go to the most recently indexed trend
+     */
+    public List<TrendData> query(TrendQuery query) {
+        lock.readLock().lock();
+        try {
+            int platform = query.platform() == null ? ANY : platforms.ordOf(query.platform());
+            int region = query.region() == null ? ANY : regions.ordOf(query.region());
+            if (platform == Dictionary.ABSENT || region == Dictionary.ABSENT || slotsById.isEmpty()) {
+                return List.of();
+            }
+
+            TopK top = new TopK(Math.min(query.limit(), slotsById.size()));
+            if (query.keywords().isEmpty()) {
+                Postings source = region != ANY ? regions.postings(region)
+                        : platform != ANY ? platforms.postings(platform) : null;
+                if (source == null) {
+                    for (int slot = 0; slot < slotCount; slot++) {
+                        consider(slot, platform, region, top);
+                    }
+                } else {
+                    for (int i = 0; i < source.size; i++) {
+                        consider(source.slots[i], platform, region, top);
+                    }
+                }
+            } else {
+                unionKeywordPostings(query, platform, region, top);
+            }
+
+            int[] slots = top.drainBestFirst();
+            List<TrendData> result = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                result.add(trends[slot]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * k-way merge of the (sorted) keyword postings so a trend matching several keywords is
+     * considered once. k is the number of query keywords, so a linear min-scan per step is
+     * cheaper than a heap.
+     */
+    private void unionKeywordPostings(TrendQuery query, int platform, int region, TopK top) {
+        List<Postings> lists = new ArrayList<>(query.keywords().size());
+        for (String keyword : query.keywords()) {
+            int ord = keywords.ordOf(normalize(keyword));
+            if (ord != Dictionary.ABSENT) {
+                lists.add(keywords.postings(ord));
+            }
+        }
+        int[] cursors = new int[lists.size()];
+        int previous = -1;
+        while (true) {
+            int next = Integer.MAX_VALUE;
+            for (int i = 0; i < cursors.length; i++) {
+                Postings postings = lists.get(i);
+                while (cursors[i] < postings.size && postings.slots[cursors[i]] <= previous) {
+                    cursors[i]++;
+                }
+                if (cursors[i] < postings.size) {
+                    next = Math.min(next, postings.slots[cursors[i]]);
+                }
+            }
+            if (next == Integer.MAX_VALUE) {
+                return;
+            }
+            consider(next, platform, region, top);
+            previous = next;
+        }
+    }
+
+    private void consider(int slot, int platform, int region, TopK top) {
+        if (trends[slot] != null
+                && (platform == ANY || platformOrds[slot] == platform)
+                && (region == ANY || regionOrds[slot] == region)) {
+            top.offer(scores[slot], slot);
+        }
+    }
+
+    private boolean put(TrendData trend) {
+        Integer existing = slotsById.get(trend.trendId());
+        if (existing != null) {
+            if (trends[existing].version() > trend.version()) {
+                return false;
+            }
+            kill(existing);
+        }
+        long fetchedAt = trend.fetchedAt() == null ? System.currentTimeMillis() : trend.fetchedAt().toEpochMilli();
+        slotsById.put(trend.trendId(), append(trend, fetchedAt));
+        return true;
+    }
+
+    private int append(TrendData trend, long fetchedAt) {
+        int slot = slotCount++;
+        if (slot == trends.length) {
+            int capacity = trends.length * 2;
+            trends = Arrays.copyOf(trends, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            platformOrds = Arrays.copyOf(platformOrds, capacity);
+            regionOrds = Arrays.copyOf(regionOrds, capacity);
+            fetchedAtMillis = Arrays.copyOf(fetchedAtMillis, capacity);
+        }
+        trends[slot] = trend;
+        scores[slot] = trend.relevanceScore();
+        fetchedAtMillis[slot] = fetchedAt;
+        platformOrds[slot] = platforms.add(trend.platform(), slot);
+        regionOrds[slot] = trend.region() == null ? Dictionary.ABSENT : regions.add(trend.region(), slot);
+        if (trend.keywords() != null) {
+            for (String keyword : trend.keywords()) {
+                if (keyword != null && !keyword.isBlank()) {
+                    keywords.add(normalize(keyword), slot);
+                }
+            }
+        }
+        return slot;
+    }
+
+    private void kill(int slot) {
+        trends[slot] = null;
+        deadSlots++;
+    }
+
+    /**
+     * Rebuilds slots, postings and dictionaries from the live trends once dead slots
+     * dominate, so postings stay dense and stale keywords are forgotten.
+     */
+    private void maybeCompact() {
+        if (deadSlots < MIN_COMPACTION_DEAD_SLOTS || deadSlots < slotCount - deadSlots) {
+            return;
+        }
+        TrendData[] live = trends;
+        long[] liveFetchedAt = fetchedAtMillis;
+        int liveCount = slotCount;
+        int capacity = Math.max(1024, Integer.highestOneBit(Math.max(1, liveCount - deadSlots)) * 2);
+        trends = new TrendData[capacity];
+        scores = new double[capacity];
+        platformOrds = new int[capacity];
+        regionOrds = new int[capacity];
+        fetchedAtMillis = new long[capacity];
+        keywords = new Dictionary();
+        platforms = new Dictionary();
+        regions = new Dictionary();
+        slotCount = 0;
+        deadSlots = 0;
+        for (int slot = 0; slot < liveCount; slot++) {
+            if (live[slot] != null) {
+                slotsById.put(live[slot].trendId(), append(live[slot], liveFetchedAt[slot]));
+            }
+        }
+    }
+
+    private static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Interns the values of one field as ordinals, each with its postings. */
+    private static final class Dictionary {
+        static final int ABSENT = -2;
+
+        private final HashMap<String, Integer> ords = new HashMap<>();
+        private final ArrayList<Postings> postings = new ArrayList<>();
+
+        int ordOf(String value) {
+            return ords.getOrDefault(value, ABSENT);
+        }
+
+        Postings postings(int ord) {
+            return postings.get(ord);
+        }
+
+        int add(String value, int slot) {
+            Integer ord = ords.get(value);
+            if (ord == null) {
+                ord = postings.size();
+                ords.put(value, ord);
+                postings.add(new Postings());
+            }
+            postings.get(ord).add(slot);
+            return ord;
+        }
+    }
+
+    /** Growable sorted int list of slots. */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            // A trend listing the same keyword twice must not be posted twice.
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /** Bounded min-heap of (score, slot); the root is the weakest of the current top K. */
+    private static final class TopK {
+        private final double[] heapScores;
+        private final int[] heapSlots;
+        private int size;
+
+        TopK(int k) {
+            heapScores = new double[k];
+            heapSlots = new int[k];
+        }
+
+        void offer(double score, int slot) {
+            if (size < heapScores.length) {
+                heapScores[size] = score;
+                heapSlots[size] = slot;
+                siftUp(size++);
+            } else if (weaker(heapScores[0], heapSlots[0], score, slot)) {
+                heapScores[0] = score;
+                heapSlots[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        int[] drainBestFirst() {
+            int[] best = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                best[i] = heapSlots[0];
+                size--;
+                heapScores[0] = heapScores[size];
+                heapSlots[0] = heapSlots[size];
+                siftDown(0);
+            }
+            return best;
+        }
+
+        private static boolean weaker(double scoreA, int slotA, double scoreB, int slotB) {
+            return scoreA < scoreB || (scoreA == scoreB && slotA < slotB);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!weaker(heapScores[i], heapSlots[i], heapScores[parent], heapSlots[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int child = left + 1 < size && weaker(heapScores[left + 1], heapSlots[left + 1],
+                        heapScores[left], heapSlots[left]) ? left + 1 : left;
+                if (!weaker(heapScores[child], heapSlots[child], heapScores[i], heapSlots[i])) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = heapScores[a];
+            heapScores[a] = heapScores[b];
+            heapScores[b] = score;
+            int slot = heapSlots[a];
+            heapSlots[a] = heapSlots[b];
+            heapSlots[b] = slot;
+        }
+    }
+}
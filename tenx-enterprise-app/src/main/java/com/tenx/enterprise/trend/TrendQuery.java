@@ -0,0 +1,33 @@
+package com.tenx.enterprise.trend;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Top-K trend query for {@link TrendIndex}.
+ *
+ * @param keywords trends matching any of these (case-insensitive); empty matches every trend
+ * @param platform only this platform, or null for all platforms
+ * @param region   only this region, or null for all regions
+ * @param limit    maximum number of trends returned, highest relevanceScore first
+ */
+public record TrendQuery(
+        Set<String> keywords,
+        String platform,
+        String region,
+        int limit
+) {
+    public TrendQuery {
+        keywords = keywords == null ? Set.of() : Set.copyOf(keywords);
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+    }
+
+    /**
+     * E.g. {@code anyOf(20, null, "US", "ai", "music")} — top 20 in the US across all platforms.
+     */
+    public static TrendQuery anyOf(int limit, String platform, String region, String... keywords) {
+        return new TrendQuery(Set.copyOf(List.of(keywords)), platform, region, limit);
+    }
+}
@@ -0,0 +1,205 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.journal.ArtifactJournal;
+import com.tenx.enterprise.journal.FsyncPolicy;
+import com.tenx.enterprise.journal.JournalConfig;
+import com.tenx.enterprise.journal.RecoveryReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped artifact/verdict journal.
+ *
+ * Tests cover:
+ *   - Latest-version lookup and verdict audit trail
+ *   - Segment rolling and index-based recovery
+ *   - Torn-tail truncation and lost-index rebuild
+ *   - Group-committed concurrent appends
+ */
+class ArtifactJournalTest {
+
+    private static final JournalConfig SMALL_SEGMENTS = new JournalConfig(4096, FsyncPolicy.SYNC, null);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("The highest version of an artifact wins, regardless of write order")
+    void latestArtifact_highestVersionWins() throws Exception {
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, JournalConfig.defaults())) {
+            journal.append(artifact("a1", 1L, "draft"));
+            journal.append(artifact("a1", 3L, "final"));
+            journal.append(artifact("a1", 2L, "late retry"));
+
+            assertEquals("final", journal.latestArtifact("a1").orElseThrow().contentBody());
+            assertEquals(3L, journal.latestArtifact("a1").orElseThrow().version());
+            assertTrue(journal.latestArtifact("missing").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Verdicts round-trip every field and replay in write order")
+    void verdicts_roundTripAndReplayInOrder() throws Exception {
+        JudgeVerdict first = verdict("a1", ConfidenceLevel.MEDIUM, true, false);
+        JudgeVerdict second = verdict("a1", ConfidenceLevel.HIGH, false, true);
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            journal.append(artifact("a1", 1L, "body"), first);
+            for (int i = 0; i < 100; i++) {
+                journal.append(verdict("filler-" + i, ConfidenceLevel.LOW, false, false));
+            }
+            journal.append(second);
+
+            assertEquals(second, journal.latestVerdict("a1").orElseThrow());
+            List<JudgeVerdict> forA1 = new ArrayList<>();
+            journal.replayVerdicts(v -> {
+                if (v.artifactId().equals("a1")) {
+                    forA1.add(v);
+                }
+            });
+            assertEquals(List.of(first, second), forA1);
+            assertTrue(journal.segmentCount() > 1, "Small segments must have rolled");
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening restores sealed segments from their index and scans only the active one")
+    void open_recoversFromIndexFiles() throws Exception {
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            for (int i = 0; i < 200; i++) {
+                journal.append(artifact("a" + (i % 40), i, "body " + i));
+            }
+        }
+
+        try (ArtifactJournal reopened = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            RecoveryReport report = reopened.recovery();
+
+            assertEquals(40, reopened.artifactCount());
+            assertEquals("body 199", reopened.latestArtifact("a39").orElseThrow().contentBody());
+            assertEquals(200, report.indexedRecords() + report.scannedRecords());
+            assertTrue(report.indexedRecords() > report.scannedRecords(),
+                    "Most records must come from index files, not from scanning data");
+            assertEquals(0, report.truncatedBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("A torn record at the tail is discarded and appends continue after the last good record")
+    void open_truncatesTornTail() throws Exception {
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, JournalConfig.defaults())) {
+            journal.append(artifact("a1", 1L, "kept"));
+            journal.append(artifact("a2", 1L, "will be torn"));
+        }
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long secondRecord = file.readInt() + 8L;
+            file.seek(secondRecord + 20);
+            file.writeLong(0xDEADBEEFL);
+        }
+
+        try (ArtifactJournal reopened = ArtifactJournal.open(dir, JournalConfig.defaults())) {
+            assertTrue(reopened.recovery().truncatedBytes() > 0);
+            assertTrue(reopened.latestArtifact("a2").isEmpty());
+            reopened.append(artifact("a3", 1L, "after recovery"));
+        }
+        try (ArtifactJournal again = ArtifactJournal.open(dir, JournalConfig.defaults())) {
+            assertEquals("kept", again.latestArtifact("a1").orElseThrow().contentBody());
+            assertEquals("after recovery", again.latestArtifact("a3").orElseThrow().contentBody());
+            assertEquals(0, again.recovery().truncatedBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("A lost index file is rebuilt from segment data")
+    void open_rebuildsMissingIndex() throws Exception {
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(artifact("a" + i, 1L, "body"));
+            }
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            Files.delete(files.filter(p -> p.toString().endsWith(".idx")).findFirst().orElseThrow());
+        }
+
+        try (ArtifactJournal reopened = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            assertEquals(100, reopened.artifactCount());
+        }
+        try (ArtifactJournal again = ArtifactJournal.open(dir, SMALL_SEGMENTS)) {
+            assertTrue(again.recovery().indexedRecords() > 0);
+            assertEquals(100, again.artifactCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent SYNC appends are all durable and recoverable")
+    void append_concurrentGroupCommit() throws Exception {
+        JournalConfig config = new JournalConfig(64 * 1024, FsyncPolicy.SYNC, null);
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, config);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        String id = "t" + thread + "-" + i;
+                        journal.append(artifact(id, 1L, "body"), verdict(id, ConfidenceLevel.HIGH, false, true));
+                    }
+                });
+            }
+        }
+
+        try (ArtifactJournal reopened = ArtifactJournal.open(dir, config)) {
+            assertEquals(2000, reopened.artifactCount());
+            assertTrue(reopened.latestVerdict("t7-249").orElseThrow().approved());
+        }
+    }
+
+    @Test
+    @DisplayName("INTERVAL policy and the recording sink journal before forwarding")
+    void recording_journalsThenForwards() throws Exception {
+        JournalConfig config = new JournalConfig(JournalConfig.MIN_SEGMENT_BYTES, FsyncPolicy.INTERVAL,
+                Duration.ofMillis(5));
+        List<String> routed = new ArrayList<>();
+        try (ArtifactJournal journal = ArtifactJournal.open(dir, config)) {
+            journal.recording((artifact, verdict) -> {
+                assertTrue(journal.latestVerdict(artifact.artifactId()).isPresent());
+                routed.add(artifact.artifactId());
+            }).accept(artifact("a1", 1L, "body"), verdict("a1", ConfidenceLevel.HIGH, false, true));
+        }
+
+        assertEquals(List.of("a1"), routed);
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournalConfig(JournalConfig.MIN_SEGMENT_BYTES, FsyncPolicy.INTERVAL, null));
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static ContentArtifact artifact(String id, long version, String body) {
+        return new ContentArtifact(id, "task-" + id, "camp-1", "short_video", body, "tiktok",
+                Instant.parse("2025-01-15T10:30:00.123456789Z"), version);
+    }
+
+    private static JudgeVerdict verdict(String artifactId, ConfidenceLevel level, boolean sensitive, boolean approved) {
+        return new JudgeVerdict("v-" + artifactId, artifactId, level, sensitive, approved, "reason",
+                Instant.parse("2025-01-15T10:31:00Z"));
+    }
+}
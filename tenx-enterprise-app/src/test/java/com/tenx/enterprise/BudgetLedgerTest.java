@@ -0,0 +1,120 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.budget.BudgetLedger;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.BudgetedContentGeneratorSkill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-campaign BudgetLedger and the budget-enforcing generator decorator.
+ *
+ * Contract: specs/functional.md → US-FG-001, US-FG-002
+ */
+class BudgetLedgerTest {
+
+    private BudgetLedger ledger;
+    private TrendData sampleTrend;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new BudgetLedger();
+        ledger.allocate("camp-1", 10.00);
+        sampleTrend = new TrendData("trend-001", "tiktok", "AI Coding",
+                List.of("ai", "coding"), 0.9, "US", Instant.now(), 1L);
+    }
+
+    @Test
+    @DisplayName("Reserve then commit charges the actual cost and refunds the rest")
+    void reserveCommit_refundsUnusedAmount() {
+        BudgetLedger.Reservation reservation = ledger.reserve("camp-1", 3.00);
+        assertEquals(7.00, ledger.available("camp-1"));
+        assertEquals(3.00, ledger.reserved("camp-1"));
+
+        reservation.commit(1.25);
+
+        assertEquals(8.75, ledger.available("camp-1"));
+        assertEquals(1.25, ledger.spent("camp-1"));
+        assertEquals(0.0, ledger.reserved("camp-1"));
+    }
+
+    @Test
+    @DisplayName("Closing an unsettled reservation returns the funds")
+    void close_releasesReservation() {
+        try (BudgetLedger.Reservation ignored = ledger.reserve("camp-1", 4.00)) {
+            assertEquals(6.00, ledger.available("camp-1"));
+        }
+        assertEquals(10.00, ledger.available("camp-1"));
+    }
+
+    @Test
+    @DisplayName("Over-budget reservation throws with exact requested and available amounts")
+    void reserve_overBudget_throwsExactAmounts() {
+        ledger.reserve("camp-1", 9.99);
+
+        BudgetExceededException ex = assertThrows(BudgetExceededException.class,
+                () -> ledger.reserve("camp-1", 0.02));
+
+        assertEquals(0.02, ex.getRequested());
+        assertEquals(0.01, ex.getAvailable());
+    }
+
+    @Test
+    @DisplayName("Thousands of Virtual Thread reservations never overspend one campaign")
+    void reserve_concurrentVirtualThreads_neverOverspend() {
+        ledger.allocate("camp-hot", 50.00);
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.submit(() -> {
+                    try {
+                        ledger.reserve("camp-hot", 0.01).commit(0.01);
+                        granted.incrementAndGet();
+                    } catch (BudgetExceededException e) {
+                        rejected.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertEquals(5_000, granted.get());
+        assertEquals(5_000, rejected.get());
+        assertEquals(50.00, ledger.spent("camp-hot"));
+        assertEquals(0.0, ledger.available("camp-hot"));
+    }
+
+    @Test
+    @DisplayName("Budgeted generator rejects before calling the delegate when funds are short")
+    void budgetedGenerator_rejectsBeforeExternalCall() {
+        AtomicInteger delegateCalls = new AtomicInteger();
+        ContentGeneratorSkill delegate = (trend, persona, budget) -> {
+            delegateCalls.incrementAndGet();
+            return new ContentPayload("c1", "script", "caption", List.of("ai"),
+                    trend.platform(), persona, 0.50, Instant.now());
+        };
+        ledger.allocate("camp-small", 1.00);
+        ContentGeneratorSkill generator = new BudgetedContentGeneratorSkill(delegate, ledger, "camp-small", 0.75);
+
+        generator.generateContent(sampleTrend, "techGuru", 5.0);
+        assertThrows(BudgetExceededException.class,
+                () -> generator.generateContent(sampleTrend, "techGuru", 5.0));
+        assertThrows(BudgetExceededException.class,
+                () -> generator.generateContent(sampleTrend, "techGuru", 0.01));
+
+        assertEquals(1, delegateCalls.get(), "Rejected calls must never reach the external skill");
+        assertEquals(0.50, ledger.spent("camp-small"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.tenx.enterprise;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.CachingTrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Caffeine-backed CachingTrendFetcherSkill decorator.
+ *
+ * Contract: specs/technical.md → TrendFetcherSkill
+ */
+class CachingTrendFetcherTest {
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private CountDownLatch release;
+    private CachingTrendFetcherSkill cachingFetcher;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(0);
+        TrendFetcherSkill stub = new TrendFetcherSkillStub();
+        TrendFetcherSkill slowCountingFetcher = new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return stub.name();
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                delegateCalls.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return stub.fetchTrends(platform, region, limit);
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return stub.supports(taskType);
+            }
+        };
+        cachingFetcher = new CachingTrendFetcherSkill(slowCountingFetcher,
+                Duration.ofMinutes(5), Duration.ofMinutes(1), 5, 100, ticker);
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for one key share a single upstream fetch")
+    void fetchTrends_concurrentMisses_coalesce() throws Exception {
+        release = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> cachingFetcher.fetchTrends("tiktok", "US", 3));
+            }
+            Thread.sleep(100);
+            release.countDown();
+        }
+
+        assertEquals(1, delegateCalls.get(), "All callers must share the in-flight fetch");
+    }
+
+    @Test
+    @DisplayName("A smaller limit is served by slicing the cached list")
+    void fetchTrends_smallerLimit_slicesCachedList() {
+        List<TrendData> full = cachingFetcher.fetchTrends("tiktok", "US", 5);
+        List<TrendData> top2 = cachingFetcher.fetchTrends("tiktok", "US", 2);
+
+        assertEquals(1, delegateCalls.get());
+        assertEquals(2, top2.size());
+        assertSame(full.get(0), top2.get(0));
+        assertSame(full.get(1), top2.get(1));
+    }
+
+    @Test
+    @DisplayName("Keys are isolated by platform and region")
+    void fetchTrends_differentKeys_fetchSeparately() {
+        cachingFetcher.fetchTrends("tiktok", "US", 3);
+        cachingFetcher.fetchTrends("tiktok", "JP", 3);
+        cachingFetcher.fetchTrends("youtube", "US", 3);
+
+        assertEquals(3, delegateCalls.get());
+    }
+
+    @Test
+    @DisplayName("Entries expire after the TTL")
+    void fetchTrends_afterTtl_refetches() {
+        cachingFetcher.fetchTrends("tiktok", "US", 3);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cachingFetcher.fetchTrends("tiktok", "US", 3);
+
+        assertEquals(2, delegateCalls.get());
+    }
+
+    @Test
+    @DisplayName("Limits above the cached fetch size bypass the cache")
+    void fetchTrends_limitAboveFetchLimit_bypassesCache() {
+        cachingFetcher.fetchTrends("tiktok", "US", 20);
+        cachingFetcher.fetchTrends("tiktok", "US", 20);
+
+        assertEquals(2, delegateCalls.get());
+    }
+
+    @Test
+    @DisplayName("Hit, miss and load-time statistics are exported")
+    void exportStats_reportsHitsMissesAndLoadTime() {
+        cachingFetcher.fetchTrends("tiktok", "US", 3);
+        cachingFetcher.fetchTrends("tiktok", "US", 3);
+        cachingFetcher.fetchTrends("tiktok", "US", 1);
+
+        var stats = cachingFetcher.exportStats();
+        assertEquals(2L, stats.get("trend_cache_hits"));
+        assertEquals(1L, stats.get("trend_cache_misses"));
+        assertEquals(1L, stats.get("trend_cache_load_success"));
+        assertTrue(stats.containsKey("trend_cache_load_time_total_nanos"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.CampaignOrchestrator;
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Planner → Worker → Judge orchestrator.
+ *
+ * Tests cover:
+ *   - End-to-end execution with every verdict streamed to the caller
+ *   - Per-campaign and global concurrency caps
+ *   - Failure accounting and throughput/latency reporting
+ */
+class CampaignOrchestratorTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private Planner planner;
+    private Worker worker;
+    private Judge judge;
+
+    @BeforeEach
+    void setUp() {
+        planner = (campaignId, goal) -> tasks(campaignId, 50);
+        worker = task -> {
+            int now = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(5);
+                return new ContentArtifact("art-" + task.taskId(), task.taskId(), task.campaignId(),
+                        "short_video", "body", "tiktok", Instant.now(), task.version());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+        judge = artifact -> new JudgeVerdict("v-" + artifact.artifactId(), artifact.artifactId(),
+                ConfidenceLevel.HIGH, false, true, "ok", Instant.now());
+    }
+
+    @Test
+    @DisplayName("Every planned task reaches the Judge and its verdict is streamed out")
+    void run_streamsVerdictForEveryTask() throws Exception {
+        CampaignOrchestrator orchestrator = new CampaignOrchestrator(planner, worker, judge, 64, 64);
+        Set<String> verdictArtifacts = ConcurrentHashMap.newKeySet();
+
+        CampaignReport report = orchestrator.run("camp-1", "grow reach",
+                (artifact, verdict) -> verdictArtifacts.add(verdict.artifactId()));
+
+        assertEquals(50, report.tasksSubmitted());
+        assertEquals(50, report.tasksCompleted());
+        assertEquals(0, report.tasksFailed());
+        assertEquals(50, verdictArtifacts.size(), "Each artifact must produce exactly one verdict");
+        assertTrue(report.tasksPerSecond() > 0.0);
+        assertFalse(report.p99TaskToVerdict().isNegative());
+        assertEquals(0, orchestrator.activeTasks(), "No task may still hold a permit after run returns");
+    }
+
+    @Test
+    @DisplayName("Per-campaign cap bounds the number of concurrently executing Workers")
+    void execute_respectsPerCampaignCap() throws Exception {
+        CampaignOrchestrator orchestrator = new CampaignOrchestrator(planner, worker, judge, 64, 4);
+
+        orchestrator.execute("camp-1", tasks("camp-1", 40), (a, v) -> { });
+
+        assertTrue(peakInFlight.get() <= 4, "Peak in-flight was " + peakInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Global cap is shared by campaigns running at the same time")
+    void execute_respectsGlobalCapAcrossCampaigns() throws Exception {
+        CampaignOrchestrator orchestrator = new CampaignOrchestrator(planner, worker, judge, 3, 10);
+
+        Thread other = Thread.ofVirtual().start(() -> {
+            try {
+                orchestrator.execute("camp-2", tasks("camp-2", 30), (a, v) -> { });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        orchestrator.execute("camp-1", tasks("camp-1", 30), (a, v) -> { });
+        other.join();
+
+        assertTrue(peakInFlight.get() <= 3, "Peak in-flight was " + peakInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Worker failures are counted without aborting the rest of the campaign")
+    void execute_countsFailures() throws Exception {
+        Worker flaky = task -> {
+            if (task.taskId().endsWith("7")) {
+                throw new IllegalStateException("boom");
+            }
+            return worker.execute(task);
+        };
+        CampaignOrchestrator orchestrator = new CampaignOrchestrator(planner, flaky, judge, 16, 16);
+
+        CampaignReport report = orchestrator.execute("camp-1", tasks("camp-1", 20), (a, v) -> { });
+
+        assertEquals(2, report.tasksFailed());
+        assertEquals(18, report.tasksCompleted());
+    }
+
+    private static List<TaskEnvelope> tasks(String campaignId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TaskEnvelope("task-" + i, campaignId, TaskType.CONTENT_GENERATION,
+                        "{}", 1L, Instant.now()))
+                .toList();
+    }
+}
@@ -0,0 +1,164 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.cluster.ClusterNode;
+import com.tenx.enterprise.cluster.HashRing;
+import com.tenx.enterprise.cluster.LocalCluster;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.StaleVersionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cover:
+ * - Ring balance across virtual nodes and minimal key movement on join
+ * - Forwarding operations sent to a node that does not own the campaign
+ * - Version-preserving handoff when nodes join and leave
+ * - OCC writes that straddle a membership change
+ * - Submissions racing a join are neither lost nor duplicated
+ */
+class ClusterTest {
+
+    @Test
+    @DisplayName("Virtual nodes spread campaigns evenly, and a join moves only the new node's share")
+    void hashRing_balancedAndMinimalMovement() {
+        HashRing ring = HashRing.of(List.of("n1", "n2", "n3", "n4"));
+        List<String> keys = IntStream.range(0, 20_000).mapToObj(i -> "campaign-" + i).toList();
+        Map<String, Integer> load = new HashMap<>();
+        keys.forEach(key -> load.merge(ring.ownerOf(key), 1, Integer::sum));
+        load.values().forEach(count -> assertTrue(count > 5_000 * 0.8 && count < 5_000 * 1.2,
+                "Each node should own about a quarter of the keys: " + load));
+
+        HashRing grown = ring.withNode("n5");
+        assertEquals(ring.epoch() + 1, grown.epoch());
+        long moved = keys.stream().filter(key -> !ring.ownerOf(key).equals(grown.ownerOf(key))).count();
+        assertTrue(keys.stream().allMatch(key -> ring.ownerOf(key).equals(grown.ownerOf(key))
+                || grown.ownerOf(key).equals("n5")), "Keys only ever move to the new node");
+        assertTrue(moved > 20_000 * 0.15 && moved < 20_000 * 0.25, "About a fifth of the keys move: " + moved);
+    }
+
+    @Test
+    @DisplayName("An operation sent to any node reaches the campaign's owner")
+    void operations_forwardedToOwner() throws Exception {
+        LocalCluster cluster = cluster("n1", "n2", "n3");
+        String campaign = "camp-7";
+        String owner = cluster.node("n1").ring().ownerOf(campaign);
+        ClusterNode other = cluster.nodes().stream().filter(n -> !n.nodeId().equals(owner)).findFirst().orElseThrow();
+
+        TaskEnvelope stored = other.submit(task("t1", campaign), 0);
+        other.record(artifact("a1", "t1", campaign), 0);
+
+        assertEquals(1, cluster.node(owner).localTaskCount());
+        assertEquals(0, other.localTaskCount());
+        assertEquals(2, other.forwardedCount());
+        assertEquals(stored, other.task(campaign, "t1", 0).orElseThrow());
+        assertEquals("a1", cluster.node(owner).artifact(campaign, "a1", 0).orElseThrow().artifactId());
+        assertThrows(IllegalArgumentException.class, () -> other.task(" ", "t1", 0));
+    }
+
+    @Test
+    @DisplayName("Joining and leaving move records to their new owner with their versions intact")
+    void joinAndLeave_handOffPreservingVersions() throws Exception {
+        LocalCluster cluster = cluster("n1", "n2");
+        ClusterNode entry = cluster.node("n1");
+        for (int i = 0; i < 200; i++) {
+            TaskEnvelope task = entry.submit(task("t" + i, "camp-" + i), 0);
+            entry.compareAndSetTask(task, 0);
+            entry.record(artifact("a" + i, "t" + i, "camp-" + i), 0);
+        }
+
+        ClusterNode joined = cluster.addNode("n3");
+        assertTrue(joined.localTaskCount() > 0, "The new node takes over a share of campaigns");
+        assertEquals(joined.localTaskCount(), joined.localArtifactCount());
+        assertAllStored(cluster, 200, 2L);
+
+        cluster.removeNode("n1");
+        assertEquals(List.of("n2", "n3"), cluster.node("n2").ring().nodes());
+        assertAllStored(cluster, 200, 2L);
+        assertTrue(entry.handedOffCount() > 0);
+    }
+
+    @Test
+    @DisplayName("A CAS prepared before a campaign moved succeeds after it, and still detects conflicts")
+    void compareAndSet_acrossHandoff() throws Exception {
+        LocalCluster cluster = cluster("n1", "n2");
+        HashRing grown = cluster.node("n1").ring().withNode("n3");
+        String campaign = IntStream.range(0, 1_000).mapToObj(i -> "camp-" + i)
+                .filter(c -> grown.ownerOf(c).equals("n3")).findFirst().orElseThrow();
+        String oldOwner = cluster.node("n1").ring().ownerOf(campaign);
+        TaskEnvelope read = cluster.node(oldOwner).submit(task("t1", campaign), 0);
+
+        cluster.addNode("n3");
+        TaskEnvelope updated = cluster.node(oldOwner).compareAndSetTask(read, 0);
+
+        assertEquals(2L, updated.version());
+        assertEquals(1, cluster.node("n3").localTaskCount());
+        assertEquals(0, cluster.node(oldOwner).localTaskCount());
+        assertThrows(StaleVersionException.class,
+                () -> cluster.node(oldOwner).compareAndSetTask(read, 0));
+    }
+
+    @Test
+    @DisplayName("Submissions racing a join are all stored exactly once, at their owner")
+    void concurrentSubmissions_duringJoin_notLost() throws Exception {
+        LocalCluster cluster = cluster("n1", "n2");
+        List<ClusterNode> entries = cluster.nodes();
+        List<Future<TaskEnvelope>> submitted = new ArrayList<>();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2_000; i++) {
+                ClusterNode entry = entries.get(i % entries.size());
+                TaskEnvelope task = task("t" + i, "camp-" + i);
+                submitted.add(pool.submit(() -> entry.submit(task, 0)));
+                if (i == 500) {
+                    pool.submit(() -> cluster.addNode("n3"));
+                }
+            }
+            for (Future<TaskEnvelope> future : submitted) {
+                future.get();
+            }
+        }
+
+        assertEquals(3, cluster.nodes().size());
+        assertAllStored(cluster, 2_000, 1L);
+    }
+
+    private static LocalCluster cluster(String... nodeIds) {
+        LocalCluster cluster = new LocalCluster();
+        for (String id : nodeIds) {
+            cluster.addNode(id);
+        }
+        return cluster;
+    }
+
+    /** Every task t0..t(n-1) lives only on its owner, at the expected version. */
+    private static void assertAllStored(LocalCluster cluster, int count, long version) {
+        assertEquals(count, cluster.nodes().stream().mapToInt(ClusterNode::localTaskCount).sum());
+        for (int i = 0; i < count; i++) {
+            String campaign = "camp-" + i;
+            ClusterNode owner = cluster.node(cluster.nodes().get(0).ring().ownerOf(campaign));
+            TaskEnvelope stored = owner.task(campaign, "t" + i, ClusterNode.MAX_HOPS).orElseThrow();
+            assertEquals(version, stored.version(), "t" + i);
+        }
+    }
+
+    private static TaskEnvelope task(String id, String campaignId) {
+        return new TaskEnvelope(id, campaignId, TaskType.CONTENT_GENERATION, "payload", 1L, Instant.now());
+    }
+
+    private static ContentArtifact artifact(String id, String taskId, String campaignId) {
+        return new ContentArtifact(id, taskId, campaignId, "text", "body", "tiktok", Instant.now(), 1L);
+    }
+}
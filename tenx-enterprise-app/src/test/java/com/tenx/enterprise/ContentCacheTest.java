@@ -0,0 +1,166 @@
+package com.tenx.enterprise;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.tenx.enterprise.budget.BudgetLedger;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.BudgetedContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.CachingContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.TemplateContentGeneratorSkill;
+import com.tenx.enterprise.template.ContentTemplate;
+import com.tenx.enterprise.template.Hashtags;
+import com.tenx.enterprise.template.PromptTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the content generation cache and the precompiled template engine.
+ *
+ * Contract: specs/functional.md → US-FG-002
+ */
+class ContentCacheTest {
+
+    private static final ContentTemplate TECH = ContentTemplate.of(
+            "Did you know {{ topic }} is trending on {{platform}}? Let's talk {{keyword1}}.",
+            "{{persona}} on {{topic}}: {{keywords}}", 3);
+
+    @Test
+    @DisplayName("Templates render every variable and reject unknown or unclosed placeholders")
+    void template_rendersAndValidates() {
+        TrendData trend = trend("AI Music", 0.9, "ai", "music", "beats");
+
+        assertEquals("Did you know AI Music is trending on tiktok? Let's talk ai.",
+                TECH.script().render(trend, "techGuru"));
+        assertEquals("techGuru on AI Music: ai, music, beats", TECH.caption().render(trend, "techGuru"));
+        assertEquals("no placeholders", PromptTemplate.compile("no placeholders").render(trend, "p"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("Hi {{name}}"));
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("Hi {{topic"));
+        assertEquals(List.of("#AiMusic", "#Beats"), Hashtags.from(List.of("ai music!", "AI-music", "beats", "??"), 5));
+    }
+
+    @Test
+    @DisplayName("Normalised repeats are served from cache at zero cost under fresh content ids")
+    void cache_hitsAreFree() {
+        CountingGenerator generator = new CountingGenerator(0.05);
+        CachingContentGeneratorSkill cache = new CachingContentGeneratorSkill(generator, Duration.ofHours(1), 100);
+
+        ContentPayload first = cache.generateContent(trend("AI Music", 0.9, "music", "ai"), "techGuru", 1.0);
+        ContentPayload repeat = cache.generateContent(trend("  ai   MUSIC ", 0.4, "AI", "Music"), "techGuru", 1.0);
+        cache.generateContent(trend("AI Music", 0.9, "music", "ai"), "chefAnna", 1.0);
+
+        assertEquals(2, generator.calls.get(), "A different persona must miss");
+        assertEquals(0.05, first.estimatedCost());
+        assertEquals(0.0, repeat.estimatedCost());
+        assertEquals(first.script(), repeat.script());
+        assertNotEquals(first.contentId(), repeat.contentId());
+        assertEquals(1, cache.hits());
+        assertEquals(0.05, cache.savedCostUsd(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Only misses are charged against the campaign ledger")
+    void cache_hitsChargeNothingToLedger() {
+        BudgetLedger ledger = new BudgetLedger();
+        ledger.allocate("camp-1", 1.0);
+        ContentGeneratorSkill skill = new BudgetedContentGeneratorSkill(
+                new CachingContentGeneratorSkill(new CountingGenerator(0.05), Duration.ofHours(1), 100),
+                ledger, "camp-1", 0.05);
+
+        for (int i = 0; i < 10; i++) {
+            skill.generateContent(trend("AI Music", 0.9, "ai"), "techGuru", 1.0);
+        }
+
+        assertEquals(0.05, ledger.spent("camp-1"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Expensive payloads outlive cheap ones")
+    void cache_costAwareExpiry() {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        CountingGenerator cheap = new CountingGenerator(0.0);
+        CountingGenerator expensive = new CountingGenerator(0.03);
+        CachingContentGeneratorSkill cheapCache =
+                new CachingContentGeneratorSkill(cheap, Duration.ofMinutes(10), 100, 0.01, ticker);
+        CachingContentGeneratorSkill expensiveCache =
+                new CachingContentGeneratorSkill(expensive, Duration.ofMinutes(10), 100, 0.01, ticker);
+        TrendData trend = trend("AI Music", 0.9, "ai");
+        cheapCache.generateContent(trend, "techGuru", 1.0);
+        expensiveCache.generateContent(trend, "techGuru", 1.0);
+
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+        cheapCache.generateContent(trend, "techGuru", 1.0);
+        expensiveCache.generateContent(trend, "techGuru", 1.0);
+
+        assertEquals(2, cheap.calls.get(), "A free payload expires after ttl");
+        assertEquals(1, expensive.calls.get(), "A payload costing 3x the reference lives up to 4x ttl");
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for one key share a single generation")
+    void cache_coalescesConcurrentMisses() throws Exception {
+        CountingGenerator slow = new CountingGenerator(0.05, 100);
+        CachingContentGeneratorSkill cache = new CachingContentGeneratorSkill(slow, Duration.ofHours(1), 100);
+        TrendData trend = trend("AI Music", 0.9, "ai");
+
+        double charged = 0.0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ContentPayload>> results = executor.invokeAll(
+                    Collections.nCopies(8, () -> cache.generateContent(trend, "techGuru", 1.0)));
+            for (Future<ContentPayload> result : results) {
+                charged += result.get().estimatedCost();
+            }
+        }
+
+        assertEquals(1, slow.calls.get());
+        assertEquals(0.05, charged, 1e-9);
+    }
+
+    private static TrendData trend(String topic, double score, String... keywords) {
+        return new TrendData("t-" + topic.hashCode(), "tiktok", topic, List.of(keywords), score, "US",
+                Instant.parse("2025-01-15T10:30:00Z"), 1L);
+    }
+
+    /** Template generator that counts how often it is really invoked. */
+    private static final class CountingGenerator implements ContentGeneratorSkill {
+        final AtomicInteger calls = new AtomicInteger();
+        private final TemplateContentGeneratorSkill templates;
+        private final long delayMillis;
+
+        CountingGenerator(double cost) {
+            this(cost, 0);
+        }
+
+        CountingGenerator(double cost, long delayMillis) {
+            this.templates = new TemplateContentGeneratorSkill(Map.of(), TECH, cost);
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public ContentPayload generateContent(TrendData trend, String persona, double budget) {
+            calls.incrementAndGet();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return templates.generateContent(trend, persona, budget);
+        }
+    }
+}
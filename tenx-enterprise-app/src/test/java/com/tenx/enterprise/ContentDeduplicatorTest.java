@@ -0,0 +1,129 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dedup.ContentDeduplicator;
+import com.tenx.enterprise.dedup.DuplicateCheck;
+import com.tenx.enterprise.dedup.DuplicatePolicy;
+import com.tenx.enterprise.dedup.MinHasher;
+import com.tenx.enterprise.dedup.NearDuplicateIndex;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.DuplicateContentException;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.DeduplicatingContentGeneratorSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MinHash/LSH near-duplicate detection of generated content.
+ *
+ * Contract: specs/functional.md → US-CG-001
+ */
+class ContentDeduplicatorTest {
+
+    private static final String SCRIPT = "Three AI tools that will change how you write code this year. "
+            + "First, an assistant that reviews every pull request before your team does. "
+            + "Second, a test generator that reads your specs. Third, a profiler that explains itself.";
+
+    @Test
+    @DisplayName("Light edits are near-duplicates; unrelated scripts are not")
+    void check_detectsNearDuplicates() {
+        ContentDeduplicator deduplicator = new ContentDeduplicator(1_000);
+
+        assertFalse(deduplicator.check("camp-1", payload("c1", SCRIPT, "AI tools")).isDuplicate());
+        DuplicateCheck edited = deduplicator.check("camp-1", payload("c2",
+                SCRIPT.replace("this year", "in 2025").toUpperCase() + "!!", "AI tools"));
+        DuplicateCheck unrelated = deduplicator.check("camp-1", payload("c3",
+                "A slow morning routine: coffee, a short walk by the river, and ten minutes of journaling.",
+                "Morning routine"));
+
+        assertTrue(edited.isDuplicate(), "similarity " + edited.similarity());
+        assertEquals("c1", edited.duplicateOf());
+        assertTrue(edited.similarity() > 0.8);
+        assertFalse(unrelated.isDuplicate());
+        assertTrue(unrelated.similarity() < 0.3);
+        assertEquals(2, deduplicator.size(), "Duplicates are not indexed");
+    }
+
+    @Test
+    @DisplayName("Detection is scoped per campaign and persona")
+    void check_scopedByCampaignAndPersona() {
+        ContentDeduplicator deduplicator = new ContentDeduplicator(1_000);
+        deduplicator.check("camp-1", payload("c1", SCRIPT, "AI tools"));
+
+        assertFalse(deduplicator.check("camp-2", payload("c2", SCRIPT, "AI tools")).isDuplicate());
+        assertFalse(deduplicator.check("camp-1", payload("c3", SCRIPT, "AI tools", "fitnessFan")).isDuplicate());
+        assertTrue(deduplicator.check("camp-1", payload("c4", SCRIPT, "AI tools")).isDuplicate());
+    }
+
+    @Test
+    @DisplayName("Memory is bounded: the oldest signatures are overwritten once the index is full")
+    void index_boundedRingEvictsOldest() {
+        MinHasher hasher = new MinHasher();
+        NearDuplicateIndex index = new NearDuplicateIndex(100);
+        Random random = new Random(3);
+        byte[] first = hasher.sign(randomText(random));
+        index.checkAndAdd("s", "first", first);
+        for (int i = 0; i < 100; i++) {
+            index.checkAndAdd("s", "filler-" + i, hasher.sign(randomText(random)));
+        }
+
+        assertEquals(100, index.size());
+        assertFalse(index.find("s", "again", first).isDuplicate(), "Evicted entry must be forgotten");
+        assertTrue(index.checkAndAdd("s", "again", first).similarity() < 0.8);
+        assertTrue(index.find("s", "third", first).isDuplicate());
+    }
+
+    @Test
+    @DisplayName("Decorator rejects duplicates, or merges them onto the original payload")
+    void decorator_rejectOrMerge() {
+        ContentGeneratorSkill generator = generator(payload("c1", SCRIPT, "AI tools"),
+                payload("c2", SCRIPT + " Follow for more.", "AI tools"),
+                payload("c3", SCRIPT, "AI tools"), payload("c4", SCRIPT + " Like and share.", "AI tools"));
+        ContentDeduplicator deduplicator = new ContentDeduplicator(1_000);
+        DeduplicatingContentGeneratorSkill reject = new DeduplicatingContentGeneratorSkill(
+                generator, deduplicator, "camp-1", DuplicatePolicy.REJECT);
+        DeduplicatingContentGeneratorSkill merge = new DeduplicatingContentGeneratorSkill(
+                generator, deduplicator, "camp-2", DuplicatePolicy.MERGE);
+
+        assertEquals("c1", reject.generateContent(trend(), "techGuru", 10.0).contentId());
+        DuplicateContentException e = assertThrows(DuplicateContentException.class,
+                () -> reject.generateContent(trend(), "techGuru", 10.0));
+        assertEquals("c1", e.getDuplicateOf());
+
+        assertEquals("c3", merge.generateContent(trend(), "techGuru", 10.0).contentId());
+        assertEquals("c3", merge.generateContent(trend(), "techGuru", 10.0).contentId(),
+                "A merged duplicate is replaced by the original payload");
+    }
+
+    private static ContentGeneratorSkill generator(ContentPayload... payloads) {
+        Iterator<ContentPayload> next = List.of(payloads).iterator();
+        return (trend, persona, budget) -> next.next();
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            text.append("w").append(random.nextInt(100_000)).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static TrendData trend() {
+        return new TrendData("t1", "tiktok", "AI tools", List.of("ai"), 0.9, "US", Instant.now(), 1L);
+    }
+
+    private static ContentPayload payload(String id, String script, String caption) {
+        return payload(id, script, caption, "techGuru");
+    }
+
+    private static ContentPayload payload(String id, String script, String caption, String persona) {
+        return new ContentPayload(id, script, caption, List.of("#ai"), "tiktok", persona, 0.1, Instant.now());
+    }
+}
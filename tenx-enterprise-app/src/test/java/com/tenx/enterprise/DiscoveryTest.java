@@ -0,0 +1,166 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.discovery.AgentCard;
+import com.tenx.enterprise.discovery.AgentDirectory;
+import com.tenx.enterprise.discovery.AgentStatus;
+import com.tenx.enterprise.discovery.DiscoveryPublisher;
+import com.tenx.enterprise.discovery.LoopbackDiscoveryServer;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.mcp.McpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for coalesced Discovery publication and the remote agent directory.
+ *
+ * Contract: specs/openclaw_integration.md → Discovery MCP
+ */
+class DiscoveryTest {
+
+    private LoopbackDiscoveryServer server;
+    private McpClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new LoopbackDiscoveryServer();
+        client = new McpClient(server.connector());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Thousands of agents and repeated status changes go out as one coalesced tick")
+    void tick_coalescesAgentsAndChanges() {
+        DiscoveryPublisher publisher = publisher(5);
+        for (int i = 0; i < 1_200; i++) {
+            publisher.update(card("agent-" + i, 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        }
+        publisher.updateStatus("agent-7", AgentStatus.BUSY);
+        publisher.updateStatus("agent-7", AgentStatus.OFFLINE);
+        publisher.updateStatus("agent-7", AgentStatus.BUSY);
+
+        assertEquals(1_200, publisher.tick());
+
+        assertEquals(1_200, server.agentCount());
+        assertEquals(3, server.publishCallCount(), "1200 agents in chunks of 500, sent as one batch frame");
+        assertEquals(AgentStatus.BUSY, server.agent("agent-7").orElseThrow().status());
+        assertEquals(0, publisher.tick(), "Nothing changed and no heartbeat is due");
+
+        publisher.updateStatus("agent-7", AgentStatus.AVAILABLE);
+        assertEquals(1, publisher.tick());
+        AgentCard merged = server.agent("agent-7").orElseThrow();
+        assertEquals(AgentStatus.AVAILABLE, merged.status());
+        assertEquals("techGuru", merged.persona(), "A delta must leave unsent fields untouched");
+        assertEquals(Set.of("tiktok"), merged.platforms());
+    }
+
+    @Test
+    @DisplayName("Unchanged agents heartbeat once per wheel rotation, as ids only")
+    void tick_heartbeatsOncePerInterval() {
+        DiscoveryPublisher publisher = publisher(5);
+        publisher.update(card("a1", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        publisher.update(card("a2", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        publisher.tick();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, publisher.tick());
+        }
+        assertEquals(2, publisher.tick());
+        assertEquals(2, server.heartbeatCount());
+        assertEquals(2, publisher.publicationCount());
+    }
+
+    @Test
+    @DisplayName("Agents the server has forgotten are re-sent in full on the next tick")
+    void tick_serverRestart_resendsFullCards() {
+        DiscoveryPublisher publisher = publisher(2);
+        publisher.update(card("a1", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        publisher.tick();
+        server.restart();
+
+        publisher.updateStatus("a1", AgentStatus.BUSY);
+        publisher.tick();
+        assertTrue(server.agent("a1").isEmpty(), "A status delta alone cannot recreate the card");
+
+        publisher.tick();
+        AgentCard restored = server.agent("a1").orElseThrow();
+        assertEquals(AgentStatus.BUSY, restored.status());
+        assertEquals("techGuru", restored.persona());
+    }
+
+    @Test
+    @DisplayName("Removed agents are withdrawn; closing the publisher withdraws the rest")
+    void removeAndClose_withdrawAgents() throws Exception {
+        DiscoveryPublisher publisher = publisher(5).start();
+        publisher.update(card("a1", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        publisher.update(card("a2", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (server.agentCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, server.agentCount(), "The timer must publish without explicit ticks");
+
+        publisher.remove("a1");
+        publisher.close();
+
+        assertEquals(0, server.agentCount());
+    }
+
+    @Test
+    @DisplayName("Directory answers skill and platform queries from incremental refreshes")
+    void directory_indexesAndRefreshesIncrementally() throws Exception {
+        DiscoveryPublisher publisher = publisher(5);
+        publisher.update(card("low", 3.0, AgentStatus.AVAILABLE, TaskType.CONTENT_GENERATION));
+        publisher.update(card("high", 4.9, AgentStatus.AVAILABLE, TaskType.CONTENT_GENERATION));
+        publisher.update(card("busy", 5.0, AgentStatus.BUSY, TaskType.CONTENT_GENERATION));
+        publisher.update(new AgentCard("yt", "chef", Set.of(TaskType.CONTENT_GENERATION), Set.of("youtube"),
+                AgentStatus.AVAILABLE, 4.5, Instant.now()));
+        publisher.update(card("trends", 4.0, AgentStatus.AVAILABLE, TaskType.TREND_RESEARCH));
+        publisher.tick();
+        AgentDirectory directory = new AgentDirectory();
+
+        assertEquals(5, directory.refresh(client));
+        assertEquals(List.of("high", "low"), ids(directory.find(TaskType.CONTENT_GENERATION, "tiktok", 10)));
+        assertEquals(List.of("high", "yt", "low"), ids(directory.find(TaskType.CONTENT_GENERATION, null, 10)));
+        assertEquals(List.of("high"), ids(directory.find(TaskType.CONTENT_GENERATION, null, 1)));
+        assertEquals(List.of(), directory.find(TaskType.ENGAGEMENT, "tiktok", 10));
+
+        publisher.updateStatus("high", AgentStatus.BUSY);
+        publisher.remove("low");
+        publisher.tick();
+        long before = directory.version();
+
+        assertEquals(2, directory.refresh(client), "Only the changes since the last version are pulled");
+        assertTrue(directory.version() > before);
+        assertEquals(List.of("yt"), ids(directory.find(TaskType.CONTENT_GENERATION, null, 10)));
+        assertTrue(directory.get("low").isEmpty());
+        assertEquals(AgentStatus.BUSY, directory.get("high").orElseThrow().status());
+        assertEquals(0, directory.refresh(client));
+    }
+
+    private DiscoveryPublisher publisher(int ticksPerHeartbeat) {
+        Duration tick = Duration.ofMillis(20);
+        return new DiscoveryPublisher(client, "node-1", tick.multipliedBy(ticksPerHeartbeat), tick);
+    }
+
+    private static AgentCard card(String id, double rating, AgentStatus status, TaskType skill) {
+        return new AgentCard(id, "techGuru", Set.of(skill), Set.of("tiktok"), status, rating, Instant.now());
+    }
+
+    private static List<String> ids(List<AgentCard> cards) {
+        return cards.stream().map(AgentCard::agentId).toList();
+    }
+}
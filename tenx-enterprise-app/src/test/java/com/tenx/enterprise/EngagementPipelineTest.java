@@ -0,0 +1,201 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.Comment;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.engagement.EngagementPipeline;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.hitl.HitlRouter;
+import com.tenx.enterprise.hitl.HumanReviewQueue;
+import com.tenx.enterprise.hitl.ReviewItem;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.skill.EngagementSkill;
+import com.tenx.enterprise.skill.impl.TemplateEngagementSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the micro-batched engagement pipeline.
+ *
+ * Contract: specs/functional.md → US-EN-001, US-EN-002
+ */
+class EngagementPipelineTest {
+
+    private static final TemplateEngagementSkill SKILL = new TemplateEngagementSkill(
+            Map.of("techGuru", "Great point about {comment}! Stay curious.", "chef", "Bon appétit!"),
+            "Thanks for watching!", 0.001);
+    private static final SensitiveTermDictionary DICTIONARY = new SensitiveTermDictionary(List.of("election"));
+
+    @TempDir
+    Path spillDir;
+
+    private final List<ContentArtifact> replies = Collections.synchronizedList(new ArrayList<>());
+    private final List<JudgeVerdict> verdicts = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    @DisplayName("Comments are batched per persona and post and answered in that persona's voice")
+    void submit_batchesPerPersonaAndPost() {
+        EngagementPipeline pipeline = pipeline(4, 1.0);
+        for (int i = 0; i < 10; i++) {
+            pipeline.submit("techGuru", comment("c" + i, "post-1", "gadget number " + i));
+        }
+        pipeline.submit("chef", comment("c-chef", "post-1", "recipe please"));
+
+        assertEquals(2, pipeline.batchCount(), "Two full batches go out without waiting");
+        assertEquals(8, replies.size());
+        assertEquals(2, pipeline.flush(), "The partial techGuru batch and the chef batch");
+        assertEquals(11, replies.size());
+        assertEquals("Great point about gadget number 0! Stay curious.", replies.get(0).contentBody());
+        assertEquals("Bon appétit!", find("reply-c-chef").contentBody());
+        assertEquals("engagement_reply", replies.get(0).contentType());
+        assertTrue(verdicts.stream().allMatch(JudgeVerdict::approved));
+    }
+
+    @Test
+    @DisplayName("Replayed comment ids are dropped and repeated comments are answered once")
+    void submit_deduplicatesIdsAndText() {
+        EngagementPipeline pipeline = pipeline(16, 1.0);
+        assertTrue(pipeline.submit("techGuru", comment("c1", "post-1", "FIRST!!!")));
+        assertFalse(pipeline.submit("techGuru", comment("c1", "post-1", "FIRST!!!")));
+        pipeline.submit("techGuru", comment("c2", "post-1", "first"));
+        pipeline.submit("techGuru", comment("c3", "post-1", "  First ! "));
+        pipeline.flush();
+        pipeline.submit("techGuru", comment("c4", "post-1", "first."));
+        pipeline.flush();
+
+        assertEquals(1, pipeline.duplicateCount());
+        assertEquals(1, pipeline.generatedCount(), "One skill reply serves every repeat, across batches");
+        assertEquals(3, pipeline.reusedCount());
+        assertEquals(4, replies.size());
+        assertEquals(find("reply-c1").contentBody(), find("reply-c4").contentBody());
+        assertEquals("c4", find("reply-c4").taskId());
+    }
+
+    @Test
+    @DisplayName("Emoji-only and empty comments are not merged into one reply")
+    void submit_textWithoutWordsIsNotMerged() {
+        EngagementPipeline pipeline = pipeline(16, 1.0);
+        pipeline.submit("techGuru", comment("c1", "post-1", "🔥"));
+        pipeline.submit("techGuru", comment("c2", "post-1", "😂"));
+        pipeline.submit("techGuru", comment("c3", "post-1", "🔥"));
+        pipeline.submit("techGuru", comment("c4", "post-1", ""));
+        pipeline.submit("techGuru", comment("c5", "post-1", " "));
+        pipeline.flush();
+
+        assertEquals(4, pipeline.generatedCount(), "Only the repeated emoji shares a reply");
+        assertEquals(1, pipeline.reusedCount());
+        assertEquals("Great point about 😂! Stay curious.", find("reply-c2").contentBody());
+        assertEquals(find("reply-c1").contentBody(), find("reply-c3").contentBody());
+    }
+
+    @Test
+    @DisplayName("Replies to sensitive comments go to mandatory human review")
+    void sensitiveComments_routedToHumanReview() throws Exception {
+        HumanReviewQueue reviewQueue = new HumanReviewQueue(100, 8, spillDir);
+        HitlRouter router = new HitlRouter(reviewQueue, campaign -> 0);
+        EngagementPipeline pipeline = new EngagementPipeline(SKILL, DICTIONARY, router, 1.0,
+                8, Duration.ofSeconds(5), 1_000, Runnable::run);
+        pipeline.submit("techGuru", comment("c1", "post-1", "Who wins the Election?"));
+        pipeline.submit("techGuru", comment("c2", "post-1", "love this phone"));
+        pipeline.flush();
+
+        assertEquals(1, pipeline.flaggedCount());
+        ReviewItem item = reviewQueue.poll(1, TimeUnit.SECONDS);
+        assertEquals("reply-c1", item.artifact().artifactId());
+        assertTrue(item.verdict().sensitiveTopicDetected());
+        assertFalse(item.verdict().approved());
+        List<String> published = new ArrayList<>();
+        router.drainPublish(item2 -> published.add(item2.artifact().artifactId()), 10);
+        assertEquals(List.of("reply-c2"), published);
+    }
+
+    @Test
+    @DisplayName("A partial batch is answered once its oldest comment uses up the latency budget")
+    void partialBatch_flushedWithinLatencyBudget() throws Exception {
+        try (EngagementPipeline pipeline = new EngagementPipeline(SKILL, DICTIONARY, this::collect, 1.0,
+                64, Duration.ofMillis(40), 1_000, null).start()) {
+            pipeline.submit("chef", comment("c1", "post-9", "yum"));
+            long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+            while (replies.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, replies.size(), "The timer must flush without an explicit call");
+        }
+    }
+
+    @Test
+    @DisplayName("A batch over its budget is left unanswered, counted as failed, and can be resubmitted")
+    void overBudgetBatch_failsWithoutRepliesAndCanBeRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        EngagementSkill firstCallOverBudget = (persona, comments, budget) -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new BudgetExceededException(budget * 2, budget);
+            }
+            return SKILL.generateReplies(persona, comments, budget);
+        };
+        EngagementPipeline pipeline = new EngagementPipeline(firstCallOverBudget, DICTIONARY, this::collect, 1.0,
+                4, Duration.ofSeconds(5), 1_000, Runnable::run);
+        for (int i = 0; i < 4; i++) {
+            pipeline.submit("techGuru", comment("c" + i, "post-1", "question " + i));
+        }
+
+        assertEquals(4, pipeline.failedCount());
+        assertTrue(replies.isEmpty());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.submit("techGuru", comment("c" + i, "post-1", "question " + i)),
+                    "An unanswered comment is not a replay");
+        }
+        assertEquals(4, replies.size());
+        assertEquals(0, pipeline.duplicateCount());
+        assertThrows(IllegalArgumentException.class, () -> pipeline.submit(" ", comment("c9", "post-1", "x")));
+    }
+
+    @Test
+    @DisplayName("A reply the sink rejects does not stop the rest of the batch")
+    void sinkFailure_skipsOnlyThatReply() {
+        EngagementPipeline pipeline = new EngagementPipeline(SKILL, DICTIONARY, (artifact, verdict) -> {
+            if (artifact.artifactId().equals("reply-c1")) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            collect(artifact, verdict);
+        }, 1.0, 3, Duration.ofSeconds(5), 1_000, Runnable::run);
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit("techGuru", comment("c" + i, "post-1", "question " + i));
+        }
+
+        assertEquals(2, replies.size());
+        assertEquals(1, pipeline.failedCount());
+        assertTrue(pipeline.submit("techGuru", comment("c1", "post-1", "question 1")));
+    }
+
+    private EngagementPipeline pipeline(int batchSize, double budgetPerReply) {
+        return new EngagementPipeline(SKILL, DICTIONARY, this::collect, budgetPerReply,
+                batchSize, Duration.ofSeconds(5), 1_000, Runnable::run);
+    }
+
+    private void collect(ContentArtifact artifact, JudgeVerdict verdict) {
+        replies.add(artifact);
+        verdicts.add(verdict);
+    }
+
+    private ContentArtifact find(String replyId) {
+        return replies.stream().filter(r -> r.artifactId().equals(replyId)).findFirst().orElseThrow();
+    }
+
+    private static Comment comment(String id, String postId, String text) {
+        return new Comment(id, "camp-1", postId, "tiktok", "fan-" + id, text, Instant.now());
+    }
+}
@@ -0,0 +1,182 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.dto.TrendFanOutResult;
+import com.tenx.enterprise.resilience.TokenBucket;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.FanOutTrendFetcherSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the multi-platform trend fan-out and the per-platform token bucket.
+ *
+ * Contract: specs/functional.md → US-TR-001
+ */
+class FanOutTrendFetcherTest {
+
+    @Test
+    @DisplayName("Platforms are queried concurrently and merged by topic, keeping the best score")
+    void fetchAll_concurrentAndDeduplicated() {
+        FanOutTrendFetcherSkill fanOut = new FanOutTrendFetcherSkill(Map.of(
+                "tiktok", platform(call -> sleep(150), "AI Music", 0.6, "Cooking", 0.4),
+                "youtube", platform(call -> sleep(150), "ai music", 0.9),
+                "instagram", platform(call -> sleep(150), "Fitness", 0.5)),
+                Map.of(), Duration.ofSeconds(2));
+
+        long started = System.nanoTime();
+        TrendFanOutResult result = fanOut.fetchAll(List.of("tiktok", "youtube", "instagram"), List.of("US"), 10);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(elapsed.toMillis() < 400, "Latency must be the slowest platform, not the sum: " + elapsed);
+        assertFalse(result.isPartial());
+        assertEquals(List.of("ai music", "Fitness", "Cooking"), result.trends().stream().map(TrendData::topic).toList());
+        assertEquals("youtube", result.trends().get(0).platform());
+    }
+
+    @Test
+    @DisplayName("A platform slower than the deadline yields partial results instead of a failure")
+    void fetchAll_deadline_returnsPartialResults() {
+        FanOutTrendFetcherSkill fanOut = new FanOutTrendFetcherSkill(Map.of(
+                "tiktok", platform(call -> { }, "AI Music", 0.6),
+                "youtube", platform(call -> sleep(5_000), "Slow", 0.9),
+                "instagram", platform(call -> {
+                    throw new IllegalStateException("instagram down");
+                }, "Never", 0.1)),
+                Map.of(), Duration.ofMillis(200));
+
+        long started = System.nanoTime();
+        TrendFanOutResult result = fanOut.fetchAll(List.of("tiktok", "youtube", "instagram"), List.of("US"), 10);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1_000);
+        assertTrue(result.isPartial());
+        assertEquals(List.of("tiktok/US"), result.completed());
+        assertEquals(List.of("youtube/US"), result.timedOut());
+        assertEquals(List.of("instagram/US"), result.failed());
+        assertEquals(List.of("AI Music"), result.trends().stream().map(TrendData::topic).toList());
+    }
+
+    @Test
+    @DisplayName("A call that outlives the platform's p95 is hedged and the fast attempt wins")
+    void fetchAll_slowCall_isHedged() {
+        AtomicBoolean stallNext = new AtomicBoolean();
+        TrendFetcherSkill flaky = platform(call -> sleep(stallNext.getAndSet(false) ? 5_000 : 2), "AI Music", 0.6);
+        FanOutTrendFetcherSkill fanOut = new FanOutTrendFetcherSkill(
+                Map.of("tiktok", flaky), Map.of(), Duration.ofSeconds(3));
+        for (int i = 0; i < 40; i++) {
+            fanOut.fetchAll(List.of("tiktok"), List.of("US"), 5);
+        }
+        stallNext.set(true);
+
+        long started = System.nanoTime();
+        TrendFanOutResult result = fanOut.fetchAll(List.of("tiktok"), List.of("US"), 5);
+
+        assertEquals(1, result.hedgedRequests());
+        assertEquals(List.of("tiktok/US"), result.completed());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1_000);
+    }
+
+    @Test
+    @DisplayName("The per-platform rate limit holds calls back until the deadline")
+    void fetchAll_rateLimited_timesOut() {
+        FanOutTrendFetcherSkill fanOut = new FanOutTrendFetcherSkill(
+                Map.of("tiktok", platform(call -> { }, "AI Music", 0.6)),
+                Map.of("tiktok", new TokenBucket(1.0, 1)), Duration.ofMillis(200));
+
+        TrendFanOutResult result = fanOut.fetchAll(List.of("tiktok"), List.of("US", "EU"), 5);
+
+        assertEquals(1, result.completed().size());
+        assertEquals(1, result.timedOut().size());
+    }
+
+    @Test
+    @DisplayName("Missing arguments are rejected up front, and a closed skill accepts no more calls")
+    void fetchTrends_validatesArgumentsAndClose() {
+        FanOutTrendFetcherSkill fanOut = new FanOutTrendFetcherSkill(
+                Map.of("tiktok", platform(call -> { }, "AI Music", 0.6)), Map.of(), Duration.ofSeconds(1));
+
+        assertThrows(IllegalArgumentException.class, () -> fanOut.fetchTrends(null, "US", 5));
+        assertThrows(IllegalArgumentException.class, () -> fanOut.fetchTrends("tiktok", null, 5));
+        assertThrows(IllegalArgumentException.class, () -> fanOut.fetchTrends("tiktok", "US", 0));
+        assertEquals(1, fanOut.fetchTrends("tiktok", "US", 5).size());
+
+        fanOut.close();
+        assertThrows(RejectedExecutionException.class, () -> fanOut.fetchTrends("tiktok", "US", 5));
+    }
+
+    @Test
+    @DisplayName("Token bucket allows a burst, then one permit per interval")
+    void tokenBucket_burstThenSteadyRate() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10.0, 3, clock::get);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire(50, TimeUnit.MILLISECONDS),
+                "A permit 100ms away must not be granted within a 50ms timeout");
+
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    private interface Delay {
+        void apply(int call) throws InterruptedException;
+    }
+
+    private static TrendFetcherSkill platform(Delay delay, Object... topicsAndScores) {
+        AtomicInteger calls = new AtomicInteger();
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return "skill_fetch_trends";
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                try {
+                    delay.apply(calls.getAndIncrement());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                }
+                IntFunction<TrendData> trend = i -> new TrendData(platform + "-" + i, platform,
+                        (String) topicsAndScores[i], List.of("kw"), (Double) topicsAndScores[i + 1], region,
+                        Instant.now(), 1L);
+                return IntStream.range(0, topicsAndScores.length / 2)
+                        .mapToObj(i -> trend.apply(i * 2)).toList();
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return taskType == TaskType.TREND_RESEARCH;
+            }
+        };
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
@@ -0,0 +1,180 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.hitl.HitlRouter;
+import com.tenx.enterprise.hitl.HumanReviewQueue;
+import com.tenx.enterprise.hitl.QueueMetrics;
+import com.tenx.enterprise.hitl.ReviewItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HITL routing, the bounded human-review queue and its disk spill.
+ *
+ * Contract: specs/functional.md → US-HITL-001 … US-HITL-004
+ */
+class HitlRouterTest {
+
+    @TempDir
+    Path spillDir;
+
+    private HumanReviewQueue reviewQueue;
+    private HitlRouter router;
+
+    @BeforeEach
+    void setUp() {
+        reviewQueue = new HumanReviewQueue(100, 8, spillDir);
+        router = new HitlRouter(reviewQueue, Map.of("vip", 10, "normal", 1)::get);
+    }
+
+    @Test
+    @DisplayName("Each confidence tier lands in its own channel; sensitive always goes to review")
+    void route_dispatchesByConfidenceAndSensitivity() throws Exception {
+        router.route(artifact("a-high", "normal"), verdict("a-high", ConfidenceLevel.HIGH, false, true));
+        router.route(artifact("a-med", "normal"), verdict("a-med", ConfidenceLevel.MEDIUM, false, false));
+        router.route(artifact("a-low", "normal"), verdict("a-low", ConfidenceLevel.LOW, false, false));
+        router.route(artifact("a-sens", "normal"), verdict("a-sens", ConfidenceLevel.HIGH, true, true));
+
+        List<String> published = new ArrayList<>();
+        router.drainPublish(item -> published.add(item.artifact().artifactId()), 10);
+        List<TaskEnvelope> rework = router.replan((campaignId, goal) -> List.of(
+                new TaskEnvelope("t-rework", campaignId, TaskType.CONTENT_GENERATION, goal, 1L, Instant.now())), 10);
+
+        assertEquals(List.of("a-high"), published);
+        assertEquals(1, rework.size());
+        assertTrue(rework.get(0).payload().contains("a-low"), "Rework goal must reference the rejected artifact");
+        assertEquals(2, reviewQueue.depth());
+    }
+
+    @Test
+    @DisplayName("Reviewers receive higher-priority campaigns first, then oldest first")
+    void take_ordersByPriorityThenAge() throws Exception {
+        router.route(artifact("n1", "normal"), verdict("n1", ConfidenceLevel.MEDIUM, false, false));
+        router.route(artifact("v1", "vip"), verdict("v1", ConfidenceLevel.MEDIUM, false, false));
+        router.route(artifact("n2", "normal"), verdict("n2", ConfidenceLevel.MEDIUM, false, false));
+        router.route(artifact("v2", "vip"), verdict("v2", ConfidenceLevel.MEDIUM, false, false));
+
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            order.add(reviewQueue.take().artifact().artifactId());
+        }
+
+        assertEquals(List.of("v1", "v2", "n1", "n2"), order);
+    }
+
+    @Test
+    @DisplayName("Items beyond the memory cap spill to disk and come back in priority order")
+    void reviewQueue_spillsBeyondMemoryCap() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            String campaign = i % 4 == 0 ? "vip" : "normal";
+            router.route(artifact("a" + i, campaign), verdict("a" + i, ConfidenceLevel.MEDIUM, false, false));
+        }
+
+        QueueMetrics beforeReview = reviewQueue.metrics();
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertTrue(files.findAny().isPresent(), "Spill files must exist once the memory cap is passed");
+        }
+        assertTrue(beforeReview.spilled() > 0);
+        long changes = router.changeCount();
+        List<ReviewItem> pending = router.pending();
+        assertEquals(changes, router.changeCount(), "Copying the pending items changes nothing");
+
+        List<ReviewItem> reviewed = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            reviewed.add(reviewQueue.take());
+        }
+
+        assertEquals(40, reviewed.stream().map(r -> r.artifact().artifactId()).distinct().count());
+        assertTrue(reviewed.subList(0, 10).stream().allMatch(r -> r.priority() == 10),
+                "All VIP items must be reviewed before normal ones");
+        assertEquals(0, reviewQueue.metrics().spilled());
+        assertEquals(0, reviewQueue.metrics().depth());
+        assertEquals(reviewed, pending, "pending() lists spilled items in review order too");
+        assertEquals(changes + 40, router.changeCount());
+    }
+
+    @Test
+    @DisplayName("A full review queue pushes back on producers")
+    void reviewQueue_full_appliesBackpressure() throws Exception {
+        HumanReviewQueue tiny = new HumanReviewQueue(4, 4, spillDir);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(tiny.offer(item("a" + i), 10, TimeUnit.MILLISECONDS));
+        }
+
+        assertFalse(tiny.offer(item("overflow"), 10, TimeUnit.MILLISECONDS));
+        tiny.take();
+        assertTrue(tiny.offer(item("fits"), 10, TimeUnit.MILLISECONDS));
+        assertEquals(1, tiny.metrics().rejected());
+    }
+
+    @Test
+    @DisplayName("Queue metrics report depth and wait time per channel")
+    void metrics_reportDepthAndWait() throws Exception {
+        router.route(artifact("a1", "normal"), verdict("a1", ConfidenceLevel.HIGH, false, true));
+        router.route(artifact("a2", "normal"), verdict("a2", ConfidenceLevel.MEDIUM, false, false));
+        Thread.sleep(5);
+        reviewQueue.take();
+
+        List<QueueMetrics> metrics = router.metrics();
+        QueueMetrics publish = metrics.get(0);
+        QueueMetrics review = metrics.get(1);
+
+        assertEquals("publish", publish.queue());
+        assertEquals(1, publish.depth());
+        assertEquals(1, review.dequeued());
+        assertTrue(review.maxWait().toMillis() >= 5);
+    }
+
+    @Test
+    @DisplayName("Tied items are all kept, even by queues sharing a spill directory")
+    void reviewQueue_tiedItemsAndSharedSpillDirectory() throws Exception {
+        Instant at = Instant.parse("2025-01-15T10:30:00Z");
+        HumanReviewQueue first = new HumanReviewQueue(100, 4, spillDir);
+        HumanReviewQueue second = new HumanReviewQueue(100, 4, spillDir);
+        for (int i = 0; i < 12; i++) {
+            ReviewItem tied = new ReviewItem(artifact("a" + i, "normal"),
+                    verdict("a" + i, ConfidenceLevel.MEDIUM, false, false), 1, 7L, at);
+            first.put(tied);
+            second.put(tied);
+        }
+
+        for (HumanReviewQueue queue : List.of(first, second)) {
+            List<String> reviewed = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                reviewed.add(queue.take().artifact().artifactId());
+            }
+            assertEquals(12, reviewed.stream().distinct().count(), "No tied item is lost or served twice");
+            assertEquals("a0", reviewed.get(0), "Ties are reviewed in arrival order");
+        }
+    }
+
+    private static ReviewItem item(String id) {
+        return new ReviewItem(artifact(id, "normal"), verdict(id, ConfidenceLevel.MEDIUM, false, false),
+                1, 0L, Instant.now());
+    }
+
+    private static ContentArtifact artifact(String id, String campaignId) {
+        return new ContentArtifact(id, "task-" + id, campaignId, "short_video", "body", "tiktok", Instant.now(), 1L);
+    }
+
+    private static JudgeVerdict verdict(String artifactId, ConfidenceLevel level, boolean sensitive, boolean approved) {
+        return new JudgeVerdict("v-" + artifactId, artifactId, level, sensitive, approved, "reason", Instant.now());
+    }
+}
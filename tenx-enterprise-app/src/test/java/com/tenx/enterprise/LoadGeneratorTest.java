@@ -0,0 +1,157 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.loadgen.LatencyDistribution;
+import com.tenx.enterprise.loadgen.LoadGenerator;
+import com.tenx.enterprise.loadgen.LoadProfile;
+import com.tenx.enterprise.loadgen.LoadReport;
+import com.tenx.enterprise.loadgen.SimulatedPlanner;
+import com.tenx.enterprise.loadgen.SimulatedWorker;
+import com.tenx.enterprise.loadgen.StubBehavior;
+import com.tenx.enterprise.skill.impl.ContentGeneratorSkillStub;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the open-loop load generator and its soak report.
+ *
+ * Tests cover:
+ *   - Queueing delay counted from intended arrival (no coordinated omission)
+ *   - Task mix and failure rates of the simulated Planner and Worker
+ *   - Shedding past the in-flight cap
+ *   - Report rendering, parsing and comparison
+ *   - Log-normal latency parameters
+ */
+class LoadGeneratorTest {
+
+    private static final Judge APPROVE = artifact -> new JudgeVerdict("v-" + artifact.artifactId(),
+            artifact.artifactId(), ConfidenceLevel.HIGH, false, true, "ok", Instant.now());
+
+    @Test
+    @DisplayName("A single-server backlog shows up as latency growing past the service time")
+    void run_openLoop_countsQueueingDelay() throws Exception {
+        LoadProfile profile = profile(Duration.ofMillis(500), 20.0, 1, 1_000);
+        Object server = new Object();
+        Worker serial = task -> {
+            synchronized (server) {
+                Thread.sleep(100);
+            }
+            return artifact(task);
+        };
+
+        LoadReport report = new LoadGenerator(profile, new SimulatedPlanner(profile), serial, APPROVE).run();
+
+        assertEquals(10, report.completed());
+        assertTrue(report.latency().max().toMillis() >= 450,
+                "The last arrival waits behind nine others: " + report.latency().max());
+        assertTrue(report.latency().mean().toMillis() >= 250,
+                "A closed loop would report the 100ms service time: " + report.latency());
+    }
+
+    @Test
+    @DisplayName("Simulated Planner follows the task mix; simulated Worker fails at the configured rate")
+    void simulation_respectsMixAndFailureRate() {
+        LoadProfile profile = new LoadProfile(Duration.ofSeconds(1), 1.0, 4_000,
+                Map.of(TaskType.CONTENT_GENERATION, 3.0, TaskType.TREND_RESEARCH, 1.0),
+                Map.of(TaskType.CONTENT_GENERATION, new StubBehavior(LatencyDistribution.fixed(Duration.ZERO), 0.2)),
+                10_000, Duration.ofSeconds(1), 7L);
+        SimulatedWorker worker = new SimulatedWorker(profile, new TrendFetcherSkillStub(), new ContentGeneratorSkillStub());
+
+        List<TaskEnvelope> tasks = new SimulatedPlanner(profile).decompose("camp-1", "goal");
+        long content = tasks.stream().filter(t -> t.type() == TaskType.CONTENT_GENERATION).count();
+        long failures = tasks.stream().filter(t -> {
+            try {
+                worker.execute(t);
+                return false;
+            } catch (Exception e) {
+                return true;
+            }
+        }).count();
+
+        assertEquals(0.75, content / 4_000.0, 0.03);
+        assertEquals(0.2, failures / (double) content, 0.03, "Only content tasks have a failure rate");
+
+        SimulatedPlanner rerun = new SimulatedPlanner(profile);
+        rerun.decompose("camp-2", "goal");
+        assertEquals(tasks.stream().map(TaskEnvelope::type).toList(),
+                rerun.decompose("camp-1", "goal").stream().map(TaskEnvelope::type).toList(),
+                "A campaign's tasks do not depend on the order campaigns are decomposed in");
+    }
+
+    @Test
+    @DisplayName("Arrivals past the in-flight cap are shed, and every scheduled task is accounted for")
+    void run_overCapacity_shedsArrivals() throws Exception {
+        LoadProfile profile = profile(Duration.ofMillis(300), 50.0, 5, 10);
+        Worker slow = task -> {
+            Thread.sleep(200);
+            return artifact(task);
+        };
+
+        LoadReport report = new LoadGenerator(profile, new SimulatedPlanner(profile), slow, APPROVE).run();
+
+        assertTrue(report.shed() > 0);
+        assertEquals(report.scheduledTasks(),
+                report.completed() + report.failed() + report.shed() + report.unfinished());
+    }
+
+    @Test
+    @DisplayName("Rendered report parses back to its metrics and compares against a baseline")
+    void report_renderParseCompare() throws Exception {
+        LoadProfile profile = profile(Duration.ofMillis(200), 50.0, 2, 1_000);
+        SimulatedWorker worker = new SimulatedWorker(profile, new TrendFetcherSkillStub(), new ContentGeneratorSkillStub());
+
+        LoadReport report = new LoadGenerator(profile, new SimulatedPlanner(profile), worker, APPROVE).run();
+        String rendered = report.render();
+        Map<String, Double> parsed = LoadReport.parseMetrics(rendered.lines().toList());
+
+        assertEquals(report.metrics().keySet(), parsed.keySet());
+        assertEquals(20.0, parsed.get("tasks.scheduled"));
+        assertTrue(rendered.contains("\nwindow "), "Window series must be rendered");
+        Map<String, Double> doubled = new TreeMap<>(parsed);
+        doubled.put("tasks.scheduled", 40.0);
+        assertTrue(LoadReport.compare(parsed, doubled).contains("tasks.scheduled 20 40 +100.0%"));
+    }
+
+    @Test
+    @DisplayName("Log-normal latency hits the requested median and p99")
+    void logNormal_matchesMedianAndP99() {
+        LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(10), Duration.ofMillis(100));
+        SplittableRandom random = new SplittableRandom(1);
+        long[] samples = new long[20_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = distribution.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(10.0, samples[samples.length / 2] / 1e6, 0.5);
+        assertEquals(100.0, samples[(int) (samples.length * 0.99)] / 1e6, 12.0);
+    }
+
+    private static LoadProfile profile(Duration duration, double rate, int tasksPerCampaign, int maxInFlight) {
+        return new LoadProfile(duration, rate, tasksPerCampaign,
+                Map.of(TaskType.CONTENT_GENERATION, 1.0, TaskType.TREND_RESEARCH, 1.0),
+                Map.of(), maxInFlight, Duration.ofMillis(100), 42L);
+    }
+
+    private static ContentArtifact artifact(TaskEnvelope task) {
+        return new ContentArtifact("a-" + task.taskId(), task.taskId(), task.campaignId(), "short_video",
+                "body", "tiktok", Instant.now(), 1L);
+    }
+}
@@ -0,0 +1,169 @@
+package com.tenx.enterprise;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tenx.enterprise.exception.McpException;
+import com.tenx.enterprise.mcp.LoopbackMcpServer;
+import com.tenx.enterprise.mcp.McpClient;
+import com.tenx.enterprise.mcp.McpRequest;
+import com.tenx.enterprise.mcp.StreamMcpTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pooled, pipelined MCP client against the in-process loopback server.
+ *
+ * Tests cover:
+ *   - Request/response, tool calls and JSON-RPC errors
+ *   - Id correlation with out-of-order responses
+ *   - Connection sharing under concurrent Virtual Thread callers
+ *   - Batch frames and reconnect after a dropped connection
+ */
+class McpClientTest {
+
+    private LoopbackMcpServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new LoopbackMcpServer("test")
+                .method("echo", params -> params)
+                .method("sleep", params -> {
+                    sleep(params.path("millis").asLong());
+                    return Map.of("slept", params.path("millis").asLong());
+                })
+                .tool("fetch_trends", args -> Map.of("platform", args.path("platform").asText(), "count", 3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Calls, tool calls and errors map onto JSON-RPC")
+    void call_resultsAndErrors() throws Exception {
+        try (McpClient client = new McpClient(server.connector())) {
+            assertTrue(client.ping(Duration.ofSeconds(1)));
+            assertEquals("hi", client.call("echo", Map.of("msg", "hi")).path("msg").asText());
+            assertEquals("tiktok", client.callTool("fetch_trends", Map.of("platform", "tiktok"))
+                    .path("platform").asText());
+
+            McpException missing = assertThrows(McpException.class, () -> client.call("nope", null));
+            assertEquals(McpException.METHOD_NOT_FOUND, missing.getCode());
+            McpException unknownTool = assertThrows(McpException.class, () -> client.callTool("nope", null));
+            assertEquals(McpException.INVALID_PARAMS, unknownTool.getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("A slow call does not hold up later calls on the same connection")
+    void pipelining_responsesCorrelatedById() throws Exception {
+        try (McpClient client = new McpClient(server.connector(), 1, 64)) {
+            CompletableFuture<JsonNode> slow = client.callAsync("sleep", Map.of("millis", 500));
+            JsonNode fast = client.call("sleep", Map.of("millis", 1), Duration.ofMillis(400));
+
+            assertEquals(1, fast.path("slept").asLong());
+            assertFalse(slow.isDone(), "The fast response must have overtaken the slow one");
+            assertEquals(500, slow.get(2, TimeUnit.SECONDS).path("slept").asLong());
+            assertEquals(1, client.openConnections());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent callers share a bounded pool and do not serialise on round trips")
+    void concurrentCallers_shareConnections() throws Exception {
+        try (McpClient client = new McpClient(server.connector(), 2, 64);
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long started = System.nanoTime();
+            List<Future<JsonNode>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                int n = i;
+                results.add(callers.submit(() -> client.call("sleep", Map.of("millis", 50, "n", n))));
+            }
+            for (Future<JsonNode> result : results) {
+                assertEquals(50, result.get().path("slept").asLong());
+            }
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 5_000,
+                    "500 x 50ms calls must overlap, not run back to back");
+            assertTrue(server.connectionCount() <= 2, "Opened " + server.connectionCount() + " connections");
+        }
+    }
+
+    @Test
+    @DisplayName("A batch goes out as one frame and resolves in request order")
+    void batch_singleFrame() throws Exception {
+        try (McpClient client = new McpClient(server.connector())) {
+            client.ping(Duration.ofSeconds(1));
+            long framesBefore = server.batchFrameCount();
+
+            List<McpRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                requests.add(new McpRequest("echo", Map.of("i", i)));
+            }
+            List<CompletableFuture<JsonNode>> results = client.batch(requests);
+
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, results.get(i).get(1, TimeUnit.SECONDS).path("i").asInt());
+            }
+            assertEquals(framesBefore + 1, server.batchFrameCount());
+        }
+    }
+
+    @Test
+    @DisplayName("A dropped connection fails pending calls and the next call reconnects")
+    void disconnect_failsPendingThenReconnects() throws Exception {
+        try (McpClient client = new McpClient(server.connector())) {
+            CompletableFuture<JsonNode> pending = client.callAsync("sleep", Map.of("millis", 5_000));
+            assertTrue(client.ping(Duration.ofSeconds(1)));
+
+            server.disconnectAll();
+
+            Exception failure = assertThrows(Exception.class, () -> pending.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(McpException.class, failure.getCause());
+            assertEquals("x", client.call("echo", Map.of("v", "x")).path("v").asText());
+            assertEquals(2, server.connectionCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Newline-delimited stream transport works over a TCP socket")
+    void streamTransport_overTcp() throws Exception {
+        try (ServerSocket listener = new ServerSocket(0)) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    Socket socket = listener.accept();
+                    server.serve(new StreamMcpTransport(socket.getInputStream(), socket.getOutputStream(), socket));
+                } catch (Exception e) {
+                    // Test fails on the client side.
+                }
+            });
+            try (McpClient client = new McpClient(StreamMcpTransport.tcp("localhost", listener.getLocalPort()), 1, 8)) {
+                assertEquals("tcp", client.call("echo", Map.of("via", "tcp")).path("via").asText());
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
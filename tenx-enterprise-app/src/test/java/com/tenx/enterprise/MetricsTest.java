@@ -0,0 +1,210 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.CampaignOrchestrator;
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.Planner;
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.exception.StaleVersionException;
+import com.tenx.enterprise.metrics.CampaignTrace;
+import com.tenx.enterprise.metrics.HistogramSnapshot;
+import com.tenx.enterprise.metrics.Instrumentation;
+import com.tenx.enterprise.metrics.LatencyHistogram;
+import com.tenx.enterprise.metrics.MetricsEndpoint;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import com.tenx.enterprise.store.VersionedStore;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the metrics and tracing layer.
+ *
+ * Tests cover:
+ *   - Histogram percentile accuracy against exact values
+ *   - Counters per TaskType, ConfidenceLevel and exception type
+ *   - OCC conflicts counted at the store, retried ones included
+ *   - Per-campaign spans through an instrumented orchestrator
+ *   - JFR events and the text snapshot endpoint
+ */
+class MetricsTest {
+
+    @TempDir
+    Path dir;
+
+    private MetricsRegistry registry;
+    private Instrumentation instrumentation;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+        instrumentation = new Instrumentation(registry);
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles stay within 2% of exact values over six orders of magnitude")
+    void histogram_percentilesAccurate() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        Random random = new Random(11);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.pow(10, 2 + random.nextDouble() * 6);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(values.length, snapshot.count());
+        assertEquals(values[values.length - 1], snapshot.max().toNanos());
+        assertWithin(values[49_999], snapshot.p50().toNanos());
+        assertWithin(values[98_999], snapshot.p99().toNanos());
+        assertWithin(values[99_899], snapshot.p999().toNanos());
+    }
+
+    @Test
+    @DisplayName("Instrumented agents count tasks per TaskType, verdicts per ConfidenceLevel and exceptions")
+    void orchestrator_countsAndTraces() throws Exception {
+        Planner planner = (campaignId, goal) -> IntStream.range(0, 20)
+                .mapToObj(i -> new TaskEnvelope("t" + i, campaignId,
+                        i % 2 == 0 ? TaskType.TREND_RESEARCH : TaskType.CONTENT_GENERATION, "p", 1L, Instant.now()))
+                .toList();
+        Worker worker = task -> {
+            if (task.taskId().equals("t3")) {
+                throw new StaleVersionException(2L, 1L);
+            }
+            return new ContentArtifact("a-" + task.taskId(), task.taskId(), task.campaignId(), "short_video",
+                    "body", "tiktok", Instant.now(), 1L);
+        };
+        Judge judge = artifact -> new JudgeVerdict("v", artifact.artifactId(),
+                artifact.taskId().equals("t0") ? ConfidenceLevel.LOW : ConfidenceLevel.HIGH,
+                false, true, "ok", Instant.now());
+        CampaignOrchestrator orchestrator = new CampaignOrchestrator(instrumentation.planner(planner),
+                instrumentation.worker(worker), instrumentation.judge(judge), 8, 8);
+
+        orchestrator.run("camp-1", "grow");
+
+        assertEquals(10, registry.tasks(TaskType.TREND_RESEARCH, true));
+        assertEquals(9, registry.tasks(TaskType.CONTENT_GENERATION, true));
+        assertEquals(1, registry.tasks(TaskType.CONTENT_GENERATION, false));
+        assertEquals(1, registry.verdicts(ConfidenceLevel.LOW));
+        assertEquals(18, registry.verdicts(ConfidenceLevel.HIGH));
+        assertEquals(1, registry.errors(StaleVersionException.class));
+        assertEquals(10, registry.histogram("worker.TREND_RESEARCH").count());
+
+        CampaignTrace trace = registry.trace("camp-1").orElseThrow();
+        assertEquals(1, trace.spans(CampaignTrace.Phase.PLAN));
+        assertEquals(20, trace.spans(CampaignTrace.Phase.EXECUTE));
+        assertEquals(19, trace.spans(CampaignTrace.Phase.JUDGE));
+        assertTrue(trace.time(CampaignTrace.Phase.EXECUTE).toNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Instrumented skills record latency and count BudgetExceededException")
+    void skills_latencyAndErrors() {
+        TrendFetcherSkill fetcher = instrumentation.trendFetcher(new TrendFetcherSkillStub());
+        ContentGeneratorSkill generator = instrumentation.contentGenerator((trend, persona, budget) -> {
+            throw new BudgetExceededException(0.5, budget);
+        });
+
+        fetcher.fetchTrends("tiktok", "US", 5);
+        fetcher.fetchTrends("tiktok", "US", 5);
+        assertThrows(BudgetExceededException.class, () -> generator.generateContent(
+                fetcher.fetchTrends("tiktok", "US", 1).get(0), "techGuru", 0.0));
+
+        assertEquals(3, registry.histogram(fetcher.name()).count());
+        assertEquals(1, registry.histogram(Instrumentation.CONTENT_GENERATOR).count());
+        assertEquals(1, registry.errors(BudgetExceededException.class));
+        assertEquals(0, registry.errors(StaleVersionException.class));
+    }
+
+    @Test
+    @DisplayName("Calls are emitted as JFR events and rendered by the text endpoint")
+    void jfrAndEndpoint_export() throws Exception {
+        Worker worker = instrumentation.worker(task -> new ContentArtifact("a", task.taskId(), task.campaignId(),
+                "short_video", "body", "tiktok", Instant.now(), 1L));
+        Path file = dir.resolve("run.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.tenx.enterprise.Invocation").withThreshold(Duration.ZERO);
+            recording.start();
+            worker.execute(new TaskEnvelope("t1", "camp-jfr", TaskType.ENGAGEMENT, "p", 1L, Instant.now()));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.tenx.enterprise.Invocation"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("camp-jfr", events.get(0).getString("campaignId"));
+        assertEquals("worker.ENGAGEMENT", events.get(0).getString("component"));
+
+        try (MetricsEndpoint endpoint = MetricsEndpoint.start(registry, new InetSocketAddress("localhost", 0))) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + endpoint.port() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().contains("tenx_tasks_total{type=\"ENGAGEMENT\",outcome=\"completed\"} 1"));
+            assertTrue(response.body().contains("tenx_latency_nanos_count{component=\"worker.ENGAGEMENT\"} 1"));
+            assertTrue(response.body().contains("tenx_campaign_phase_nanos{campaign=\"camp-jfr\",phase=\"EXECUTE\"}"));
+        }
+    }
+
+    @Test
+    @DisplayName("OCC conflicts a store retries internally are still exported")
+    void occConflicts_countedAtTheStore() throws Exception {
+        VersionedStore<TaskEnvelope> tasks = VersionedStore.forTasks();
+        tasks.insert(new TaskEnvelope("t1", "camp-1", TaskType.ENGAGEMENT, "p", 1L, Instant.now()));
+        registry.registerOccConflicts("tasks", tasks::conflicts);
+        AtomicBoolean raced = new AtomicBoolean();
+
+        TaskEnvelope updated = tasks.update("t1", current -> {
+            if (raced.compareAndSet(false, true)) {
+                try {
+                    tasks.compareAndSet(current);
+                } catch (StaleVersionException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            return current;
+        }, 3);
+
+        assertEquals(3L, updated.version(), "The retry succeeds, so the caller never sees the conflict");
+        assertEquals(1, tasks.conflicts());
+        assertEquals(0, registry.errors(StaleVersionException.class));
+        assertTrue(registry.render().contains("tenx_occ_conflicts_total{store=\"tasks\"} 1"));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.02,
+                "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,173 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.PersonaJudge;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.persona.PersonaProfile;
+import com.tenx.enterprise.persona.PersonaRegistry;
+import com.tenx.enterprise.persona.SoulParser;
+import com.tenx.enterprise.skill.impl.TemplateContentGeneratorSkill;
+import com.tenx.enterprise.template.ContentTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SOUL.md persona profiles, their reloading cache, and the skill and Judge that use them.
+ *
+ * Contract: specs/functional.md → US-EN-001
+ */
+class PersonaRegistryTest {
+
+    private static final List<String> SOUL = List.of(
+            "# techGuru",
+            "Loves gadgets. Prose like this is ignored.",
+            "## Tone",
+            "- upbeat",
+            "- explains jargon",
+            "## Banned terms",
+            "- crypto giveaway",
+            "- guaranteed returns",
+            "## Hashtags",
+            "- tech tips",
+            "* #gadgets",
+            "<!-- - not a rule -->",
+            "## Backstory",
+            "- grew up taking radios apart",
+            "",
+            "# chef",
+            "## Tone",
+            "- warm");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("SOUL.md sections compile into tone, banned-term and hashtag rules per persona")
+    void parse_compilesProfiles() {
+        List<PersonaProfile> profiles = SoulParser.parse(SOUL);
+
+        assertEquals(List.of("techGuru", "chef"), profiles.stream().map(PersonaProfile::name).toList());
+        PersonaProfile tech = profiles.get(0);
+        assertEquals(List.of("upbeat", "explains jargon"), tech.tone());
+        assertEquals("You are techGuru. Tone: upbeat; explains jargon.", tech.preamble());
+        assertEquals(List.of("#TechTips", "#Gadgets"), tech.preferredHashtags());
+        assertEquals(0, tech.firstBannedTerm("Join our CRYPTO Giveaway now"));
+        assertEquals(-1, tech.firstBannedTerm("crypto is volatile"));
+        assertTrue(profiles.get(1).bannedTerms().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SoulParser.parse(List.of("## Tone", "- calm")));
+        assertThrows(IllegalArgumentException.class, () -> SoulParser.parse(List.of("# a", "# a")));
+    }
+
+    @Test
+    @DisplayName("Lookups return the cached profile, or a neutral default for unknown personas")
+    void profile_cachedAndDefaulted() {
+        PersonaRegistry registry = new PersonaRegistry(SoulParser.parse(SOUL));
+
+        assertSame(registry.profile("techGuru"), registry.profile("techGuru"));
+        assertTrue(registry.contains("chef"));
+        PersonaProfile unknown = registry.profile("nobody");
+        assertEquals(PersonaRegistry.DEFAULT_PERSONA, unknown.name());
+        assertSame(unknown, registry.profile(null));
+        assertEquals(-1, unknown.firstBannedTerm("guaranteed returns"));
+    }
+
+    @Test
+    @DisplayName("The registry reloads only when the SOUL.md file changes, and keeps old profiles on a bad edit")
+    void reloadIfChanged_swapsOnModification() throws Exception {
+        Path soul = dir.resolve("SOUL.md");
+        Files.write(soul, SOUL);
+        PersonaRegistry registry = PersonaRegistry.load(soul);
+        PersonaProfile before = registry.profile("chef");
+
+        assertFalse(registry.reloadIfChanged(soul));
+        assertSame(before, registry.profile("chef"));
+
+        Files.write(soul, List.of("# chef", "## Banned", "- microwave"));
+        Files.setLastModifiedTime(soul, FileTime.from(Instant.now().plusSeconds(5)));
+        assertTrue(registry.reloadIfChanged(soul));
+        assertEquals(0, registry.profile("chef").firstBannedTerm("microwave it"));
+        assertFalse(registry.contains("techGuru"));
+        assertEquals(-1, before.firstBannedTerm("microwave it"), "Profiles already handed out never change");
+
+        Files.write(soul, List.of("## Tone", "- orphan rule"));
+        Files.setLastModifiedTime(soul, FileTime.from(Instant.now().plusSeconds(10)));
+        assertThrows(IllegalArgumentException.class, () -> registry.reloadIfChanged(soul));
+        assertTrue(registry.contains("chef"));
+    }
+
+    @Test
+    @DisplayName("Generated content leads with the persona's preferred hashtags")
+    void templateSkill_usesPreferredHashtags() throws Exception {
+        TemplateContentGeneratorSkill skill = new TemplateContentGeneratorSkill(Map.of(),
+                ContentTemplate.of("{{topic}} is trending", "{{persona}} on {{topic}}", 3), 0.0,
+                new PersonaRegistry(SoulParser.parse(SOUL)));
+        TrendData trend = new TrendData("t1", "tiktok", "foldables", List.of("gadgets", "phones", "ai"), 0.9, "US",
+                Instant.now(), 1L);
+
+        ContentPayload tech = skill.generateContent(trend, "techGuru", 1.0);
+        ContentPayload other = skill.generateContent(trend, "chef", 1.0);
+
+        assertEquals(List.of("#TechTips", "#Gadgets", "#Phones"), tech.hashtags());
+        assertEquals(List.of("#Gadgets", "#Phones", "#Ai"), other.hashtags());
+    }
+
+    @Test
+    @DisplayName("The Judge sends off-persona content to rework but never downgrades a sensitive flag")
+    void personaJudge_rejectsBannedTerms() {
+        PersonaRegistry registry = new PersonaRegistry(SoulParser.parse(SOUL));
+        Judge approving = artifact -> new JudgeVerdict("v-" + artifact.artifactId(), artifact.artifactId(),
+                ConfidenceLevel.HIGH, artifact.contentBody().contains("election"),
+                !artifact.contentBody().contains("election"), "scored", Instant.now());
+        Judge judge = new PersonaJudge(approving, registry, artifact -> "techGuru");
+
+        JudgeVerdict clean = judge.evaluate(artifact("a1", "New phone, who dis"));
+        JudgeVerdict banned = judge.evaluate(artifact("a2", "Guaranteed returns on this gadget!"));
+        JudgeVerdict sensitive = judge.evaluate(artifact("a3", "election gadget with guaranteed returns"));
+
+        assertTrue(clean.approved());
+        assertEquals(ConfidenceLevel.LOW, banned.confidence());
+        assertFalse(banned.approved());
+        assertTrue(banned.reason().contains("guaranteed returns"));
+        assertTrue(sensitive.sensitiveTopicDetected());
+        assertEquals(ConfidenceLevel.HIGH, sensitive.confidence());
+
+        AtomicInteger batches = new AtomicInteger();
+        Judge batching = new Judge() {
+            @Override
+            public JudgeVerdict evaluate(ContentArtifact artifact) {
+                throw new AssertionError("a batch must not be split into single evaluations");
+            }
+
+            @Override
+            public List<JudgeVerdict> evaluateAll(List<ContentArtifact> artifacts) {
+                batches.incrementAndGet();
+                return artifacts.stream().map(approving::evaluate).toList();
+            }
+        };
+        List<JudgeVerdict> verdicts = new PersonaJudge(batching, registry, artifact -> "techGuru").evaluateAll(
+                List.of(artifact("a1", "New phone, who dis"), artifact("a2", "Guaranteed returns on this gadget!")));
+
+        assertEquals(1, batches.get(), "The delegate's batched path is used");
+        assertTrue(verdicts.get(0).approved());
+        assertEquals(ConfidenceLevel.LOW, verdicts.get(1).confidence());
+    }
+
+    private static ContentArtifact artifact(String id, String body) {
+        return new ContentArtifact(id, "task-1", "camp-1", "video_script", body, "tiktok", Instant.now(), 1L);
+    }
+}
@@ -0,0 +1,205 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.exception.BudgetExceededException;
+import com.tenx.enterprise.exception.SkillRejectedException;
+import com.tenx.enterprise.resilience.AdaptiveBulkhead;
+import com.tenx.enterprise.resilience.CircuitBreaker;
+import com.tenx.enterprise.resilience.CircuitBreakerConfig;
+import com.tenx.enterprise.resilience.ResiliencePolicy;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.ResilientContentGeneratorSkill;
+import com.tenx.enterprise.skill.impl.ResilientTrendFetcherSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for circuit breakers, adaptive bulkheads and the resilient skill wrappers.
+ *
+ * Tests cover:
+ *   - Breaker opening on failure rate, half-open trials and recovery
+ *   - Slow calls counting as failures
+ *   - Bulkhead isolation of a hanging skill
+ *   - Adaptive limit shrinking under queueing and growing when fast
+ *   - Caller errors not affecting health
+ */
+class ResilienceTest {
+
+    private static final CircuitBreakerConfig CONFIG = new CircuitBreakerConfig(
+            0.5, 4, 10, Duration.ofSeconds(1), Duration.ofSeconds(30), 2);
+
+    @Test
+    @DisplayName("A failing skill opens the breaker, turns unavailable, then recovers through trials")
+    void breaker_opensAndRecovers() {
+        AtomicLong clock = new AtomicLong();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        ResilientTrendFetcherSkill skill = new ResilientTrendFetcherSkill(fetcher(failing),
+                new ResiliencePolicy("skill_fetch_trends", new CircuitBreaker(CONFIG, clock::get),
+                        AdaptiveBulkhead.fixed(8)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> skill.fetchTrends("tiktok", "US", 5));
+        }
+        SkillRejectedException rejected =
+                assertThrows(SkillRejectedException.class, () -> skill.fetchTrends("tiktok", "US", 5));
+        assertEquals(SkillRejectedException.Reason.CIRCUIT_OPEN, rejected.getReason());
+        assertFalse(skill.isAvailable());
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(skill.isAvailable());
+        failing.set(false);
+        skill.fetchTrends("tiktok", "US", 5);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, skill.policy().breaker().state());
+        skill.fetchTrends("tiktok", "US", 5);
+        assertEquals(CircuitBreaker.State.CLOSED, skill.policy().breaker().state());
+    }
+
+    @Test
+    @DisplayName("A failed trial reopens the breaker; slow successes count as failures")
+    void breaker_halfOpenFailureAndSlowCalls() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(CONFIG, clock::get);
+        long slow = Duration.ofSeconds(2).toNanos();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess(slow);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission(), "Only halfOpenTrials calls may probe");
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(2, breaker.timesOpened());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("A hanging skill fills only its own bulkhead; excess calls fail fast")
+    void bulkhead_isolatesHangingSkill() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ResiliencePolicy policy = new ResiliencePolicy("hanging",
+                new CircuitBreaker(CircuitBreakerConfig.defaults()), AdaptiveBulkhead.fixed(4));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> policy.execute(() -> {
+                    try {
+                        return release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }));
+            }
+            while (policy.bulkhead().inFlight() < 4) {
+                Thread.sleep(1);
+            }
+
+            long started = System.nanoTime();
+            SkillRejectedException rejected = assertThrows(SkillRejectedException.class,
+                    () -> policy.execute(() -> "never runs"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 50);
+            assertEquals(SkillRejectedException.Reason.BULKHEAD_FULL, rejected.getReason());
+            release.countDown();
+        }
+        assertEquals(0, policy.bulkhead().inFlight());
+        assertEquals("ok", policy.execute(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("The adaptive limit shrinks when latency shows queueing and grows back when fast")
+    void adaptiveBulkhead_followsLatency() {
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(2, 20, 100);
+        long baseline = 1_000_000L;
+        for (int i = 0; i < 10; i++) {
+            cycle(bulkhead, 20, baseline);
+        }
+        int before = bulkhead.limit();
+        for (int i = 0; i < 20; i++) {
+            cycle(bulkhead, bulkhead.limit(), baseline * 4);
+        }
+        int congested = bulkhead.limit();
+        for (int i = 0; i < 20; i++) {
+            cycle(bulkhead, bulkhead.limit(), baseline);
+        }
+
+        assertTrue(congested < before, "limit " + before + " -> " + congested);
+        assertTrue(bulkhead.limit() > congested);
+        bulkhead.tryAcquire();
+        bulkhead.release(baseline, true);
+        assertTrue(bulkhead.limit() >= 2);
+    }
+
+    @Test
+    @DisplayName("Budget rejections pass through without tripping the breaker")
+    void callerErrors_doNotCount() {
+        ResilientContentGeneratorSkill skill = new ResilientContentGeneratorSkill(
+                (trend, persona, budget) -> {
+                    throw new BudgetExceededException(1.0, budget);
+                },
+                new ResiliencePolicy("skill_generate_content", new CircuitBreaker(CONFIG), AdaptiveBulkhead.fixed(4)));
+        TrendData trend = new TrendData("t1", "tiktok", "AI", List.of("ai"), 0.5, "US", Instant.now(), 1L);
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(BudgetExceededException.class, () -> skill.generateContent(trend, "techGuru", 0.0));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, skill.policy().breaker().state());
+        assertEquals(0.0, skill.policy().breaker().failureRate());
+        assertTrue(skill.isAvailable());
+    }
+
+    /** Admits {@code concurrency} calls, then completes them all with the given latency. */
+    private static void cycle(AdaptiveBulkhead bulkhead, int concurrency, long rttNanos) {
+        int admitted = 0;
+        while (admitted < concurrency && bulkhead.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            bulkhead.release(rttNanos, false);
+        }
+    }
+
+    private static TrendFetcherSkill fetcher(AtomicBoolean failing) {
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return "skill_fetch_trends";
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                if (failing.get()) {
+                    throw new IllegalStateException(platform + " unavailable");
+                }
+                return List.of();
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return taskType == TaskType.TREND_RESEARCH;
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.Judge;
+import com.tenx.enterprise.agent.SensitiveTopicJudge;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.safety.SensitiveTermDictionary;
+import com.tenx.enterprise.safety.SensitiveTopicMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Aho-Corasick sensitive-topic matcher and the screening Judge.
+ *
+ * Contract: specs/functional.md → US-EN-002, US-HITL-004
+ */
+class SensitiveTopicJudgeTest {
+
+    private final Judge approveAll = artifact -> new JudgeVerdict("v-" + artifact.artifactId(),
+            artifact.artifactId(), ConfidenceLevel.HIGH, false, true, "looks good", Instant.now());
+
+    private SensitiveTermDictionary dictionary;
+    private Judge judge;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SensitiveTermDictionary(List.of("election", "vaccine", "stock tip", "he", "she", "hers"));
+        judge = new SensitiveTopicJudge(approveAll, dictionary);
+    }
+
+    // =========================================================================
+    // MATCHER
+    // =========================================================================
+
+    @Test
+    @DisplayName("Matcher finds overlapping terms in one pass, case-insensitively")
+    void matcher_findsOverlappingTermsCaseInsensitive() {
+        SensitiveTopicMatcher matcher = SensitiveTopicMatcher.compile(List.of("he", "she", "hers"), false);
+
+        List<String> found = new ArrayList<>();
+        int count = matcher.scan("uSHErs", (term, start, end) -> found.add(matcher.term(term)));
+
+        assertEquals(3, count);
+        assertEquals(List.of("she", "he", "hers"), found);
+    }
+
+    @Test
+    @DisplayName("Whole-word matching ignores terms embedded in longer words")
+    void matcher_wholeWords_ignoresEmbeddedTerms() {
+        SensitiveTopicMatcher matcher = dictionary.current();
+
+        assertFalse(matcher.matches("The shelter reelections were calm"));
+        assertTrue(matcher.matches("Got a hot STOCK TIP for you!"));
+        assertEquals(List.of("vaccine", "election"), matcher.findAll("vaccine talk before the election, vaccine"));
+    }
+
+    @Test
+    @DisplayName("Bundled default term list covers the four sensitive categories")
+    void defaults_coverSensitiveCategories() {
+        SensitiveTopicMatcher matcher = SensitiveTermDictionary.withDefaults().current();
+
+        assertTrue(matcher.matches("Who wins the election?"));
+        assertTrue(matcher.matches("This vaccine changed my life"));
+        assertTrue(matcher.matches("Guaranteed returns with crypto"));
+        assertTrue(matcher.matches("My lawyer said no"));
+        assertFalse(matcher.matches("Three AI tools that changed how I edit video"));
+    }
+
+    @Test
+    @DisplayName("Term file reload swaps the matcher atomically")
+    void reloadIfChanged_swapsMatcher(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("terms.txt");
+        Files.writeString(file, "# comment\nalpha\n");
+        assertTrue(dictionary.reloadIfChanged(file));
+        assertFalse(dictionary.reloadIfChanged(file), "Unchanged file must not be recompiled");
+        assertTrue(dictionary.current().matches("alpha"));
+
+        Files.writeString(file, "beta\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        assertTrue(dictionary.reloadIfChanged(file));
+
+        assertFalse(dictionary.current().matches("alpha"));
+        assertTrue(dictionary.current().matches("beta"));
+    }
+
+    // =========================================================================
+    // JUDGE
+    // =========================================================================
+
+    @Test
+    @DisplayName("Sensitive content overrides a HIGH verdict and mandates human review")
+    void evaluate_sensitiveContent_forcedToReview() {
+        JudgeVerdict verdict = judge.evaluate(artifact("a1", "My take on the election results"));
+
+        assertTrue(verdict.sensitiveTopicDetected());
+        assertFalse(verdict.approved());
+        assertEquals(ConfidenceLevel.MEDIUM, verdict.confidence());
+        assertTrue(verdict.reason().contains("election"));
+    }
+
+    @Test
+    @DisplayName("Batch evaluation keeps artifact order and screens each artifact")
+    void evaluateAll_preservesOrder() {
+        List<JudgeVerdict> verdicts = judge.evaluateAll(List.of(
+                artifact("a1", "clean"), artifact("a2", "vaccine facts"), artifact("a3", "also clean")));
+
+        assertEquals(List.of("a1", "a2", "a3"), verdicts.stream().map(JudgeVerdict::artifactId).toList());
+        assertEquals(List.of(false, true, false),
+                verdicts.stream().map(JudgeVerdict::sensitiveTopicDetected).toList());
+    }
+
+    @Test
+    @DisplayName("Streaming evaluation emits one verdict per artifact then completes")
+    void evaluateStream_emitsAllVerdicts() throws Exception {
+        List<JudgeVerdict> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (SubmissionPublisher<ContentArtifact> source = new SubmissionPublisher<>()) {
+            judge.evaluateStream(source).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(JudgeVerdict item) {
+                    received.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    done.countDown();
+                }
+            });
+            for (int i = 0; i < 100; i++) {
+                source.submit(artifact("a" + i, i % 10 == 0 ? "election day" : "fine"));
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(100, received.size());
+        assertEquals(10, received.stream().filter(JudgeVerdict::sensitiveTopicDetected).count());
+    }
+
+    private static ContentArtifact artifact(String id, String body) {
+        return new ContentArtifact(id, "task-" + id, "camp-1", "short_video", body, "tiktok", Instant.now(), 1L);
+    }
+}
@@ -0,0 +1,218 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.metrics.Instrumentation;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+import com.tenx.enterprise.resilience.AdaptiveBulkhead;
+import com.tenx.enterprise.resilience.CircuitBreaker;
+import com.tenx.enterprise.resilience.CircuitBreakerConfig;
+import com.tenx.enterprise.resilience.ResiliencePolicy;
+import com.tenx.enterprise.skill.ContentGeneratorSkill;
+import com.tenx.enterprise.skill.SkillRegistry;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.ContentGeneratorSkillStub;
+import com.tenx.enterprise.skill.impl.ResilientContentGeneratorSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TaskType dispatch through the skill registry.
+ *
+ * Tests cover:
+ *   - Ranked dispatch with fallback past unavailable skills
+ *   - Lazy creation on first lookup
+ *   - Hot-swap under concurrent lookups
+ *   - Weighted canary routing, promotion and rollback
+ *   - Availability seen through instrumentation and resilience decorators
+ */
+class SkillRegistryTest {
+
+    @Test
+    @DisplayName("Lookup returns the best-ranked available skill for the task type")
+    void lookup_rankedWithFallback() {
+        SkillRegistry<TrendFetcherSkill> registry = new SkillRegistry<>();
+        AtomicBoolean primaryUp = new AtomicBoolean(true);
+        registry.register(fetcher("backup", () -> true), 1);
+        registry.register(fetcher("primary", primaryUp::get), 10);
+
+        assertEquals("primary", registry.lookup(TaskType.TREND_RESEARCH).orElseThrow().name());
+        assertEquals(List.of("primary", "backup"), registry.names(TaskType.TREND_RESEARCH));
+        assertTrue(registry.lookup(TaskType.CONTENT_GENERATION).isEmpty());
+
+        primaryUp.set(false);
+        assertEquals("backup", registry.lookup(TaskType.TREND_RESEARCH).orElseThrow().name());
+        assertTrue(registry.unregister("backup"));
+        assertTrue(registry.lookup(TaskType.TREND_RESEARCH).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> registry.register(fetcher("primary", () -> true), 1));
+    }
+
+    @Test
+    @DisplayName("A factory-registered skill is created once, by the first lookup that needs it")
+    void register_factory_isLazy() {
+        SkillRegistry<ContentGeneratorSkill> registry = new SkillRegistry<>();
+        AtomicInteger created = new AtomicInteger();
+        registry.register(ContentGeneratorSkill.NAME, 0, Set.of(TaskType.CONTENT_GENERATION), () -> {
+            created.incrementAndGet();
+            return new ContentGeneratorSkillStub();
+        });
+
+        assertEquals(0, created.get());
+        assertFalse(registry.isLoaded(ContentGeneratorSkill.NAME));
+        assertTrue(registry.lookup(TaskType.TREND_RESEARCH).isEmpty());
+        assertEquals(0, created.get(), "A lookup for another type must not create the skill");
+
+        assertTrue(registry.lookup(TaskType.CONTENT_GENERATION).isPresent());
+        assertTrue(registry.lookup(TaskType.CONTENT_GENERATION).isPresent());
+        assertEquals(1, created.get());
+        assertTrue(registry.isLoaded(ContentGeneratorSkill.NAME));
+    }
+
+    @Test
+    @DisplayName("Hot-swap is atomic: concurrent lookups see the old or the new skill, never nothing")
+    void swap_underConcurrentLookups() throws Exception {
+        SkillRegistry<TrendFetcherSkill> registry = new SkillRegistry<>();
+        TrendFetcherSkill stub = fetcher("stub", () -> true);
+        TrendFetcherSkill real = fetcher("real", () -> true);
+        registry.register("skill_fetch_trends", 0, Set.of(TaskType.TREND_RESEARCH), () -> stub);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong missing = new AtomicLong();
+        AtomicLong sawReal = new AtomicLong();
+
+        try (ExecutorService readers = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                readers.submit(() -> {
+                    while (!stop.get()) {
+                        TrendFetcherSkill skill = registry.lookup(TaskType.TREND_RESEARCH).orElse(null);
+                        if (skill == null) {
+                            missing.incrementAndGet();
+                        } else if (skill == real) {
+                            sawReal.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < 1_000; i++) {
+                registry.swap("skill_fetch_trends", i % 2 == 0 ? real : stub);
+            }
+            registry.swap("skill_fetch_trends", real);
+            Thread.sleep(20);
+            stop.set(true);
+        }
+
+        assertEquals(0, missing.get());
+        assertTrue(sawReal.get() > 0);
+        assertSame(real, registry.lookup(TaskType.TREND_RESEARCH).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("A canary receives its weighted share until promoted or rolled back")
+    void canary_weightedPromoteRollback() {
+        SkillRegistry<TrendFetcherSkill> registry = new SkillRegistry<>();
+        TrendFetcherSkill current = fetcher("current", () -> true);
+        TrendFetcherSkill candidate = fetcher("candidate", () -> true);
+        registry.register("skill_fetch_trends", 0, Set.of(TaskType.TREND_RESEARCH), () -> current);
+
+        registry.canary("skill_fetch_trends", candidate, 0.2);
+        int toCandidate = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (registry.lookup(TaskType.TREND_RESEARCH).orElseThrow() == candidate) {
+                toCandidate++;
+            }
+        }
+        assertEquals(0.2, toCandidate / 10_000.0, 0.03);
+
+        registry.rollback("skill_fetch_trends");
+        assertSame(current, registry.lookup(TaskType.TREND_RESEARCH).orElseThrow());
+        assertThrows(IllegalStateException.class, () -> registry.promote("skill_fetch_trends"));
+
+        registry.canary("skill_fetch_trends", candidate, 0.5);
+        registry.promote("skill_fetch_trends");
+        for (int i = 0; i < 100; i++) {
+            assertSame(candidate, registry.lookup(TaskType.TREND_RESEARCH).orElseThrow());
+        }
+        assertThrows(IllegalArgumentException.class, () -> registry.canary("skill_fetch_trends", candidate, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> registry.swap("unknown", candidate));
+    }
+
+    @Test
+    @DisplayName("An unavailable canary falls back to the implementation it is trialled against")
+    void canary_unavailable_fallsBack() {
+        SkillRegistry<TrendFetcherSkill> registry = new SkillRegistry<>();
+        TrendFetcherSkill current = fetcher("current", () -> true);
+        registry.register(current, 0);
+
+        registry.canary("current", fetcher("broken", () -> false), 1.0);
+
+        assertSame(current, registry.lookup(TaskType.TREND_RESEARCH).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("An instrumented generator behind an open breaker is skipped like the bare one")
+    void lookup_instrumentedOpenBreaker_fallsBack() {
+        ResilientContentGeneratorSkill resilient = new ResilientContentGeneratorSkill(
+                (trend, persona, budget) -> {
+                    throw new IllegalStateException("provider down");
+                },
+                new ResiliencePolicy(ContentGeneratorSkill.NAME, new CircuitBreaker(new CircuitBreakerConfig(
+                        0.5, 4, 10, Duration.ofSeconds(1), Duration.ofSeconds(30), 2)), AdaptiveBulkhead.fixed(4)));
+        ContentGeneratorSkill instrumented = new Instrumentation(new MetricsRegistry()).contentGenerator(resilient);
+        ContentGeneratorSkill backup = new ContentGeneratorSkillStub() {
+            @Override
+            public String name() {
+                return "skill_generate_content_backup";
+            }
+        };
+        SkillRegistry<ContentGeneratorSkill> registry = new SkillRegistry<>();
+        registry.register(instrumented, 10);
+        registry.register(backup, 1);
+        TrendData trend = new TrendData("t1", "tiktok", "AI", List.of("ai"), 0.5, "US", Instant.now(), 1L);
+
+        assertSame(instrumented, registry.lookup(TaskType.CONTENT_GENERATION).orElseThrow());
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> instrumented.generateContent(trend, "techGuru", 1.0));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, resilient.policy().breaker().state());
+        assertFalse(instrumented.isAvailable());
+        assertEquals(ContentGeneratorSkill.NAME, instrumented.name());
+        assertSame(backup, registry.lookup(TaskType.CONTENT_GENERATION).orElseThrow());
+    }
+
+    private static TrendFetcherSkill fetcher(String name, BooleanSupplier available) {
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                return List.of();
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return available.getAsBoolean();
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return taskType == TaskType.TREND_RESEARCH;
+            }
+        };
+    }
+}
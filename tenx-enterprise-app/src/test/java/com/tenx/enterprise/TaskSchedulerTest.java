@@ -0,0 +1,197 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.agent.Worker;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.metrics.MetricsRegistry;
+import com.tenx.enterprise.scheduler.TaskScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the priority, deadline and fair-share task scheduler.
+ *
+ * Tests cover:
+ *   - TaskType priority classes and earliest-deadline order
+ *   - Weighted fair share across campaigns
+ *   - Work stealing across lanes and per-TaskType queue-wait reporting
+ *   - Eviction of idle campaigns, worker Errors and submits racing close()
+ */
+class TaskSchedulerTest {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    /** Records execution order; the task "block" holds its permit until the gate opens. */
+    private final Worker worker = task -> {
+        if (task.taskId().equals("block")) {
+            gate.await(5, TimeUnit.SECONDS);
+        } else {
+            executed.add(task.taskId());
+        }
+        return new ContentArtifact("a-" + task.taskId(), task.taskId(), task.campaignId(), "short_video", "body",
+                "tiktok", Instant.now(), 1L);
+    };
+
+    @Test
+    @DisplayName("Financial checks and engagement replies overtake queued content generation")
+    void priorityClasses_orderDispatch() throws Exception {
+        try (TaskScheduler scheduler = new TaskScheduler(worker, 1, 1, new MetricsRegistry())) {
+            blockWorkers(scheduler);
+            for (int i = 0; i < 3; i++) {
+                scheduler.submit(task("gen-" + i, "camp-1", TaskType.CONTENT_GENERATION));
+            }
+            scheduler.submit(task("trend", "camp-1", TaskType.TREND_RESEARCH));
+            scheduler.submit(task("reply", "camp-1", TaskType.ENGAGEMENT));
+            CompletableFuture<ContentArtifact> last = scheduler.submit(task("money", "camp-1", TaskType.FINANCIAL_CHECK));
+
+            gate.countDown();
+            last.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of("money", "reply", "trend", "gen-0", "gen-1", "gen-2"), executed);
+    }
+
+    @Test
+    @DisplayName("Within a class and campaign, the earliest deadline runs first")
+    void deadlines_earliestFirst() throws Exception {
+        Instant now = Instant.now();
+        try (TaskScheduler scheduler = new TaskScheduler(worker, 1, 1, new MetricsRegistry())) {
+            blockWorkers(scheduler);
+            scheduler.submit(task("none", "camp-1", TaskType.CONTENT_GENERATION));
+            scheduler.submit(task("late", "camp-1", TaskType.CONTENT_GENERATION), now.plusSeconds(60));
+            scheduler.submit(task("soon", "camp-1", TaskType.CONTENT_GENERATION), now.plusSeconds(1));
+            scheduler.submit(task("missed", "camp-1", TaskType.CONTENT_GENERATION), now.minusSeconds(1));
+            gate.countDown();
+        }
+
+        assertEquals(List.of("missed", "soon", "late", "none"), executed);
+    }
+
+    @Test
+    @DisplayName("A huge campaign cannot starve a small one; priority sets the share")
+    void fairShare_acrossCampaigns() throws Exception {
+        try (TaskScheduler scheduler = new TaskScheduler(worker, 1, 1, new MetricsRegistry())) {
+            scheduler.setCampaignPriority("small", 3);
+            // The priority must outlive the share evicted once this task drains the scheduler.
+            scheduler.submit(task("warm-up", "small", TaskType.CONTENT_GENERATION)).get(5, TimeUnit.SECONDS);
+            while (scheduler.trackedCampaigns() > 0) {
+                Thread.sleep(1);
+            }
+            executed.clear();
+            blockWorkers(scheduler);
+            for (int i = 0; i < 200; i++) {
+                scheduler.submit(task("big-" + i, "big", TaskType.CONTENT_GENERATION));
+            }
+            for (int i = 0; i < 30; i++) {
+                scheduler.submit(task("small-" + i, "small", TaskType.CONTENT_GENERATION));
+            }
+            gate.countDown();
+        }
+
+        List<String> first40 = executed.subList(0, 40);
+        long small = first40.stream().filter(id -> id.startsWith("small")).count();
+        assertEquals(30, small, "The weight-3 campaign must get ~3 of every 4 slots until it drains: " + first40);
+        assertEquals(230, executed.size());
+    }
+
+    @Test
+    @DisplayName("Idle lanes steal work, and queue wait is reported per TaskType")
+    void workStealing_andQueueWait() throws Exception {
+        Worker slow = task -> {
+            Thread.sleep(2);
+            return worker.execute(task);
+        };
+        TaskScheduler scheduler = new TaskScheduler(slow, 8, 4, new MetricsRegistry());
+        List<CompletableFuture<ContentArtifact>> results = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            results.add(scheduler.submit(task("t" + i, "one-campaign",
+                    i % 10 == 0 ? TaskType.FINANCIAL_CHECK : TaskType.CONTENT_GENERATION)));
+        }
+        scheduler.close();
+
+        assertTrue(results.stream().allMatch(r -> r.isDone() && !r.isCompletedExceptionally()));
+        assertTrue(scheduler.stolenTasks() > 0, "Lanes without the campaign must have stolen work");
+        assertEquals(40, scheduler.queueWait(TaskType.FINANCIAL_CHECK).count());
+        assertEquals(360, scheduler.queueWait(TaskType.CONTENT_GENERATION).count());
+        assertTrue(scheduler.queueWait(TaskType.FINANCIAL_CHECK).p50()
+                        .compareTo(scheduler.queueWait(TaskType.CONTENT_GENERATION).p50()) < 0,
+                "Financial checks must wait less than content generation");
+    }
+
+    @Test
+    @DisplayName("Campaigns that go idle are forgotten")
+    void idleCampaigns_evicted() throws Exception {
+        try (TaskScheduler scheduler = new TaskScheduler(worker, 4, 2, new MetricsRegistry())) {
+            List<CompletableFuture<ContentArtifact>> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                results.add(scheduler.submit(task("t" + i, "camp-" + i, TaskType.CONTENT_GENERATION)));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (scheduler.trackedCampaigns() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(0, scheduler.trackedCampaigns(), "A drained scheduler holds no per-campaign state");
+        }
+    }
+
+    @Test
+    @DisplayName("A worker Error fails the task's future, and close never strands a submitted task")
+    void errorsAndCloseRace_completeEveryFuture() throws Exception {
+        Worker failing = task -> {
+            throw new StackOverflowError("deep");
+        };
+        try (TaskScheduler scheduler = new TaskScheduler(failing, 1, 1, new MetricsRegistry())) {
+            CompletableFuture<ContentArtifact> result = scheduler.submit(task("t", "camp-1", TaskType.ENGAGEMENT));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, e.getCause());
+        }
+
+        for (int round = 0; round < 50; round++) {
+            TaskScheduler scheduler = new TaskScheduler(worker, 2, 2, new MetricsRegistry());
+            List<CompletableFuture<ContentArtifact>> accepted = new CopyOnWriteArrayList<>();
+            Thread producer = Thread.ofVirtual().start(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        accepted.add(scheduler.submit(task("t" + i, "camp-" + (i % 3), TaskType.ENGAGEMENT)));
+                        Thread.yield();
+                    }
+                } catch (RejectedExecutionException closed) {
+                    // Expected once close() starts.
+                }
+            });
+            Thread.sleep(1);
+            scheduler.close();
+            producer.join();
+
+            assertTrue(accepted.stream().allMatch(CompletableFuture::isDone), "round " + round);
+        }
+    }
+
+    private void blockWorkers(TaskScheduler scheduler) throws InterruptedException {
+        scheduler.submit(task("block", "blocker", TaskType.FINANCIAL_CHECK));
+        while (scheduler.queuedTasks() > 0) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(20);
+    }
+
+    private static TaskEnvelope task(String id, String campaignId, TaskType type) {
+        return new TaskEnvelope(id, campaignId, type, "payload", 1L, Instant.now());
+    }
+}
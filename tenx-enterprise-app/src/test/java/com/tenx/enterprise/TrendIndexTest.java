@@ -0,0 +1,157 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.impl.IndexingTrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.TrendFetcherSkillStub;
+import com.tenx.enterprise.trend.TrendIndex;
+import com.tenx.enterprise.trend.TrendQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the inverted keyword index and top-K trend queries.
+ *
+ * Contract: specs/functional.md → US-TR-001, US-TR-002
+ */
+class TrendIndexTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:30:00Z");
+
+    private TrendIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrendIndex();
+    }
+
+    @Test
+    @DisplayName("Keyword query returns the top-K matches across platforms, best score first")
+    void query_anyKeyword_topKByScore() {
+        index.indexAll(List.of(
+                trend("t1", "tiktok", "US", 0.50, "ai", "music"),
+                trend("t2", "youtube", "US", 0.90, "AI"),
+                trend("t3", "tiktok", "US", 0.70, "cooking"),
+                trend("t4", "instagram", "US", 0.80, "music", "ai"),
+                trend("t5", "tiktok", "GB", 0.99, "ai")));
+
+        List<TrendData> top = index.query(TrendQuery.anyOf(2, null, "US", "ai", "music"));
+
+        assertEquals(List.of("t2", "t4"), ids(top));
+        assertEquals(List.of("t2", "t4", "t1"), ids(index.query(TrendQuery.anyOf(10, null, "US", "ai", "music"))),
+                "A trend matching several keywords must appear once");
+    }
+
+    @Test
+    @DisplayName("Platform and region filters apply with and without keywords")
+    void query_filters() {
+        index.indexAll(List.of(
+                trend("t1", "tiktok", "US", 0.5, "ai"),
+                trend("t2", "youtube", "US", 0.6, "ai"),
+                trend("t3", "tiktok", "GB", 0.7, "ai"),
+                trend("t4", "tiktok", null, 0.8, "ai")));
+
+        assertEquals(List.of("t4", "t3", "t1"), ids(index.query(new TrendQuery(Set.of(), "tiktok", null, 10))));
+        assertEquals(List.of("t1"), ids(index.query(TrendQuery.anyOf(10, "tiktok", "US", "ai"))));
+        assertEquals(List.of(), index.query(TrendQuery.anyOf(10, "twitter", null, "ai")));
+        assertEquals(List.of(), index.query(TrendQuery.anyOf(10, null, null, "unknown")));
+        assertEquals(4, index.query(new TrendQuery(null, null, null, 10)).size());
+        assertEquals(4, index.query(new TrendQuery(null, null, null, Integer.MAX_VALUE)).size(),
+                "An unbounded limit is capped at the live trend count");
+        assertEquals(List.of(), new TrendIndex().query(new TrendQuery(null, null, null, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Re-indexing replaces keywords; stale versions are ignored")
+    void index_replacesByVersion() {
+        index.index(trend("t1", "tiktok", "US", 0.5, 2L, NOW, "ai"));
+        assertFalse(index.index(trend("t1", "tiktok", "US", 0.9, 1L, NOW, "stale")));
+        assertTrue(index.index(trend("t1", "tiktok", "US", 0.6, 3L, NOW, "music")));
+
+        assertEquals(List.of(), index.query(TrendQuery.anyOf(10, null, null, "ai")));
+        assertEquals(List.of("t1"), ids(index.query(TrendQuery.anyOf(10, null, null, "music"))));
+        assertEquals(1, index.size());
+        assertEquals(3L, index.get("t1").orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("Stale trends are evicted by fetchedAt")
+    void evictFetchedBefore_dropsStaleTrends() {
+        index.index(trend("old", "tiktok", "US", 0.9, 1L, NOW.minusSeconds(3600), "ai"));
+        index.index(trend("fresh", "tiktok", "US", 0.1, 1L, NOW, "ai"));
+
+        assertEquals(1, index.evictFetchedBefore(NOW.minusSeconds(60)));
+
+        assertEquals(List.of("fresh"), ids(index.query(TrendQuery.anyOf(10, null, null, "ai"))));
+        assertTrue(index.get("old").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Results match a brute-force scan across churn and compaction")
+    void query_matchesBruteForce_afterChurn() {
+        Random random = new Random(7);
+        String[] platforms = {"tiktok", "youtube", "instagram"};
+        String[] regions = {"US", "GB", "DE"};
+        for (int round = 0; round < 5; round++) {
+            List<TrendData> batch = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                batch.add(trend("t" + random.nextInt(3000), platforms[random.nextInt(3)], regions[random.nextInt(3)],
+                        random.nextInt(1000) / 1000.0, round, NOW, "k" + random.nextInt(50), "k" + random.nextInt(50)));
+            }
+            index.indexAll(batch);
+            index.evictFetchedBefore(NOW.minusSeconds(1));
+            for (int i = 0; i < 300; i++) {
+                index.remove("t" + random.nextInt(3000));
+            }
+        }
+
+        List<TrendData> all = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            index.get("t" + i).ifPresent(all::add);
+        }
+        TrendQuery query = TrendQuery.anyOf(20, null, "US", "k1", "k2", "k3");
+        List<Double> expected = all.stream()
+                .filter(t -> "US".equals(t.region()))
+                .filter(t -> t.keywords().stream().anyMatch(Set.of("k1", "k2", "k3")::contains))
+                .map(TrendData::relevanceScore)
+                .sorted(Comparator.reverseOrder())
+                .limit(20)
+                .toList();
+
+        assertEquals(expected, index.query(query).stream().map(TrendData::relevanceScore).toList());
+    }
+
+    @Test
+    @DisplayName("Indexing decorator feeds every fetched trend into the index")
+    void indexingSkill_feedsIndex() {
+        IndexingTrendFetcherSkill skill = new IndexingTrendFetcherSkill(new TrendFetcherSkillStub(), index);
+
+        List<TrendData> fetched = skill.fetchTrends("tiktok", "US", 5);
+
+        assertEquals(fetched.size(), index.size());
+        String keyword = fetched.get(0).keywords().get(0);
+        assertFalse(index.query(TrendQuery.anyOf(5, "tiktok", "US", keyword)).isEmpty());
+    }
+
+    private static List<String> ids(List<TrendData> trends) {
+        return trends.stream().map(TrendData::trendId).toList();
+    }
+
+    private static TrendData trend(String id, String platform, String region, double score, String... keywords) {
+        return trend(id, platform, region, score, 1L, NOW, keywords);
+    }
+
+    private static TrendData trend(String id, String platform, String region, double score, long version,
+                                   Instant fetchedAt, String... keywords) {
+        return new TrendData(id, platform, "topic " + id, List.of(keywords), score, region, fetchedAt, version);
+    }
+}
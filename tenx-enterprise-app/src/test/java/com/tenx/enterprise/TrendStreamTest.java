@@ -0,0 +1,208 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.skill.TrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.PollingStreamingTrendFetcherSkill;
+import com.tenx.enterprise.skill.impl.StreamingTrendFetcherSkillStub;
+import com.tenx.enterprise.trend.TrendDeltaTracker;
+import com.tenx.enterprise.trend.TrendFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming trend feed.
+ *
+ * Tests cover:
+ *   - Delta tracking: stable identity, version bumps, suppressed repeats
+ *   - Polling adapter publishing only changes
+ *   - Demand-driven backpressure and cancellation
+ *   - High-rate stub feed
+ */
+class TrendStreamTest {
+
+    @Test
+    @DisplayName("A changed score keeps the trendId and bumps the version; unchanged trends are suppressed")
+    void deltaTracker_versionsChanges() {
+        TrendDeltaTracker tracker = new TrendDeltaTracker();
+
+        TrendData first = tracker.apply(trend("AI Tools", 0.5)).orElseThrow();
+        assertTrue(tracker.apply(trend("ai tools ", 0.5)).isEmpty());
+        TrendData updated = tracker.apply(trend("AI Tools", 0.7)).orElseThrow();
+        TrendData other = tracker.apply(trend("Cooking", 0.7)).orElseThrow();
+
+        assertEquals(first.trendId(), updated.trendId());
+        assertEquals(2L, updated.version());
+        assertEquals(0.7, updated.relevanceScore());
+        assertNotEquals(first.trendId(), other.trendId());
+        assertEquals(1L, other.version());
+        assertEquals(2, tracker.size());
+
+        TrendData bare = new TrendData("t-bare", "tiktok", "Bare", null, 0.5, "US", Instant.now(), 4L);
+        assertEquals(4L, tracker.apply(bare).orElseThrow().version(), "A first sighting keeps the source version");
+        assertTrue(tracker.apply(bare).isEmpty(), "Missing keywords compare equal to missing keywords");
+    }
+
+    @Test
+    @DisplayName("Polling adapter publishes the first snapshot, then only changed trends")
+    void pollingAdapter_publishesDeltas() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        TrendFetcherSkill upstream = fetcher(() -> {
+            double drift = polls.getAndIncrement() == 0 ? 0.0 : 0.1;
+            return List.of(trend("AI Tools", 0.5 + drift), trend("Cooking", 0.4), trend("Fitness", 0.3));
+        });
+        PollingStreamingTrendFetcherSkill skill =
+                new PollingStreamingTrendFetcherSkill(upstream, Duration.ofMillis(20), 10);
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        skill.streamTrends("tiktok", "US").subscribe(collector);
+        List<TrendData> received = collector.take(4);
+        Thread.sleep(100);
+        collector.cancel();
+
+        assertEquals(List.of("AI Tools", "Cooking", "Fitness", "AI Tools"),
+                received.stream().map(TrendData::topic).toList());
+        assertEquals(received.get(0).trendId(), received.get(3).trendId());
+        assertEquals(2L, received.get(3).version());
+        assertTrue(polls.get() > 2);
+        assertTrue(collector.items.isEmpty(), "Later polls changed nothing and must publish nothing");
+    }
+
+    @Test
+    @DisplayName("An unthrottled feed delivers no more than requested and stops after cancel")
+    void stub_respectsDemand() throws Exception {
+        StreamingTrendFetcherSkillStub stub = new StreamingTrendFetcherSkillStub(20, 0.0, 1L);
+        Collector collector = new Collector(10);
+
+        TrendFeed feed = (TrendFeed) stub.streamTrends("tiktok", "US");
+        feed.subscribe(collector);
+        collector.take(10);
+        Thread.sleep(100);
+
+        assertTrue(collector.items.isEmpty(), "Nothing may arrive beyond the requested 10");
+        assertTrue(feed.publishedCount() <= 10 + Flow.defaultBufferSize(),
+                "The producer may run at most one buffer ahead of demand: " + feed.publishedCount());
+        collector.request(5);
+        collector.take(5);
+        collector.cancel();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!feed.isClosed() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(feed.isClosed(), "The producer must stop once its only subscriber cancelled");
+    }
+
+    @Test
+    @DisplayName("The stub simulates a high-rate feed whose versions grow per trend")
+    void stub_highRate_versionsMonotonic() throws Exception {
+        StreamingTrendFetcherSkillStub stub = new StreamingTrendFetcherSkillStub(50, 20_000.0, 7L);
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        stub.streamTrends("tiktok", "US").subscribe(collector);
+        List<TrendData> received = collector.take(2_000);
+        collector.cancel();
+
+        Map<String, Long> versions = new HashMap<>();
+        Map<String, String> idsByTopic = new HashMap<>();
+        for (TrendData trend : received) {
+            Long previous = versions.put(trend.trendId(), trend.version());
+            assertEquals(previous == null ? 1L : previous + 1, trend.version());
+            assertEquals(idsByTopic.computeIfAbsent(trend.topic(), t -> trend.trendId()), trend.trendId());
+        }
+        assertTrue(versions.size() <= 50);
+    }
+
+    private static TrendData trend(String topic, double score) {
+        return new TrendData(UUID.randomUUID().toString(), "tiktok", topic, List.of("kw"),
+                Math.round(score * 100.0) / 100.0, "US", Instant.now(), 1L);
+    }
+
+    private static TrendFetcherSkill fetcher(Supplier<List<TrendData>> trends) {
+        return new TrendFetcherSkill() {
+            @Override
+            public String name() {
+                return "skill_fetch_trends";
+            }
+
+            @Override
+            public List<TrendData> fetchTrends(String platform, String region, int limit) {
+                return trends.get();
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean supports(TaskType taskType) {
+                return taskType == TaskType.TREND_RESEARCH;
+            }
+        };
+    }
+
+    /** Subscriber that requests a fixed budget up front and queues what arrives. */
+    private static final class Collector implements Flow.Subscriber<TrendData> {
+        final BlockingQueue<TrendData> items = new LinkedBlockingQueue<>();
+        private final long initialDemand;
+        private volatile Flow.Subscription subscription;
+
+        Collector(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(TrendData item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            // Streams end by cancellation in these tests.
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void cancel() {
+            subscription.cancel();
+        }
+
+        List<TrendData> take(int n) throws InterruptedException {
+            TrendData[] taken = new TrendData[n];
+            for (int i = 0; i < n; i++) {
+                taken[i] = items.poll(5, TimeUnit.SECONDS);
+                assertNotNull(taken[i], "Timed out waiting for item " + i);
+            }
+            return List.of(taken);
+        }
+    }
+}
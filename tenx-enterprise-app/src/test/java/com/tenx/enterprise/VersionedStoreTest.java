@@ -0,0 +1,107 @@
+package com.tenx.enterprise;
+
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.exception.StaleVersionException;
+import com.tenx.enterprise.store.VersionedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the optimistic-concurrency VersionedStore.
+ *
+ * Contract: specs/technical.md → TaskEnvelope.version (OCC version field)
+ */
+class VersionedStoreTest {
+
+    private VersionedStore<TaskEnvelope> store;
+    private TaskEnvelope task;
+
+    @BeforeEach
+    void setUp() throws StaleVersionException {
+        store = VersionedStore.forTasks();
+        task = new TaskEnvelope("task-1", "camp-1", TaskType.CONTENT_GENERATION, "0", 1L, Instant.now());
+        store.insert(task);
+    }
+
+    @Test
+    @DisplayName("compareAndSet bumps the version when the caller holds the latest copy")
+    void compareAndSet_currentVersion_bumpsVersion() throws StaleVersionException {
+        TaskEnvelope updated = store.compareAndSet(withPayload(task, "done"));
+
+        assertEquals(2L, updated.version());
+        assertEquals("done", store.get("task-1").orElseThrow().payload());
+    }
+
+    @Test
+    @DisplayName("compareAndSet with a stale copy throws StaleVersionException carrying both versions")
+    void compareAndSet_staleCopy_throws() throws StaleVersionException {
+        store.compareAndSet(withPayload(task, "first"));
+
+        StaleVersionException ex = assertThrows(StaleVersionException.class,
+                () -> store.compareAndSet(withPayload(task, "second")));
+
+        assertEquals(1L, ex.getExpected());
+        assertEquals(2L, ex.getActual());
+        assertEquals("first", store.get("task-1").orElseThrow().payload(), "Loser must not overwrite winner");
+    }
+
+    @Test
+    @DisplayName("insert of an existing id is rejected")
+    void insert_existingId_throws() {
+        StaleVersionException ex = assertThrows(StaleVersionException.class, () -> store.insert(task));
+        assertEquals(1L, ex.getActual());
+    }
+
+    @Test
+    @DisplayName("remove honours the expected version")
+    void remove_checksVersion() throws StaleVersionException {
+        assertThrows(StaleVersionException.class, () -> store.remove("task-1", 7L));
+
+        store.remove("task-1", 1L);
+
+        assertTrue(store.get("task-1").isEmpty());
+        assertThrows(StaleVersionException.class, () -> store.compareAndSet(task));
+    }
+
+    @Test
+    @DisplayName("Concurrent read-modify-write with retry loses no updates")
+    void update_concurrentIncrements_loseNothing() throws Exception {
+        int writers = 500;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < writers; i++) {
+                executor.submit(() -> store.update("task-1",
+                        t -> withPayload(t, String.valueOf(Integer.parseInt(t.payload()) + 1)),
+                        Integer.MAX_VALUE));
+            }
+        }
+
+        TaskEnvelope result = store.get("task-1").orElseThrow();
+        assertEquals(String.valueOf(writers), result.payload());
+        assertEquals(1L + writers, result.version());
+    }
+
+    @Test
+    @DisplayName("update gives up after maxAttempts and rethrows the last conflict")
+    void update_exhaustsAttempts_throws() {
+        assertThrows(StaleVersionException.class, () -> store.update("task-1", t -> {
+            try {
+                store.compareAndSet(withPayload(t, "interloper"));
+            } catch (StaleVersionException e) {
+                fail(e);
+            }
+            return withPayload(t, "mine");
+        }, 3));
+    }
+
+    private static TaskEnvelope withPayload(TaskEnvelope t, String payload) {
+        return new TaskEnvelope(t.taskId(), t.campaignId(), t.type(), payload, t.version(), t.createdAt());
+    }
+}
@@ -0,0 +1,128 @@
+package com.tenx.enterprise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tenx.enterprise.codec.WireCodec;
+import com.tenx.enterprise.codec.WireFormat;
+import com.tenx.enterprise.codec.WireSchema;
+import com.tenx.enterprise.dto.CampaignReport;
+import com.tenx.enterprise.dto.ConfidenceLevel;
+import com.tenx.enterprise.dto.ContentArtifact;
+import com.tenx.enterprise.dto.ContentPayload;
+import com.tenx.enterprise.dto.JudgeVerdict;
+import com.tenx.enterprise.dto.TaskEnvelope;
+import com.tenx.enterprise.dto.TaskType;
+import com.tenx.enterprise.dto.TrendData;
+import com.tenx.enterprise.dto.TrendFanOutResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary wire format.
+ *
+ * Tests cover:
+ *   - Round trips of every DTO through heap and direct buffers
+ *   - Exact size prediction, nulls, non-ASCII text and nanosecond instants
+ *   - Dictionary interning and size relative to JSON
+ *   - Rejection of foreign tags, newer schema versions and short buffers
+ */
+class WireFormatTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:30:00.123456789Z");
+
+    @Test
+    @DisplayName("Every DTO round-trips back to back through heap and direct buffers")
+    void roundTrip_allDtos() {
+        List<Object> values = samples();
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(8192), ByteBuffer.allocateDirect(8192))) {
+            int expectedBytes = 0;
+            for (Object value : values) {
+                expectedBytes += WireFormat.encodedSize(value);
+                WireFormat.encode(value, buffer);
+                assertEquals(expectedBytes, buffer.position(), "encodedSize must be exact for " + value);
+            }
+            buffer.flip();
+            List<Object> decoded = new ArrayList<>();
+            while (buffer.hasRemaining()) {
+                decoded.add(WireFormat.decode(buffer));
+            }
+            assertEquals(values, decoded);
+        }
+    }
+
+    @Test
+    @DisplayName("Nulls, non-ASCII text and negative versions survive; platforms decode to the shared instance")
+    void roundTrip_edgeCases() {
+        TrendData trend = new TrendData("t-1", "tiktok", "Café 🎵 música", null, 0.5, null, null, -3L);
+        ContentArtifact artifact = new ContentArtifact("a-1", null, "c-1", "short_video", "lone \uD800 surrogate",
+                "youtube", NOW, 0L);
+
+        TrendData decodedTrend = roundTrip(WireFormat.TREND_DATA, trend);
+        ContentArtifact decodedArtifact = roundTrip(WireFormat.CONTENT_ARTIFACT, artifact);
+
+        assertEquals(trend, decodedTrend);
+        assertSame("tiktok", decodedTrend.platform());
+        assertEquals("lone ? surrogate", decodedArtifact.contentBody());
+        assertEquals(NOW, decodedArtifact.generatedAt());
+    }
+
+    @Test
+    @DisplayName("Binary messages are much smaller than their JSON form")
+    void encodedSize_smallerThanJson() throws Exception {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        for (Object value : samples()) {
+            int jsonBytes = json.writeValueAsBytes(value).length;
+            assertTrue(WireFormat.encodedSize(value) * 3 < jsonBytes * 2,
+                    value.getClass().getSimpleName() + ": " + WireFormat.encodedSize(value) + " vs " + jsonBytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Foreign tags, newer schema versions and short buffers are rejected")
+    void decode_rejectsInvalidInput() {
+        JudgeVerdict verdict = (JudgeVerdict) samples().get(4);
+        byte[] bytes = WireFormat.JUDGE_VERDICT.toBytes(verdict);
+
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.TREND_DATA.decode(ByteBuffer.wrap(bytes)));
+        bytes[1] = (byte) (WireSchema.VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.decode(ByteBuffer.wrap(bytes)));
+        assertThrows(BufferOverflowException.class,
+                () -> WireFormat.JUDGE_VERDICT.encode(verdict, ByteBuffer.allocate(bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.codec(String.class));
+    }
+
+    private static <T> T roundTrip(WireCodec<T> codec, T value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(codec.encodedSize(value));
+        codec.encode(value, buffer);
+        assertFalse(buffer.hasRemaining());
+        return codec.decode(buffer.flip());
+    }
+
+    private static List<Object> samples() {
+        TrendData trend = new TrendData("trend-001", "tiktok", "AI-generated music",
+                List.of("ai", "music", "generative"), 0.87, "US", NOW, 1L);
+        return List.of(
+                new TaskEnvelope("task-001", "camp-001", TaskType.CONTENT_GENERATION,
+                        "{\"trendId\":\"trend-001\"}", 3L, NOW),
+                trend,
+                new ContentArtifact("art-001", "task-001", "camp-001", "short_video",
+                        "Did you know AI can now compose entire symphonies?", "tiktok", NOW, 2L),
+                new ContentPayload("content-001", "Did you know AI can now compose entire symphonies?",
+                        "AI Music Revolution", List.of("#AIMusic", "#GenerativeAI"), "tiktok", "techGuru", 0.03, NOW),
+                new JudgeVerdict("verdict-001", "art-001", ConfidenceLevel.HIGH, false, true,
+                        "On-persona, no sensitive topics", NOW),
+                new CampaignReport("camp-001", 500, 498, 2, Duration.ofMillis(1520), 327.6, Duration.ofMillis(41)),
+                new TrendFanOutResult(List.of(trend), List.of("tiktok/US"), List.of(), List.of("youtube/US"), 1));
+    }
+}